@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 fun getGitHash(): String {
@@ -13,9 +14,12 @@ fun getGitHash(): String {
 group = "com.ecommerce"
 version = getGitHash()
 
+// 가상 스레드 실행 모드는 JDK 21 이상 필요: ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,virtual-threads'
+val javaVersion = providers.gradleProperty("javaVersion").getOrElse("17").toInt()
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
@@ -35,6 +39,12 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 
+    // Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Metrics
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     // DB
 	runtimeOnly("com.mysql:mysql-connector-j")
 
@@ -44,9 +54,38 @@ dependencies {
 	testImplementation("org.testcontainers:junit-jupiter")
 	testImplementation("org.testcontainers:mysql")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+	testRuntimeOnly("org.junit.platform:junit-platform-reporting")
+
+    // Benchmark (ContentionRetryBenchmark 의 고정 백오프 비교 대상)
+	jmhImplementation("org.springframework.retry:spring-retry")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
+	// 경합/부하 테스트가 TestReporter 로 남긴 처리량과 지연은 build/test-results/test/junit-platform-events-*.xml 에 기록
+	val reportDirectory = reports.junitXml.outputLocation
+	jvmArgumentProviders += CommandLineArgumentProvider {
+		listOf(
+			"-Djunit.platform.reporting.open.xml.enabled=true",
+			"-Djunit.platform.reporting.output.dir=${reportDirectory.get().asFile.absolutePath}"
+		)
+	}
+	if (javaVersion >= 21) {
+		// 가상 스레드가 캐리어 스레드를 고정(pinning)하면 스택을 출력
+		jvmArgs("-Djdk.tracePinnedThreads=short")
+	}
+}
+
+// 벤치마크: ./gradlew jmh (src/jmh/java, 결과는 build/results/jmh)
+jmh {
+	jmhVersion = "1.37"
+	warmupIterations = 3
+	iterations = 5
+	fork = 2
+	benchmarkMode = listOf("thrpt")
+	timeUnit = "ms"
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
 }
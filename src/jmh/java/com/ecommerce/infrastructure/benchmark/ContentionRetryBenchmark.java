@@ -0,0 +1,131 @@
+package com.ecommerce.infrastructure.benchmark;
+
+import com.ecommerce.infrastructure.retry.ContentionRetry;
+import com.ecommerce.infrastructure.retry.ContentionRetryInterceptor;
+import com.ecommerce.infrastructure.retry.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적 락 경합에서 고정 백오프(@Retryable delay=100ms, 3회)와 @ContentionRetry 의 지연 분포 비교
+ *
+ * 버전 컬럼이 있는 행을 메모리 셀로 흉내 낸다: 버전 읽기 → 트랜잭션 시간만큼 대기 → 버전이 그대로면 증가, 아니면 충돌.
+ * 빌드 설정이 처리량 모드로 고정되어 있어 호출별 지연은 Timer 로 따로 모아 이터레이션마다 p50/p99/최대와 실패 수를 출력한다.
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class ContentionRetryBenchmark {
+
+    @Param({"fixed", "adaptive"})
+    private String policy;
+
+    /** 경합이 몰리는 행 개수 (1 이면 16 스레드가 한 행을 두고 경쟁) */
+    @Param({"1", "8"})
+    private int hotRows;
+
+    private Rows target;
+    private Rows adaptive;
+    private RetryTemplate fixed;
+    private Timer latency;
+    private final AtomicLong failures = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = new Rows(hotRows);
+
+        fixed = new RetryTemplate();
+        fixed.setRetryPolicy(new SimpleRetryPolicy(3, Map.of(OptimisticLockingFailureException.class, true)));
+        FixedBackOffPolicy backOff = new FixedBackOffPolicy();
+        backOff.setBackOffPeriod(100);
+        fixed.setBackOffPolicy(backOff);
+
+        // 기본 설정값 (retry.contention.*)
+        ContentionRetryInterceptor interceptor = new ContentionRetryInterceptor(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                new RetryBudget(20, 10, 100_000), 5, Duration.ofMillis(5), Duration.ofMillis(200));
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ContentionRetry.class), interceptor));
+        adaptive = (Rows) factory.getProxy();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        latency = Timer.builder("bench.latency")
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .register(new SimpleMeterRegistry());
+        failures.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        StringBuilder percentiles = new StringBuilder();
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            percentiles.append(String.format(" p%.0f=%.1fms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        System.out.printf("%n[retry] policy=%s hotRows=%d calls=%d failed=%d%s max=%.1fms%n",
+                policy, hotRows, latency.count(), failures.get(), percentiles, latency.max(TimeUnit.MILLISECONDS));
+    }
+
+    @Benchmark
+    public long update() {
+        int row = ThreadLocalRandom.current().nextInt(hotRows);
+        long started = System.nanoTime();
+        try {
+            return "fixed".equals(policy)
+                    ? fixed.execute(context -> target.increment(row))
+                    : adaptive.increment(row);
+        } catch (OptimisticLockingFailureException e) {
+            failures.incrementAndGet();
+            return -1;
+        } finally {
+            latency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 버전 컬럼이 있는 행 (읽기와 갱신 사이에 트랜잭션 시간 200µs)
+     */
+    public static class Rows {
+        private final AtomicLongArray versions;
+
+        public Rows() {
+            this(1);
+        }
+
+        Rows(int size) {
+            this.versions = new AtomicLongArray(size);
+        }
+
+        @ContentionRetry(entity = "bench_row", key = "#p0")
+        public long increment(int row) {
+            long version = versions.get(row);
+            LockSupport.parkNanos(200_000);
+            if (!versions.compareAndSet(row, version, version + 1)) {
+                throw new OptimisticLockingFailureException("버전 충돌: row=" + row);
+            }
+            return version + 1;
+        }
+    }
+}
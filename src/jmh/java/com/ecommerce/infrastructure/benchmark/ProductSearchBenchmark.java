@@ -0,0 +1,101 @@
+package com.ecommerce.infrastructure.benchmark;
+
+import com.ecommerce.infrastructure.search.ProductDocument;
+import com.ecommerce.infrastructure.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * 상품 100만 건에서 bigram 역색인 검색과 LIKE '%검색어%' 전체 스캔의 검색 지연 비교
+ *
+ * LIKE 쪽은 MySQL 이 하는 일(모든 행의 상품명을 부분 문자열 비교 → 일치 행을 상품명 순 정렬)을 메모리에서 그대로 수행한다.
+ * 디스크/버퍼 풀 읽기와 행 전송 비용이 빠져 있으므로 실제 DB 의 LIKE 검색은 이 수치보다 느리다.
+ * 처리량(ops/ms)의 역수가 호출당 지연이다.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] BRANDS = {"삼성", "엘지", "애플", "샤오미", "소니", "로지텍", "필립스", "다이슨", "쿠쿠", "한샘"};
+    private static final String[] FEATURES = {"무선", "유선", "블루투스", "휴대용", "초경량", "대용량", "저소음", "고속", "스마트", "미니", "프리미엄", "접이식"};
+    private static final String[] ITEMS = {"이어폰", "헤드폰", "충전기", "키보드", "마우스", "청소기", "선풍기", "전기포트", "밥솥", "스피커",
+            "모니터", "보조배터리", "공기청정기", "가습기", "책상", "의자", "텀블러", "케이블", "노트북 거치대", "드라이기"};
+    private static final String[] SUFFIXES = {"프로", "맥스", "플러스", "라이트", "2세대", "에디션", "S", "X", "Air", "Mini"};
+    private static final String[] CATEGORIES = {"전자기기", "생활가전", "주방가전", "컴퓨터 주변기기", "가구", "생활용품"};
+
+    /** 흔한 단어 / 두 단어 / 드문 조합 / 일치 없음 */
+    @Param({"이어폰", "무선 충전", "청소기 프로", "존재하지않는상품"})
+    private String keyword;
+
+    private ProductSearchIndex index;
+    private String[] names;
+    private String[] lowerNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductSearchIndex(200);
+        names = new String[PRODUCTS];
+        lowerNames = new String[PRODUCTS];
+        SplittableRandom random = new SplittableRandom(42);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < PRODUCTS; i++) {
+            String brand = pick(BRANDS, random);
+            String feature = pick(FEATURES, random);
+            String item = pick(ITEMS, random);
+            String name = brand + " " + feature + " " + item + " " + pick(SUFFIXES, random) + " " + (1000 + random.nextInt(9000));
+            String description = feature + " " + item + " - " + pick(FEATURES, random) + " 기능과 " + pick(FEATURES, random)
+                    + " 설계로 " + pick(CATEGORIES, random) + " 부문 인기 상품입니다. 모델 " + random.nextInt(100_000);
+            names[i] = name;
+            lowerNames[i] = name.toLowerCase(Locale.ROOT);
+            index.index(new ProductDocument(i + 1, name, description, pick(CATEGORIES, random), BigDecimal.TEN, 1, true, 0));
+        }
+        index.markReady();
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("%n[search] products=%d build=%dms postings=%dMB keyword=\"%s\" indexHits=%d likeHits=%d%n",
+                PRODUCTS, buildMillis, index.postingBytes() / (1024 * 1024), keyword,
+                index.search(keyword, true, 0, PAGE_SIZE).totalHits(), likeScan().size());
+    }
+
+    /**
+     * 역색인 검색 (점수 순 첫 페이지 + 전체 일치 수)
+     */
+    @Benchmark
+    public int index() {
+        return index.search(keyword, true, 0, PAGE_SIZE).totalHits();
+    }
+
+    /**
+     * 기존 findByNameContaining 과 같은 일: 모든 상품명을 비교하고 일치 행을 상품명 순으로 정렬
+     */
+    @Benchmark
+    public List<String> like() {
+        return likeScan();
+    }
+
+    private List<String> likeScan() {
+        String pattern = keyword.toLowerCase(Locale.ROOT);
+        List<String> matched = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            if (lowerNames[i].contains(pattern)) {
+                matched.add(names[i]);
+            }
+        }
+        matched.sort(Comparator.naturalOrder());
+        return matched;
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
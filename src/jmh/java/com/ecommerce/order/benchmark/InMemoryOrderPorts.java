@@ -0,0 +1,161 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
+import com.ecommerce.order.domain.port.out.EventPublisher;
+import com.ecommerce.order.domain.port.out.OrderRepository;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+import com.ecommerce.order.domain.port.out.UserRepository;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 메모리 포트 구현 (DB/네트워크 비용을 제외한 도메인/애플리케이션 계층만 측정)
+ */
+final class InMemoryOrderPorts {
+
+    private InMemoryOrderPorts() {}
+
+    static final class Orders implements OrderRepository {
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public Order save(Order order) {
+            order.assignId(sequence.incrementAndGet());
+            return order;
+        }
+
+        @Override
+        public Optional<Order> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void delete(Order order) {
+        }
+    }
+
+    static final class Users implements UserRepository {
+        private final Map<Long, BigDecimal> balances = new ConcurrentHashMap<>();
+        private final BigDecimal initialBalance;
+
+        Users(BigDecimal initialBalance) {
+            this.initialBalance = initialBalance;
+        }
+
+        void reset() {
+            balances.clear();
+        }
+
+        @Override
+        public boolean existsById(Long userId) {
+            return true;
+        }
+
+        @Override
+        public BigDecimal getUserBalance(Long userId) {
+            return balances.getOrDefault(userId, initialBalance);
+        }
+
+        @Override
+        public Optional<BigDecimal> applyBalanceDelta(Long userId, BigDecimal delta) {
+            BigDecimal[] result = new BigDecimal[1];
+            balances.compute(userId, (id, current) -> {
+                BigDecimal balance = current == null ? initialBalance : current;
+                BigDecimal updated = balance.add(delta);
+                result[0] = updated.signum() < 0 ? null : updated;
+                return result[0] == null ? current : updated;
+            });
+            return Optional.ofNullable(result[0]);
+        }
+    }
+
+    static final class Products implements ProductRepository {
+        private final Map<Long, OrderProductSnapshot.ProductInfo> products = new HashMap<>();
+        private final Map<Long, Integer> stocks = new ConcurrentHashMap<>();
+
+        Products(int productCount, int initialStock) {
+            for (long id = 1; id <= productCount; id++) {
+                products.put(id, new OrderProductSnapshot.ProductInfo(
+                        id, "상품" + id, BigDecimal.valueOf(1000 + id), initialStock, true));
+            }
+        }
+
+        void reset() {
+            stocks.clear();
+        }
+
+        @Override
+        public boolean existsById(Long productId) {
+            return products.containsKey(productId);
+        }
+
+        @Override
+        public String getProductName(Long productId) {
+            return products.get(productId).name();
+        }
+
+        @Override
+        public BigDecimal getProductPrice(Long productId) {
+            return products.get(productId).price();
+        }
+
+        @Override
+        public int getProductStock(Long productId) {
+            return stocks.getOrDefault(productId, products.get(productId).stock());
+        }
+
+        @Override
+        public void decreaseStock(Long productId, int quantity) {
+            stocks.compute(productId, (id, current) -> (current == null ? products.get(id).stock() : current) - quantity);
+        }
+
+        @Override
+        public boolean decreaseStockIfAvailable(Long productId, int quantity) {
+            decreaseStock(productId, quantity);
+            return true;
+        }
+
+        @Override
+        public Map<Long, String> getProductNames(List<Long> productIds) {
+            Map<Long, String> names = new HashMap<>();
+            productIds.forEach(id -> names.put(id, getProductName(id)));
+            return names;
+        }
+
+        @Override
+        public Map<Long, BigDecimal> getProductPrices(List<Long> productIds) {
+            Map<Long, BigDecimal> prices = new HashMap<>();
+            productIds.forEach(id -> prices.put(id, getProductPrice(id)));
+            return prices;
+        }
+
+        @Override
+        public OrderProductSnapshot getProductSnapshot(List<Long> productIds) {
+            return OrderProductSnapshot.of(productIds.stream()
+                    .filter(products::containsKey)
+                    .map(id -> {
+                        OrderProductSnapshot.ProductInfo product = products.get(id);
+                        return new OrderProductSnapshot.ProductInfo(
+                                id, product.name(), product.price(), getProductStock(id), product.active());
+                    })
+                    .toList());
+        }
+    }
+
+    static final class NoOpEvents implements EventPublisher {
+        @Override
+        public void publishOrderCreated(Order order) {
+        }
+
+        @Override
+        public void publishPaymentCompleted(Order order) {
+        }
+    }
+}
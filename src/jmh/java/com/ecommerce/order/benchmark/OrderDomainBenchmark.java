@@ -0,0 +1,51 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 도메인 모델 벤치마크 (장바구니 크기별 처리량/할당량)
+ */
+@State(Scope.Benchmark)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    private List<OrderItem> orderItems;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderItems = new ArrayList<>(cartSize);
+        for (long id = 1; id <= cartSize; id++) {
+            orderItems.add(OrderItem.create(id, "상품" + id, BigDecimal.valueOf(1000 + id), (int) (id % 5) + 1));
+        }
+        order = Order.create(1L, orderItems);
+        order.assignId(1L);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return Order.create(1L, orderItems);
+    }
+
+    @Benchmark
+    public void orderItemTotalPrice(Blackhole blackhole) {
+        for (OrderItem item : orderItems) {
+            blackhole.consume(item.getTotalPrice());
+        }
+    }
+
+    @Benchmark
+    public OrderResult orderResultFrom() {
+        return OrderResult.from(order);
+    }
+}
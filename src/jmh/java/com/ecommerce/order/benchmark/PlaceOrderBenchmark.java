@@ -0,0 +1,51 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.application.dto.PlaceOrderCommand;
+import com.ecommerce.order.application.service.PlaceOrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 유스케이스 전체 경로 벤치마크 (메모리 포트 사용, 트랜잭션/DB 비용 제외)
+ */
+@State(Scope.Benchmark)
+public class PlaceOrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    private InMemoryOrderPorts.Users users;
+    private InMemoryOrderPorts.Products products;
+    private PlaceOrderService placeOrderService;
+    private PlaceOrderCommand command;
+
+    @Setup
+    public void setUp() {
+        users = new InMemoryOrderPorts.Users(new BigDecimal("1000000000000000"));
+        products = new InMemoryOrderPorts.Products(cartSize, Integer.MAX_VALUE);
+        placeOrderService = new PlaceOrderService(
+                new InMemoryOrderPorts.Orders(), users, products, new InMemoryOrderPorts.NoOpEvents());
+
+        List<PlaceOrderCommand.OrderItemRequest> items = new ArrayList<>(cartSize);
+        for (long id = 1; id <= cartSize; id++) {
+            items.add(new PlaceOrderCommand.OrderItemRequest(id, 1));
+        }
+        command = new PlaceOrderCommand(1L, items);
+    }
+
+    // 반복마다 재고/잔액을 초기화하여 측정 중 소진되지 않도록 함
+    @Setup(Level.Iteration)
+    public void resetState() {
+        users.reset();
+        products.reset();
+    }
+
+    @Benchmark
+    public OrderResult placeOrder() {
+        return placeOrderService.placeOrder(command);
+    }
+}
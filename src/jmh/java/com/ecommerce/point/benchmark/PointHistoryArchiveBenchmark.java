@@ -0,0 +1,83 @@
+package com.ecommerce.point.benchmark;
+
+import com.ecommerce.point.archive.ArchiveSegment;
+import com.ecommerce.point.archive.ArchiveSegmentWriter;
+import com.ecommerce.point.archive.ArchivedPointHistory;
+import com.ecommerce.point.entity.PointTransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 포인트 히스토리 아카이브 세그먼트 벤치마크 (행당 바이트, 전체 스캔/사용자별 조회 처리량)
+ * 행당 바이트는 @Setup 에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+public class PointHistoryArchiveBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final String[] DESCRIPTIONS = {"포인트 충전", "포인트 사용", "주문 결제", "이벤트 적립"};
+
+    @Param({"10000", "100000"})
+    private int userCount;
+
+    private Path directory;
+    private ArchiveSegment segment;
+    private long nextUserId;
+
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<ArchivedPointHistory> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            boolean charge = random.nextInt(3) > 0;
+            rows.add(new ArchivedPointHistory(
+                    id,
+                    1 + random.nextLong(userCount),
+                    charge ? PointTransactionType.CHARGE : PointTransactionType.USE,
+                    BigDecimal.valueOf(random.nextInt(1, 500) * 100L).setScale(2),
+                    BigDecimal.valueOf(random.nextLong(10_000_000L)).setScale(2),
+                    DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                    base.plusSeconds(id * 30)));
+        }
+
+        directory = Files.createTempDirectory("point-archive-bench");
+        Path path = directory.resolve("segment.seg");
+        long size = ArchiveSegmentWriter.write(path, rows);
+        segment = ArchiveSegment.open(path);
+        System.out.printf("%n[archive] users=%d rows=%d bytes=%d bytes/row=%.2f%n",
+                userCount, ROWS, size, (double) size / ROWS);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("segment.seg"));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * 전체 행 디코딩 (처리량 x 1,000,000 = 초당 스캔 행 수)
+     */
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        segment.forEach(blackhole::consume);
+    }
+
+    /**
+     * 사용자 디렉터리 이진 탐색 + 해당 사용자 구간 디코딩
+     */
+    @Benchmark
+    public List<ArchivedPointHistory> findByUser() {
+        nextUserId = nextUserId % userCount + 1;
+        return segment.findByUser(nextUserId, null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 카테고리 목록 keyset 커서 - 마지막으로 받은 상품의 (상품명, id)
+ * 클라이언트에는 구조를 알 수 없는 base64url 문자열로 전달한다.
+ */
+public record CategoryCursor(String name, long id) {
+
+    public String encode() {
+        String raw = id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CategoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            return new CategoryCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
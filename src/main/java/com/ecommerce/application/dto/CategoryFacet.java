@@ -0,0 +1,7 @@
+package com.ecommerce.application.dto;
+
+/**
+ * 카테고리별 활성 상품 수
+ */
+public record CategoryFacet(String category, long activeProducts) {
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * 카테고리 상품 목록 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record CategoryProductSlice(List<Product> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
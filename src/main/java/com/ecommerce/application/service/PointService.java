@@ -3,9 +3,7 @@ package com.ecommerce.application.service;
 import com.ecommerce.application.dto.ChargePointCommand;
 import com.ecommerce.domain.model.UserBalance;
 import com.ecommerce.domain.port.out.UserBalanceRepository;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import com.ecommerce.infrastructure.retry.ContentionRetry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +27,7 @@ public class PointService {
      * 포인트 충전
      */
     @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @ContentionRetry(entity = "user_balance", key = "#command.userId()")
     public UserBalance chargePoint(ChargePointCommand command) {
         // 1. 사용자 잔액 조회 또는 생성
         UserBalance userBalance = userBalanceRepository.findByUserIdWithLock(command.userId())
@@ -57,9 +53,7 @@ public class PointService {
      * 포인트 사용 (주문/결제 모듈에서 사용)
      */
     @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @ContentionRetry(entity = "user_balance", key = "#userId")
     public UserBalance usePoint(Long userId, BigDecimal amount) {
         // 1. 사용자 잔액 조회
         UserBalance userBalance = userBalanceRepository.findByUserIdWithLock(userId)
@@ -1,17 +1,34 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.dto.CategoryCursor;
+import com.ecommerce.application.dto.CategoryFacet;
+import com.ecommerce.application.dto.CategoryProductSlice;
 import com.ecommerce.application.dto.CreateProductCommand;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.port.out.ProductRepository;
-import org.springframework.dao.OptimisticLockingFailureException;
+import com.ecommerce.infrastructure.cache.ProductNearCache;
+import com.ecommerce.infrastructure.cache.ProductSnapshot;
+import com.ecommerce.infrastructure.retry.ContentionRetry;
+import com.ecommerce.infrastructure.search.CategoryPage;
+import com.ecommerce.infrastructure.search.CategoryPosition;
+import com.ecommerce.infrastructure.search.ProductCategoryIndex;
+import com.ecommerce.infrastructure.search.ProductSearchHits;
+import com.ecommerce.infrastructure.search.ProductSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Application Service
@@ -21,10 +38,31 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    public static final int MAX_CATEGORY_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository; // 도메인 포트 의존
+    private final ProductNearCache productNearCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCategoryIndex productCategoryIndex;
 
     public ProductService(ProductRepository productRepository) {
+        this(productRepository, null, null, null);
+    }
+
+    /**
+     * @param productNearCache 상품 상세 캐시 (product.cache.enabled=false 이면 null, 매번 DB 조회)
+     * @param productSearchIndex 상품 검색 색인 (product.search.enabled=false 이면 null, LIKE 검색)
+     * @param productCategoryIndex 카테고리 색인 (product.category-index.enabled=false 이면 null, DB 조회)
+     */
+    @Autowired
+    public ProductService(ProductRepository productRepository,
+                          @Nullable ProductNearCache productNearCache,
+                          @Nullable ProductSearchIndex productSearchIndex,
+                          @Nullable ProductCategoryIndex productCategoryIndex) {
         this.productRepository = productRepository;
+        this.productNearCache = productNearCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productCategoryIndex = productCategoryIndex;
     }
 
     /**
@@ -40,13 +78,23 @@ public class ProductService {
                 command.category()
         );
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        evictCachedProduct(saved.getId()); // 없는 상품으로 캐시된 ID 일 수 있음
+        return saved;
     }
 
     /**
      * 상품 조회
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다.
+     * 호출자 트랜잭션 안에서는 갱신 목적일 수 있으므로 캐시를 거치지 않는다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Product getProduct(Long id) {
+        if (productNearCache != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return productNearCache.get(id)
+                    .map(ProductService::toDomainModel)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + id));
+        }
         return productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + id));
     }
@@ -66,40 +114,107 @@ public class ProductService {
     }
 
     /**
-     * 상품 검색
+     * 카테고리별 활성 상품 목록 (상품명 → ID 순, 커서 기반 페이지네이션)
+     * 카테고리 색인이 준비되어 있으면 메모리 목록에서 페이지의 ID 만 골라 PK 로 조회하고,
+     * 아니면 (category, active, name) 인덱스 순서로 DB 에서 keyset 조회한다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CategoryProductSlice getProductsByCategory(String category, String cursor, int size) {
+        if (size < 1 || size > MAX_CATEGORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_CATEGORY_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        CategoryCursor after = cursor == null || cursor.isBlank() ? null : CategoryCursor.decode(cursor);
+
+        if (productCategoryIndex != null && productCategoryIndex.isReady()) {
+            CategoryPage page = productCategoryIndex.page(category,
+                    after == null ? null : new CategoryPosition(after.name(), after.id()), size);
+            String nextCursor = page.next() == null ? null : new CategoryCursor(page.next().name(), page.next().id()).encode();
+            return new CategoryProductSlice(loadInOrder(page.productIds()), nextCursor);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Product> rows = productRepository.findActiveProductsByCategoryAfter(category,
+                after == null ? null : after.name(), after == null ? null : after.id(), size + 1);
+        if (rows.size() <= size) {
+            return new CategoryProductSlice(rows, null);
+        }
+        Product last = rows.get(size - 1);
+        return new CategoryProductSlice(List.copyOf(rows.subList(0, size)), new CategoryCursor(last.getName(), last.getId()).encode());
+    }
+
+    /**
+     * 카테고리별 활성 상품 수 (많은 순)
+     * 카테고리 색인이 없으면 활성 상품을 카테고리별로 집계한다.
+     */
+    public List<CategoryFacet> getCategoryFacets() {
+        if (productCategoryIndex != null && productCategoryIndex.isReady()) {
+            return productCategoryIndex.facets().stream()
+                    .map(count -> new CategoryFacet(count.category(), count.activeProducts()))
+                    .toList();
+        }
+        return productRepository.countActiveProductsByCategory().entrySet().stream()
+                .map(entry -> new CategoryFacet(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(CategoryFacet::activeProducts).reversed()
+                        .thenComparing(CategoryFacet::category))
+                .toList();
+    }
+
+    /**
+     * 상품 검색 (활성 상품만)
+     * 검색 색인이 준비되어 있으면 상품명/카테고리/설명 일치 점수 순으로 최대 MAX_RESULT_WINDOW 건,
+     * 아니면 상품명 LIKE 검색 결과를 반환한다.
      */
     public List<Product> searchProducts(String keyword) {
-        return productRepository.findByNameContaining(keyword);
+        if (!searchIndexReady()) {
+            return productRepository.findByNameContaining(keyword);
+        }
+        return loadInOrder(productSearchIndex.search(keyword, true, 0, ProductSearchIndex.MAX_RESULT_WINDOW).productIds());
+    }
+
+    /**
+     * 상품 검색 (활성 상품만, 점수 순 페이징)
+     * 색인이 없으면 LIKE 검색 결과를 잘라서 반환한다.
+     */
+    public Page<Product> searchProducts(String keyword, Pageable pageable) {
+        if (!searchIndexReady()) {
+            List<Product> all = productRepository.findByNameContaining(keyword);
+            int from = (int) Math.min(pageable.getOffset(), all.size());
+            int to = Math.min(from + pageable.getPageSize(), all.size());
+            return new PageImpl<>(all.subList(from, to), pageable, all.size());
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > ProductSearchIndex.MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 " + ProductSearchIndex.MAX_RESULT_WINDOW + "번째까지만 조회할 수 있습니다.");
+        }
+        ProductSearchHits hits = productSearchIndex.search(keyword, true, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(loadInOrder(hits.productIds()), pageable, hits.totalHits());
     }
 
     /**
      * 재고 감소 (주문 시 사용)
      */
     @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @ContentionRetry(entity = "product", key = "#productId")
     public void decreaseStock(Long productId, int quantity) {
         Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
         product.decreaseStock(quantity);
         productRepository.save(product);
+        evictCachedProduct(productId);
     }
 
     /**
      * 재고 증가 (주문 취소 시 사용)
      */
     @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @ContentionRetry(entity = "product", key = "#productId")
     public void increaseStock(Long productId, int quantity) {
         Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
         product.increaseStock(quantity);
         productRepository.save(product);
+        evictCachedProduct(productId);
     }
 
     /**
@@ -112,6 +227,7 @@ public class ProductService {
 
         product.activate();
         productRepository.save(product);
+        evictCachedProduct(productId);
     }
 
     /**
@@ -124,6 +240,7 @@ public class ProductService {
 
         product.deactivate();
         productRepository.save(product);
+        evictCachedProduct(productId);
     }
 
     /**
@@ -139,4 +256,36 @@ public class ProductService {
     public List<Product> getProductsWithLock(List<Long> productIds) {
         return productRepository.findByIdsWithLock(productIds);
     }
-}
\ No newline at end of file
+
+    private boolean searchIndexReady() {
+        return productSearchIndex != null && productSearchIndex.isReady();
+    }
+
+    /**
+     * 색인이 정한 순서대로 상품 조회 (색인 반영 전에 삭제된 상품은 빠진다)
+     */
+    private List<Product> loadInOrder(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> ranks = new HashMap<>(rankedIds.size() * 2);
+        for (int i = 0; i < rankedIds.size(); i++) {
+            ranks.put(rankedIds.get(i), i);
+        }
+        List<Product> products = new ArrayList<>(productRepository.findByIds(rankedIds));
+        products.sort(Comparator.comparingInt(product -> ranks.get(product.getId())));
+        return products;
+    }
+
+    private void evictCachedProduct(Long productId) {
+        if (productNearCache != null) {
+            productNearCache.evictAfterCommit(productId);
+        }
+    }
+
+    private static Product toDomainModel(ProductSnapshot snapshot) {
+        return Product.reconstitute(snapshot.id(), snapshot.name(), snapshot.description(), snapshot.price(),
+                snapshot.stock(), snapshot.category(), snapshot.active(),
+                snapshot.createdAt(), snapshot.updatedAt(), snapshot.version());
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.controller;
+
+import com.ecommerce.application.dto.CategoryFacet;
+import com.ecommerce.application.service.ProductService;
+import com.ecommerce.controller.dto.CategoryProductPageResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/categories")
+public class CategoryController {
+
+    private final ProductService productService;
+
+    public CategoryController(ProductService productService) {
+        this.productService = productService;
+    }
+
+    /**
+     * 카테고리별 활성 상품 수 조회 API (많은 순)
+     */
+    @GetMapping
+    public ResponseEntity<List<CategoryFacet>> getCategoryFacets() {
+        return ResponseEntity.ok(productService.getCategoryFacets());
+    }
+
+    /**
+     * 카테고리 활성 상품 목록 조회 API (상품명 순, 커서 기반 페이지네이션)
+     * 응답의 nextCursor 를 cursor 파라미터로 전달하면 다음 페이지를 조회한다.
+     */
+    @GetMapping("/{category}/products")
+    public ResponseEntity<CategoryProductPageResponse> getProducts(@PathVariable String category,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(CategoryProductPageResponse.from(productService.getProductsByCategory(category, cursor, size)));
+    }
+}
@@ -1,12 +1,19 @@
 package com.ecommerce.controller;
 
 import com.ecommerce.product.dto.ProductListResponse;
+import com.ecommerce.product.dto.ProductPageResponse;
 import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.dto.ProductSearchResponse;
 import com.ecommerce.product.entity.Product;
 import com.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -14,14 +21,19 @@ import java.util.List;
 @RequestMapping("/api/v1/products")
 public class ProductController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * 모든 상품 조회
+     * 필터가 없으면 전체 상품을 한 응답에 담으므로, 큰 카탈로그는 /page, /price 또는 /stream 으로 조회한다.
      */
     @GetMapping
     public ResponseEntity<ProductListResponse> getAllProducts(
@@ -45,6 +57,58 @@ public class ProductController {
         return ResponseEntity.ok(ProductListResponse.from(products));
     }
 
+    /**
+     * 상품 목록 조회 API (id 순, 커서 기반 페이지네이션)
+     * 응답의 nextCursor 를 cursor 파라미터로 전달하면 다음 페이지를 조회한다.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ProductPageResponse> getProductPage(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ProductPageResponse.from(productService.getProductPage(cursor, size)));
+    }
+
+    /**
+     * 가격 범위 상품 목록 조회 API (가격 → id 순, 커서 기반 페이지네이션)
+     * inStockOnly=true 이면 재고가 있는 상품만 조회한다.
+     */
+    @GetMapping("/price")
+    public ResponseEntity<ProductPageResponse> getProductPageByPrice(@RequestParam(required = false) BigDecimal minPrice,
+                                                                     @RequestParam(required = false) BigDecimal maxPrice,
+                                                                     @RequestParam(defaultValue = "false") boolean inStockOnly,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ProductPageResponse.from(
+                productService.getProductPageByPrice(minPrice, maxPrice, inStockOnly, cursor, size)));
+    }
+
+    /**
+     * 상품 검색 API (상품명/카테고리/설명 부분 일치, 점수 순, page 는 0부터)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(@RequestParam("q") String keyword,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ProductSearchResponse.from(productService.searchProducts(keyword, page, size)));
+    }
+
+    /**
+     * 전체 상품 스트리밍 API (NDJSON, 한 줄에 상품 하나)
+     * DB 에서 한 행씩 읽어 바로 응답에 쓰므로 카탈로그 크기와 무관하게 힙 사용량이 일정하다.
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamProducts() {
+        StreamingResponseBody body = out -> productService.streamProducts(product -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(ProductResponse.from(product)));
+                out.write('\n');
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 - 조회를 중단한다
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * 특정 상품 조회
      */
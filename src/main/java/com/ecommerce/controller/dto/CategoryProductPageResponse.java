@@ -0,0 +1,19 @@
+package com.ecommerce.controller.dto;
+
+import com.ecommerce.application.dto.CategoryProductSlice;
+
+import java.util.List;
+
+public record CategoryProductPageResponse(
+        List<CategoryProductResponse> products,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static CategoryProductPageResponse from(CategoryProductSlice slice) {
+        List<CategoryProductResponse> productResponses = slice.items().stream()
+                .map(CategoryProductResponse::from)
+                .toList();
+
+        return new CategoryProductPageResponse(productResponses, slice.nextCursor(), slice.hasNext());
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.controller.dto;
+
+import com.ecommerce.domain.model.Product;
+
+import java.math.BigDecimal;
+
+public record CategoryProductResponse(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        int stock,
+        String category
+) {
+    public static CategoryProductResponse from(Product product) {
+        return new CategoryProductResponse(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getStock(), product.getCategory());
+    }
+}
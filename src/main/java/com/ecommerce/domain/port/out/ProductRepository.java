@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,6 +44,17 @@ public interface ProductRepository {
      */
     List<Product> findActiveProductsByCategory(String category);
 
+    /**
+     * 카테고리별 활성 상품 조회 (상품명 → ID 순, after 위치 다음부터 limit 건)
+     * @param afterName 이전 페이지 마지막 상품명 (첫 페이지는 null)
+     */
+    List<Product> findActiveProductsByCategoryAfter(String category, String afterName, Long afterId, int limit);
+
+    /**
+     * 카테고리별 활성 상품 수
+     */
+    Map<String, Long> countActiveProductsByCategory();
+
     /**
      * 상품명으로 검색
      */
@@ -54,7 +66,7 @@ public interface ProductRepository {
     List<Product> findByIds(List<Long> ids);
 
     /**
-     * 복수 ID로 상품 조회 (배타적 락 적용)
+     * 복수 ID로 상품 조회 (배타적 락 적용, ID 오름차순으로 잠금)
      */
     List<Product> findByIdsWithLock(List<Long> ids);
 
@@ -0,0 +1,38 @@
+package com.ecommerce.infrastructure.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+/**
+ * JDBC 기반 상품 캐시 원본 저장소 (PK 단건 조회)
+ * 상품 엔티티가 두 벌(product.entity.Product, ProductJpaEntity)이라 어느 쪽 영속성 컨텍스트에도 묶이지 않도록 직접 읽는다.
+ */
+public class JdbcProductSnapshotStore implements ProductSnapshotStore {
+
+    private static final String SELECT_PRODUCT =
+            "SELECT id, name, description, price, stock, category, active, created_at, updated_at, version " +
+                    "FROM products WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductSnapshotStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ProductSnapshot> load(Long productId) {
+        return jdbcTemplate.query(SELECT_PRODUCT, (rs, rowNum) -> new ProductSnapshot(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock"),
+                rs.getString("category"),
+                rs.getBoolean("active"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                rs.getLong("version")
+        ), productId).stream().findFirst();
+    }
+}
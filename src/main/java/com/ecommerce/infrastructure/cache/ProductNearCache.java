@@ -0,0 +1,114 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 상품 상세 조회 near-cache (프로세스 로컬, W-TinyLFU 크기 제한 + TTL)
+ *
+ * - 상세 슬롯: 이름/가격/설명 등 행 전체를 detailTtl 동안 보관
+ * - 재고 슬롯: 재고와 @Version 값만 stockTtl(짧게) 동안 보관
+ * - 재고 슬롯이 비면 행을 PK 로 한 번 읽어 재고 슬롯을 채우고, 버전이 바뀌었으면 상세 슬롯도 같은 행으로 교체한다.
+ *   따라서 상세는 TTL 과 무관하게 최대 stockTtl 만큼만 낡을 수 있고, 행 조회는 상품당 stockTtl 에 한 번으로 제한된다.
+ * - 이 애플리케이션의 상품 변경은 커밋 이후 재고 슬롯을 무효화해 바로 반영하고,
+ *   다른 경로(주문 모듈의 조건부 재고 차감 등)의 변경은 stockTtl 이후 반영된다.
+ *
+ * 적중률/축출 수는 name=product.detail, name=product.stock 태그로 노출된다.
+ */
+public class ProductNearCache {
+
+    public static final String DETAIL_CACHE_NAME = "product.detail";
+    public static final String STOCK_CACHE_NAME = "product.stock";
+    private static final StockSlot ABSENT = new StockSlot(0, -1L);
+
+    private final ProductSnapshotStore store;
+    private final Cache<Long, ProductSnapshot> details;
+    private final Cache<Long, StockSlot> stocks;
+
+    public ProductNearCache(ProductSnapshotStore store,
+                            long maximumSize,
+                            Duration detailTtl,
+                            Duration stockTtl,
+                            MeterRegistry meterRegistry) {
+        this(store, maximumSize, detailTtl, stockTtl, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, details, DETAIL_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, stocks, STOCK_CACHE_NAME);
+    }
+
+    ProductNearCache(ProductSnapshotStore store, long maximumSize, Duration detailTtl, Duration stockTtl, Ticker ticker) {
+        if (stockTtl.compareTo(detailTtl) > 0) {
+            throw new IllegalArgumentException("재고 TTL 은 상세 TTL 보다 길 수 없습니다: stock=" + stockTtl + ", detail=" + detailTtl);
+        }
+        this.store = store;
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(detailTtl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(stockTtl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 상품 조회 (상세 슬롯 + 현재 재고, 같은 상품에 대한 동시 로딩은 한 번만 수행)
+     */
+    public Optional<ProductSnapshot> get(Long productId) {
+        // 상세 슬롯만 크기 제한으로 먼저 축출되었거나 동시 갱신으로 버전이 엇갈린 경우 한 번 더 읽는다
+        for (int attempt = 0; attempt < 2; attempt++) {
+            StockSlot slot = stocks.get(productId, this::refresh);
+            if (slot == ABSENT) {
+                return Optional.empty();
+            }
+            ProductSnapshot detail = details.getIfPresent(productId);
+            if (detail != null && detail.version() == slot.version()) {
+                return Optional.of(detail.withStock(slot.stock()));
+            }
+            stocks.invalidate(productId);
+        }
+        return store.load(productId);
+    }
+
+    /**
+     * 커밋 이후 상품 무효화 (트랜잭션 안이면 커밋된 경우에만, 상세는 다음 조회 때 버전으로 교체)
+     */
+    public void evictAfterCommit(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stocks.invalidate(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stocks.invalidate(productId);
+            }
+        });
+    }
+
+    private StockSlot refresh(Long productId) {
+        Optional<ProductSnapshot> loaded = store.load(productId);
+        if (loaded.isEmpty()) {
+            details.invalidate(productId);
+            return ABSENT;
+        }
+        ProductSnapshot snapshot = loaded.get();
+        details.asMap().merge(productId, snapshot,
+                (cached, updated) -> updated.version() >= cached.version() ? updated : cached);
+        return new StockSlot(snapshot.stock(), snapshot.version());
+    }
+
+    private record StockSlot(int stock, long version) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.infrastructure.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 상품 행 (products 테이블 한 행, version 은 @Version 컬럼)
+ */
+public record ProductSnapshot(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        int stock,
+        String category,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version
+) {
+    ProductSnapshot withStock(int currentStock) {
+        return currentStock == stock ? this : new ProductSnapshot(
+                id, name, description, price, currentStock, category, active, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.infrastructure.cache;
+
+import java.util.Optional;
+
+/**
+ * 상품 캐시 원본 저장소
+ */
+public interface ProductSnapshotStore {
+
+    Optional<ProductSnapshot> load(Long productId);
+}
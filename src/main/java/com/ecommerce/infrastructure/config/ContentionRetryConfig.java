@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.retry.ContentionRetryInterceptor;
+import com.ecommerce.infrastructure.retry.ContentionRetryPostProcessor;
+import com.ecommerce.infrastructure.retry.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * @ContentionRetry 재시도 정책 설정
+ */
+@Configuration
+public class ContentionRetryConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되므로 static 으로 등록하고, 설정은 Environment 에서 직접 바인딩
+    @Bean
+    public static ContentionRetryPostProcessor contentionRetryPostProcessor(Environment environment,
+                                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        ContentionRetryProperties properties = Binder.get(environment)
+                .bindOrCreate("retry.contention", ContentionRetryProperties.class);
+        RetryBudget budget = new RetryBudget(
+                properties.budgetCapacity(), properties.budgetRefillPerSecond(), properties.maxTrackedKeys());
+        return new ContentionRetryPostProcessor(new ContentionRetryInterceptor(
+                meterRegistry, budget, properties.maxAttempts(), properties.initialDelay(), properties.maxDelay()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 락 경합 재시도 정책 설정 (retry.contention.*)
+ */
+@ConfigurationProperties(prefix = "retry.contention")
+public record ContentionRetryProperties(
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("5ms") Duration initialDelay,
+        @DefaultValue("200ms") Duration maxDelay,
+        @DefaultValue("20") int budgetCapacity,
+        @DefaultValue("10") double budgetRefillPerSecond,
+        @DefaultValue("100000") long maxTrackedKeys
+) {
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.idempotency.IdempotencyGuard;
+import com.ecommerce.infrastructure.idempotency.JdbcIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+/**
+ * 멱등성 키 설정 (idempotency.enabled=true 일 때만 활성화, 비활성화되면 Idempotency-Key 헤더를 무시)
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public IdempotencyGuard idempotencyGuard(IdempotencyProperties properties,
+                                             JdbcTemplate jdbcTemplate,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry) {
+        IdempotencyGuard guard = new IdempotencyGuard(
+                new JdbcIdempotencyStore(jdbcTemplate),
+                objectMapper,
+                meterRegistry,
+                properties.ttl(),
+                properties.expectedKeys(),
+                properties.falsePositiveRate(),
+                Clock.systemDefaultZone());
+        guard.start(properties.purgeInterval());
+        return guard;
+    }
+}
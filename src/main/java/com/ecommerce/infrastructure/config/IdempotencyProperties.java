@@ -0,0 +1,19 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등성 키 설정 (idempotency.*)
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        boolean enabled,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("1000000") long expectedKeys,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10m") Duration purgeInterval
+) {
+}
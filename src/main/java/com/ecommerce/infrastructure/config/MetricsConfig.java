@@ -0,0 +1,41 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.port.out.UserBalanceRepository;
+import com.ecommerce.infrastructure.metrics.PortMetricsPostProcessor;
+import com.ecommerce.order.domain.port.out.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 포트 호출 메트릭 설정 (/actuator/metrics, /actuator/prometheus 로 노출)
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 계측 대상 포트 패키지
+    private static final List<String> PORT_PACKAGES = List.of(
+            "com.ecommerce.order.domain.port.in",
+            "com.ecommerce.order.domain.port.out",
+            "com.ecommerce.domain.port.out"
+    );
+
+    // 행 락을 잡는 포트 메서드 (SELECT ... FOR UPDATE 또는 조건부 UPDATE), port.lock.wait 로 별도 계측
+    private static final Map<Class<?>, Set<String>> LOCK_WAIT_METHODS = Map.of(
+            com.ecommerce.order.domain.port.out.ProductRepository.class, Set.of("decreaseStock", "decreaseStockIfAvailable"),
+            UserRepository.class, Set.of("applyBalanceDelta"),
+            com.ecommerce.domain.port.out.ProductRepository.class, Set.of("findByIdWithLock", "findByIdsWithLock"),
+            UserBalanceRepository.class, Set.of("findByUserIdWithLock")
+    );
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되므로 static 으로 등록하고 레지스트리는 지연 조회
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortMetricsPostProcessor(meterRegistry, PORT_PACKAGES, LOCK_WAIT_METHODS);
+    }
+}
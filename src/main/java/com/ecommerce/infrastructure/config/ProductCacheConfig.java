@@ -0,0 +1,27 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.cache.JdbcProductSnapshotStore;
+import com.ecommerce.infrastructure.cache.ProductNearCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 상품 상세 near-cache 설정 (product.cache.enabled=true 일 때만 활성화, 비활성화되면 매번 DB 조회)
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true")
+public class ProductCacheConfig {
+
+    @Bean
+    public ProductNearCache productNearCache(ProductCacheProperties properties,
+                                             JdbcTemplate jdbcTemplate,
+                                             MeterRegistry meterRegistry) {
+        return new ProductNearCache(new JdbcProductSnapshotStore(jdbcTemplate),
+                properties.maximumSize(), properties.detailTtl(), properties.stockTtl(), meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 상세 near-cache 설정 (product.cache.*)
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(
+        boolean enabled,
+        @DefaultValue("50000") long maximumSize,
+        @DefaultValue("10m") Duration detailTtl,
+        @DefaultValue("1s") Duration stockTtl
+) {
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.search.ProductCategoryIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 카테고리 색인 설정 (product.category-index.enabled=true 일 때만 활성화)
+ * 비활성화되거나 적재가 끝나기 전에는 카테고리 목록/패싯을 DB 에서 조회한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.category-index", name = "enabled", havingValue = "true")
+public class ProductCategoryIndexConfig {
+
+    @Bean
+    public ProductCategoryIndex productCategoryIndex(MeterRegistry meterRegistry) {
+        return new ProductCategoryIndex(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.infrastructure.search.ProductDocumentIndex;
+import com.ecommerce.infrastructure.search.ProductIndexer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 상품 메모리 색인 적재 설정 (product.search, product.category-index, product.price-index 중 하나라도 켜져 있을 때만 활성화)
+ * 활성화된 색인을 한 번의 테이블 스트리밍으로 함께 채우고, 이후 product_changes 순번으로 변경분을 따라잡는다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductIndexerProperties.class)
+@ConditionalOnExpression("${product.search.enabled:false} or ${product.category-index.enabled:false} " +
+        "or ${product.price-index.enabled:false}")
+public class ProductIndexerConfig {
+
+    @Bean
+    public ProductChangeLog productChangeLog(JdbcTemplate jdbcTemplate) {
+        return new ProductChangeLog(jdbcTemplate);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ProductIndexer productIndexer(ProductIndexerProperties properties,
+                                         ObjectProvider<ProductDocumentIndex> indexes,
+                                         JdbcTemplate jdbcTemplate,
+                                         ProductChangeLog productChangeLog) {
+        List<ProductDocumentIndex> enabled = indexes.orderedStream().toList();
+        ProductIndexer indexer = new ProductIndexer(enabled, jdbcTemplate, productChangeLog,
+                properties.gapTimeout(), properties.retention());
+        indexer.start(properties.refreshInterval());
+        return indexer;
+    }
+}
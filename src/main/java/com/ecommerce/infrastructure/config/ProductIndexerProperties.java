@@ -0,0 +1,17 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 메모리 색인 적재 설정 (product.indexer.*)
+ */
+@ConfigurationProperties(prefix = "product.indexer")
+public record ProductIndexerProperties(
+        @DefaultValue("30s") Duration refreshInterval,
+        @DefaultValue("2m") Duration gapTimeout,
+        @DefaultValue("1h") Duration retention
+) {
+}
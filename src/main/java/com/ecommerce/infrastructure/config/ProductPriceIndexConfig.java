@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.search.ProductPriceIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가격 색인 설정 (product.price-index.enabled=true 일 때만 활성화)
+ * 비활성화되거나 적재가 끝나기 전에는 가격 범위 목록을 DB 에서 (price, id) 순 keyset 으로 조회한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.price-index", name = "enabled", havingValue = "true")
+public class ProductPriceIndexConfig {
+
+    @Bean
+    public ProductPriceIndex productPriceIndex(MeterRegistry meterRegistry) {
+        return new ProductPriceIndex(meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 검색 색인 설정 (product.search.enabled=true 일 때만 활성화)
+ * 비활성화되거나 적재가 끝나기 전에는 기존 LIKE 검색을 그대로 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductSearchProperties.class)
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true")
+public class ProductSearchConfig {
+
+    @Bean
+    public ProductSearchIndex productSearchIndex(ProductSearchProperties properties, MeterRegistry meterRegistry) {
+        return new ProductSearchIndex(properties.descriptionChars(), meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 검색 색인 설정 (product.search.*)
+ */
+@ConfigurationProperties(prefix = "product.search")
+public record ProductSearchProperties(
+        boolean enabled,
+        @DefaultValue("200") int descriptionChars
+) {
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터 (false negative 없음, false positive 는 설정한 비율 이하)
+ * 비트 배열을 AtomicLongArray 로 두어 여러 스레드가 잠금 없이 추가/조회한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("블룸 필터 크기 설정이 올바르지 않습니다: expected="
+                    + expectedInsertions + ", fpp=" + falsePositiveRate);
+        }
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + (long) i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + (long) i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // Kirsch-Mitzenmacher: 두 해시의 선형 조합으로 k 개의 인덱스를 만든다
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a 64 + murmur3 fmix64
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
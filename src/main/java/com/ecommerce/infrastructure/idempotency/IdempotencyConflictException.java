@@ -0,0 +1,23 @@
+package com.ecommerce.infrastructure.idempotency;
+
+/**
+ * 같은 멱등성 키로 저장된 응답을 돌려줄 수 없는 경우
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public enum Reason {
+        IN_PROGRESS,        // 같은 키의 최초 요청이 아직 처리 중
+        REQUEST_MISMATCH    // 같은 키로 다른 요청 본문을 보냄
+    }
+
+    private final Reason reason;
+
+    public IdempotencyConflictException(Reason reason, String idempotencyKey) {
+        super(reason == Reason.IN_PROGRESS
+                ? "같은 멱등성 키의 요청이 처리 중입니다: " + idempotencyKey
+                : "멱등성 키가 다른 요청에 이미 사용되었습니다: " + idempotencyKey);
+        this.reason = reason;
+    }
+
+    public Reason getReason() { return reason; }
+}
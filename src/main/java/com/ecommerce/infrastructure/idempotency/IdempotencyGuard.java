@@ -0,0 +1,253 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 차단
+ *
+ * - 로컬 블룸 필터에 없는 키는 처음 보는 키이므로 조회 없이 바로 INSERT 로 선점한다
+ *   (다른 노드가 먼저 선점했다면 PK 중복으로 실패하고 조회로 넘어감).
+ * - 필터에 있는 키는 PK 조회 한 번으로 저장된 응답을 돌려준다 (잔액/상품 행은 읽지 않음).
+ * - 처리 중 예외가 나면 선점을 해제해 같은 키로 재시도할 수 있게 한다.
+ * - 선점 후 응답 저장 전에 프로세스가 죽으면 키는 만료될 때까지 IN_PROGRESS(409) 로 남는다 (이중 적용보다 안전한 쪽).
+ *
+ * 필터는 ttl 마다 세대를 교체하고 직전 세대까지 조회하므로, ttl 이내에 추가된 키는 항상 필터에 있다.
+ */
+public class IdempotencyGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyGuard.class);
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int MAX_KEY_LENGTH = 100;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile BloomFilter currentFilter;
+    private volatile BloomFilter previousFilter;
+
+    public IdempotencyGuard(IdempotencyStore store,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            Duration ttl,
+                            long expectedKeys,
+                            double falsePositiveRate,
+                            Clock clock) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.currentFilter = new BloomFilter(expectedKeys, falsePositiveRate);
+        this.previousFilter = new BloomFilter(expectedKeys, falsePositiveRate);
+    }
+
+    /**
+     * 만료되지 않은 키를 필터에 적재하고 세대 교체/만료 키 정리를 시작
+     */
+    public void start(Duration purgeInterval) {
+        long[] loaded = {0};
+        store.forEachActiveKey(now(), key -> {
+            currentFilter.put(key);
+            loaded[0]++;
+        });
+        log.info("멱등성 키 필터를 적재했습니다. keys={}", loaded[0]);
+        scheduler.scheduleAtFixedRate(this::rotate, ttl.toMillis(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 멱등성 키로 보호된 요청 실행
+     *
+     * @param scope 요청 종류 (같은 키라도 scope 가 다르면 다른 요청)
+     * @param idempotencyKey 클라이언트가 보낸 키 (없으면 보호 없이 실행)
+     * @param request 요청 본문 - 같은 키로 다른 본문을 보내면 REQUEST_MISMATCH
+     * @param bodyType 저장된 응답 본문을 복원할 타입
+     */
+    public <T> ResponseEntity<T> execute(String scope,
+                                         String idempotencyKey,
+                                         Object request,
+                                         Class<T> bodyType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등성 키는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String recordKey = scope + ":" + idempotencyKey;
+        String requestHash = fingerprint(request);
+        long started = System.nanoTime();
+
+        if (mightContain(recordKey)) {
+            Optional<IdempotencyRecord> existing = find(recordKey);
+            filterResult(scope, existing.isPresent() ? "hit" : "false_positive");
+            if (existing.isPresent()) {
+                return replay(scope, existing.get(), idempotencyKey, requestHash, bodyType, started);
+            }
+        } else {
+            filterResult(scope, "skipped");
+        }
+
+        LocalDateTime now = now();
+        if (!store.claim(recordKey, requestHash, now, now.plus(ttl))) {
+            // 다른 노드(또는 동시 요청)가 먼저 선점함 - 그 사이 선점이 해제되었으면 처리 중으로 응답
+            currentFilter.put(recordKey);
+            IdempotencyRecord existing = find(recordKey).orElseThrow(() -> conflict(scope,
+                    IdempotencyConflictException.Reason.IN_PROGRESS, idempotencyKey, started));
+            return replay(scope, existing, idempotencyKey, requestHash, bodyType, started);
+        }
+        currentFilter.put(recordKey);
+        record(scope, "new", started);
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            store.release(recordKey);
+            throw e;
+        }
+        try {
+            store.complete(recordKey, response.getStatusCode().value(), serialize(response.getBody()));
+        } catch (RuntimeException e) {
+            // 요청은 이미 반영되었으므로 실패로 응답하지 않는다 (재요청은 만료 전까지 IN_PROGRESS)
+            log.error("멱등성 키 응답 저장에 실패했습니다. key={}", recordKey, e);
+        }
+        return response;
+    }
+
+    private Optional<IdempotencyRecord> find(String recordKey) {
+        return store.find(recordKey).filter(record -> !record.isExpired(now()));
+    }
+
+    // 같은 요청의 완료된 응답이면 복원하고, 아니면 충돌 예외
+    private <T> ResponseEntity<T> replay(String scope, IdempotencyRecord record, String idempotencyKey,
+                                         String requestHash, Class<T> bodyType, long started) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw conflict(scope, IdempotencyConflictException.Reason.REQUEST_MISMATCH, idempotencyKey, started);
+        }
+        if (record.status() == IdempotencyRecord.Status.IN_PROGRESS) {
+            throw conflict(scope, IdempotencyConflictException.Reason.IN_PROGRESS, idempotencyKey, started);
+        }
+        record(scope, "replayed", started);
+        return ResponseEntity.status(record.responseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(deserialize(record.responseBody(), bodyType));
+    }
+
+    private boolean mightContain(String recordKey) {
+        return currentFilter.mightContain(recordKey) || previousFilter.mightContain(recordKey);
+    }
+
+    private void rotate() {
+        previousFilter = currentFilter;
+        currentFilter = new BloomFilter(expectedKeys, falsePositiveRate);
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged;
+            do {
+                purged = store.purgeExpired(now(), PURGE_BATCH_SIZE);
+            } while (purged == PURGE_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.error("만료된 멱등성 키 정리에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private IdempotencyConflictException conflict(String scope, IdempotencyConflictException.Reason reason,
+                                                  String idempotencyKey, long started) {
+        record(scope, reason.name().toLowerCase(Locale.ROOT), started);
+        return new IdempotencyConflictException(reason, idempotencyKey);
+    }
+
+    // idempotency.lookup{result=new|replayed|in_progress|request_mismatch} - replayed 비율이 중복 요청 차단율
+    private void record(String scope, String result, long started) {
+        Timer.builder("idempotency.lookup")
+                .tag("scope", scope)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    // idempotency.filter{result=skipped|hit|false_positive} - 필터가 조회를 생략한 비율
+    private void filterResult(String scope, String result) {
+        Counter.builder("idempotency.filter")
+                .tag("scope", scope)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 지문 계산에 실패했습니다.", e);
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> bodyType) {
+        try {
+            return objectMapper.readValue(body, bodyType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 복원할 수 없습니다.", e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
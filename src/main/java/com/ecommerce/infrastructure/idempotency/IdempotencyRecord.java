@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 한 건 (요청 지문 + 처리 상태 + 완료된 응답)
+ */
+public record IdempotencyRecord(
+        String recordKey,
+        String requestHash,
+        Status status,
+        Integer responseStatus,
+        String responseBody,
+        LocalDateTime expiresAt
+) {
+    public enum Status {
+        IN_PROGRESS,    // 최초 요청 처리 중
+        COMPLETED       // 응답 저장 완료 - 같은 키의 재요청은 저장된 응답으로 응답
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
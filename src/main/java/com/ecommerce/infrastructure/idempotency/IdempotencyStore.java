@@ -0,0 +1,38 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 멱등성 키 영속 저장소
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키를 IN_PROGRESS 로 선점 (이미 유효한 키가 있으면 false, 만료된 키는 대체)
+     */
+    boolean claim(String recordKey, String requestHash, LocalDateTime now, LocalDateTime expiresAt);
+
+    Optional<IdempotencyRecord> find(String recordKey);
+
+    /**
+     * 처리 결과 응답 저장
+     */
+    void complete(String recordKey, int responseStatus, String responseBody);
+
+    /**
+     * 처리에 실패한 선점 해제 (같은 키로 다시 요청할 수 있게 함)
+     */
+    void release(String recordKey);
+
+    /**
+     * 만료된 키를 최대 limit 건 삭제하고 삭제 건수를 반환
+     */
+    int purgeExpired(LocalDateTime now, int limit);
+
+    /**
+     * 만료되지 않은 키 순회 (시작 시 필터 적재용)
+     */
+    void forEachActiveKey(LocalDateTime now, Consumer<String> consumer);
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * JDBC 기반 멱등성 키 저장소 (idempotency_keys, PK = scope:key)
+ * 각 문장은 자동 커밋으로 실행되어 업무 트랜잭션과 분리된다 (선점이 먼저 보여야 동시 중복 요청을 막을 수 있음).
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_CLAIM =
+            "INSERT INTO idempotency_keys (record_key, request_hash, status, created_at, expires_at) " +
+                    "VALUES (?, ?, 'IN_PROGRESS', ?, ?)";
+    private static final String DELETE_EXPIRED_KEY =
+            "DELETE FROM idempotency_keys WHERE record_key = ? AND expires_at <= ?";
+    private static final String SELECT_RECORD =
+            "SELECT record_key, request_hash, status, response_status, response_body, expires_at " +
+                    "FROM idempotency_keys WHERE record_key = ?";
+    private static final String UPDATE_COMPLETED =
+            "UPDATE idempotency_keys SET status = 'COMPLETED', response_status = ?, response_body = ? WHERE record_key = ?";
+    private static final String DELETE_IN_PROGRESS =
+            "DELETE FROM idempotency_keys WHERE record_key = ? AND status = 'IN_PROGRESS'";
+    private static final String PURGE_EXPIRED =
+            "DELETE FROM idempotency_keys WHERE expires_at <= ? LIMIT ?";
+    private static final String SELECT_ACTIVE_KEYS =
+            "SELECT record_key FROM idempotency_keys WHERE expires_at > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean claim(String recordKey, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_CLAIM, recordKey, requestHash, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 아직 정리되지 않은 만료 키면 지우고 한 번 더 선점
+            if (jdbcTemplate.update(DELETE_EXPIRED_KEY, recordKey, Timestamp.valueOf(now)) == 0) {
+                return false;
+            }
+            try {
+                jdbcTemplate.update(INSERT_CLAIM, recordKey, requestHash, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+                return true;
+            } catch (DuplicateKeyException raced) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String recordKey) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(SELECT_RECORD, (rs, rowNum) -> new IdempotencyRecord(
+                rs.getString("record_key"),
+                rs.getString("request_hash"),
+                IdempotencyRecord.Status.valueOf(rs.getString("status")),
+                rs.getObject("response_status", Integer.class),
+                rs.getString("response_body"),
+                rs.getTimestamp("expires_at").toLocalDateTime()
+        ), recordKey);
+        return records.stream().findFirst();
+    }
+
+    @Override
+    public void complete(String recordKey, int responseStatus, String responseBody) {
+        jdbcTemplate.update(UPDATE_COMPLETED, responseStatus, responseBody, recordKey);
+    }
+
+    @Override
+    public void release(String recordKey) {
+        jdbcTemplate.update(DELETE_IN_PROGRESS, recordKey);
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(PURGE_EXPIRED, Timestamp.valueOf(now), limit);
+    }
+
+    @Override
+    public void forEachActiveKey(LocalDateTime now, Consumer<String> consumer) {
+        jdbcTemplate.query(SELECT_ACTIVE_KEYS, rs -> {
+            consumer.accept(rs.getString("record_key"));
+        }, Timestamp.valueOf(now));
+    }
+}
@@ -0,0 +1,249 @@
+package com.ecommerce.infrastructure.journal;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 기반 추가 전용(append-only) 저널
+ * 레코드마다 단조 증가 시퀀스를 부여하고 세그먼트 파일 단위로 회전/삭제한다.
+ * 레코드 포맷: 한 줄에 "시퀀스\t페이로드" (페이로드에 개행 문자 불가)
+ *
+ * append 는 메모리 버퍼에만 기록하며, force 호출 시점에 디스크로 동기화된다.
+ * 동시에 여러 스레드가 force 를 호출하면 한 번의 fsync 로 묶어서 처리한다 (group commit).
+ */
+public class AppendOnlyJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_BUFFER_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final StringBuilder buffer = new StringBuilder();
+
+    private FileChannel channel;
+    private long lastSequence;
+    private volatile long forcedSequence;
+
+    public AppendOnlyJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.lastSequence = scanLastSequence();
+            this.forcedSequence = lastSequence;
+            openSegment(lastSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 초기화에 실패했습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드 추가 (버퍼 기록), 부여된 시퀀스 반환
+     */
+    public long append(String payload) {
+        lock.lock();
+        try {
+            long sequence = ++lastSequence;
+            buffer.append(sequence).append('\t').append(payload).append('\n');
+            if (buffer.length() >= MAX_BUFFER_BYTES) {
+                writeBuffer();
+            }
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 기록에 실패했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 시퀀스까지 디스크 동기화 (이미 동기화된 경우 즉시 반환)
+     */
+    public void force(long sequence) {
+        if (forcedSequence >= sequence) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (forcedSequence >= sequence) {
+                return;
+            }
+            forceLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재까지 추가된 모든 레코드를 디스크 동기화
+     */
+    public void force() {
+        lock.lock();
+        try {
+            forceLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 봉인하고 새 세그먼트로 전환, 봉인된 마지막 시퀀스 반환
+     */
+    public long rotate() {
+        lock.lock();
+        try {
+            forceLocked();
+            long sealedSequence = lastSequence;
+            channel.close();
+            openSegment(sealedSequence + 1);
+            return sealedSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 전환에 실패했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 레코드가 지정한 시퀀스 이하인 봉인 세그먼트 삭제
+     */
+    public void deleteUpTo(long sequence) {
+        lock.lock();
+        try {
+            List<Long> starts = segmentStarts();
+            for (int i = 0; i < starts.size() - 1; i++) {
+                long lastInSegment = starts.get(i + 1) - 1;
+                if (lastInSegment <= sequence) {
+                    Files.deleteIfExists(segmentPath(starts.get(i)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 삭제에 실패했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 시퀀스 이후의 레코드를 순서대로 재생
+     * 비정상 종료로 잘린 마지막 줄은 무시한다.
+     */
+    public void replay(long afterSequence, BiConsumer<Long, String> consumer) {
+        lock.lock();
+        try {
+            writeBuffer();
+            for (Long start : segmentStarts()) {
+                try (BufferedReader reader = Files.newBufferedReader(segmentPath(start), StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int tab = line.indexOf('\t');
+                        if (tab <= 0) {
+                            continue;
+                        }
+                        long sequence = Long.parseLong(line.substring(0, tab));
+                        if (sequence > afterSequence) {
+                            consumer.accept(sequence, line.substring(tab + 1));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 재생에 실패했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            forceLocked();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 종료에 실패했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forceLocked() {
+        try {
+            writeBuffer();
+            channel.force(false);
+            forcedSequence = lastSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 동기화에 실패했습니다", e);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        buffer.setLength(0);
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        this.channel = FileChannel.open(segmentPath(firstSequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private long scanLastSequence() throws IOException {
+        long last = 0;
+        for (Long start : segmentStarts()) {
+            last = Math.max(last, start - 1);
+            try (Stream<String> lines = Files.lines(segmentPath(start), StandardCharsets.UTF_8)) {
+                last = Math.max(last, lines
+                        .filter(line -> line.indexOf('\t') > 0)
+                        .mapToLong(line -> Long.parseLong(line.substring(0, line.indexOf('\t'))))
+                        .max()
+                        .orElse(last));
+            }
+        }
+        return last;
+    }
+
+    private List<Long> segmentStarts() throws IOException {
+        List<Long> starts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(starts::add);
+        }
+        return starts;
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.order.domain.exception.InsufficientBalanceException;
+import com.ecommerce.order.domain.exception.InsufficientStockException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 포트 호출 메트릭 인터셉터
+ *
+ * - port.calls: 포트 메서드별 소요 시간 (percentile histogram, outcome 태그로 성공/예외 구분)
+ * - port.lock.wait: 락을 잡는 포트 메서드(lockWaitMethods 에 등록된 메서드)의 락 획득 포함 소요 시간
+ * - port.optimistic.lock.failures: 낙관적 락 충돌 횟수
+ * - order.rejections: 재고/잔액 부족으로 거절된 주문 수 (가장 바깥쪽 인바운드 포트 호출에서만 집계하여 중복 방지)
+ *
+ * 미터는 호출 지점별로 캐시하여 호출마다 레지스트리를 조회하지 않는다.
+ */
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    private static final String SUCCESS = "success";
+
+    // 인바운드 포트 데코레이터가 중첩된 경우 바깥쪽 호출에서만 거절을 집계하기 위한 호출 깊이
+    private static final ThreadLocal<int[]> INBOUND_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final BiFunction<Method, Class<?>, Class<?>> portResolver;
+    private final Map<Class<?>, Set<String>> lockWaitMethods;
+    private final Map<CallSite, CallSiteMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param lockWaitMethods 포트 인터페이스별 락을 잡는 메서드 이름 (port.lock.wait 계측 대상)
+     */
+    public PortMetricsInterceptor(ObjectProvider<MeterRegistry> registryProvider,
+                                  BiFunction<Method, Class<?>, Class<?>> portResolver,
+                                  Map<Class<?>, Set<String>> lockWaitMethods) {
+        this.registryProvider = registryProvider;
+        this.portResolver = portResolver;
+        this.lockWaitMethods = Map.copyOf(lockWaitMethods);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(Objects.requireNonNull(invocation.getThis())));
+        CallSiteMeters callSite = meters.computeIfAbsent(
+                new CallSite(invocation.getMethod(), targetClass),
+                key -> {
+                    Class<?> port = portResolver.apply(key.method(), key.targetClass());
+                    boolean locking = lockWaitMethods.getOrDefault(port, Set.of()).contains(key.method().getName());
+                    return new CallSiteMeters(registry, key, port, locking);
+                });
+
+        int[] inboundDepth = INBOUND_DEPTH.get();
+        if (callSite.inbound) {
+            inboundDepth[0]++;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            callSite.recordSuccess(System.nanoTime() - startedAt);
+            return result;
+        } catch (Throwable e) {
+            callSite.recordFailure(e, System.nanoTime() - startedAt, callSite.inbound && inboundDepth[0] == 1);
+            throw e;
+        } finally {
+            if (callSite.inbound) {
+                inboundDepth[0]--;
+            }
+        }
+    }
+
+    private record CallSite(Method method, Class<?> targetClass) {
+    }
+
+    private static class CallSiteMeters {
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final boolean inbound;
+        private final Timer success;
+        private final Timer lockWait;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        CallSiteMeters(MeterRegistry registry, CallSite callSite, Class<?> port, boolean locking) {
+            String portPackage = port.getPackageName();
+            this.registry = registry;
+            this.inbound = portPackage.endsWith(".port.in");
+            this.tags = Tags.of(
+                    "module", portPackage.startsWith("com.ecommerce.order.") ? "order" : "core",
+                    "port", port.getSimpleName(),
+                    "method", callSite.method().getName(),
+                    "adapter", callSite.targetClass().getSimpleName()
+            );
+            this.success = timer("port.calls", SUCCESS);
+            this.lockWait = locking
+                    ? Timer.builder("port.lock.wait")
+                            .description("락 획득을 포함한 포트 호출 시간")
+                            .tags(tags)
+                            .publishPercentileHistogram()
+                            .register(registry)
+                    : null;
+        }
+
+        void recordSuccess(long nanos) {
+            success.record(nanos, TimeUnit.NANOSECONDS);
+            if (lockWait != null) {
+                lockWait.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void recordFailure(Throwable e, long nanos, boolean countRejection) {
+            failures.computeIfAbsent(e.getClass(), type -> timer("port.calls", type.getSimpleName()))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (lockWait != null) {
+                lockWait.record(nanos, TimeUnit.NANOSECONDS);
+            }
+            if (e instanceof OptimisticLockingFailureException) {
+                counter("port.optimistic.lock.failures", tags).increment();
+            }
+            if (countRejection && e instanceof InsufficientStockException) {
+                counter("order.rejections", Tags.of("reason", "insufficient_stock")).increment();
+            } else if (countRejection && e instanceof InsufficientBalanceException) {
+                counter("order.rejections", Tags.of("reason", "insufficient_balance")).increment();
+            }
+        }
+
+        private Timer timer(String name, String outcome) {
+            return Timer.builder(name)
+                    .description("포트 호출 시간")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private Counter counter(String name, Tags counterTags) {
+            return registry.counter(name, counterTags);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 포트 인터페이스 구현 빈에 메트릭 인터셉터를 적용하는 BeanPostProcessor
+ * 이미 프록시된 빈(@Transactional 등)은 기존 프록시에 어드바이저를 가장 바깥쪽으로 추가한다.
+ */
+public class PortMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private final List<String> portPackages;
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> registryProvider, List<String> portPackages) {
+        this(registryProvider, portPackages, Map.of());
+    }
+
+    /**
+     * @param lockWaitMethods 포트 인터페이스별 락을 잡는 메서드 이름 (port.lock.wait 로 별도 계측)
+     */
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> registryProvider,
+                                    List<String> portPackages,
+                                    Map<Class<?>, Set<String>> lockWaitMethods) {
+        this.portPackages = List.copyOf(portPackages);
+        this.advisor = new DefaultPointcutAdvisor(new PortMethodPointcut(),
+                new PortMetricsInterceptor(registryProvider, this::findPort, lockWaitMethods));
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    /**
+     * 메서드를 선언한 포트 인터페이스 조회 (포트 메서드가 아니면 null)
+     */
+    Class<?> findPort(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (portPackages.contains(candidate.getPackageName())
+                    && ReflectionUtils.findMethod(candidate, method.getName(), method.getParameterTypes()) != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private class PortMethodPointcut extends StaticMethodMatcherPointcut {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return findPort(method, targetClass) != null;
+        }
+    }
+}
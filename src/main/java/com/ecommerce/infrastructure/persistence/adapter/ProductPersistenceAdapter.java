@@ -4,11 +4,20 @@ import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.port.out.ProductRepository;
 import com.ecommerce.infrastructure.persistence.entity.ProductJpaEntity;
 import com.ecommerce.infrastructure.persistence.repository.SpringProductRepository;
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.infrastructure.search.ProductDocument;
+import com.ecommerce.infrastructure.search.ProductDocumentIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -21,9 +30,29 @@ import java.util.stream.Collectors;
 public class ProductPersistenceAdapter implements ProductRepository {
 
     private final SpringProductRepository springRepository;
+    private final List<ProductDocumentIndex> documentIndexes;
+    private final ProductChangeLog changeLog;
 
     public ProductPersistenceAdapter(SpringProductRepository springRepository) {
+        this(springRepository, List.of(), null);
+    }
+
+    /**
+     * @param documentIndexes 저장/삭제를 커밋 직후 전달할 메모리 색인 (검색, 카테고리 - 비활성화된 색인은 없음)
+     * @param changeLog 다른 노드의 색인이 따라잡을 변경 기록 (색인이 모두 꺼져 있으면 없음)
+     */
+    @Autowired
+    public ProductPersistenceAdapter(SpringProductRepository springRepository,
+                                     ObjectProvider<ProductDocumentIndex> documentIndexes,
+                                     ObjectProvider<ProductChangeLog> changeLog) {
+        this(springRepository, documentIndexes.orderedStream().toList(), changeLog.getIfAvailable());
+    }
+
+    private ProductPersistenceAdapter(SpringProductRepository springRepository, List<ProductDocumentIndex> documentIndexes,
+                                      @Nullable ProductChangeLog changeLog) {
         this.springRepository = springRepository;
+        this.documentIndexes = documentIndexes;
+        this.changeLog = changeLog;
     }
 
     @Override
@@ -35,6 +64,15 @@ public class ProductPersistenceAdapter implements ProductRepository {
         product.assignId(savedEntity.getId());
         product.assignVersion(savedEntity.getVersion());
 
+        if (changeLog != null) {
+            changeLog.record(savedEntity.getId());
+        }
+        if (!documentIndexes.isEmpty()) {
+            ProductDocument document = new ProductDocument(savedEntity.getId(), product.getName(),
+                    product.getDescription(), product.getCategory(), product.getPrice(), product.getStock(),
+                    product.isActive(), savedEntity.getVersion() == null ? 0 : savedEntity.getVersion());
+            documentIndexes.forEach(index -> index.indexAfterCommit(document));
+        }
         return product;
     }
 
@@ -70,6 +108,25 @@ public class ProductPersistenceAdapter implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findActiveProductsByCategoryAfter(String category, String afterName, Long afterId, int limit) {
+        List<ProductJpaEntity> entities = afterName == null
+                ? springRepository.findActiveProductsByCategoryOrdered(category, PageRequest.ofSize(limit))
+                : springRepository.findActiveProductsByCategoryAfter(category, afterName, afterId, PageRequest.ofSize(limit));
+        return entities.stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Long> countActiveProductsByCategory() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : springRepository.countActiveProductsGroupByCategory()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public List<Product> findByNameContaining(String keyword) {
         return springRepository.findByNameContaining(keyword).stream()
@@ -86,7 +143,12 @@ public class ProductPersistenceAdapter implements ProductRepository {
 
     @Override
     public List<Product> findByIdsWithLock(List<Long> ids) {
-        return springRepository.findByIdsWithLock(ids).stream()
+        // 중복 제거 및 오름차순 정렬로 락 획득 순서 고정
+        List<Long> sortedIds = ids.stream()
+                .distinct()
+                .sorted()
+                .toList();
+        return springRepository.findByIdsWithLock(sortedIds).stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
     }
@@ -100,6 +162,10 @@ public class ProductPersistenceAdapter implements ProductRepository {
     public void delete(Product product) {
         if (product.getId() != null) {
             springRepository.deleteById(product.getId());
+            if (changeLog != null) {
+                changeLog.record(product.getId());
+            }
+            documentIndexes.forEach(index -> index.removeAfterCommit(product.getId()));
         }
     }
 
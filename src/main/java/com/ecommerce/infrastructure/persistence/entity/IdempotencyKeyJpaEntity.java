@@ -0,0 +1,47 @@
+package com.ecommerce.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 테이블 매핑 (JdbcIdempotencyStore 가 읽고 쓴다)
+ * record_key = scope:Idempotency-Key
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+})
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(length = 160)
+    private String recordKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    private Integer responseStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // JPA 기본 생성자
+    protected IdempotencyKeyJpaEntity() {}
+
+    public String getRecordKey() { return recordKey; }
+    public String getRequestHash() { return requestHash; }
+    public String getStatus() { return status; }
+    public Integer getResponseStatus() { return responseStatus; }
+    public String getResponseBody() { return responseBody; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
@@ -10,9 +10,10 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "products", indexes = {
-        @Index(name = "idx_product_category_active", columnList = "category, active"),
+        @Index(name = "idx_product_category_active", columnList = "category, active, name"),
         @Index(name = "idx_product_name", columnList = "name"),
-        @Index(name = "idx_product_active", columnList = "active")
+        @Index(name = "idx_product_active", columnList = "active"),
+        @Index(name = "idx_product_price", columnList = "price")
 })
 public class ProductJpaEntity {
 
@@ -6,9 +6,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +45,28 @@ public interface SpringProductRepository extends JpaRepository<ProductJpaEntity,
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.category = :category AND p.active = true ORDER BY p.name")
     List<ProductJpaEntity> findActiveProductsByCategory(@Param("category") String category);
 
+    /**
+     * 카테고리별 활성 상품 첫 페이지 (idx_product_category_active 의 (category, active, name) 순서 그대로 읽음)
+     */
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.category = :category AND p.active = true ORDER BY p.name, p.id")
+    List<ProductJpaEntity> findActiveProductsByCategoryOrdered(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 카테고리별 활성 상품 다음 페이지 (상품명, ID 가 주어진 위치보다 뒤인 행)
+     */
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.category = :category AND p.active = true " +
+            "AND (p.name > :afterName OR (p.name = :afterName AND p.id > :afterId)) ORDER BY p.name, p.id")
+    List<ProductJpaEntity> findActiveProductsByCategoryAfter(@Param("category") String category,
+                                                            @Param("afterName") String afterName,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
+
+    /**
+     * 카테고리별 활성 상품 수 ([category, count])
+     */
+    @Query("SELECT p.category, COUNT(p) FROM ProductJpaEntity p WHERE p.active = true GROUP BY p.category")
+    List<Object[]> countActiveProductsGroupByCategory();
+
     /**
      * 상품명으로 검색 (활성 상품만)
      */
@@ -57,11 +81,23 @@ public interface SpringProductRepository extends JpaRepository<ProductJpaEntity,
 
     /**
      * 복수 ID로 상품 조회 (비관적 락 적용)
+     * ID 오름차순으로 잠가 요청 간 락 획득 순서를 통일 (데드락 방지)
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM ProductJpaEntity p WHERE p.id IN :ids")
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.id IN :ids ORDER BY p.id")
     List<ProductJpaEntity> findByIdsWithLock(@Param("ids") List<Long> ids);
 
+    /**
+     * 조건부 재고 차감 (재고가 충분한 경우에만 차감)
+     * 락 조회 없이 단일 UPDATE 로 처리하며, 영향받은 행 수가 0 이면 재고 부족
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductJpaEntity p SET p.stock = p.stock - :quantity, p.version = p.version + 1, " +
+            "p.updatedAt = :updatedAt WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id,
+                                 @Param("quantity") int quantity,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * 활성 상품 수 조회
      */
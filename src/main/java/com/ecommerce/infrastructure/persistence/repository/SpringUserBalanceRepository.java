@@ -4,9 +4,12 @@ import com.ecommerce.infrastructure.persistence.entity.UserBalanceJpaEntity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -31,4 +34,22 @@ public interface SpringUserBalanceRepository extends JpaRepository<UserBalanceJp
      * 사용자 존재 여부 확인
      */
     boolean existsByUserId(Long userId);
+
+    /**
+     * 잔액 조회 (엔티티 로딩 없이 잔액 컬럼만)
+     */
+    @Query("SELECT ub.balance FROM UserBalanceJpaEntity ub WHERE ub.userId = :userId")
+    Optional<BigDecimal> findBalanceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 조건부 잔액 변경 (결과 잔액이 0 이상일 때만 반영)
+     * 단일 UPDATE 로 검증과 변경을 함께 수행하므로 선조회나 행 락이 필요 없다.
+     * @return 변경된 행 수 (0 이면 잔액 부족 또는 사용자 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserBalanceJpaEntity ub SET ub.balance = ub.balance + :delta, ub.version = ub.version + 1, " +
+            "ub.updatedAt = :updatedAt WHERE ub.userId = :userId AND ub.balance + :delta >= 0")
+    int applyDeltaIfSufficient(@Param("userId") Long userId,
+                               @Param("delta") BigDecimal delta,
+                               @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.retry;
+
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 락 경합 실패 시 공용 정책(지수 백오프 + full jitter, 키별 재시도 예산)으로 재시도
+ * 트랜잭션 바깥에서 적용되므로 @Transactional 메서드에 함께 선언하면 시도마다 새 트랜잭션으로 실행된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ContentionRetry {
+
+    /**
+     * 경합 대상 엔티티 종류 (메트릭 태그, 재시도 예산 구분)
+     */
+    String entity();
+
+    /**
+     * 경합 단위 키 SpEL (메서드 파라미터 이름으로 참조, 예: "#productId", "#command.userId()")
+     */
+    String key();
+
+    /**
+     * 재시도 대상 예외 (낙관적 락 충돌, 락 대기 시간 초과/데드락)
+     */
+    Class<? extends Throwable>[] retryFor() default {ConcurrencyFailureException.class};
+}
@@ -0,0 +1,172 @@
+package com.ecommerce.infrastructure.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ContentionRetry 인터셉터
+ *
+ * - 재시도 대기: 지수 백오프 상한 안에서 균등 분포로 고르는 full jitter (0 ~ min(maxDelay, initialDelay * 2^n))
+ *   동시에 충돌한 요청들이 같은 시각에 다시 몰리지 않고, 첫 재시도는 대부분 수 ms 안에 일어난다.
+ * - 키(entity:key)별 재시도 예산을 다 쓰면 재시도 없이 바로 실패
+ * - 호출자가 이미 트랜잭션 안에 있으면 재시도하지 않는다 (같은 트랜잭션이 rollback-only 가 되므로 재시도가 무의미)
+ *
+ * 메트릭 (entity 태그):
+ * - contention.retry.attempts: 재시도 횟수
+ * - contention.retry.calls: 재시도가 한 번 이상 일어난 호출의 결과 (outcome=recovered|exhausted|budget_exhausted)
+ * - contention.retry.wasted: 재시도가 일어난 호출에서 실패한 시도와 대기에 쓴 시간
+ */
+public class ContentionRetryInterceptor implements MethodInterceptor {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final RetryBudget budget;
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final Map<Method, CallSite> callSites = new ConcurrentHashMap<>();
+
+    public ContentionRetryInterceptor(ObjectProvider<MeterRegistry> registryProvider,
+                                      RetryBudget budget,
+                                      int maxAttempts,
+                                      Duration initialDelay,
+                                      Duration maxDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.registryProvider = registryProvider;
+        this.budget = budget;
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(Objects.requireNonNull(invocation.getThis())));
+        CallSite callSite = callSites.computeIfAbsent(invocation.getMethod(),
+                method -> CallSite.of(AopUtils.getMostSpecificMethod(method, targetClass)));
+
+        long wastedNanos = 0;
+        String budgetKey = null;
+        for (int attempt = 1; ; attempt++) {
+            long attemptStarted = System.nanoTime();
+            try {
+                Object result = ((ProxyMethodInvocation) invocation).invocableClone().proceed();
+                if (attempt > 1) {
+                    finish(callSite, "recovered", wastedNanos);
+                }
+                return result;
+            } catch (Throwable e) {
+                if (!callSite.isRetryable(e)) {
+                    throw e;
+                }
+                wastedNanos += System.nanoTime() - attemptStarted;
+                if (attempt >= maxAttempts) {
+                    finish(callSite, "exhausted", wastedNanos);
+                    throw e;
+                }
+                if (budgetKey == null) {
+                    budgetKey = callSite.entity() + ":" + callSite.resolveKey(invocation);
+                }
+                if (!budget.tryAcquire(budgetKey)) {
+                    finish(callSite, "budget_exhausted", wastedNanos);
+                    throw e;
+                }
+                MeterRegistry registry = registryProvider.getIfAvailable();
+                if (registry != null) {
+                    registry.counter("contention.retry.attempts", "entity", callSite.entity()).increment();
+                }
+                wastedNanos += sleep(attempt);
+            }
+        }
+    }
+
+    /**
+     * n 번째 실패 후 대기 시간 (full jitter)
+     */
+    long backoffNanos(int attempt) {
+        long ceiling = initialDelayNanos << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxDelayNanos) {
+            ceiling = maxDelayNanos;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private long sleep(int attempt) throws InterruptedException {
+        long delay = backoffNanos(attempt);
+        long started = System.nanoTime();
+        TimeUnit.NANOSECONDS.sleep(delay);
+        return System.nanoTime() - started;
+    }
+
+    private void finish(CallSite callSite, String outcome, long wastedNanos) {
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        registry.counter("contention.retry.calls", "entity", callSite.entity(), "outcome", outcome).increment();
+        Timer.builder("contention.retry.wasted")
+                .tag("entity", callSite.entity())
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(wastedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private record CallSite(Method method, ContentionRetry annotation, Expression keyExpression) {
+
+        static CallSite of(Method method) {
+            ContentionRetry annotation = AnnotatedElementUtils.findMergedAnnotation(method, ContentionRetry.class);
+            if (annotation == null) {
+                throw new IllegalStateException("@ContentionRetry 가 없는 메서드입니다: " + method);
+            }
+            return new CallSite(method, annotation, PARSER.parseExpression(annotation.key()));
+        }
+
+        String entity() {
+            return annotation.entity();
+        }
+
+        boolean isRetryable(Throwable e) {
+            for (Class<? extends Throwable> type : annotation.retryFor()) {
+                if (type.isInstance(e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Object resolveKey(MethodInvocation invocation) {
+            MethodBasedEvaluationContext context =
+                    new MethodBasedEvaluationContext(null, method, invocation.getArguments(), PARAMETER_NAMES);
+            return keyExpression.getValue(context);
+        }
+    }
+}
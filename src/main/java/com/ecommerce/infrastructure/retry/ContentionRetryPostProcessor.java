@@ -0,0 +1,19 @@
+package com.ecommerce.infrastructure.retry;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+/**
+ * @ContentionRetry 메서드가 있는 빈에 재시도 인터셉터를 적용하는 BeanPostProcessor
+ * 이미 프록시된 빈(@Transactional 등)은 기존 프록시에 어드바이저를 가장 바깥쪽으로 추가해 시도마다 트랜잭션을 새로 시작한다.
+ */
+public class ContentionRetryPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ContentionRetryPostProcessor(ContentionRetryInterceptor interceptor) {
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ContentionRetry.class), interceptor);
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.infrastructure.retry;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 재시도 예산 (토큰 버킷)
+ *
+ * 재시도 한 번에 토큰 하나를 쓰고 초당 refillPerSecond 개씩 capacity 까지 다시 채운다.
+ * 한 키에 경합이 몰려 예산을 다 쓰면 이후 충돌은 재시도 없이 바로 실패해 재시도 폭주로 경합이 더 커지는 것을 막는다.
+ * 오래 쓰이지 않은 키는 캐시에서 만료되어 가득 찬 버킷으로 다시 시작한다.
+ */
+public class RetryBudget {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Bucket> buckets;
+
+    public RetryBudget(int capacity, double refillPerSecond, long maxTrackedKeys) {
+        this(capacity, refillPerSecond, maxTrackedKeys, System::nanoTime);
+    }
+
+    RetryBudget(int capacity, double refillPerSecond, long maxTrackedKeys, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        this.nanoClock = nanoClock;
+        // 예산이 가득 찰 때까지 걸리는 시간 이후에는 버킷을 버려도 결과가 같다
+        long fullAfterNanos = (long) Math.ceil(capacity / Math.max(refillPerNano, 1e-12));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofNanos(Math.max(fullAfterNanos, Duration.ofSeconds(1).toNanos())))
+                .build();
+    }
+
+    /**
+     * 재시도 토큰 하나를 사용 (예산이 없으면 false)
+     */
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        return buckets.get(key, k -> new Bucket(capacity, now)).tryAcquire(now);
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
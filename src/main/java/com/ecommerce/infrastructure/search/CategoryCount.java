@@ -0,0 +1,7 @@
+package com.ecommerce.infrastructure.search;
+
+/**
+ * 카테고리별 활성 상품 수 (패싯)
+ */
+public record CategoryCount(String category, long activeProducts) {
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.infrastructure.search;
+
+import java.util.List;
+
+/**
+ * 카테고리 상품 목록 한 페이지
+ * @param next 다음 페이지를 이어 받을 위치 (마지막 페이지면 null)
+ */
+public record CategoryPage(List<Long> productIds, CategoryPosition next) {
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.infrastructure.search;
+
+import java.util.Comparator;
+
+/**
+ * 카테고리 목록 안에서의 상품 위치 (상품명 → ID 순, 기존 ORDER BY name 과 같은 순서에 ID 로 동순위를 나눈다)
+ */
+public record CategoryPosition(String name, long id) implements Comparable<CategoryPosition> {
+
+    private static final Comparator<CategoryPosition> ORDER =
+            Comparator.comparing(CategoryPosition::name).thenComparingLong(CategoryPosition::id);
+
+    @Override
+    public int compareTo(CategoryPosition other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화와 bigram 분해
+ *
+ * - NFKC 정규화 후 소문자로 바꾸고 글자/숫자만 남긴다 (공백과 기호 제거: "USB-C 케이블" → "usbc케이블").
+ *   색인과 검색어에 같은 규칙을 적용하므로 띄어쓰기나 기호가 달라도 같은 상품이 검색된다.
+ * - 한글은 음절 단위로 인접한 두 글자를 하나의 토큰으로 쓴다 (형태소 분석 없이 부분 일치 검색 가능).
+ * - 토큰은 두 UTF-16 문자를 int 하나로 묶어 문자열 객체 없이 다룬다.
+ */
+final class NGramTokenizer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private NGramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c) || Character.isSurrogate(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 중복 없는 bigram 토큰 (오름차순)
+     */
+    static int[] bigrams(String normalized) {
+        if (normalized.length() < 2) {
+            return EMPTY;
+        }
+        int[] grams = new int[normalized.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecommerce.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 문서 번호 목록 (오름차순, 앞 번호와의 차이를 varint 로 압축)
+ *
+ * 문서 번호는 색인할 때마다 증가하는 값을 새로 받으므로 항상 끝에 덧붙이기만 하고,
+ * 삭제/재색인된 옛 번호는 읽을 때 걸러내다가 압축(compact) 시 한꺼번에 제거한다.
+ * 자주 나오는 토큰은 차이가 작아 항목당 1~2바이트로 저장된다.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    void add(int ordinal) {
+        if (ordinal <= last) {
+            throw new IllegalStateException("문서 번호는 증가하는 순서로만 추가할 수 있습니다: last=" + last + ", ordinal=" + ordinal);
+        }
+        int delta = ordinal - last;
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        last = ordinal;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 저장 공간 (바이트) - 여유 용량 포함
+     */
+    long capacityBytes() {
+        return bytes.length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 압축된 목록을 순서대로 읽는 커서 (목록 하나당 한 번만 앞으로 진행)
+     */
+    final class Cursor {
+        private int position;
+        private int current = -1;
+        private int read;
+
+        /**
+         * 다음 문서 번호 (끝이면 -1)
+         */
+        int next() {
+            if (read == size) {
+                return -1;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            read++;
+            current += delta;
+            return current;
+        }
+
+        /**
+         * target 이상인 첫 문서 번호 (없으면 -1)
+         */
+        int advance(int target) {
+            int ordinal = current;
+            while (ordinal < target) {
+                ordinal = next();
+                if (ordinal < 0) {
+                    return -1;
+                }
+            }
+            return ordinal;
+        }
+    }
+}
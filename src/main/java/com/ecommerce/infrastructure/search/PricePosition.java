@@ -0,0 +1,13 @@
+package com.ecommerce.infrastructure.search;
+
+/**
+ * 가격 목록 안에서의 상품 위치 (가격(원 단위 x100) → ID 순, 기존 ORDER BY price 에 ID 로 동순위를 나눈다)
+ */
+public record PricePosition(long cents, long id) implements Comparable<PricePosition> {
+
+    @Override
+    public int compareTo(PricePosition other) {
+        int byPrice = Long.compare(cents, other.cents);
+        return byPrice != 0 ? byPrice : Long.compare(id, other.id);
+    }
+}
@@ -0,0 +1,175 @@
+package com.ecommerce.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리별 활성 상품 목록 색인 (카테고리 → 상품명/ID 순 정렬 집합)
+ *
+ * - 활성 상품만 카테고리 집합에 들어 있으므로 집합 크기가 곧 카테고리별 활성 상품 수다.
+ *   패싯 조회는 카테고리 수, 목록 조회는 log(카테고리 상품 수) + 페이지 크기에 비례한다.
+ * - 상품이 바뀌면 이전 카테고리/이름 위치에서 빼고 새 위치에 넣는다 (비활성화는 빼기만, 활성화는 넣기만).
+ *   이미 반영한 것보다 낮은 버전은 무시한다.
+ * - 목록은 마지막으로 받은 위치(상품명, ID) 다음부터 이어 읽는 keyset 방식이라 페이지가 깊어져도 비용이 같다.
+ */
+public class ProductCategoryIndex implements ProductDocumentIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Listing> listings = new HashMap<>();
+    private final Map<String, TreeSet<CategoryPosition>> activeByCategory = new HashMap<>();
+    private volatile boolean ready;
+
+    public ProductCategoryIndex(MeterRegistry meterRegistry) {
+        this();
+        Gauge.builder("product.category.count", this, ProductCategoryIndex::categoryCount)
+                .description("활성 상품이 있는 카테고리 수")
+                .register(meterRegistry);
+    }
+
+    public ProductCategoryIndex() {
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public void index(ProductDocument document) {
+        Listing updated = new Listing(document.category(), new CategoryPosition(document.name(), document.id()),
+                document.active(), document.version());
+        lock.writeLock().lock();
+        try {
+            Listing previous = listings.get(document.id());
+            if (previous != null && document.version() < previous.version()) {
+                // 커밋 직후 색인과 주기 따라잡기가 순서를 바꿔 도착한 이전 버전
+                return;
+            }
+            listings.put(document.id(), updated);
+            if (previous != null && updated.sameListing(previous)) {
+                return;
+            }
+            if (previous != null) {
+                unlist(previous);
+            }
+            if (updated.active()) {
+                activeByCategory.computeIfAbsent(updated.category(), category -> new TreeSet<>()).add(updated.position());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Listing previous = listings.remove(productId);
+            if (previous != null) {
+                unlist(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리 활성 상품 목록 (after 다음 위치부터 size 건)
+     * @param after 이전 페이지의 next (첫 페이지는 null)
+     */
+    public CategoryPage page(String category, CategoryPosition after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("조회 크기는 1 이상이어야 합니다: " + size);
+        }
+        lock.readLock().lock();
+        try {
+            TreeSet<CategoryPosition> positions = activeByCategory.get(category);
+            if (positions == null) {
+                return new CategoryPage(List.of(), null);
+            }
+            NavigableSet<CategoryPosition> remaining = after == null ? positions : positions.tailSet(after, false);
+            List<Long> productIds = new ArrayList<>(size);
+            CategoryPosition last = null;
+            for (CategoryPosition position : remaining) {
+                if (productIds.size() == size) {
+                    return new CategoryPage(productIds, last);
+                }
+                productIds.add(position.id());
+                last = position;
+            }
+            return new CategoryPage(productIds, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리별 활성 상품 수 (많은 순, 같으면 카테고리 이름 순)
+     */
+    public List<CategoryCount> facets() {
+        lock.readLock().lock();
+        try {
+            List<CategoryCount> counts = new ArrayList<>(activeByCategory.size());
+            activeByCategory.forEach((category, positions) -> counts.add(new CategoryCount(category, positions.size())));
+            counts.sort(Comparator.comparingLong(CategoryCount::activeProducts).reversed()
+                    .thenComparing(CategoryCount::category));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long activeCount(String category) {
+        lock.readLock().lock();
+        try {
+            TreeSet<CategoryPosition> positions = activeByCategory.get(category);
+            return positions == null ? 0 : positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 상품이 하나 이상 있는 카테고리 수
+     */
+    public int categoryCount() {
+        lock.readLock().lock();
+        try {
+            return activeByCategory.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlist(Listing listing) {
+        if (!listing.active()) {
+            return;
+        }
+        TreeSet<CategoryPosition> positions = activeByCategory.get(listing.category());
+        if (positions != null && positions.remove(listing.position()) && positions.isEmpty()) {
+            activeByCategory.remove(listing.category());
+        }
+    }
+
+    private record Listing(String category, CategoryPosition position, boolean active, long version) {
+
+        boolean sameListing(Listing other) {
+            return Objects.equals(category, other.category) && position.equals(other.position) && active == other.active;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.infrastructure.search;
+
+/**
+ * product_changes 한 행 (변경 순번, 바뀐 상품 ID)
+ */
+public record ProductChange(long id, long productId) {
+}
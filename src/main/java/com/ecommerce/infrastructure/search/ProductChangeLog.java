@@ -0,0 +1,82 @@
+package com.ecommerce.infrastructure.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 변경 순번 기록 (product_changes)
+ *
+ * - 상품을 바꾸는 경로(저장/삭제, 재고 차감, 핫 재고 반영)가 같은 트랜잭션에서 상품 ID 를 한 행 남긴다.
+ *   updated_at 은 애플리케이션이 찍은 시각이라 커밋이 늦은 변경을 놓칠 수 있어, ProductIndexer 는 이 순번으로 따라잡는다.
+ * - AUTO_INCREMENT 순번도 커밋 순서와 다를 수 있으므로 읽는 쪽이 빈 순번을 기다린다 (ProductIndexer 참고).
+ * - 색인이 모두 꺼져 있으면 빈으로 등록되지 않고, 기록하는 쪽은 아무것도 남기지 않는다.
+ */
+public class ProductChangeLog {
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO product_changes (product_id) VALUES (?)";
+    private static final String SELECT_CHANGES_AFTER =
+            "SELECT id, product_id FROM product_changes WHERE id > ? ORDER BY id LIMIT ?";
+    // gapTimeout 안의 변경은 아직 커밋되지 않은 순번이 섞여 있을 수 있으므로 그 앞에서부터 읽는다
+    private static final String SELECT_STARTING_WATERMARK =
+            "SELECT COALESCE((SELECT MIN(id) - 1 FROM product_changes WHERE changed_at >= NOW(6) - INTERVAL ? SECOND), " +
+                    "(SELECT MAX(id) FROM product_changes), 0)";
+    private static final String SELECT_MAX_ID =
+            "SELECT MAX(id) FROM product_changes";
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM product_changes WHERE changed_at < NOW(6) - INTERVAL ? SECOND AND id < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상품 변경 기록 (호출한 트랜잭션과 함께 커밋/롤백된다)
+     */
+    public void record(long productId) {
+        jdbcTemplate.update(INSERT_CHANGE, productId);
+    }
+
+    public void recordAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(productIds.size());
+        productIds.forEach(productId -> rows.add(new Object[]{productId}));
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, rows);
+    }
+
+    /**
+     * afterId 다음 순번부터 limit 건 (순번 오름차순)
+     */
+    public List<ProductChange> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_CHANGES_AFTER,
+                (rs, rowNum) -> new ProductChange(rs.getLong("id"), rs.getLong("product_id")), afterId, limit);
+    }
+
+    /**
+     * 전체 적재 직전에 정하는 따라잡기 시작 순번 (최근 gapTimeout 안의 변경은 다시 읽는다)
+     */
+    public long startingWatermark(Duration gapTimeout) {
+        Long watermark = jdbcTemplate.queryForObject(SELECT_STARTING_WATERMARK, Long.class, gapTimeout.toSeconds());
+        return watermark == null ? 0 : watermark;
+    }
+
+    /**
+     * retention 보다 오래된 기록을 최대 limit 건 삭제하고 삭제한 건수를 반환
+     * 마지막 행은 남겨 두어 테이블이 비었을 때 시작 순번이 0 으로 돌아가지 않게 한다.
+     */
+    public int purgeExpired(Duration retention, int limit) {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_EXPIRED, retention.toSeconds(), maxId, limit);
+    }
+}
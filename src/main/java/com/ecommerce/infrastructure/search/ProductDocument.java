@@ -0,0 +1,19 @@
+package com.ecommerce.infrastructure.search;
+
+import java.math.BigDecimal;
+
+/**
+ * 메모리 색인에 넣을 상품 필드 (상품 엔티티가 두 벌이라 색인은 이 값만 받는다)
+ * version 은 products.version (@Version) 값으로, 색인은 이미 반영한 것보다 낮은 버전을 무시한다.
+ */
+public record ProductDocument(
+        long id,
+        String name,
+        String description,
+        String category,
+        BigDecimal price,
+        int stock,
+        boolean active,
+        long version
+) {
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.infrastructure.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 변경을 받아 유지되는 메모리 색인 (검색 색인, 카테고리 색인, 가격 색인)
+ * ProductIndexer 가 시작 시 전체를 적재하고 주기적으로 변경분을 반영하며, 어댑터는 저장/삭제를 커밋 직후 전달한다.
+ */
+public interface ProductDocumentIndex {
+
+    /**
+     * 상품 추가 또는 갱신
+     */
+    void index(ProductDocument document);
+
+    void remove(long productId);
+
+    /**
+     * 전체 적재가 끝나 조회에 쓸 수 있는지 (그 전에는 호출자가 DB 조회로 대신한다)
+     */
+    boolean isReady();
+
+    void markReady();
+
+    /**
+     * 커밋 이후 색인 (트랜잭션 안이면 커밋된 경우에만, 롤백된 변경이 조회되지 않도록)
+     */
+    default void indexAfterCommit(ProductDocument document) {
+        runAfterCommit(() -> index(document));
+    }
+
+    default void removeAfterCommit(long productId) {
+        runAfterCommit(() -> remove(productId));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
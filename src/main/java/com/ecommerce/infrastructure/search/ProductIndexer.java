@@ -0,0 +1,215 @@
+package com.ecommerce.infrastructure.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 메모리 색인(검색, 카테고리, 가격) 적재 작업
+ *
+ * - 시작하면 products 전체를 한 행씩 스트리밍으로 읽어 모든 색인을 채우고 조회 가능 상태로 바꾼다.
+ *   색인이 여러 개여도 테이블은 한 번만 읽는다.
+ * - 이후 주기마다 product_changes 의 마지막으로 반영한 순번(watermark) 다음 기록을 읽고, 바뀐 상품 행을 다시 읽어 반영한다.
+ *   이 애플리케이션의 상품 저장은 어댑터가 커밋 직후 바로 색인하고, 다른 노드나 주문 모듈의 재고 차감은 이 주기로 따라잡는다.
+ *   행이 없으면 삭제된 상품으로 보고 색인에서 뺀다.
+ * - 순번이 비어 있으면 아직 커밋되지 않은 변경일 수 있으므로 watermark 를 그 앞에 둔 채 뒤쪽 기록만 반영하고,
+ *   다음 주기에 빈 곳부터 다시 읽는다. 같은 빈 곳이 gapTimeout 동안 채워지지 않으면 롤백된 순번으로 보고 넘어간다.
+ * - 커밋 직후 색인과 따라잡기가 순서를 바꿔 도착할 수 있으므로 각 색인은 products.version 이 낮은 문서를 무시한다.
+ * - retention 보다 오래된 변경 기록은 지우고, 그보다 오래 따라잡지 못한 노드는 전체를 다시 적재한다.
+ */
+public class ProductIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexer.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int PURGE_LIMIT = 10_000;
+
+    private static final String SELECT_ALL =
+            "SELECT id, name, description, category, price, stock, active, version FROM products";
+    private static final String SELECT_BY_IDS =
+            "SELECT id, name, description, category, price, stock, active, version FROM products WHERE id IN (:ids)";
+
+    private static final RowMapper<ProductDocument> DOCUMENT_ROW_MAPPER = (rs, rowNum) -> new ProductDocument(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("category"),
+            rs.getBigDecimal("price"),
+            rs.getInt("stock"),
+            rs.getBoolean("active"),
+            rs.getLong("version"));
+
+    private final List<ProductDocumentIndex> indexes;
+    private final JdbcTemplate streamingTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ProductChangeLog changeLog;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Map<Long, Instant> gapFirstSeen = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long watermark;
+    private Instant lastCaughtUp;
+    private boolean loaded;
+
+    public ProductIndexer(List<ProductDocumentIndex> indexes, JdbcTemplate jdbcTemplate, ProductChangeLog changeLog,
+                          Duration gapTimeout, Duration retention) {
+        if (retention.compareTo(gapTimeout.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("변경 기록 보관 기간은 gapTimeout 의 2배 이상이어야 합니다: " + retention);
+        }
+        this.indexes = List.copyOf(indexes);
+        // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 한 행씩 받는 스트리밍 모드로 읽는다
+        this.streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.changeLog = changeLog;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    public void start(Duration refreshInterval) {
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 처음이면 전체를, 아니면 마지막으로 반영한 순번 이후 변경분을 색인하고 읽은 상품 행 수를 반환
+     */
+    public int runOnce() {
+        Instant now = Instant.now();
+        int rows;
+        if (!loaded || Duration.between(lastCaughtUp, now).compareTo(retention.minus(gapTimeout)) >= 0) {
+            rows = loadAll();
+        } else {
+            rows = catchUp(now);
+        }
+        lastCaughtUp = now;
+        changeLog.purgeExpired(retention, PURGE_LIMIT);
+        return rows;
+    }
+
+    /**
+     * 현재 watermark (이 순번까지의 변경은 모두 반영됨)
+     */
+    public long watermark() {
+        return watermark;
+    }
+
+    private int loadAll() {
+        // 테이블을 읽기 전에 시작 순번을 정해야 읽는 동안 커밋된 변경을 다음 주기에 다시 읽는다
+        long startingWatermark = changeLog.startingWatermark(gapTimeout);
+        int[] rows = {0};
+        streamingTemplate.query(SELECT_ALL, rs -> {
+            ProductDocument document = DOCUMENT_ROW_MAPPER.mapRow(rs, rows[0]);
+            for (ProductDocumentIndex index : indexes) {
+                index.index(document);
+            }
+            rows[0]++;
+        });
+
+        watermark = startingWatermark;
+        gapFirstSeen.clear();
+        if (!loaded) {
+            loaded = true;
+            indexes.forEach(ProductDocumentIndex::markReady);
+            log.info("상품 색인 적재 완료: products={}, indexes={}", rows[0], indexes.size());
+        } else {
+            log.warn("변경 기록 보관 기간({}) 동안 따라잡지 못해 상품 색인을 다시 적재했습니다: products={}", retention, rows[0]);
+        }
+        return rows[0];
+    }
+
+    private int catchUp(Instant now) {
+        int rows = 0;
+        long cursor = watermark;
+        boolean contiguous = true;
+        while (true) {
+            List<ProductChange> changes = changeLog.findAfter(cursor, BATCH_SIZE);
+            Set<Long> productIds = new LinkedHashSet<>();
+            for (ProductChange change : changes) {
+                if (contiguous) {
+                    if (change.id() == watermark + 1 || gapExpired(watermark + 1, now)) {
+                        watermark = change.id();
+                    } else {
+                        contiguous = false;
+                    }
+                }
+                productIds.add(change.productId());
+            }
+            rows += apply(productIds);
+            if (changes.size() < BATCH_SIZE) {
+                break;
+            }
+            cursor = changes.get(changes.size() - 1).id();
+        }
+        gapFirstSeen.keySet().removeIf(gapStart -> gapStart <= watermark);
+        return rows;
+    }
+
+    // 바뀐 상품의 현재 행을 다시 읽어 반영 (없어진 상품은 색인에서 뺀다)
+    private int apply(Set<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        List<ProductDocument> documents = namedJdbcTemplate.query(SELECT_BY_IDS,
+                new MapSqlParameterSource("ids", productIds), DOCUMENT_ROW_MAPPER);
+        Set<Long> removed = new HashSet<>(productIds);
+        for (ProductDocument document : documents) {
+            removed.remove(document.id());
+            for (ProductDocumentIndex index : indexes) {
+                index.index(document);
+            }
+        }
+        for (Long productId : removed) {
+            for (ProductDocumentIndex index : indexes) {
+                index.remove(productId);
+            }
+        }
+        return documents.size();
+    }
+
+    // gapStart 부터 비어 있는 순번을 처음 본 뒤 gapTimeout 이 지났는지 (지났으면 롤백된 순번으로 보고 넘어간다)
+    private boolean gapExpired(long gapStart, Instant now) {
+        Instant firstSeen = gapFirstSeen.computeIfAbsent(gapStart, id -> now);
+        if (Duration.between(firstSeen, now).compareTo(gapTimeout) < 0) {
+            return false;
+        }
+        log.info("순번 {} 부터 비어 있는 상품 변경을 {} 동안 기다렸으므로 롤백된 것으로 보고 넘어갑니다.", gapStart, gapTimeout);
+        return true;
+    }
+
+    private void runQuietly() {
+        try {
+            runOnce();
+        } catch (Exception e) {
+            log.warn("상품 색인 갱신 실패 - 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
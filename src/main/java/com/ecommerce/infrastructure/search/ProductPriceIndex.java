@@ -0,0 +1,136 @@
+package com.ecommerce.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가격 순 상품 목록 색인 (가격/ID 위치 → 재고 skip list)
+ *
+ * - 가격은 소수 둘째 자리까지라 x100 한 long 으로 비교하고, 같은 가격은 ID 로 나눈다.
+ *   범위 조회는 log(상품 수) + 읽은 위치 수에 비례하고, 마지막으로 받은 위치 다음부터 이어 읽는 keyset 방식이다.
+ * - 재고만 바뀌면 같은 위치의 값만 바꾸고, 가격이 바뀌면 이전 위치를 빼고 새 위치에 넣는다.
+ *   이미 반영한 것보다 낮은 버전은 무시한다 (버전은 변경끼리만 보므로 잠금 안에서만 읽고 쓴다).
+ *   조회는 잠금 없이 skip list 를 읽고, 변경끼리만 잠금으로 순서를 맞춘다 (가격 이동 중인 상품은 잠시 빠져 보일 수 있다).
+ * - 재고는 주문 모듈의 직접 UPDATE 가 ProductIndexer 주기로 따라오므로 늦을 수 있다. 재고 조건은 호출자가 조회한 행으로 다시 확인한다.
+ * - 구 상품 API 와 같이 활성 여부는 보지 않는다.
+ */
+public class ProductPriceIndex implements ProductDocumentIndex {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, PricePosition> positions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+    private final ConcurrentSkipListMap<PricePosition, Integer> stockByPosition = new ConcurrentSkipListMap<>();
+    private volatile boolean ready;
+
+    public ProductPriceIndex(MeterRegistry meterRegistry) {
+        this();
+        Gauge.builder("product.price.entries", this, ProductPriceIndex::size)
+                .description("가격 색인에 들어 있는 상품 수")
+                .register(meterRegistry);
+    }
+
+    public ProductPriceIndex() {
+    }
+
+    /**
+     * 가격을 색인 키(원 단위 x100)로 변환 (범위 하한은 CEILING, 상한은 FLOOR 로 BETWEEN 과 같은 경계를 만든다)
+     */
+    public static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        return price.setScale(2, roundingMode).unscaledValue().longValueExact();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public void index(ProductDocument document) {
+        PricePosition updated = new PricePosition(toCents(document.price(), RoundingMode.HALF_UP), document.id());
+        writeLock.lock();
+        try {
+            Long indexedVersion = versions.get(document.id());
+            if (indexedVersion != null && document.version() < indexedVersion) {
+                // 커밋 직후 색인과 주기 따라잡기가 순서를 바꿔 도착한 이전 버전
+                return;
+            }
+            versions.put(document.id(), document.version());
+            PricePosition previous = positions.put(document.id(), updated);
+            if (previous != null && !previous.equals(updated)) {
+                stockByPosition.remove(previous);
+            }
+            stockByPosition.put(updated, document.stock());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(long productId) {
+        writeLock.lock();
+        try {
+            versions.remove(productId);
+            PricePosition previous = positions.remove(productId);
+            if (previous != null) {
+                stockByPosition.remove(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 가격 범위(양 끝 포함) 상품 목록 (after 다음 위치부터 size 건, 가격 → ID 순)
+     * @param after 이전 페이지의 next (첫 페이지는 null)
+     */
+    public PricePage page(long minCents, long maxCents, boolean inStockOnly, PricePosition after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("조회 크기는 1 이상이어야 합니다: " + size);
+        }
+        PricePosition from = new PricePosition(minCents, Long.MIN_VALUE);
+        boolean fromInclusive = true;
+        if (after != null && after.compareTo(from) >= 0) {
+            from = after;
+            fromInclusive = false;
+        }
+        PricePosition to = new PricePosition(maxCents, Long.MAX_VALUE);
+        if (from.compareTo(to) > 0) {
+            return new PricePage(List.of(), null);
+        }
+
+        NavigableMap<PricePosition, Integer> range = stockByPosition.subMap(from, fromInclusive, to, true);
+        List<Long> productIds = new ArrayList<>(size);
+        PricePosition last = null;
+        for (Map.Entry<PricePosition, Integer> entry : range.entrySet()) {
+            if (inStockOnly && entry.getValue() <= 0) {
+                continue;
+            }
+            if (productIds.size() == size) {
+                return new PricePage(productIds, last);
+            }
+            productIds.add(entry.getKey().id());
+            last = entry.getKey();
+        }
+        return new PricePage(productIds, null);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.infrastructure.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지
+ * @param productIds 점수 내림차순 (같은 점수는 최신 상품 우선) 상품 ID
+ * @param totalHits 검색어와 일치하는 전체 상품 수
+ */
+public record ProductSearchHits(List<Long> productIds, int totalHits) {
+
+    public static ProductSearchHits empty() {
+        return new ProductSearchHits(List.of(), 0);
+    }
+}
@@ -0,0 +1,472 @@
+package com.ecommerce.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 메모리 역색인 (상품명 / 카테고리 / 설명의 bigram → 문서 번호 목록)
+ *
+ * - LIKE '%검색어%' 는 인덱스를 쓰지 못해 검색마다 products 를 전부 읽으므로, 검색어의 bigram 목록을
+ *   짧은 것부터 교집합해 후보만 남긴다. 비용은 상품 수가 아니라 가장 흔한 토큰의 목록 길이에 비례한다.
+ * - 토큰 목록은 필드별로 따로 두고, 상품명/카테고리 후보는 정규화된 원문에 검색어가 연속으로 있는지 다시 확인한다
+ *   (bigram 이 흩어져 있는 오탐 제거). 설명은 메모리를 아끼려고 원문을 두지 않으므로 앞 descriptionChars 글자의
+ *   bigram 이 모두 있으면 일치로 본다.
+ * - 한 글자 검색어는 bigram 이 없어 상품명/카테고리 원문을 순회한다.
+ * - 점수: 상품명 일치 > 카테고리 일치 > 설명 일치, 상품명이 검색어로 시작하거나 검색어가 상품명의 대부분이면 가산.
+ * - 상품이 바뀌면 새 문서 번호로 다시 색인하고 옛 번호는 지운 것으로 표시한다. 이미 반영한 것보다 낮은 버전은 무시한다.
+ *   지운 번호가 전체의 1/4 을 넘으면 쓰기 락을 잡고 목록을 압축한다.
+ */
+public class ProductSearchIndex implements ProductDocumentIndex {
+
+    /** offset + limit 상한 (깊은 페이지는 점수 순 정렬 비용이 커지므로 막는다) */
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final int FIELD_NAME = 0;
+    private static final int FIELD_CATEGORY = 1;
+    private static final int FIELD_DESCRIPTION = 2;
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+
+    private final int descriptionChars;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private String[] categories = new String[1024];
+    private int[] descriptionHashes = new int[1024];
+    private long[] versions = new long[1024];
+    private BitSet live = new BitSet();
+    private BitSet active = new BitSet();
+    private int nextOrdinal;
+    private int deleted;
+    private volatile boolean ready;
+
+    public ProductSearchIndex(int descriptionChars, MeterRegistry meterRegistry) {
+        this(descriptionChars);
+        Gauge.builder("product.search.documents", this, ProductSearchIndex::size)
+                .description("검색 색인에 들어 있는 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("product.search.postings.bytes", this, ProductSearchIndex::postingBytes)
+                .description("검색 색인 토큰 목록이 차지하는 메모리 (바이트)")
+                .register(meterRegistry);
+    }
+
+    public ProductSearchIndex(int descriptionChars) {
+        if (descriptionChars < 0) {
+            throw new IllegalArgumentException("설명 색인 길이는 0 이상이어야 합니다: " + descriptionChars);
+        }
+        this.descriptionChars = descriptionChars;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * 상품 색인 (새 상품은 추가, 기존 상품은 검색 필드가 바뀐 경우에만 다시 색인)
+     */
+    @Override
+    public void index(ProductDocument document) {
+        String name = NGramTokenizer.normalize(document.name());
+        String category = NGramTokenizer.normalize(document.category());
+        String description = NGramTokenizer.normalize(document.description());
+        if (description.length() > descriptionChars) {
+            description = description.substring(0, descriptionChars);
+        }
+        int descriptionHash = description.hashCode();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(document.id());
+            if (existing != null && document.version() < versions[existing]) {
+                // 커밋 직후 색인과 주기 따라잡기가 순서를 바꿔 도착한 이전 버전
+                return;
+            }
+            if (existing != null && name.equals(names[existing]) && category.equals(categories[existing])
+                    && descriptionHashes[existing] == descriptionHash) {
+                // 재고/가격 변경 등 검색 필드가 그대로면 활성 여부만 반영
+                active.set(existing, document.active());
+                versions[existing] = document.version();
+                return;
+            }
+            if (existing != null) {
+                retire(existing);
+            }
+            int ordinal = append(document.id(), name, category, descriptionHash, document.active(), document.version());
+            addPostings(name, FIELD_NAME, ordinal);
+            addPostings(category, FIELD_CATEGORY, ordinal);
+            addPostings(description, FIELD_DESCRIPTION, ordinal);
+            if (deleted >= MIN_DELETED_TO_COMPACT && deleted * 4L > nextOrdinal) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal != null) {
+                retire(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 상품 ID 를 점수 순으로 조회
+     * @param activeOnly 활성 상품만 조회할지 여부
+     */
+    public ProductSearchHits search(String keyword, boolean activeOnly, int offset, int limit) {
+        if (offset < 0 || limit < 1 || (long) offset + limit > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException(
+                    "검색 범위는 offset 0 이상, limit 1 이상, 합계 " + MAX_RESULT_WINDOW + " 이하여야 합니다: offset=" + offset + ", limit=" + limit);
+        }
+        String query = NGramTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return ProductSearchHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            TopHits top = new TopHits(offset + limit);
+            if (query.length() == 1) {
+                scanNamesAndCategories(query, activeOnly, top);
+            } else {
+                matchPostings(query, activeOnly, top);
+            }
+            return new ProductSearchHits(top.page(offset), top.total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.capacityBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void matchPostings(String query, boolean activeOnly, TopHits top) {
+        int[] grams = NGramTokenizer.bigrams(query);
+        int[] byName = intersect(grams, FIELD_NAME);
+        int[] byCategory = intersect(grams, FIELD_CATEGORY);
+        int[] byDescription = intersect(grams, FIELD_DESCRIPTION);
+
+        // 세 필드의 후보(각각 오름차순)를 병합하며 문서마다 한 번씩 점수 계산
+        int n = 0, c = 0, d = 0;
+        while (n < byName.length || c < byCategory.length || d < byDescription.length) {
+            int ordinal = Math.min(n < byName.length ? byName[n] : Integer.MAX_VALUE,
+                    Math.min(c < byCategory.length ? byCategory[c] : Integer.MAX_VALUE,
+                            d < byDescription.length ? byDescription[d] : Integer.MAX_VALUE));
+            boolean nameCandidate = n < byName.length && byName[n] == ordinal;
+            boolean categoryCandidate = c < byCategory.length && byCategory[c] == ordinal;
+            boolean descriptionHit = d < byDescription.length && byDescription[d] == ordinal;
+            if (nameCandidate) n++;
+            if (categoryCandidate) c++;
+            if (descriptionHit) d++;
+
+            if (!live.get(ordinal) || (activeOnly && !active.get(ordinal))) {
+                continue;
+            }
+            boolean nameHit = nameCandidate && names[ordinal].contains(query);
+            boolean categoryHit = categoryCandidate && categories[ordinal].contains(query);
+            if (nameHit || categoryHit || descriptionHit) {
+                top.offer(ordinal, score(ordinal, query, nameHit, categoryHit, descriptionHit));
+            }
+        }
+    }
+
+    private void scanNamesAndCategories(String query, boolean activeOnly, TopHits top) {
+        BitSet candidates = activeOnly ? active : live;
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            boolean nameHit = names[ordinal].contains(query);
+            boolean categoryHit = categories[ordinal].contains(query);
+            if (nameHit || categoryHit) {
+                top.offer(ordinal, score(ordinal, query, nameHit, categoryHit, false));
+            }
+        }
+    }
+
+    /**
+     * 한 필드에서 모든 bigram 을 가진 문서 번호 (오름차순, 지운 번호 포함)
+     */
+    private int[] intersect(int[] grams, int field) {
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(key(grams[i], field));
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+        int[] candidates = new int[lists[0].size()];
+        PostingList.Cursor first = lists[0].cursor();
+        int count = 0;
+        for (int ordinal = first.next(); ordinal >= 0; ordinal = first.next()) {
+            candidates[count++] = ordinal;
+        }
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            PostingList.Cursor cursor = lists[i].cursor();
+            int kept = 0;
+            for (int j = 0; j < count; j++) {
+                int found = cursor.advance(candidates[j]);
+                if (found < 0) {
+                    break;
+                }
+                if (found == candidates[j]) {
+                    candidates[kept++] = found;
+                }
+            }
+            count = kept;
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private int score(int ordinal, String query, boolean nameHit, boolean categoryHit, boolean descriptionHit) {
+        int score = 0;
+        if (nameHit) {
+            String name = names[ordinal];
+            score += 100;
+            if (name.startsWith(query)) {
+                score += 50;
+            }
+            score += 40 * query.length() / name.length();
+        }
+        if (categoryHit) {
+            score += categories[ordinal].equals(query) ? 50 : 30;
+        }
+        if (descriptionHit) {
+            score += 10;
+        }
+        return score;
+    }
+
+    private int append(long productId, String name, String category, int descriptionHash, boolean isActive, long version) {
+        if (nextOrdinal == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            descriptionHashes = Arrays.copyOf(descriptionHashes, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        int ordinal = nextOrdinal++;
+        ids[ordinal] = productId;
+        names[ordinal] = name;
+        categories[ordinal] = category;
+        descriptionHashes[ordinal] = descriptionHash;
+        versions[ordinal] = version;
+        live.set(ordinal);
+        active.set(ordinal, isActive);
+        ordinals.put(productId, ordinal);
+        return ordinal;
+    }
+
+    private void addPostings(String text, int field, int ordinal) {
+        for (int gram : NGramTokenizer.bigrams(text)) {
+            postings.computeIfAbsent(key(gram, field), k -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void retire(int ordinal) {
+        live.clear(ordinal);
+        active.clear(ordinal);
+        names[ordinal] = null;
+        categories[ordinal] = null;
+        deleted++;
+    }
+
+    /**
+     * 지운 문서 번호를 빼고 살아 있는 번호를 0부터 다시 매긴다 (순서가 유지되어 목록을 다시 정렬할 필요 없음)
+     */
+    private void compact() {
+        int[] remap = new int[nextOrdinal];
+        int size = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            remap[ordinal] = live.get(ordinal) ? size++ : -1;
+        }
+
+        int capacity = Math.max(1024, size + size / 2);
+        long[] compactIds = new long[capacity];
+        String[] compactNames = new String[capacity];
+        String[] compactCategories = new String[capacity];
+        int[] compactHashes = new int[capacity];
+        long[] compactVersions = new long[capacity];
+        BitSet compactActive = new BitSet(capacity);
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            int target = remap[ordinal];
+            if (target < 0) {
+                continue;
+            }
+            compactIds[target] = ids[ordinal];
+            compactNames[target] = names[ordinal];
+            compactCategories[target] = categories[ordinal];
+            compactHashes[target] = descriptionHashes[ordinal];
+            compactVersions[target] = versions[ordinal];
+            compactActive.set(target, active.get(ordinal));
+            ordinals.put(ids[ordinal], target);
+        }
+
+        List<Long> emptied = new ArrayList<>();
+        for (Map.Entry<Long, PostingList> entry : postings.entrySet()) {
+            PostingList rebuilt = new PostingList();
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            for (int ordinal = cursor.next(); ordinal >= 0; ordinal = cursor.next()) {
+                if (remap[ordinal] >= 0) {
+                    rebuilt.add(remap[ordinal]);
+                }
+            }
+            if (rebuilt.size() == 0) {
+                emptied.add(entry.getKey());
+            } else {
+                entry.setValue(rebuilt);
+            }
+        }
+        emptied.forEach(postings::remove);
+
+        ids = compactIds;
+        names = compactNames;
+        categories = compactCategories;
+        descriptionHashes = compactHashes;
+        versions = compactVersions;
+        active = compactActive;
+        live = new BitSet(capacity);
+        live.set(0, size);
+        nextOrdinal = size;
+        deleted = 0;
+    }
+
+    private static long key(int gram, int field) {
+        return ((long) gram << 2) | field;
+    }
+
+    /**
+     * 상위 capacity 건만 남기는 힙 (루트가 가장 낮은 순위: 점수가 낮고, 같으면 상품 ID 가 작은 것)
+     */
+    private final class TopHits {
+        private final int[] heapOrdinals;
+        private final int[] heapScores;
+        private int heapSize;
+        private int total;
+
+        TopHits(int capacity) {
+            this.heapOrdinals = new int[capacity];
+            this.heapScores = new int[capacity];
+        }
+
+        void offer(int ordinal, int score) {
+            total++;
+            if (heapSize < heapOrdinals.length) {
+                heapOrdinals[heapSize] = ordinal;
+                heapScores[heapSize] = score;
+                siftUp(heapSize++);
+            } else if (lower(heapOrdinals[0], heapScores[0], ordinal, score)) {
+                heapOrdinals[0] = ordinal;
+                heapScores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 순위 순으로 offset 번째부터의 상품 ID
+         */
+        List<Long> page(int offset) {
+            long[] ranked = new long[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                ranked[i] = ids[heapOrdinals[0]];
+                heapSize--;
+                heapOrdinals[0] = heapOrdinals[heapSize];
+                heapScores[0] = heapScores[heapSize];
+                siftDown(0);
+            }
+            List<Long> productIds = new ArrayList<>(Math.max(0, ranked.length - offset));
+            for (int i = offset; i < ranked.length; i++) {
+                productIds.add(ranked[i]);
+            }
+            return productIds;
+        }
+
+        private boolean lower(int ordinalA, int scoreA, int ordinalB, int scoreB) {
+            return scoreA != scoreB ? scoreA < scoreB : ids[ordinalA] < ids[ordinalB];
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!lower(heapOrdinals[index], heapScores[index], heapOrdinals[parent], heapScores[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int lowest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < heapSize && lower(heapOrdinals[left], heapScores[left], heapOrdinals[lowest], heapScores[lowest])) {
+                    lowest = left;
+                }
+                if (right < heapSize && lower(heapOrdinals[right], heapScores[right], heapOrdinals[lowest], heapScores[lowest])) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ordinal = heapOrdinals[a];
+            int score = heapScores[a];
+            heapOrdinals[a] = heapOrdinals[b];
+            heapScores[a] = heapScores[b];
+            heapOrdinals[b] = ordinal;
+            heapScores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.order.adapter.in.admission;
+
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.application.dto.PlaceOrderCommand;
+import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
+
+/**
+ * 입장 제어를 적용한 PlaceOrderUseCase 데코레이터
+ * 허가는 트랜잭션 시작(커넥션 획득) 전에 받고 커밋 이후 반납한다.
+ */
+public class AdmissionControlledPlaceOrderUseCase implements PlaceOrderUseCase {
+
+    private final PlaceOrderUseCase delegate;
+    private final OrderAdmissionGate gate;
+
+    public AdmissionControlledPlaceOrderUseCase(PlaceOrderUseCase delegate, OrderAdmissionGate gate) {
+        this.delegate = delegate;
+        this.gate = gate;
+    }
+
+    @Override
+    public OrderResult placeOrder(PlaceOrderCommand command) {
+        return gate.execute(() -> delegate.placeOrder(command));
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecommerce.order.adapter.in.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션 풀 용량 기반 주문 입장 제어
+ *
+ * - 동시에 처리 중인 주문을 maxInFlight 개로 제한하여 Hikari 대기열에 요청이 쌓이지 않게 한다.
+ * - 초과 요청은 최대 maxQueued 개까지 maxWait 동안 FIFO 로 대기하고, 그 외에는 즉시 거절한다.
+ */
+public class OrderAdmissionGate {
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public OrderAdmissionGate(int maxInFlight, int maxQueued, Duration maxWait, Duration retryAfter,
+                              MeterRegistry registry) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("동시 처리 주문 수는 0보다 커야 합니다.");
+        }
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        this.waitTimer = Timer.builder("order.admission.wait")
+                .description("주문 입장 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.queueFullRejections = Counter.builder("order.admission.rejected")
+                .tag("reason", "queue_full")
+                .register(registry);
+        this.timeoutRejections = Counter.builder("order.admission.rejected")
+                .tag("reason", "wait_timeout")
+                .register(registry);
+        Gauge.builder("order.admission.queue.depth", queued, AtomicInteger::get)
+                .description("입장 대기 중인 주문 요청 수")
+                .register(registry);
+        Gauge.builder("order.admission.in.flight", permits, semaphore -> maxInFlight - semaphore.availablePermits())
+                .description("처리 중인 주문 요청 수")
+                .register(registry);
+    }
+
+    /**
+     * 입장 허가를 받은 뒤 작업을 실행하고, 완료되면 허가를 반납
+     */
+    public <T> T execute(Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    private void acquire() {
+        // 공정 모드이므로 대기 중인 요청이 있으면 새치기하지 않는다
+        if (tryAcquire(0)) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            queueFullRejections.increment();
+            throw new OrderAdmissionRejectedException(OrderAdmissionRejectedException.Reason.QUEUE_FULL, retryAfter);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            boolean acquired = tryAcquire(maxWaitNanos);
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                timeoutRejections.increment();
+                throw new OrderAdmissionRejectedException(OrderAdmissionRejectedException.Reason.WAIT_TIMEOUT, retryAfter);
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderAdmissionRejectedException(OrderAdmissionRejectedException.Reason.WAIT_TIMEOUT, retryAfter);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.order.adapter.in.admission;
+
+import java.time.Duration;
+
+/**
+ * 처리 용량 초과로 주문 요청이 입장 거절된 경우
+ */
+public class OrderAdmissionRejectedException extends RuntimeException {
+
+    public enum Reason {
+        QUEUE_FULL,     // 대기열 초과 - 즉시 거절
+        WAIT_TIMEOUT    // 대기 시간 초과
+    }
+
+    private final Reason reason;
+    private final Duration retryAfter;
+
+    public OrderAdmissionRejectedException(Reason reason, Duration retryAfter) {
+        super(reason == Reason.QUEUE_FULL
+                ? "주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+                : "주문 처리 대기 시간을 초과했습니다. 잠시 후 다시 시도해주세요.");
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    public Reason getReason() { return reason; }
+    public Duration getRetryAfter() { return retryAfter; }
+}
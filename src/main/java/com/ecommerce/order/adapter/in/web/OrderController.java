@@ -1,10 +1,12 @@
 package com.ecommerce.order.adapter.in.web;
 
+import com.ecommerce.infrastructure.idempotency.IdempotencyGuard;
 import com.ecommerce.order.adapter.in.web.dto.CreateOrderRequest;
 import com.ecommerce.order.adapter.in.web.dto.OrderResponse;
 import com.ecommerce.order.application.dto.PlaceOrderCommand;
 import com.ecommerce.order.application.dto.OrderResult;
 import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,13 +18,29 @@ import jakarta.validation.Valid;
 public class OrderController {
 
     private final PlaceOrderUseCase placeOrderUseCase;
+    private final IdempotencyGuard idempotencyGuard; // idempotency.enabled=true 일 때만 존재
 
-    public OrderController(PlaceOrderUseCase placeOrderUseCase) {
+    public OrderController(PlaceOrderUseCase placeOrderUseCase,
+                           ObjectProvider<IdempotencyGuard> idempotencyGuard) {
         this.placeOrderUseCase = placeOrderUseCase;
+        this.idempotencyGuard = idempotencyGuard.getIfAvailable();
     }
 
+    /**
+     * 주문 생성 API
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 주문 응답을 그대로 돌려준다 (재고/잔액을 다시 차감하지 않음).
+     */
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody @Valid CreateOrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(name = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
+                                                     @RequestBody @Valid CreateOrderRequest request) {
+        if (idempotencyGuard == null) {
+            return placeOrder(request);
+        }
+        return idempotencyGuard.execute("order-create", idempotencyKey, request, OrderResponse.class,
+                () -> placeOrder(request));
+    }
+
+    private ResponseEntity<OrderResponse> placeOrder(CreateOrderRequest request) {
         // DTO 변환
         PlaceOrderCommand command = request.toCommand();
 
@@ -0,0 +1,42 @@
+package com.ecommerce.order.adapter.in.web;
+
+import com.ecommerce.infrastructure.idempotency.IdempotencyConflictException;
+import com.ecommerce.order.adapter.in.admission.OrderAdmissionRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice(assignableTypes = OrderController.class)
+public class OrderExceptionHandler {
+
+    /**
+     * 입장 거절 - 대기열 초과는 429, 대기 시간 초과는 503 으로 응답하고 Retry-After 헤더를 포함
+     */
+    @ExceptionHandler(OrderAdmissionRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleAdmissionRejected(OrderAdmissionRejectedException e) {
+        HttpStatus status = e.getReason() == OrderAdmissionRejectedException.Reason.QUEUE_FULL
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+        long retryAfterSeconds = Math.max(1, e.getRetryAfter().toSeconds());
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of("code", e.getReason().name(), "message", e.getMessage()));
+    }
+
+    /**
+     * 멱등성 키 충돌 - 처리 중이면 409, 다른 요청 본문에 재사용했으면 422
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyConflict(IdempotencyConflictException e) {
+        HttpStatus status = e.getReason() == IdempotencyConflictException.Reason.IN_PROGRESS
+                ? HttpStatus.CONFLICT
+                : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status)
+                .body(Map.of("code", e.getReason().name(), "message", e.getMessage()));
+    }
+}
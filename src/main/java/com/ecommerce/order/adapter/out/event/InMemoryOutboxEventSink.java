@@ -0,0 +1,46 @@
+package com.ecommerce.order.adapter.out.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내부 싱크 (테스트/로컬 용)
+ * 용량이 찬 경우 수락을 멈춰 릴레이에 back-pressure 를 전달한다.
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final BlockingQueue<OutboxMessage> queue;
+
+    public InMemoryOutboxEventSink(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public int send(List<OutboxMessage> batch) {
+        int accepted = 0;
+        for (OutboxMessage message : batch) {
+            if (!queue.offer(message)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
+    public OutboxMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    public List<OutboxMessage> drain() {
+        List<OutboxMessage> messages = new ArrayList<>();
+        queue.drainTo(messages);
+        return messages;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.order.adapter.out.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 기본 싱크 - 외부 싱크가 등록되지 않은 경우 로그로만 남긴다
+ */
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxEventSink.class);
+
+    @Override
+    public int send(List<OutboxMessage> batch) {
+        batch.forEach(message -> log.info("outbox event: id={}, type={}, aggregateId={}, payload={}",
+                message.id(), message.eventType(), message.aggregateId(), message.payload()));
+        return batch.size();
+    }
+}
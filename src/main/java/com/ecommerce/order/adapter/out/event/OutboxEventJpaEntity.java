@@ -0,0 +1,53 @@
+package com.ecommerce.order.adapter.out.event;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트 행
+ * 주문 트랜잭션 안에서 기록되고, 릴레이가 전송에 성공하면 삭제된다.
+ * 계속 전송에 실패한 이벤트는 삭제하지 않고 parkedAt 을 기록해 전송 대상에서 뺀다.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 1000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime parkedAt;
+
+    // JPA 기본 생성자
+    protected OutboxEventJpaEntity() {}
+
+    public OutboxEventJpaEntity(String eventType, Long aggregateId, String payload, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getEventType() { return eventType; }
+    public Long getAggregateId() { return aggregateId; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getParkedAt() { return parkedAt; }
+}
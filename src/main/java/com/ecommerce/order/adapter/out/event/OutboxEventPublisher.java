@@ -0,0 +1,75 @@
+package com.ecommerce.order.adapter.out.event;
+
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.port.out.EventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 기반 EventPublisher
+ * 주문 트랜잭션 안에서 이벤트 행만 기록하고, 실제 전송은 OutboxRelay 가 비동기로 처리한다.
+ */
+@Component
+public class OutboxEventPublisher implements EventPublisher {
+
+    static final String ORDER_CREATED = "ORDER_CREATED";
+    static final String PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
+
+    private final SpringDataOutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventPublisher(SpringDataOutboxEventRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCreated(Order order) {
+        append(ORDER_CREATED, order);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPaymentCompleted(Order order) {
+        append(PAYMENT_COMPLETED, order);
+    }
+
+    private void append(String eventType, Order order) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderEventPayload payload = new OrderEventPayload(
+                order.getId(),
+                order.getUserId(),
+                order.getStatus().name(),
+                order.getTotalAmount(),
+                order.getOrderItems().size(),
+                now
+        );
+        outboxRepository.save(new OutboxEventJpaEntity(eventType, order.getId(), serialize(payload), now));
+    }
+
+    private String serialize(OrderEventPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화에 실패했습니다. 주문ID: " + payload.orderId(), e);
+        }
+    }
+
+    // 아웃박스 행에 저장되는 최소 이벤트 정보
+    record OrderEventPayload(
+            Long orderId,
+            Long userId,
+            String status,
+            BigDecimal totalAmount,
+            int itemCount,
+            LocalDateTime occurredAt
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.adapter.out.event;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 전송 대상 (메시지 브로커, 데이터 플랫폼 등)
+ */
+public interface OutboxEventSink {
+
+    /**
+     * 배치를 앞에서부터 순서대로 전송하고, 수락된 메시지 수를 반환
+     * 배치 크기보다 작은 값은 싱크가 포화 상태(back-pressure)임을 뜻하며, 나머지는 다음 주기에 재전송된다.
+     * 예외를 던지면 배치 전체가 실패로 처리된다.
+     */
+    int send(List<OutboxMessage> batch);
+}
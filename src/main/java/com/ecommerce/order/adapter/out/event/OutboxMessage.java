@@ -0,0 +1,25 @@
+package com.ecommerce.order.adapter.out.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 아웃박스 메시지
+ * 최소 1회 전달(at-least-once)이므로 수신 측은 id 로 중복을 걸러야 한다.
+ */
+public record OutboxMessage(
+        Long id,
+        String eventType,
+        Long aggregateId,
+        String payload,
+        LocalDateTime createdAt
+) {
+    static OutboxMessage from(OutboxEventJpaEntity entity) {
+        return new OutboxMessage(
+                entity.getId(),
+                entity.getEventType(),
+                entity.getAggregateId(),
+                entity.getPayload(),
+                entity.getCreatedAt()
+        );
+    }
+}
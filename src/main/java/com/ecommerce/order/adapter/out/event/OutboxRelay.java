@@ -0,0 +1,161 @@
+package com.ecommerce.order.adapter.out.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * - 전용 단일 스레드에서 아웃박스 행을 기록 순서대로 배치 조회하여 싱크로 전달한다.
+ * - 싱크가 수락한 메시지만 삭제하므로, 삭제 전에 장애가 나면 재전송된다 (at-least-once).
+ * - 싱크가 일부만 수락하거나 실패하면 지수적으로 대기 시간을 늘려 재시도한다 (back-pressure).
+ * - 전송이 실패하면 맨 앞 이벤트의 시도 횟수를 올리고, 다음에는 그 이벤트만 단독으로 보내 실패 원인을 좁힌다.
+ *   단독 전송이 maxAttempts 번 실패한 이벤트는 격리(parked_at 기록)하고 뒤의 이벤트를 이어서 보낸다.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    enum Outcome {
+        IDLE,           // 전송할 이벤트 없음
+        DRAINED,        // 남은 이벤트를 모두 전송
+        MORE,           // 배치를 가득 채워 전송 (즉시 다음 배치 진행)
+        BACK_PRESSURE,  // 싱크가 일부만 수락
+        FAILED,         // 싱크 전송 실패
+        PARKED          // 계속 실패한 맨 앞 이벤트를 격리 (즉시 다음 배치 진행)
+    }
+
+    private final SpringDataOutboxEventRepository outboxRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long maxBackoffMillis;
+    private final int maxAttempts;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long backoffMillis;
+
+    public OutboxRelay(SpringDataOutboxEventRepository outboxRepository,
+                       OutboxEventSink sink,
+                       TransactionTemplate transactionTemplate,
+                       int batchSize,
+                       Duration pollInterval,
+                       Duration maxBackoff,
+                       int maxAttempts) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 0보다 커야 합니다.");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("최대 전송 시도 횟수는 0보다 커야 합니다.");
+        }
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.maxBackoffMillis = Math.max(maxBackoff.toMillis(), pollIntervalMillis);
+        this.backoffMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void start() {
+        executor.schedule(this::run, 0, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 배치 하나를 전송하고 결과를 반환
+     */
+    Outcome relayBatch() {
+        List<OutboxEventJpaEntity> pending = outboxRepository.findPending(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return Outcome.IDLE;
+        }
+        // 직전 전송에서 실패한 이벤트가 맨 앞이면 단독으로 보낸다
+        int headAttempts = pending.get(0).getAttempts();
+        if (headAttempts > 0) {
+            pending = pending.subList(0, 1);
+        }
+
+        List<OutboxMessage> batch = pending.stream().map(OutboxMessage::from).toList();
+        int accepted;
+        try {
+            accepted = Math.min(sink.send(batch), batch.size());
+        } catch (RuntimeException e) {
+            Long headId = batch.get(0).id();
+            if (batch.size() == 1 && headAttempts + 1 >= maxAttempts) {
+                log.error("아웃박스 이벤트 전송이 {}회 실패하여 격리합니다. 이벤트ID: {}", headAttempts + 1, headId, e);
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.park(headId, LocalDateTime.now()));
+                return Outcome.PARKED;
+            }
+            log.warn("아웃박스 이벤트 전송에 실패했습니다. 첫 이벤트ID: {}", headId, e);
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.increaseAttempts(List.of(headId)));
+            return Outcome.FAILED;
+        }
+
+        if (accepted > 0) {
+            List<Long> deliveredIds = batch.subList(0, accepted).stream().map(OutboxMessage::id).toList();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteByIds(deliveredIds));
+        }
+
+        if (accepted < batch.size()) {
+            return Outcome.BACK_PRESSURE;
+        }
+        // 단독으로 보낸 이벤트가 성공했으면 뒤의 이벤트를 기다리지 않고 이어서 보낸다
+        return batch.size() == batchSize || headAttempts > 0 ? Outcome.MORE : Outcome.DRAINED;
+    }
+
+    private void run() {
+        long delayMillis;
+        try {
+            delayMillis = nextDelay(relayBatch());
+        } catch (RuntimeException e) {
+            log.error("아웃박스 릴레이 처리 중 오류가 발생했습니다.", e);
+            delayMillis = nextDelay(Outcome.FAILED);
+        }
+
+        if (!executor.isShutdown()) {
+            executor.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long nextDelay(Outcome outcome) {
+        return switch (outcome) {
+            case MORE, PARKED -> {
+                backoffMillis = pollIntervalMillis;
+                yield 0;
+            }
+            case IDLE, DRAINED -> {
+                backoffMillis = pollIntervalMillis;
+                yield pollIntervalMillis;
+            }
+            case BACK_PRESSURE, FAILED -> {
+                long delay = backoffMillis;
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                yield delay;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.order.adapter.out.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    // 전송 대기 이벤트를 기록 순서대로 조회 (격리된 이벤트 제외)
+    @Query("SELECT e FROM OutboxEventJpaEntity e WHERE e.parkedAt IS NULL ORDER BY e.id")
+    List<OutboxEventJpaEntity> findPending(Pageable pageable);
+
+    // 전송 완료 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 전송 실패 횟수 증가
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int increaseAttempts(@Param("ids") List<Long> ids);
+
+    // 계속 실패한 이벤트를 격리 (parked_at 을 비우고 attempts 를 0 으로 돌리면 다시 전송된다)
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.attempts = e.attempts + 1, e.parkedAt = :parkedAt WHERE e.id = :id")
+    int park(@Param("id") Long id, @Param("parkedAt") LocalDateTime parkedAt);
+}
@@ -0,0 +1,267 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 핫 상품 전용 메모리 재고 엔진 (write-behind)
+ *
+ * - 가용 재고를 메모리 카운터로 관리하여 DB 행 락 없이 차감한다.
+ * - 트랜잭션 안의 차감은 메모리에서만 예약해 두었다가 커밋 직전(beforeCommit)에 저널에 기록하고 fsync 한다.
+ *   커밋 전에 롤백되면 저널에 남은 것이 없으므로 메모리 예약만 되돌리고,
+ *   저널 기록 후 롤백되면(커밋 실패 등) 보상 레코드(음수 차감)를 기록한다.
+ *   저널 기록과 DB 커밋 사이에 프로세스가 죽으면 그 차감은 남는다 (초과 판매 대신 덜 파는 쪽으로 보수적으로 처리).
+ * - 주기적으로 누적 차감량을 DB 에 배치 반영하며, 같은 트랜잭션에 저널 체크포인트를 남긴다.
+ * - 재시작 시 DB 재고 - (체크포인트 이후 저널 차감량) 으로 카운터를 복원한다.
+ * - 핫 상품은 노드별로 DB 에 소유권을 등록하고, 다른 노드가 이미 소유한 상품이 있으면 시작에 실패한다
+ *   (두 노드가 같은 재고를 각자 메모리에 올려 중복 판매하지 않도록). 정상 종료 시 모두 반영한 뒤 소유권을 반납한다.
+ *
+ * 핫 상품의 재고는 소유 노드의 엔진을 통해서만 변경되어야 한다 (다른 경로의 DB 직접 변경은 반영되지 않음).
+ */
+public class HotInventoryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(HotInventoryEngine.class);
+
+    private final HotStockStore store;
+    private final AppendOnlyJournal journal;
+    private final String nodeId;
+    private final Map<Long, HotStockCounter> counters = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hot-inventory-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Set<Long> hotProductIds = Set.of();
+
+    public HotInventoryEngine(HotStockStore store, AppendOnlyJournal journal, String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("핫 재고 엔진은 노드마다 고유한 node-id 가 필요합니다.");
+        }
+        this.store = store;
+        this.journal = journal;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 핫 상품 소유권을 등록하고 DB 재고와 저널로 카운터를 복원한 뒤 주기적 반영을 시작
+     * 다른 노드가 소유한 상품이 있으면 IllegalStateException
+     */
+    public void start(Set<Long> productIds, Duration flushInterval) {
+        Map<Long, String> foreignOwners = store.claimProducts(productIds, nodeId);
+        if (!foreignOwners.isEmpty()) {
+            throw new IllegalStateException("다른 노드가 소유한 핫 상품이 있습니다. node=" + nodeId + ", owners=" + foreignOwners);
+        }
+        recover(productIds);
+        flush();
+        // 저널 복원용으로만 추적하던 (더 이상 핫 상품이 아닌) 상품은 반영이 끝났으므로 소유권을 반납한다
+        store.releaseProducts(nodeId, hotProductIds);
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isHot(Long productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    public int availableStock(Long productId) {
+        return counter(productId).available();
+    }
+
+    /**
+     * 재고 예약(차감)
+     * 트랜잭션 안에서 호출되면 커밋 직전에 저널에 기록/fsync 하고, 롤백되면 예약을 되돌린다.
+     * 트랜잭션 밖이면 바로 저널에 기록한다.
+     */
+    public boolean tryReserve(Long productId, int quantity) {
+        HotStockCounter counter = counter(productId);
+        if (!counter.tryReserve(quantity)) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                journal.force(record(productId, counter, quantity));
+            } catch (RuntimeException e) {
+                counter.restore(quantity);
+                throw e;
+            }
+            return true;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean journaled;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                journal.force(record(productId, counter, quantity));
+                journaled = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (!journaled) {
+                    counter.restore(quantity);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    release(productId, quantity);
+                } else {
+                    log.warn("커밋 결과를 알 수 없는 핫 재고 차감은 유지합니다. productId={}, quantity={}", productId, quantity);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 예약 취소(재고 복원)
+     */
+    public void release(Long productId, int quantity) {
+        HotStockCounter counter = counter(productId);
+        long sequence = record(productId, counter, -quantity);
+        counter.restore(quantity);
+        journal.force(sequence);
+    }
+
+    // 저널 기록과 반영 대기량 누적을 flush 의 봉인(rotate)과 어긋나지 않게 함께 수행
+    private long record(Long productId, HotStockCounter counter, int delta) {
+        drainLock.readLock().lock();
+        try {
+            long sequence = journal.append(productId + ":" + delta);
+            counter.addPending(delta);
+            return sequence;
+        } finally {
+            drainLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 누적 차감량을 DB 에 반영
+     * 반영에 실패하면 차감량을 카운터에 되돌려 다음 주기에 재시도한다.
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<Long, Long> deltas = new HashMap<>();
+            long sealedSequence;
+
+            drainLock.writeLock().lock();
+            try {
+                counters.forEach((productId, counter) -> {
+                    long delta = counter.drainPending();
+                    if (delta != 0) {
+                        deltas.put(productId, delta);
+                    }
+                });
+                sealedSequence = journal.rotate();
+            } finally {
+                drainLock.writeLock().unlock();
+            }
+
+            try {
+                store.applyDeltas(deltas, nodeId, sealedSequence);
+            } catch (RuntimeException e) {
+                deltas.forEach((productId, delta) -> counters.get(productId).addPending(delta));
+                throw e;
+            }
+            journal.deleteUpTo(sealedSequence);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 남은 차감량을 반영하고 종료 (모두 반영되면 핫 상품 소유권 반납)
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+            store.releaseProducts(nodeId, Set.of());
+        } catch (RuntimeException e) {
+            log.error("핫 재고 반영에 실패해 소유권을 유지합니다. 같은 node-id 로 재시작하면 저널에서 복원됩니다.", e);
+        }
+        journal.close();
+    }
+
+    private void recover(Set<Long> productIds) {
+        long checkpoint = store.loadCheckpoint(nodeId);
+        Map<Long, Long> unflushed = new HashMap<>();
+        journal.replay(checkpoint, (sequence, payload) -> {
+            int separator = payload.indexOf(':');
+            if (separator <= 0) {
+                return;
+            }
+            try {
+                Long productId = Long.parseLong(payload.substring(0, separator));
+                long delta = Long.parseLong(payload.substring(separator + 1));
+                unflushed.merge(productId, delta, Long::sum);
+            } catch (NumberFormatException e) {
+                log.warn("손상된 저널 레코드를 건너뜁니다. seq={}, payload={}", sequence, payload);
+            }
+        });
+
+        // 더 이상 핫 상품이 아니어도 미반영 차감량은 DB 에 반영해야 하므로 카운터를 만든다
+        Set<Long> trackedIds = new HashSet<>(productIds);
+        trackedIds.addAll(unflushed.keySet());
+        Map<Long, Integer> stocks = store.loadStocks(trackedIds);
+
+        for (Long productId : trackedIds) {
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                log.warn("존재하지 않는 핫 상품은 제외합니다. productId={}", productId);
+                continue;
+            }
+            long pending = unflushed.getOrDefault(productId, 0L);
+            counters.put(productId, new HotStockCounter((int) Math.max(0, stock - pending), pending));
+        }
+
+        Set<Long> hot = new HashSet<>(productIds);
+        hot.retainAll(counters.keySet());
+        this.hotProductIds = Set.copyOf(hot);
+        log.info("핫 재고 엔진 복원 완료. node={}, checkpoint={}, hotProducts={}, replayedProducts={}",
+                nodeId, checkpoint, hotProductIds.size(), unflushed.size());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("핫 재고 반영에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private HotStockCounter counter(Long productId) {
+        HotStockCounter counter = counters.get(productId);
+        if (counter == null || !isHot(productId)) {
+            throw new IllegalArgumentException("핫 재고 대상 상품이 아닙니다: " + productId);
+        }
+        return counter;
+    }
+}
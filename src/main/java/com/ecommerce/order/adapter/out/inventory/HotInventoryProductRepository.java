@@ -0,0 +1,102 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import com.ecommerce.order.domain.exception.InsufficientStockException;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핫 상품 재고 엔진을 적용한 상품 Outbound Port
+ * 핫 상품의 재고 조회/차감은 메모리 엔진으로, 그 외는 기존 영속성 어댑터로 위임
+ */
+public class HotInventoryProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final HotInventoryEngine engine;
+
+    public HotInventoryProductRepository(ProductRepository delegate, HotInventoryEngine engine) {
+        this.delegate = delegate;
+        this.engine = engine;
+    }
+
+    @Override
+    public boolean existsById(Long productId) {
+        return delegate.existsById(productId);
+    }
+
+    @Override
+    public String getProductName(Long productId) {
+        return delegate.getProductName(productId);
+    }
+
+    @Override
+    public BigDecimal getProductPrice(Long productId) {
+        return delegate.getProductPrice(productId);
+    }
+
+    @Override
+    public int getProductStock(Long productId) {
+        if (engine.isHot(productId)) {
+            return engine.availableStock(productId);
+        }
+        return delegate.getProductStock(productId);
+    }
+
+    @Override
+    public void decreaseStock(Long productId, int quantity) {
+        if (!engine.isHot(productId)) {
+            delegate.decreaseStock(productId, quantity);
+            return;
+        }
+        if (!engine.tryReserve(productId, quantity)) {
+            throw new InsufficientStockException(
+                    String.format("재고가 부족합니다. 상품ID: %d, 요청수량: %d, 재고: %d",
+                            productId, quantity, engine.availableStock(productId)));
+        }
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(Long productId, int quantity) {
+        if (engine.isHot(productId)) {
+            return engine.tryReserve(productId, quantity);
+        }
+        return delegate.decreaseStockIfAvailable(productId, quantity);
+    }
+
+    @Override
+    public Map<Long, String> getProductNames(List<Long> productIds) {
+        return delegate.getProductNames(productIds);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> getProductPrices(List<Long> productIds) {
+        return delegate.getProductPrices(productIds);
+    }
+
+    @Override
+    public OrderProductSnapshot getProductSnapshot(List<Long> productIds) {
+        OrderProductSnapshot snapshot = delegate.getProductSnapshot(productIds);
+        List<OrderProductSnapshot.ProductInfo> products = productIds.stream()
+                .filter(snapshot::contains)
+                .map(snapshot::get)
+                .map(this::withHotStock)
+                .toList();
+        return OrderProductSnapshot.of(products);
+    }
+
+    private OrderProductSnapshot.ProductInfo withHotStock(OrderProductSnapshot.ProductInfo product) {
+        if (!engine.isHot(product.productId())) {
+            return product;
+        }
+        return new OrderProductSnapshot.ProductInfo(
+                product.productId(),
+                product.name(),
+                product.price(),
+                engine.availableStock(product.productId()),
+                product.active()
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핫 상품 1개의 메모리 재고 카운터
+ * 가용 재고는 CAS 로 차감하고, DB 에 아직 반영되지 않은 순 차감량은 스트라이프 카운터(LongAdder)로 누적한다.
+ */
+class HotStockCounter {
+
+    private final AtomicInteger available;
+    private final LongAdder pendingDelta = new LongAdder();
+
+    HotStockCounter(int available, long pendingDelta) {
+        this.available = new AtomicInteger(available);
+        this.pendingDelta.add(pendingDelta);
+    }
+
+    // 재고가 충분한 경우에만 차감 (lock-free)
+    boolean tryReserve(int quantity) {
+        while (true) {
+            int current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    void restore(int quantity) {
+        available.addAndGet(quantity);
+    }
+
+    void addPending(long delta) {
+        pendingDelta.add(delta);
+    }
+
+    // 호출자가 동시 addPending 이 없음을 보장해야 한다 (엔진의 flush 쓰기 락 안에서 호출)
+    long drainPending() {
+        return pendingDelta.sumThenReset();
+    }
+
+    int available() {
+        return available.get();
+    }
+}
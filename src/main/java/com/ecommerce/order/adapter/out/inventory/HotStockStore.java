@@ -0,0 +1,37 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 핫 상품 재고 엔진의 영속성 계약
+ * 재고 적재, 누적 차감량 반영, 저널 체크포인트와 노드별 핫 상품 소유권 관리를 담당
+ */
+public interface HotStockStore {
+
+    /**
+     * 상품별 현재 DB 재고 조회
+     */
+    Map<Long, Integer> loadStocks(Collection<Long> productIds);
+
+    /**
+     * 핫 상품 소유권 등록 (이미 이 노드가 소유한 상품은 그대로 유지)
+     * @return 다른 노드가 소유하고 있어 등록하지 못한 상품과 소유 노드 (모두 등록되면 빈 맵)
+     */
+    Map<Long, String> claimProducts(Collection<Long> productIds, String nodeId);
+
+    /**
+     * 이 노드의 핫 상품 소유권 반납 (retainedIds 는 유지)
+     */
+    void releaseProducts(String nodeId, Collection<Long> retainedIds);
+
+    /**
+     * 노드의 마지막 반영 저널 시퀀스 조회 (없으면 0)
+     */
+    long loadCheckpoint(String nodeId);
+
+    /**
+     * 누적 차감량과 저널 체크포인트를 하나의 트랜잭션으로 반영
+     */
+    void applyDeltas(Map<Long, Long> deltas, String nodeId, long journalSequence);
+}
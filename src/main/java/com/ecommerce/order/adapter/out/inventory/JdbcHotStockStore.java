@@ -0,0 +1,129 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 기반 핫 재고 저장소
+ * 누적 차감량을 배치 UPDATE 로 반영하고, 같은 트랜잭션에서 체크포인트와 상품 변경 기록을 남긴다.
+ * 핫 상품 소유권은 hot_stock_owners (product_id PK) 행으로 관리한다.
+ */
+public class JdbcHotStockStore implements HotStockStore {
+
+    private static final String SELECT_STOCKS =
+            "SELECT id, stock FROM products WHERE id IN (:ids)";
+    private static final String SELECT_CHECKPOINT =
+            "SELECT last_sequence FROM hot_stock_checkpoints WHERE node_id = ?";
+    private static final String UPDATE_STOCK =
+            "UPDATE products SET stock = stock - ?, version = version + 1, updated_at = ? WHERE id = ?";
+    private static final String INSERT_OWNER =
+            "INSERT IGNORE INTO hot_stock_owners (product_id, node_id, claimed_at) VALUES (?, ?, ?)";
+    private static final String SELECT_OWNERS =
+            "SELECT product_id, node_id FROM hot_stock_owners WHERE product_id IN (:ids)";
+    private static final String DELETE_OWNED =
+            "DELETE FROM hot_stock_owners WHERE node_id = :nodeId";
+    private static final String DELETE_OWNED_EXCEPT =
+            "DELETE FROM hot_stock_owners WHERE node_id = :nodeId AND product_id NOT IN (:retainedIds)";
+    private static final String UPSERT_CHECKPOINT =
+            "INSERT INTO hot_stock_checkpoints (node_id, last_sequence) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE last_sequence = VALUES(last_sequence)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductChangeLog changeLog;
+
+    public JdbcHotStockStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, transactionManager, null);
+    }
+
+    /**
+     * @param changeLog 상품 색인이 재고 반영을 따라잡을 변경 기록 (색인이 모두 꺼져 있으면 null)
+     */
+    public JdbcHotStockStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             @Nullable ProductChangeLog changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public Map<Long, Integer> loadStocks(Collection<Long> productIds) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+        namedJdbcTemplate.query(SELECT_STOCKS, new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    stocks.put(rs.getLong("id"), rs.getInt("stock"));
+                });
+        return stocks;
+    }
+
+    @Override
+    public Map<Long, String> claimProducts(Collection<Long> productIds, String nodeId) {
+        Map<Long, String> foreignOwners = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return foreignOwners;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(productIds.size());
+        productIds.forEach(productId -> rows.add(new Object[]{productId, nodeId, now}));
+        jdbcTemplate.batchUpdate(INSERT_OWNER, rows);
+
+        namedJdbcTemplate.query(SELECT_OWNERS, new MapSqlParameterSource("ids", productIds), rs -> {
+            String owner = rs.getString("node_id");
+            if (!nodeId.equals(owner)) {
+                foreignOwners.put(rs.getLong("product_id"), owner);
+            }
+        });
+        return foreignOwners;
+    }
+
+    @Override
+    public void releaseProducts(String nodeId, Collection<Long> retainedIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("nodeId", nodeId);
+        if (retainedIds.isEmpty()) {
+            namedJdbcTemplate.update(DELETE_OWNED, params);
+            return;
+        }
+        namedJdbcTemplate.update(DELETE_OWNED_EXCEPT, params.addValue("retainedIds", retainedIds));
+    }
+
+    @Override
+    public long loadCheckpoint(String nodeId) {
+        List<Long> sequences = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, nodeId);
+        return sequences.isEmpty() ? 0L : sequences.get(0);
+    }
+
+    @Override
+    public void applyDeltas(Map<Long, Long> deltas, String nodeId, long journalSequence) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> updates.add(new Object[]{delta, now, productId}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_STOCK, updates);
+                if (changeLog != null) {
+                    changeLog.recordAll(deltas.keySet());
+                }
+            }
+            jdbcTemplate.update(UPSERT_CHECKPOINT, nodeId, journalSequence);
+        });
+    }
+}
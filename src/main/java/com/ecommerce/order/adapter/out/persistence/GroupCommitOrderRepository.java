@@ -0,0 +1,110 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.port.out.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 그룹 커밋 writer 를 사용하는 OrderRepository 데코레이터
+ *
+ * - save 시점에는 ID 만 채번하고, 주문 행은 호출자 트랜잭션의 커밋 직전(beforeCommit)에 writer 에 넘겨
+ *   다른 요청의 주문과 한 트랜잭션으로 저장한 뒤 호출자 커밋을 진행한다.
+ * - 주문 저장이 실패하거나 시간을 넘기면 beforeCommit 에서 예외를 던져 호출자 트랜잭션(재고/잔액 변경)을 롤백한다.
+ * - 주문 행 커밋 후 호출자 커밋이 실패하면 afterCompletion 에서 주문 행을 삭제한다.
+ *   그 사이 프로세스가 죽으면 재고/잔액 변경 없는 주문 행이 남을 수 있다 (처리량을 위한 트레이드오프).
+ * - 조회/삭제는 JPA 어댑터에 위임한다.
+ */
+public class GroupCommitOrderRepository implements OrderRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitOrderRepository.class);
+
+    private final OrderPersistenceAdapter delegate;
+    private final GroupCommitOrderWriter writer;
+    private final long timeoutMillis;
+
+    public GroupCommitOrderRepository(OrderPersistenceAdapter delegate,
+                                      GroupCommitOrderWriter writer,
+                                      Duration timeout) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("주문 그룹 커밋 저장은 트랜잭션 안에서만 호출할 수 있습니다.");
+        }
+        Long orderId = writer.nextOrderId();
+        order.assignId(orderId);
+        TransactionSynchronizationManager.registerSynchronization(
+                new GroupCommitSynchronization(orderId, delegate.toEntity(order)));
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void delete(Order order) {
+        delegate.delete(order);
+    }
+
+    private class GroupCommitSynchronization implements TransactionSynchronization {
+
+        private final Long orderId;
+        private final OrderJpaEntity entity;
+        private boolean written;
+
+        GroupCommitSynchronization(Long orderId, OrderJpaEntity entity) {
+            this.orderId = orderId;
+            this.entity = entity;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            CompletableFuture<Void> future = writer.submit(orderId, entity);
+            // 기다림을 포기한 경우 늦게라도 저장되면 롤백될 호출자 대신 지운다
+            try {
+                future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+                written = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.thenRunAsync(this::deleteOrder);
+                throw new IllegalStateException("주문 저장 대기 중 인터럽트가 발생했습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("주문 저장에 실패했습니다.", e.getCause());
+            } catch (TimeoutException e) {
+                future.thenRunAsync(this::deleteOrder);
+                throw new IllegalStateException("주문 저장 대기 시간을 초과했습니다.", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED && written) {
+                deleteOrder();
+            }
+        }
+
+        private void deleteOrder() {
+            try {
+                writer.delete(orderId);
+            } catch (RuntimeException e) {
+                log.error("롤백된 주문 행 삭제에 실패했습니다. orderId: {}", orderId, e);
+            }
+        }
+    }
+}
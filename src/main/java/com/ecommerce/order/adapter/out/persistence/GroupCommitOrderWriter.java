@@ -0,0 +1,234 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 그룹 커밋 writer
+ *
+ * - 여러 요청의 주문을 최대 대기 시간(maxWait) 또는 최대 건수(maxBatchSize)까지 모아 한 트랜잭션으로 저장하고,
+ *   커밋 후 각 호출자의 future 를 완료한다.
+ * - ID 는 id_generators 블록(OrderIdAllocator)에서 미리 받으므로 주문과 주문 항목을 각각 다중 행 INSERT 한 문장으로 쓴다.
+ * - 전용 커넥션 풀을 쓰므로 커넥션을 쥔 채 기다리는 호출자들이 메인 풀을 모두 차지해도 writer 는 막히지 않는다.
+ * - 배치 저장이 실패하면 주문별 개별 트랜잭션으로 재시도하여 실패를 해당 주문으로 한정한다.
+ */
+public class GroupCommitOrderWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitOrderWriter.class);
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, user_id, status, total_amount, ordered_at, paid_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM =
+            "INSERT INTO order_items (id, order_id, product_id, product_name, unit_price, quantity) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIdAllocator orderIdAllocator;
+    private final OrderIdAllocator itemIdAllocator;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingOrder> queue;
+    private final AtomicLong committedBatches = new AtomicLong();
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param dataSource writer 전용 커넥션 풀 (writer 종료 시 함께 닫힘)
+     */
+    public GroupCommitOrderWriter(HikariDataSource dataSource,
+                                  int maxBatchSize,
+                                  Duration maxWait,
+                                  int queueCapacity) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 0보다 커야 합니다.");
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.orderIdAllocator = new OrderIdAllocator(jdbcTemplate, OrderIdGenerators.ORDERS, OrderIdGenerators.ALLOCATION_SIZE);
+        this.itemIdAllocator = new OrderIdAllocator(jdbcTemplate, OrderIdGenerators.ORDER_ITEMS, OrderIdGenerators.ALLOCATION_SIZE);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writerThread = new Thread(this::run, "order-group-commit");
+        this.writerThread.setDaemon(true);
+    }
+
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * 저장 전에 주문 ID 를 미리 채번 (호출자가 이벤트 발행 등에 바로 사용)
+     */
+    public long nextOrderId() {
+        return orderIdAllocator.next();
+    }
+
+    /**
+     * 저장 요청 등록, 주문 행이 커밋되면 완료되는 future 반환
+     * 대기열이 가득 차면 즉시 실패한다.
+     */
+    public CompletableFuture<Void> submit(Long orderId, OrderJpaEntity order) {
+        if (!running) {
+            throw new IllegalStateException("주문 저장기가 종료되었습니다.");
+        }
+        PendingOrder pending = new PendingOrder(orderId, order, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new IllegalStateException("주문 저장 대기열이 가득 찼습니다.");
+        }
+        return pending.future();
+    }
+
+    /**
+     * 이미 커밋된 주문 행과 항목 삭제 (호출자 트랜잭션이 롤백된 경우의 보상)
+     */
+    public void delete(Long orderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id = ?", orderId);
+            jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId);
+        });
+    }
+
+    public long committedBatches() {
+        return committedBatches.get();
+    }
+
+    /**
+     * 대기 중인 주문을 모두 저장한 뒤 종료하고 전용 커넥션 풀을 닫는다
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new IllegalStateException("주문 저장기가 종료되었습니다.")));
+        dataSource.close();
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("주문 그룹 커밋 처리 중 오류가 발생했습니다.", e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 주문 도착 후 maxWait 동안 또는 maxBatchSize 에 도달할 때까지 수집
+    private void collect(List<PendingOrder> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingOrder> batch) {
+        List<ItemRow> items = itemRows(batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch, items));
+        } catch (RuntimeException e) {
+            log.warn("주문 배치 저장에 실패하여 개별 저장으로 재시도합니다. 건수: {}", batch.size(), e);
+            writeIndividually(batch, items);
+            return;
+        }
+        committedBatches.incrementAndGet();
+        batch.forEach(pending -> pending.future().complete(null));
+    }
+
+    private void writeIndividually(List<PendingOrder> batch, List<ItemRow> items) {
+        for (PendingOrder pending : batch) {
+            List<ItemRow> own = items.stream().filter(item -> item.orderId().equals(pending.orderId())).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(pending), own));
+                committedBatches.incrementAndGet();
+                pending.future().complete(null);
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    // 항목 ID 는 트랜잭션 밖에서 받아 writer 트랜잭션이 채번 커넥션을 기다리지 않게 한다
+    private List<ItemRow> itemRows(List<PendingOrder> batch) {
+        List<ItemRow> items = new ArrayList<>();
+        for (PendingOrder pending : batch) {
+            for (OrderItemJpaEntity item : pending.order().getOrderItems()) {
+                items.add(new ItemRow(itemIdAllocator.next(), pending.orderId(), item));
+            }
+        }
+        return items;
+    }
+
+    private void insert(List<PendingOrder> orders, List<ItemRow> items) {
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders, orders.size(), (statement, pending) -> {
+            OrderJpaEntity order = pending.order();
+            statement.setLong(1, pending.orderId());
+            statement.setLong(2, order.getUserId());
+            statement.setString(3, order.getStatus().name());
+            statement.setBigDecimal(4, order.getTotalAmount());
+            statement.setTimestamp(5, Timestamp.valueOf(order.getOrderedAt()));
+            statement.setTimestamp(6, order.getPaidAt() == null ? null : Timestamp.valueOf(order.getPaidAt()));
+        });
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, items, items.size(), (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setLong(2, row.orderId());
+            statement.setLong(3, row.item().getProductId());
+            statement.setString(4, row.item().getProductName());
+            statement.setBigDecimal(5, row.item().getUnitPrice());
+            statement.setInt(6, row.item().getQuantity());
+        });
+    }
+
+    private record PendingOrder(Long orderId, OrderJpaEntity order, CompletableFuture<Void> future) {
+    }
+
+    private record ItemRow(long id, Long orderId, OrderItemJpaEntity item) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * id_generators 행 하나에서 ID 블록을 받아 나눠주는 hi-lo 할당기
+ *
+ * - @TableGenerator 와 같은 규칙(OrderIdGenerators)으로 블록을 받으므로 JPA 저장 경로와 ID 가 겹치지 않는다.
+ * - 블록은 autocommit 커넥션에서 UPDATE 한 번으로 받는다 (호출자 트랜잭션이 채번 행 락을 잡지 않음).
+ * - 블록 소진 시 JDBC 호출이 있으므로 가상 스레드 고정을 피하려고 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+public class OrderIdAllocator {
+
+    private static final String ALLOCATE =
+            "UPDATE id_generators SET next_val = LAST_INSERT_ID(next_val + ?) WHERE sequence_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequenceName;
+    private final int allocationSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next = 1;
+    private long limit;
+
+    public OrderIdAllocator(JdbcTemplate jdbcTemplate, String sequenceName, int allocationSize) {
+        if (allocationSize <= 0) {
+            throw new IllegalArgumentException("할당 크기는 0보다 커야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceName = sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    public long next() {
+        lock.lock();
+        try {
+            if (next > limit) {
+                long claimed = allocateBlock();
+                if (claimed < allocationSize) {
+                    throw new IllegalStateException("ID 채번 행이 초기화되지 않았습니다 (OrderIdGenerators.seed): " + sequenceName);
+                }
+                next = claimed - allocationSize + 1;
+                limit = claimed;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 행 값을 allocationSize 만큼 올리고 올리기 전 값을 반환 (LAST_INSERT_ID 는 커넥션 단위이므로 같은 커넥션에서 조회)
+    private long allocateBlock() {
+        Long previous = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement update = connection.prepareStatement(ALLOCATE)) {
+                update.setInt(1, allocationSize);
+                update.setString(2, sequenceName);
+                if (update.executeUpdate() == 0) {
+                    throw new IllegalStateException("ID 채번 행이 없습니다: " + sequenceName);
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+                 ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) - allocationSize;
+            }
+        });
+        return previous;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 주문/주문 항목 ID 채번 테이블 (id_generators)
+ *
+ * - OrderJpaEntity/OrderItemJpaEntity 의 @TableGenerator 와 그룹 커밋의 OrderIdAllocator 가 같은 행을 같은 규칙으로 쓴다.
+ *   행 값 V 를 읽고 V + ALLOCATION_SIZE 로 올린 쪽이 [V - ALLOCATION_SIZE + 1, V] 블록을 가진다 (Hibernate pooled 최적화).
+ * - IDENTITY 로 저장된 기존 행과 겹치지 않도록 기동 시 행 값을 MAX(id) + ALLOCATION_SIZE 이상으로 맞춘다.
+ */
+public final class OrderIdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final String ORDERS = "orders";
+    public static final String ORDER_ITEMS = "order_items";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 다른 노드가 이미 블록을 받아 갔으면 더 큰 값을 유지
+    private static final String SEED =
+            "INSERT INTO id_generators (sequence_name, next_val) SELECT ?, COALESCE(MAX(id), 0) + ? FROM %s " +
+                    "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))";
+
+    private OrderIdGenerators() {
+    }
+
+    /**
+     * 채번 행을 만들거나 기존 최대 ID 뒤로 맞춘다 (여러 번, 여러 노드에서 실행해도 안전)
+     */
+    public static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(String.format(SEED, ORDERS), ORDERS, ALLOCATION_SIZE);
+        jdbcTemplate.update(String.format(SEED, ORDER_ITEMS), ORDER_ITEMS, ALLOCATION_SIZE);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "order_items")
+public class OrderItemJpaEntity {
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로 풀링된 테이블 hi-lo 채번 사용 (OrderIdGenerators)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id_generator")
+    @TableGenerator(name = "order_item_id_generator", table = OrderIdGenerators.TABLE,
+            pkColumnName = OrderIdGenerators.PK_COLUMN, valueColumnName = OrderIdGenerators.VALUE_COLUMN,
+            pkColumnValue = OrderIdGenerators.ORDER_ITEMS, allocationSize = OrderIdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    private OrderJpaEntity order;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, length = 200)
+    private String productName;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    // 기본 생성자
+    protected OrderItemJpaEntity() {}
+
+    public Long getId() { return id; }
+    public OrderJpaEntity getOrder() { return order; }
+    public Long getProductId() { return productId; }
+    public String getProductName() { return productName; }
+    public BigDecimal getUnitPrice() { return unitPrice; }
+    public int getQuantity() { return quantity; }
+
+    public void setOrder(OrderJpaEntity order) { this.order = order; }
+    public void setProductId(Long productId) { this.productId = productId; }
+    public void setProductName(String productName) { this.productName = productName; }
+    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice; }
+    public void setQuantity(int quantity) { this.quantity = quantity; }
+}
@@ -8,8 +8,12 @@ import java.util.List;
 @Entity
 @Table(name = "orders")
 public class OrderJpaEntity {
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로 풀링된 테이블 hi-lo 채번 사용 (OrderIdGenerators)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(name = "order_id_generator", table = OrderIdGenerators.TABLE,
+            pkColumnName = OrderIdGenerators.PK_COLUMN, valueColumnName = OrderIdGenerators.VALUE_COLUMN,
+            pkColumnValue = OrderIdGenerators.ORDERS, allocationSize = OrderIdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -36,7 +36,7 @@ public class OrderPersistenceAdapter implements OrderRepository {
         jpaRepository.deleteById(order.getId());
     }
 
-    private OrderJpaEntity toEntity(Order order) {
+    OrderJpaEntity toEntity(Order order) {
         OrderJpaEntity entity = new OrderJpaEntity();
         entity.setUserId(order.getUserId());
         entity.setStatus(mapStatus(order.getStatus()));
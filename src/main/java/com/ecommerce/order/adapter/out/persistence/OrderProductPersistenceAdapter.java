@@ -0,0 +1,133 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import com.ecommerce.infrastructure.persistence.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.persistence.repository.SpringProductRepository;
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.order.domain.exception.InsufficientStockException;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 모듈의 상품 Outbound Port 구현체
+ * 상품 테이블(products)을 주문 관점에서 조회/차감
+ */
+@Component
+public class OrderProductPersistenceAdapter implements ProductRepository {
+
+    private final SpringProductRepository springRepository;
+    private final ProductChangeLog changeLog;
+
+    public OrderProductPersistenceAdapter(SpringProductRepository springRepository) {
+        this(springRepository, (ProductChangeLog) null);
+    }
+
+    /**
+     * @param changeLog 상품 색인이 재고 차감을 따라잡을 변경 기록 (색인이 모두 꺼져 있으면 없음)
+     */
+    @Autowired
+    public OrderProductPersistenceAdapter(SpringProductRepository springRepository,
+                                          ObjectProvider<ProductChangeLog> changeLog) {
+        this(springRepository, changeLog.getIfAvailable());
+    }
+
+    private OrderProductPersistenceAdapter(SpringProductRepository springRepository, @Nullable ProductChangeLog changeLog) {
+        this.springRepository = springRepository;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public boolean existsById(Long productId) {
+        return springRepository.existsById(productId);
+    }
+
+    @Override
+    public String getProductName(Long productId) {
+        return findProduct(productId).getName();
+    }
+
+    @Override
+    public BigDecimal getProductPrice(Long productId) {
+        return findProduct(productId).getPrice();
+    }
+
+    @Override
+    public int getProductStock(Long productId) {
+        return findProduct(productId).getStock();
+    }
+
+    @Override
+    public void decreaseStock(Long productId, int quantity) {
+        ProductJpaEntity entity = springRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + productId));
+
+        if (entity.getStock() < quantity) {
+            throw new InsufficientStockException(
+                    String.format("재고가 부족합니다. 상품ID: %d, 요청수량: %d, 재고: %d",
+                            productId, quantity, entity.getStock()));
+        }
+        entity.setStock(entity.getStock() - quantity);
+        entity.setUpdatedAt(LocalDateTime.now());
+        springRepository.save(entity);
+        recordChange(productId);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(Long productId, int quantity) {
+        if (springRepository.decreaseStockIfAvailable(productId, quantity, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        recordChange(productId);
+        return true;
+    }
+
+    @Override
+    public Map<Long, String> getProductNames(List<Long> productIds) {
+        return springRepository.findByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductJpaEntity::getId, ProductJpaEntity::getName));
+    }
+
+    @Override
+    public Map<Long, BigDecimal> getProductPrices(List<Long> productIds) {
+        return springRepository.findByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductJpaEntity::getId, ProductJpaEntity::getPrice));
+    }
+
+    @Override
+    public OrderProductSnapshot getProductSnapshot(List<Long> productIds) {
+        List<OrderProductSnapshot.ProductInfo> products = springRepository.findByIds(productIds).stream()
+                .map(this::toProductInfo)
+                .toList();
+        return OrderProductSnapshot.of(products);
+    }
+
+    private ProductJpaEntity findProduct(Long productId) {
+        return springRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + productId));
+    }
+
+    private OrderProductSnapshot.ProductInfo toProductInfo(ProductJpaEntity entity) {
+        return new OrderProductSnapshot.ProductInfo(
+                entity.getId(),
+                entity.getName(),
+                entity.getPrice(),
+                entity.getStock(),
+                Boolean.TRUE.equals(entity.getActive())
+        );
+    }
+
+    private void recordChange(Long productId) {
+        if (changeLog != null) {
+            changeLog.record(productId);
+        }
+    }
+}
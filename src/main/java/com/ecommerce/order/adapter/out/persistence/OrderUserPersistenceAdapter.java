@@ -0,0 +1,46 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import com.ecommerce.infrastructure.persistence.repository.SpringUserBalanceRepository;
+import com.ecommerce.order.domain.port.out.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 모듈의 사용자 Outbound Port 구현체
+ * 잔액 테이블(user_balances)을 주문 관점에서 조회/변경
+ */
+@Component
+public class OrderUserPersistenceAdapter implements UserRepository {
+
+    private final SpringUserBalanceRepository springRepository;
+
+    public OrderUserPersistenceAdapter(SpringUserBalanceRepository springRepository) {
+        this.springRepository = springRepository;
+    }
+
+    @Override
+    public boolean existsById(Long userId) {
+        return springRepository.existsByUserId(userId);
+    }
+
+    @Override
+    public BigDecimal getUserBalance(Long userId) {
+        return springRepository.findBalanceByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
+    }
+
+    /**
+     * MySQL 은 UPDATE ... RETURNING 을 지원하지 않으므로 같은 트랜잭션에서 변경된 잔액을 다시 읽는다.
+     * UPDATE 가 행 락을 잡은 상태이므로 읽은 값은 이번 변경이 반영된 잔액이다.
+     */
+    @Override
+    public Optional<BigDecimal> applyBalanceDelta(Long userId, BigDecimal delta) {
+        if (springRepository.applyDeltaIfSufficient(userId, delta, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return springRepository.findBalanceByUserId(userId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ecommerce.order.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity, Long> {
+}
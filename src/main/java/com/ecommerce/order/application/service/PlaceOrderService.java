@@ -2,15 +2,20 @@ package com.ecommerce.order.application.service;
 
 import com.ecommerce.order.application.dto.PlaceOrderCommand;
 import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.domain.exception.InsufficientBalanceException;
+import com.ecommerce.order.domain.exception.InsufficientStockException;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
 import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
 import com.ecommerce.order.domain.port.out.*;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 public class PlaceOrderService implements PlaceOrderUseCase {
 
@@ -18,15 +23,25 @@ public class PlaceOrderService implements PlaceOrderUseCase {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final EventPublisher eventPublisher;
+    private final StockDecrementMode stockDecrementMode;
 
     public PlaceOrderService(OrderRepository orderRepository,
                              UserRepository userRepository,
                              ProductRepository productRepository,
                              EventPublisher eventPublisher) {
+        this(orderRepository, userRepository, productRepository, eventPublisher, StockDecrementMode.LOCKING);
+    }
+
+    public PlaceOrderService(OrderRepository orderRepository,
+                             UserRepository userRepository,
+                             ProductRepository productRepository,
+                             EventPublisher eventPublisher,
+                             StockDecrementMode stockDecrementMode) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
         this.eventPublisher = eventPublisher;
+        this.stockDecrementMode = stockDecrementMode;
     }
 
     @Override
@@ -35,26 +50,30 @@ public class PlaceOrderService implements PlaceOrderUseCase {
         // 1. 사용자 검증
         validateUser(command.userId());
 
-        // 2. 상품 검증 및 정보 조회
-        List<Long> productIds = command.orderItems().stream()
-                .map(PlaceOrderCommand.OrderItemRequest::productId)
-                .toList();
+        // 2. 상품별 수량 병합 (상품 ID 오름차순 - 락 획득 순서를 고정하여 데드락 방지)
+        SortedMap<Long, Integer> quantities = mergeQuantities(command);
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
 
-        validateProducts(productIds);
-        Map<Long, String> productNames = productRepository.getProductNames(productIds);
-        Map<Long, BigDecimal> productPrices = productRepository.getProductPrices(productIds);
+        // 3. 상품 스냅샷 조회 (단일 IN 쿼리) 및 검증
+        OrderProductSnapshot snapshot = productRepository.getProductSnapshot(productIds);
+        validateProducts(productIds, snapshot);
 
-        // 3. 재고 검증
-        validateStock(command);
+        // 재고 검증 (조건부 차감 모드에서는 UPDATE 의 조건절이 검증을 대신함)
+        if (stockDecrementMode == StockDecrementMode.LOCKING) {
+            validateStock(quantities, snapshot);
+        }
 
         // 4. 주문 아이템 생성
         List<OrderItem> orderItems = command.orderItems().stream()
-                .map(item -> OrderItem.create(
-                        item.productId(),
-                        productNames.get(item.productId()),
-                        productPrices.get(item.productId()),
-                        item.quantity()
-                ))
+                .map(item -> {
+                    OrderProductSnapshot.ProductInfo product = snapshot.get(item.productId());
+                    return OrderItem.create(
+                            item.productId(),
+                            product.name(),
+                            product.price(),
+                            item.quantity()
+                    );
+                })
                 .toList();
 
         // 5. 주문 생성
@@ -63,8 +82,8 @@ public class PlaceOrderService implements PlaceOrderUseCase {
         // 6. 잔액 검증 및 차감
         processPayment(order);
 
-        // 7. 재고 차감
-        decreaseStock(command);
+        // 7. 재고 차감 (상품 ID 오름차순, 상품당 1회)
+        decreaseStock(quantities);
 
         // 8. 주문 저장
         Order savedOrder = orderRepository.save(order);
@@ -76,50 +95,69 @@ public class PlaceOrderService implements PlaceOrderUseCase {
         return OrderResult.from(savedOrder);
     }
 
+    private SortedMap<Long, Integer> mergeQuantities(PlaceOrderCommand command) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (PlaceOrderCommand.OrderItemRequest item : command.orderItems()) {
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     private void validateUser(Long userId) {
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId);
         }
     }
 
-    private void validateProducts(List<Long> productIds) {
+    private void validateProducts(List<Long> productIds, OrderProductSnapshot snapshot) {
         for (Long productId : productIds) {
-            if (!productRepository.existsById(productId)) {
+            if (!snapshot.contains(productId)) {
                 throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productId);
             }
+            if (!snapshot.get(productId).active()) {
+                throw new IllegalStateException("판매 중지된 상품입니다: " + productId);
+            }
         }
     }
 
-    private void validateStock(PlaceOrderCommand command) {
-        for (PlaceOrderCommand.OrderItemRequest item : command.orderItems()) {
-            int availableStock = productRepository.getProductStock(item.productId());
-            if (availableStock < item.quantity()) {
-                throw new IllegalStateException(
+    private void validateStock(SortedMap<Long, Integer> quantities, OrderProductSnapshot snapshot) {
+        quantities.forEach((productId, quantity) -> {
+            int availableStock = snapshot.get(productId).stock();
+            if (availableStock < quantity) {
+                throw new InsufficientStockException(
                         String.format("재고가 부족합니다. 상품ID: %d, 요청수량: %d, 재고: %d",
-                                item.productId(), item.quantity(), availableStock));
+                                productId, quantity, availableStock));
             }
-        }
+        });
     }
 
     private void processPayment(Order order) {
-        BigDecimal userBalance = userRepository.getUserBalance(order.getUserId());
         BigDecimal totalAmount = order.getTotalAmount();
 
-        if (userBalance.compareTo(totalAmount) < 0) {
-            throw new IllegalStateException("잔액이 부족합니다. 필요금액: " + totalAmount + ", 보유금액: " + userBalance);
+        // 잔액 검증 및 차감을 단일 조건부 UPDATE 로 처리 (읽은 값으로 덮어쓰지 않음)
+        if (userRepository.applyBalanceDelta(order.getUserId(), totalAmount.negate()).isEmpty()) {
+            BigDecimal userBalance = userRepository.getUserBalance(order.getUserId());
+            throw new InsufficientBalanceException("잔액이 부족합니다. 필요금액: " + totalAmount + ", 보유금액: " + userBalance);
         }
 
-        // 잔액 차감
-        BigDecimal newBalance = userBalance.subtract(totalAmount);
-        userRepository.updateBalance(order.getUserId(), newBalance);
-
         // 결제 완료 처리
         order.completePayment();
     }
 
-    private void decreaseStock(PlaceOrderCommand command) {
-        for (PlaceOrderCommand.OrderItemRequest item : command.orderItems()) {
-            productRepository.decreaseStock(item.productId(), item.quantity());
+    private void decreaseStock(SortedMap<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            if (stockDecrementMode == StockDecrementMode.CONDITIONAL) {
+                decreaseStockIfAvailable(productId, quantity);
+            } else {
+                productRepository.decreaseStock(productId, quantity);
+            }
+        });
+    }
+
+    private void decreaseStockIfAvailable(Long productId, int quantity) {
+        if (!productRepository.decreaseStockIfAvailable(productId, quantity)) {
+            throw new InsufficientStockException(
+                    String.format("재고가 부족합니다. 상품ID: %d, 요청수량: %d", productId, quantity));
         }
     }
 }
\ No newline at end of file
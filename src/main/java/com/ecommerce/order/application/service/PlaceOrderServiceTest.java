@@ -3,16 +3,18 @@ package com.ecommerce.order.application.service;
 import com.ecommerce.order.application.dto.PlaceOrderCommand;
 import com.ecommerce.order.application.dto.OrderResult;
 import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
 import com.ecommerce.order.domain.port.out.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -45,13 +47,10 @@ class PlaceOrderServiceTest {
         );
 
         given(userRepository.existsById(userId)).willReturn(true);
-        given(productRepository.existsById(productId)).willReturn(true);
-        given(productRepository.getProductNames(List.of(productId)))
-                .willReturn(Map.of(productId, "테스트 상품"));
-        given(productRepository.getProductPrices(List.of(productId)))
-                .willReturn(Map.of(productId, new BigDecimal("10000")));
-        given(productRepository.getProductStock(productId)).willReturn(10);
-        given(userRepository.getUserBalance(userId)).willReturn(new BigDecimal("50000"));
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(snapshotOf(productId, "테스트 상품", new BigDecimal("10000"), 10));
+        given(userRepository.applyBalanceDelta(userId, new BigDecimal("-20000")))
+                .willReturn(Optional.of(new BigDecimal("30000")));
         given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.assignId(1L);
@@ -66,7 +65,11 @@ class PlaceOrderServiceTest {
         assertThat(result.userId()).isEqualTo(userId);
         assertThat(result.totalAmount()).isEqualTo(new BigDecimal("20000"));
 
-        verify(userRepository).updateBalance(eq(userId), eq(new BigDecimal("30000")));
+        verify(userRepository).applyBalanceDelta(userId, new BigDecimal("-20000"));
+        verify(userRepository, never()).getUserBalance(any());
+        verify(productRepository).getProductSnapshot(List.of(productId));
+        verify(productRepository, never()).existsById(any());
+        verify(productRepository, never()).getProductStock(any());
         verify(productRepository).decreaseStock(productId, 2);
         verify(eventPublisher).publishOrderCreated(any(Order.class));
         verify(eventPublisher).publishPaymentCompleted(any(Order.class));
@@ -102,8 +105,8 @@ class PlaceOrderServiceTest {
         );
 
         given(userRepository.existsById(userId)).willReturn(true);
-        given(productRepository.existsById(productId)).willReturn(true);
-        given(productRepository.getProductStock(productId)).willReturn(5);
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(snapshotOf(productId, "테스트 상품", new BigDecimal("10000"), 5));
 
         // when & then
         assertThatThrownBy(() -> placeOrderService.placeOrder(command))
@@ -123,17 +126,133 @@ class PlaceOrderServiceTest {
         );
 
         given(userRepository.existsById(userId)).willReturn(true);
-        given(productRepository.existsById(productId)).willReturn(true);
-        given(productRepository.getProductNames(List.of(productId)))
-                .willReturn(Map.of(productId, "테스트 상품"));
-        given(productRepository.getProductPrices(List.of(productId)))
-                .willReturn(Map.of(productId, new BigDecimal("10000")));
-        given(productRepository.getProductStock(productId)).willReturn(10);
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(snapshotOf(productId, "테스트 상품", new BigDecimal("10000"), 10));
+        given(userRepository.applyBalanceDelta(userId, new BigDecimal("-20000"))).willReturn(Optional.empty());
         given(userRepository.getUserBalance(userId)).willReturn(new BigDecimal("5000"));
 
         // when & then
         assertThatThrownBy(() -> placeOrderService.placeOrder(command))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("잔액이 부족합니다");
+                .hasMessageContaining("잔액이 부족합니다")
+                .hasMessageContaining("보유금액: 5000");
+
+        verify(productRepository, never()).decreaseStock(any(), anyInt());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품으로 주문 시 예외가 발생한다")
+    void placeOrder_ShouldThrowException_WhenProductNotExists() {
+        // given
+        Long userId = 1L;
+        Long productId = 999L;
+        PlaceOrderCommand command = new PlaceOrderCommand(
+                userId,
+                List.of(new PlaceOrderCommand.OrderItemRequest(productId, 1))
+        );
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(OrderProductSnapshot.of(List.of()));
+
+        // when & then
+        assertThatThrownBy(() -> placeOrderService.placeOrder(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품입니다: " + productId);
+    }
+
+    @Test
+    @DisplayName("조건부 차감 모드에서는 재고 조회 검증 없이 UPDATE 결과로 재고 부족을 판단한다")
+    void placeOrder_ShouldThrowException_WhenConditionalDecrementAffectsNoRow() {
+        // given
+        Long userId = 1L;
+        Long productId = 1L;
+        PlaceOrderService conditionalService = new PlaceOrderService(
+                orderRepository, userRepository, productRepository, eventPublisher,
+                StockDecrementMode.CONDITIONAL);
+        PlaceOrderCommand command = new PlaceOrderCommand(
+                userId,
+                List.of(new PlaceOrderCommand.OrderItemRequest(productId, 10))
+        );
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(snapshotOf(productId, "테스트 상품", new BigDecimal("1000"), 0));
+        given(userRepository.applyBalanceDelta(eq(userId), any())).willReturn(Optional.of(new BigDecimal("40000")));
+        given(productRepository.decreaseStockIfAvailable(productId, 10)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> conditionalService.placeOrder(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        verify(productRepository, never()).decreaseStock(any(), anyInt());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 상품의 중복 라인은 병합하여 상품 ID 오름차순으로 한 번씩 차감한다")
+    void placeOrder_ShouldMergeDuplicateLinesAndDecreaseInIdOrder() {
+        // given
+        Long userId = 1L;
+        PlaceOrderCommand command = new PlaceOrderCommand(
+                userId,
+                List.of(
+                        new PlaceOrderCommand.OrderItemRequest(3L, 1),
+                        new PlaceOrderCommand.OrderItemRequest(1L, 2),
+                        new PlaceOrderCommand.OrderItemRequest(3L, 4)
+                )
+        );
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(productRepository.getProductSnapshot(List.of(1L, 3L)))
+                .willReturn(OrderProductSnapshot.of(List.of(
+                        new OrderProductSnapshot.ProductInfo(1L, "상품1", new BigDecimal("1000"), 10, true),
+                        new OrderProductSnapshot.ProductInfo(3L, "상품3", new BigDecimal("1000"), 5, true)
+                )));
+        given(userRepository.applyBalanceDelta(eq(userId), any())).willReturn(Optional.of(new BigDecimal("43000")));
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OrderResult result = placeOrderService.placeOrder(command);
+
+        // then
+        assertThat(result.orderItems()).hasSize(3);
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).getProductSnapshot(List.of(1L, 3L));
+        inOrder.verify(productRepository).decreaseStock(1L, 2);
+        inOrder.verify(productRepository).decreaseStock(3L, 5);
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("중복 라인의 합계 수량이 재고를 넘으면 예외가 발생한다")
+    void placeOrder_ShouldThrowException_WhenMergedQuantityExceedsStock() {
+        // given
+        Long userId = 1L;
+        Long productId = 1L;
+        PlaceOrderCommand command = new PlaceOrderCommand(
+                userId,
+                List.of(
+                        new PlaceOrderCommand.OrderItemRequest(productId, 3),
+                        new PlaceOrderCommand.OrderItemRequest(productId, 3)
+                )
+        );
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(productRepository.getProductSnapshot(List.of(productId)))
+                .willReturn(snapshotOf(productId, "테스트 상품", new BigDecimal("1000"), 5));
+
+        // when & then
+        assertThatThrownBy(() -> placeOrderService.placeOrder(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+    }
+
+    private OrderProductSnapshot snapshotOf(Long productId, String name, BigDecimal price, int stock) {
+        return OrderProductSnapshot.of(List.of(
+                new OrderProductSnapshot.ProductInfo(productId, name, price, stock, true)
+        ));
     }
 }
@@ -0,0 +1,11 @@
+package com.ecommerce.order.application.service;
+
+/**
+ * 주문 시 재고 차감 방식
+ */
+public enum StockDecrementMode {
+    // 스냅샷으로 재고 검증 후 SELECT ... FOR UPDATE 로 잠그고 차감
+    LOCKING,
+    // 별도 검증 없이 UPDATE ... WHERE stock >= ? 한 번으로 차감 (영향받은 행 0 = 재고 부족)
+    CONDITIONAL
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.adapter.out.persistence.GroupCommitOrderRepository;
+import com.ecommerce.order.adapter.out.persistence.GroupCommitOrderWriter;
+import com.ecommerce.order.adapter.out.persistence.OrderPersistenceAdapter;
+import com.ecommerce.order.domain.port.out.OrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 주문 그룹 커밋 저장 설정 (order.persistence.group-commit.enabled=true 일 때만 활성화)
+ */
+@Configuration
+@EnableConfigurationProperties(GroupCommitProperties.class)
+@ConditionalOnProperty(prefix = "order.persistence.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public GroupCommitOrderWriter groupCommitOrderWriter(GroupCommitProperties properties,
+                                                         DataSourceProperties dataSourceProperties) {
+        return new GroupCommitOrderWriter(
+                writerDataSource(dataSourceProperties, properties.writerConnections()),
+                properties.maxBatchSize(),
+                properties.maxWait(),
+                properties.queueCapacity()
+        );
+    }
+
+    @Bean
+    @Primary
+    public OrderRepository groupCommitOrderRepository(OrderPersistenceAdapter persistenceAdapter,
+                                                      GroupCommitOrderWriter groupCommitOrderWriter,
+                                                      GroupCommitProperties properties) {
+        return new GroupCommitOrderRepository(persistenceAdapter, groupCommitOrderWriter, properties.timeout());
+    }
+
+    /**
+     * writer 전용 커넥션 풀
+     * 호출자는 메인 풀 커넥션을 쥔 채 커밋 직전에 writer 를 기다리므로, 같은 풀을 쓰면 풀이 호출자로 가득 찼을 때 writer 가 커넥션을 얻지 못한다.
+     * DataSource 타입 빈으로 등록하면 기본 DataSource 자동 구성이 물러나므로 writer 가 직접 소유한다.
+     */
+    public static HikariDataSource writerDataSource(DataSourceProperties dataSourceProperties, int connections) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("order-group-commit");
+        dataSource.setMaximumPoolSize(connections);
+        dataSource.setMinimumIdle(connections);
+        // 주문/주문 항목 배치를 다중 행 INSERT 로 재작성
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        return dataSource;
+    }
+}
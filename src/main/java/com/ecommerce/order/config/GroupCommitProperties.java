@@ -0,0 +1,20 @@
+package com.ecommerce.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 그룹 커밋 저장 설정 (order.persistence.group-commit.*)
+ */
+@ConfigurationProperties(prefix = "order.persistence.group-commit")
+public record GroupCommitProperties(
+        boolean enabled,
+        @DefaultValue("50") int maxBatchSize,
+        @DefaultValue("500us") Duration maxWait,
+        @DefaultValue("4096") int queueCapacity,
+        @DefaultValue("5s") Duration timeout,
+        @DefaultValue("2") int writerConnections
+) {
+}
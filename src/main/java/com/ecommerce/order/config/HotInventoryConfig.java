@@ -0,0 +1,47 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.order.adapter.out.inventory.HotInventoryEngine;
+import com.ecommerce.order.adapter.out.inventory.HotInventoryProductRepository;
+import com.ecommerce.order.adapter.out.inventory.JdbcHotStockStore;
+import com.ecommerce.order.adapter.out.persistence.OrderProductPersistenceAdapter;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 핫 상품 재고 엔진 설정 (order.inventory.hot.enabled=true 일 때만 활성화)
+ */
+@Configuration
+@EnableConfigurationProperties(HotInventoryProperties.class)
+@ConditionalOnProperty(prefix = "order.inventory.hot", name = "enabled", havingValue = "true")
+public class HotInventoryConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public HotInventoryEngine hotInventoryEngine(HotInventoryProperties properties,
+                                                 JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ObjectProvider<ProductChangeLog> changeLog) {
+        HotInventoryEngine engine = new HotInventoryEngine(
+                new JdbcHotStockStore(jdbcTemplate, transactionManager, changeLog.getIfAvailable()),
+                new AppendOnlyJournal(properties.journalDirectory()),
+                properties.nodeId()
+        );
+        engine.start(properties.productIds(), properties.flushInterval());
+        return engine;
+    }
+
+    @Bean
+    @Primary
+    public ProductRepository hotInventoryProductRepository(OrderProductPersistenceAdapter persistenceAdapter,
+                                                           HotInventoryEngine hotInventoryEngine) {
+        return new HotInventoryProductRepository(persistenceAdapter, hotInventoryEngine);
+    }
+}
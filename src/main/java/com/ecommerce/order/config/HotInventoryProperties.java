@@ -0,0 +1,22 @@
+package com.ecommerce.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 핫 상품 재고 엔진 설정 (order.inventory.hot.*)
+ * nodeId 는 노드마다 고유해야 하며 기본값이 없다 (미지정 시 시작 실패).
+ */
+@ConfigurationProperties(prefix = "order.inventory.hot")
+public record HotInventoryProperties(
+        boolean enabled,
+        @DefaultValue Set<Long> productIds,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("data/inventory-journal") Path journalDirectory,
+        String nodeId
+) {
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.adapter.in.admission.AdmissionControlledPlaceOrderUseCase;
+import com.ecommerce.order.adapter.in.admission.OrderAdmissionGate;
+import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 주문 입장 제어 설정 (order.admission.enabled=false 로 비활성화)
+ */
+@Configuration
+@EnableConfigurationProperties(OrderAdmissionProperties.class)
+@ConditionalOnProperty(prefix = "order.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderAdmissionConfig {
+
+    @Bean
+    public OrderAdmissionGate orderAdmissionGate(OrderAdmissionProperties properties,
+                                                 DataSource dataSource,
+                                                 MeterRegistry meterRegistry) {
+        int maxInFlight = properties.maxInFlight() > 0
+                ? properties.maxInFlight()
+                : Math.max(1, poolSize(dataSource) - properties.reservedConnections());
+
+        return new OrderAdmissionGate(
+                maxInFlight,
+                properties.maxQueued(),
+                properties.maxWait(),
+                properties.retryAfter(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Primary
+    public PlaceOrderUseCase admissionControlledPlaceOrderUseCase(
+            @Qualifier("placeOrderUseCase") PlaceOrderUseCase placeOrderUseCase,
+            OrderAdmissionGate orderAdmissionGate) {
+        return new AdmissionControlledPlaceOrderUseCase(placeOrderUseCase, orderAdmissionGate);
+    }
+
+    private int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("커넥션 풀 크기를 확인할 수 없습니다.", e);
+        }
+        throw new IllegalStateException("HikariCP 가 아닌 데이터소스는 order.admission.max-in-flight 를 지정해야 합니다.");
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 입장 제어 설정 (order.admission.*)
+ * maxInFlight 가 0 이면 커넥션 풀 크기 - reservedConnections 를 사용한다.
+ * reservedConnections 는 주문 외 작업(멱등성 키 기록, 아웃박스 릴레이, 핫 재고 반영, 스냅샷, 일괄 지급 등)이 쓸 커넥션 수다.
+ */
+@ConfigurationProperties(prefix = "order.admission")
+public record OrderAdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0") int maxInFlight,
+        @DefaultValue("1") int reservedConnections,
+        @DefaultValue("16") int maxQueued,
+        @DefaultValue("500ms") Duration maxWait,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
@@ -1,8 +1,10 @@
 package com.ecommerce.order.config;
 
 import com.ecommerce.order.application.service.PlaceOrderService;
+import com.ecommerce.order.application.service.StockDecrementMode;
 import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
 import com.ecommerce.order.domain.port.out.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,13 +16,15 @@ public class OrderConfig {
             OrderRepository orderRepository,
             UserRepository userRepository,
             ProductRepository productRepository,
-            EventPublisher eventPublisher) {
+            EventPublisher eventPublisher,
+            @Value("${order.stock.decrement-mode:LOCKING}") StockDecrementMode stockDecrementMode) {
 
         return new PlaceOrderService(
                 orderRepository,
                 userRepository,
                 productRepository,
-                eventPublisher
+                eventPublisher,
+                stockDecrementMode
         );
     }
 }
@@ -0,0 +1,23 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.adapter.out.persistence.OrderIdGenerators;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 주문 저장 공통 설정
+ */
+@Configuration
+public class OrderPersistenceConfig {
+
+    /**
+     * 모든 싱글톤 생성 후(요청 수신 전) 주문/주문 항목 채번 행을 기존 최대 ID 뒤로 맞춘다
+     * (id_generators 테이블은 schema.sql 이 만든다)
+     */
+    @Bean
+    public SmartInitializingSingleton orderIdGeneratorSeeder(JdbcTemplate jdbcTemplate) {
+        return () -> OrderIdGenerators.seed(jdbcTemplate);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.adapter.out.event.LoggingOutboxEventSink;
+import com.ecommerce.order.adapter.out.event.OutboxEventSink;
+import com.ecommerce.order.adapter.out.event.OutboxRelay;
+import com.ecommerce.order.adapter.out.event.SpringDataOutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 이벤트 아웃박스 릴레이 설정 (order.outbox.relay-enabled=true 일 때만 활성화)
+ * 싱크는 order.outbox.sink 로 고른다 (기본 logging).
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "order.outbox", name = "relay-enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.outbox", name = "sink", havingValue = "logging", matchIfMissing = true)
+    public OutboxEventSink outboxEventSink() {
+        return new LoggingOutboxEventSink();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public OutboxRelay outboxRelay(OutboxProperties properties,
+                                   SpringDataOutboxEventRepository outboxRepository,
+                                   OutboxEventSink outboxEventSink,
+                                   PlatformTransactionManager transactionManager) {
+        return new OutboxRelay(
+                outboxRepository,
+                outboxEventSink,
+                new TransactionTemplate(transactionManager),
+                properties.batchSize(),
+                properties.pollInterval(),
+                properties.maxBackoff(),
+                properties.maxAttempts()
+        );
+    }
+}
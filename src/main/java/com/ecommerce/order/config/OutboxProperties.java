@@ -0,0 +1,20 @@
+package com.ecommerce.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 이벤트 아웃박스 설정 (order.outbox.*)
+ */
+@ConfigurationProperties(prefix = "order.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean relayEnabled,
+        @DefaultValue("logging") String sink,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5s") Duration maxBackoff,
+        @DefaultValue("10") int maxAttempts
+) {
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.order.domain.exception;
+
+/**
+ * 주문 금액보다 잔액이 부족하여 주문이 거절된 경우
+ */
+public class InsufficientBalanceException extends IllegalStateException {
+    public InsufficientBalanceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.order.domain.exception;
+
+/**
+ * 주문 수량보다 재고가 부족하여 주문이 거절된 경우
+ */
+public class InsufficientStockException extends IllegalStateException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
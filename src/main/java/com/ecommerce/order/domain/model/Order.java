@@ -63,8 +63,8 @@ public class Order {
         }
     }
 
-    // ID 할당 (패키지 프라이빗 - 영속성 어댑터만 접근 가능)
-    void assignId(Long id) {
+    // ID 할당 (영속성 어댑터 전용 - 저장 후 채번된 ID 반영)
+    public void assignId(Long id) {
         this.id = id;
     }
 
@@ -0,0 +1,58 @@
+package com.ecommerce.order.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 1건에 필요한 상품 정보 스냅샷 (불변)
+ * 한 번의 IN 쿼리로 조회한 결과를 담아 검증과 주문 아이템 생성을 메모리에서 수행한다.
+ */
+public class OrderProductSnapshot {
+
+    private final Map<Long, ProductInfo> products;
+
+    private OrderProductSnapshot(Map<Long, ProductInfo> products) {
+        this.products = products;
+    }
+
+    // 정적 팩토리 메서드
+    public static OrderProductSnapshot of(Collection<ProductInfo> products) {
+        Map<Long, ProductInfo> byId = products.stream()
+                .collect(Collectors.toUnmodifiableMap(ProductInfo::productId, Function.identity()));
+        return new OrderProductSnapshot(byId);
+    }
+
+    public boolean contains(Long productId) {
+        return products.containsKey(productId);
+    }
+
+    public ProductInfo get(Long productId) {
+        ProductInfo product = products.get(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productId);
+        }
+        return product;
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    /**
+     * 스냅샷 시점의 상품 정보
+     */
+    public record ProductInfo(
+            Long productId,
+            String name,
+            BigDecimal price,
+            int stock,
+            boolean active
+    ) {
+        public boolean hasStock(int quantity) {
+            return stock >= quantity;
+        }
+    }
+}
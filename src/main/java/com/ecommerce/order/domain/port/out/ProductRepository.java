@@ -1,5 +1,7 @@
 package com.ecommerce.order.domain.port.out;
 
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
+
 import java.math.BigDecimal;
 import java.util.Map;
 
@@ -9,7 +11,13 @@ public interface ProductRepository {
     BigDecimal getProductPrice(Long productId);
     int getProductStock(Long productId);
     void decreaseStock(Long productId, int quantity);
+
+    // 조건부 재고 차감 (재고가 충분할 때만 차감, 부족하면 false)
+    boolean decreaseStockIfAvailable(Long productId, int quantity);
+
     Map<Long, String> getProductNames(java.util.List<Long> productIds);
     Map<Long, BigDecimal> getProductPrices(java.util.List<Long> productIds);
-}
 
+    // 주문 검증용 상품 스냅샷 (존재 여부, 이름, 가격, 재고, 활성 여부를 단일 IN 쿼리로 조회)
+    OrderProductSnapshot getProductSnapshot(java.util.List<Long> productIds);
+}
@@ -1,9 +1,12 @@
 package com.ecommerce.order.domain.port.out;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 public interface UserRepository {
     boolean existsById(Long userId);
     BigDecimal getUserBalance(Long userId);
-    void updateBalance(Long userId, BigDecimal newBalance);
+
+    // 잔액에 부호 있는 변화량을 원자적으로 적용 (결과 잔액이 음수가 되면 적용하지 않고 empty)
+    Optional<BigDecimal> applyBalanceDelta(Long userId, BigDecimal delta);
 }
@@ -0,0 +1,262 @@
+package com.ecommerce.point.archive;
+
+import com.ecommerce.point.entity.PointTransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 매핑된 읽기 전용 아카이브 세그먼트
+ *
+ * 레이아웃 (big-endian):
+ * <pre>
+ * magic(4) rowCount(4) userCount(4) minCreatedAt(8) maxCreatedAt(8)
+ * typeCount(4) [len(4) utf8]...          타입 사전 (코드 = 순번)
+ * descriptionCount(4) [len(4) utf8]...   설명 사전 (코드 = 순번 + 1, 0 = null)
+ * [userId(8) firstRow(4) rowCount(4) idOff(4) createdAtOff(4) amountOff(4) balanceOff(4) descriptionOff(4)]...
+ * [len(4) bytes] x 6                     id, createdAt, type, amount, balanceAfter, description 컬럼
+ * </pre>
+ * 사용자 디렉터리는 userId 오름차순이므로 이진 탐색 후 해당 사용자 구간만 디코딩한다.
+ * 조회마다 버퍼를 duplicate 해서 읽으므로 여러 스레드가 동시에 읽어도 된다.
+ */
+public final class ArchiveSegment {
+
+    static final int DIRECTORY_ENTRY_BYTES = 8 + 4 * 7;
+
+    private final Path path;
+    private final long sizeBytes;
+    private final int rowCount;
+    private final int userCount;
+    private final LocalDateTime minCreatedAt;
+    private final LocalDateTime maxCreatedAt;
+    private final PointTransactionType[] types;
+    private final String[] descriptions;
+    private final ByteBuffer directory;
+    private final ByteBuffer ids;
+    private final ByteBuffer createdAts;
+    private final ByteBuffer typeCodes;
+    private final ByteBuffer amounts;
+    private final ByteBuffer balances;
+    private final ByteBuffer descriptionCodes;
+
+    private ArchiveSegment(Path path, MappedByteBuffer mapped) {
+        this.path = path;
+        this.sizeBytes = mapped.capacity();
+        if (mapped.getInt() != ArchiveSegmentWriter.MAGIC) {
+            throw new IllegalStateException("아카이브 세그먼트 형식이 아닙니다: " + path);
+        }
+        this.rowCount = mapped.getInt();
+        this.userCount = mapped.getInt();
+        this.minCreatedAt = ArchiveSegmentWriter.fromMicros(mapped.getLong());
+        this.maxCreatedAt = ArchiveSegmentWriter.fromMicros(mapped.getLong());
+
+        String[] typeNames = readStrings(mapped, 0);
+        this.types = new PointTransactionType[typeNames.length];
+        for (int i = 0; i < typeNames.length; i++) {
+            types[i] = PointTransactionType.valueOf(typeNames[i]);
+        }
+        this.descriptions = readStrings(mapped, 1);
+
+        this.directory = slice(mapped, userCount * DIRECTORY_ENTRY_BYTES);
+        this.ids = slice(mapped, mapped.getInt());
+        this.createdAts = slice(mapped, mapped.getInt());
+        this.typeCodes = slice(mapped, mapped.getInt());
+        this.amounts = slice(mapped, mapped.getInt());
+        this.balances = slice(mapped, mapped.getInt());
+        this.descriptionCodes = slice(mapped, mapped.getInt());
+    }
+
+    public static ArchiveSegment open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다
+            return new ArchiveSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 사용자의 [from, to] 구간 히스토리 조회 (createdAt, id 오름차순, null 경계는 제한 없음)
+     */
+    public List<ArchivedPointHistory> findByUser(long userId, LocalDateTime from, LocalDateTime to) {
+        if ((from != null && from.isAfter(maxCreatedAt)) || (to != null && to.isBefore(minCreatedAt))) {
+            return List.of();
+        }
+        int entry = findEntry(userId);
+        if (entry < 0) {
+            return List.of();
+        }
+        List<ArchivedPointHistory> result = new ArrayList<>();
+        new UserCursor(entry).forEach(history -> {
+            if ((from == null || !history.createdAt().isBefore(from))
+                    && (to == null || !history.createdAt().isAfter(to))) {
+                result.add(history);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 사용자의 (createdAt, id) 위치보다 앞선 히스토리 중 최근 limit 건 (최신순, null 위치는 제한 없음)
+     * 행이 오름차순 델타로 저장되어 있으므로 앞에서부터 디코딩하되, 위치에 닿으면 멈추고 최근 limit 건만 남긴다.
+     */
+    public List<ArchivedPointHistory> findLatestBefore(long userId, LocalDateTime createdAt, Long id, int limit) {
+        if (limit < 1 || (createdAt != null && createdAt.isBefore(minCreatedAt))) {
+            return List.of();
+        }
+        int entry = findEntry(userId);
+        if (entry < 0) {
+            return List.of();
+        }
+        ArrayDeque<ArchivedPointHistory> latest = new ArrayDeque<>(Math.min(limit, rowCount));
+        new UserCursor(entry).forEachWhile(history -> {
+            if (createdAt != null && (history.createdAt().isAfter(createdAt)
+                    || (history.createdAt().isEqual(createdAt) && history.id() >= id))) {
+                return false;
+            }
+            if (latest.size() == limit) {
+                latest.removeFirst();
+            }
+            latest.addLast(history);
+            return true;
+        });
+        List<ArchivedPointHistory> result = new ArrayList<>(latest);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 세그먼트의 전체 행을 (userId, createdAt, id) 순으로 순회
+     */
+    public void forEach(Consumer<ArchivedPointHistory> consumer) {
+        for (int entry = 0; entry < userCount; entry++) {
+            new UserCursor(entry).forEach(consumer);
+        }
+    }
+
+    public int countByUser(long userId) {
+        int entry = findEntry(userId);
+        return entry < 0 ? 0 : directory.getInt(entry * DIRECTORY_ENTRY_BYTES + 12);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long sizeBytes() {
+        return sizeBytes;
+    }
+
+    public LocalDateTime minCreatedAt() {
+        return minCreatedAt;
+    }
+
+    public LocalDateTime maxCreatedAt() {
+        return maxCreatedAt;
+    }
+
+    private int findEntry(long userId) {
+        int low = 0;
+        int high = userCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midUserId = directory.getLong(mid * DIRECTORY_ENTRY_BYTES);
+            if (midUserId < userId) {
+                low = mid + 1;
+            } else if (midUserId > userId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    // 설명 사전은 0 을 null 로 쓰므로 한 칸 밀어서 담는다
+    private static String[] readStrings(ByteBuffer buffer, int reserved) {
+        String[] strings = new String[buffer.getInt() + reserved];
+        for (int i = reserved; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    /**
+     * 사용자 한 명의 구간을 디코딩하는 커서 (컬럼마다 독립된 위치를 가짐)
+     */
+    private final class UserCursor {
+        private final long userId;
+        private final int firstRow;
+        private final int rows;
+        private final ByteBuffer idColumn;
+        private final ByteBuffer createdAtColumn;
+        private final ByteBuffer amountColumn;
+        private final ByteBuffer balanceColumn;
+        private final ByteBuffer descriptionColumn;
+
+        private UserCursor(int entry) {
+            int base = entry * DIRECTORY_ENTRY_BYTES;
+            this.userId = directory.getLong(base);
+            this.firstRow = directory.getInt(base + 8);
+            this.rows = directory.getInt(base + 12);
+            this.idColumn = ids.duplicate().position(directory.getInt(base + 16));
+            this.createdAtColumn = createdAts.duplicate().position(directory.getInt(base + 20));
+            this.amountColumn = amounts.duplicate().position(directory.getInt(base + 24));
+            this.balanceColumn = balances.duplicate().position(directory.getInt(base + 28));
+            this.descriptionColumn = descriptionCodes.duplicate().position(directory.getInt(base + 32));
+        }
+
+        private void forEach(Consumer<ArchivedPointHistory> consumer) {
+            forEachWhile(history -> {
+                consumer.accept(history);
+                return true;
+            });
+        }
+
+        // action 이 false 를 반환하면 남은 행은 디코딩하지 않는다
+        private void forEachWhile(Predicate<ArchivedPointHistory> action) {
+            long id = 0;
+            long createdAt = 0;
+            for (int row = 0; row < rows; row++) {
+                id += VarInts.readSignedVarLong(idColumn);
+                createdAt += VarInts.readSignedVarLong(createdAtColumn);
+                PointTransactionType type = types[typeCodes.get(firstRow + row) & 0xFF];
+                BigDecimal amount = BigDecimal.valueOf(VarInts.readSignedVarLong(amountColumn), ArchiveSegmentWriter.AMOUNT_SCALE);
+                long balance = VarInts.readVarLong(balanceColumn);
+                BigDecimal balanceAfter = balance == 0 ? null
+                        : BigDecimal.valueOf(VarInts.unZigZag(balance - 1), ArchiveSegmentWriter.AMOUNT_SCALE);
+                String description = descriptions[(int) VarInts.readVarLong(descriptionColumn)];
+                if (!action.test(new ArchivedPointHistory(id, userId, type, amount, balanceAfter, description,
+                        ArchiveSegmentWriter.fromMicros(createdAt)))) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.ecommerce.point.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 히스토리 컬럼형 세그먼트 파일 작성기
+ *
+ * 행을 (userId, createdAt, id) 순으로 정렬한 뒤 컬럼별로 인코딩한다.
+ * - userId: 컬럼 대신 사용자 디렉터리(userId, 시작 행, 행 수, 컬럼별 시작 오프셋)로 저장
+ * - id, createdAt(epoch micros): 사용자 구간마다 첫 값 기준 델타 + ZigZag varint
+ * - type: 사전(dictionary) 코드 1 바이트
+ * - amount, balanceAfter: 소수 둘째 자리 기준 정수 varint (balanceAfter 는 0 = null)
+ * - description: 사전 코드 varint (0 = null)
+ *
+ * 파일 레이아웃은 ArchiveSegment 참고.
+ */
+public final class ArchiveSegmentWriter {
+
+    static final int MAGIC = 0x50484331; // "PHC1"
+    static final int AMOUNT_SCALE = 2;
+
+    private static final Comparator<ArchivedPointHistory> SEGMENT_ORDER = Comparator
+            .comparing(ArchivedPointHistory::userId)
+            .thenComparing(ArchivedPointHistory::createdAt)
+            .thenComparing(ArchivedPointHistory::id);
+
+    private ArchiveSegmentWriter() {
+    }
+
+    /**
+     * 세그먼트 파일을 작성하고 디스크에 동기화, 파일 크기 반환
+     */
+    public static long write(Path target, List<ArchivedPointHistory> rows) {
+        return write(target, encode(rows));
+    }
+
+    /**
+     * 인코딩된 세그먼트를 파일로 작성하고 디스크에 동기화, 파일 크기 반환
+     */
+    public static long write(Path target, byte[] segment) {
+        ByteBuffer buffer = ByteBuffer.wrap(segment);
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 작성에 실패했습니다: " + target, e);
+        }
+        return segment.length;
+    }
+
+    /**
+     * 행을 세그먼트 바이트로 인코딩 (DB 보관본과 로컬 파일이 같은 바이트를 쓴다)
+     */
+    public static byte[] encode(List<ArchivedPointHistory> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("빈 세그먼트는 작성할 수 없습니다.");
+        }
+        List<ArchivedPointHistory> sorted = new ArrayList<>(rows);
+        sorted.sort(SEGMENT_ORDER);
+
+        Map<String, Integer> types = new LinkedHashMap<>();
+        Map<String, Integer> descriptions = new LinkedHashMap<>();
+        List<long[]> directory = new ArrayList<>();
+        VarInts.Column ids = new VarInts.Column();
+        VarInts.Column createdAts = new VarInts.Column();
+        VarInts.Column typeCodes = new VarInts.Column();
+        VarInts.Column amounts = new VarInts.Column();
+        VarInts.Column balances = new VarInts.Column();
+        VarInts.Column descriptionCodes = new VarInts.Column();
+
+        long minCreatedAt = Long.MAX_VALUE;
+        long maxCreatedAt = Long.MIN_VALUE;
+        Long currentUserId = null;
+        long[] currentEntry = null;
+        long previousId = 0;
+        long previousCreatedAt = 0;
+
+        for (int row = 0; row < sorted.size(); row++) {
+            ArchivedPointHistory history = sorted.get(row);
+            if (!history.userId().equals(currentUserId)) {
+                currentUserId = history.userId();
+                currentEntry = new long[]{currentUserId, row, 0,
+                        ids.size(), createdAts.size(), amounts.size(), balances.size(), descriptionCodes.size()};
+                directory.add(currentEntry);
+                previousId = 0;
+                previousCreatedAt = 0;
+            }
+            currentEntry[2]++;
+
+            long createdAt = toMicros(history.createdAt());
+            minCreatedAt = Math.min(minCreatedAt, createdAt);
+            maxCreatedAt = Math.max(maxCreatedAt, createdAt);
+
+            ids.writeSignedVarLong(history.id() - previousId);
+            createdAts.writeSignedVarLong(createdAt - previousCreatedAt);
+            previousId = history.id();
+            previousCreatedAt = createdAt;
+
+            int typeCode = types.computeIfAbsent(history.type().name(), name -> types.size());
+            if (typeCode > 0xFF) {
+                throw new IllegalStateException("타입 사전 크기가 1 바이트를 넘습니다: " + types.size());
+            }
+            typeCodes.writeByte(typeCode);
+            amounts.writeSignedVarLong(toUnscaled(history.amount()));
+            balances.writeVarLong(history.balanceAfter() == null ? 0 : VarInts.zigZag(toUnscaled(history.balanceAfter())) + 1);
+            descriptionCodes.writeVarLong(history.description() == null ? 0
+                    : descriptions.computeIfAbsent(history.description(), text -> descriptions.size() + 1));
+        }
+
+        List<byte[]> typeBytes = types.keySet().stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toList();
+        List<byte[]> descriptionBytes = descriptions.keySet().stream().map(text -> text.getBytes(StandardCharsets.UTF_8)).toList();
+        VarInts.Column[] columns = {ids, createdAts, typeCodes, amounts, balances, descriptionCodes};
+
+        int size = 4 + 4 + 4 + 8 + 8
+                + 4 + typeBytes.stream().mapToInt(bytes -> 4 + bytes.length).sum()
+                + 4 + descriptionBytes.stream().mapToInt(bytes -> 4 + bytes.length).sum()
+                + directory.size() * ArchiveSegment.DIRECTORY_ENTRY_BYTES;
+        for (VarInts.Column column : columns) {
+            size += 4 + column.size();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(sorted.size());
+        buffer.putInt(directory.size());
+        buffer.putLong(minCreatedAt);
+        buffer.putLong(maxCreatedAt);
+        putStrings(buffer, typeBytes);
+        putStrings(buffer, descriptionBytes);
+        for (long[] entry : directory) {
+            buffer.putLong(entry[0]);
+            for (int i = 1; i < entry.length; i++) {
+                buffer.putInt((int) entry[i]);
+            }
+        }
+        for (VarInts.Column column : columns) {
+            column.writeTo(buffer);
+        }
+        return buffer.array();
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long toUnscaled(BigDecimal value) {
+        return value.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    private static void putStrings(ByteBuffer buffer, List<byte[]> strings) {
+        buffer.putInt(strings.size());
+        for (byte[] bytes : strings) {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+}
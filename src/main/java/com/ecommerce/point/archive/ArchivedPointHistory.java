@@ -0,0 +1,29 @@
+package com.ecommerce.point.archive;
+
+import com.ecommerce.point.entity.PointHistory;
+import com.ecommerce.point.entity.PointTransactionType;
+import com.ecommerce.point.service.dto.PointHistoryView;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브 세그먼트에 저장된 포인트 히스토리 한 건
+ */
+public record ArchivedPointHistory(
+        Long id,
+        Long userId,
+        PointTransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+    public PointHistory toEntity() {
+        return PointHistory.restore(id, userId, type, amount, balanceAfter, description, createdAt);
+    }
+
+    public PointHistoryView toView() {
+        return new PointHistoryView(id, type, amount, balanceAfter, description, createdAt);
+    }
+}
@@ -0,0 +1,237 @@
+package com.ecommerce.point.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 히스토리 아카이브 세그먼트 모음 (DB 보관본의 노드 로컬 캐시)
+ *
+ * - 세그먼트의 원본은 point_history_archive_segments 이고, 로컬 파일({세그먼트 번호}.segment)은 조회용 메모리 매핑 캐시다.
+ *   sync 가 DB 에만 있는 세그먼트를 내려받으므로 어느 노드에서 아카이브했든 모든 노드가 같은 행을 본다.
+ * - 새 세그먼트는 stage -> (보관본 저장 + DB 삭제) -> commit 순으로 추가된다.
+ *   stage 된 세그먼트(.pending)도 바로 조회 대상에 포함되므로, DB 삭제 전후로 행이 사라지는 구간이 없다
+ *   (그 사이에는 같은 id 가 DB 와 아카이브에 모두 있을 수 있어 조회 측에서 id 로 중복을 제거한다).
+ * - 재시작 시 남은 .pending 은 지운다. 커밋된 것이었다면 sync 가 보관본에서 다시 받는다.
+ * - 보관본이 생기기 전의 로컬 전용 세그먼트(.seg)는 sync 가 보관본으로 올린 뒤 캐시 파일로 바꾼다.
+ */
+public class PointHistoryArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryArchive.class);
+    static final String SEGMENT_SUFFIX = ".segment";
+    static final String LEGACY_SUFFIX = ".seg";
+    static final String PENDING_SUFFIX = ".pending";
+
+    private static final Comparator<ArchivedPointHistory> CHRONOLOGICAL = Comparator
+            .comparing(ArchivedPointHistory::createdAt)
+            .thenComparing(ArchivedPointHistory::id);
+    private static final Comparator<ArchivedPointHistory> LATEST_FIRST = CHRONOLOGICAL.reversed();
+
+    private final Path directory;
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextPendingNumber = new AtomicLong();
+
+    public PointHistoryArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(SEGMENT_SUFFIX) || name.endsWith(LEGACY_SUFFIX)) {
+                        segments.add(ArchiveSegment.open(file));
+                    } else if (name.endsWith(PENDING_SUFFIX)) {
+                        log.info("재시작 전에 확정되지 않은 아카이브 세그먼트를 지웁니다. segment={}", file);
+                        Files.delete(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 인코딩된 세그먼트를 .pending 으로 작성하고 조회 대상에 포함
+     */
+    public ArchiveSegment stage(byte[] data) {
+        Path path = directory.resolve(String.format("%020d%s", nextPendingNumber.getAndIncrement(), PENDING_SUFFIX));
+        ArchiveSegmentWriter.write(path, data);
+        ArchiveSegment segment = ArchiveSegment.open(path);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * 보관본 저장과 DB 삭제가 커밋된 세그먼트를 확정 (.pending -> {세그먼트 번호}.segment)
+     */
+    public void commit(ArchiveSegment pending, long segmentId) {
+        try {
+            Files.move(pending.path(), segmentPath(segmentId), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트를 확정할 수 없습니다: " + pending.path(), e);
+        }
+        // 매핑은 파일 이름과 무관하므로 경로만 바뀐 세그먼트로 교체
+        segments.set(segments.indexOf(pending), ArchiveSegment.open(segmentPath(segmentId)));
+    }
+
+    /**
+     * DB 삭제에 실패한 세그먼트를 제거 (행은 DB 에 그대로 남아 있음)
+     */
+    public void discard(ArchiveSegment pending) {
+        segments.remove(pending);
+        deleteFile(pending.path());
+    }
+
+    /**
+     * 보관본과 로컬 캐시를 맞추고 내려받은 세그먼트 수를 반환
+     * 로컬 전용 세그먼트는 보관본으로 올리고, 로컬에 없는 보관본은 내려받는다.
+     */
+    public int sync(PointHistorySegmentStore store) {
+        for (ArchiveSegment legacy : List.copyOf(segments)) {
+            if (legacy.path().getFileName().toString().endsWith(LEGACY_SUFFIX)) {
+                upload(store, legacy);
+            }
+        }
+
+        Set<Long> cached = new HashSet<>();
+        for (ArchiveSegment segment : segments) {
+            String name = segment.path().getFileName().toString();
+            if (name.endsWith(SEGMENT_SUFFIX)) {
+                cached.add(segmentNumber(name));
+            }
+        }
+        int fetched = 0;
+        for (Long segmentId : store.findIds()) {
+            if (!cached.contains(segmentId)) {
+                cache(segmentId, store.load(segmentId));
+                fetched++;
+            }
+        }
+        return fetched;
+    }
+
+    /**
+     * 사용자의 [from, to] 구간 아카이브 히스토리 (createdAt, id 오름차순, null 경계는 제한 없음)
+     */
+    public List<ArchivedPointHistory> findByUser(Long userId, LocalDateTime from, LocalDateTime to) {
+        List<ArchivedPointHistory> result = new ArrayList<>();
+        for (ArchiveSegment segment : segments) {
+            result.addAll(segment.findByUser(userId, from, to));
+        }
+        result.sort(CHRONOLOGICAL);
+        return result;
+    }
+
+    /**
+     * 사용자의 (createdAt, id) 위치보다 앞선 히스토리 중 최근 limit 건 (최신순, null 위치는 제한 없음)
+     * 최근 세그먼트부터 읽고, limit 건을 채운 뒤 남은 세그먼트가 모두 그보다 오래되었으면 읽지 않는다.
+     */
+    public List<ArchivedPointHistory> findLatestBefore(Long userId, LocalDateTime createdAt, Long id, int limit) {
+        List<ArchiveSegment> latestFirst = new ArrayList<>(segments);
+        latestFirst.sort(Comparator.comparing(ArchiveSegment::maxCreatedAt).reversed());
+
+        List<ArchivedPointHistory> result = new ArrayList<>();
+        for (ArchiveSegment segment : latestFirst) {
+            if (result.size() >= limit && segment.maxCreatedAt().isBefore(result.get(result.size() - 1).createdAt())) {
+                break;
+            }
+            result.addAll(segment.findLatestBefore(userId, createdAt, id, limit));
+            result.sort(LATEST_FIRST);
+            if (result.size() > limit) {
+                result = new ArrayList<>(result.subList(0, limit));
+            }
+        }
+        return result;
+    }
+
+    public long countByUser(Long userId) {
+        return segments.stream().mapToLong(segment -> segment.countByUser(userId)).sum();
+    }
+
+    /**
+     * 아카이브된 히스토리 중 가장 최근 생성 시각 (비어 있으면 null)
+     * DB 조회 결과가 모두 이 시각보다 최근이면 최신순 조회에서 아카이브를 읽지 않아도 된다.
+     */
+    public LocalDateTime maxCreatedAt() {
+        return segments.stream().map(ArchiveSegment::maxCreatedAt).max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long rowCount() {
+        return segments.stream().mapToLong(ArchiveSegment::rowCount).sum();
+    }
+
+    public long sizeBytes() {
+        return segments.stream().mapToLong(ArchiveSegment::sizeBytes).sum();
+    }
+
+    private void upload(PointHistorySegmentStore store, ArchiveSegment legacy) {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(legacy.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트를 읽을 수 없습니다: " + legacy.path(), e);
+        }
+        long segmentId = store.insert(legacy, data);
+        // 캐시 파일을 먼저 추가해 옮기는 동안에도 행이 조회되게 한다
+        cache(segmentId, data);
+        segments.remove(legacy);
+        deleteFile(legacy.path());
+        log.info("로컬 전용 아카이브 세그먼트를 DB 보관본으로 옮겼습니다. segment={}, segmentId={}", legacy.path(), segmentId);
+    }
+
+    // 임시 파일에 쓴 뒤 이름을 바꿔, 중단되어도 반쯤 쓰인 캐시 파일이 남지 않게 한다
+    private void cache(long segmentId, byte[] data) {
+        Path temporary = directory.resolve(String.format("%020d%s", nextPendingNumber.getAndIncrement(), PENDING_SUFFIX));
+        ArchiveSegmentWriter.write(temporary, data);
+        try {
+            Files.move(temporary, segmentPath(segmentId), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteFile(temporary);
+            throw new UncheckedIOException("아카이브 세그먼트를 캐시할 수 없습니다: " + segmentId, e);
+        }
+        segments.add(ArchiveSegment.open(segmentPath(segmentId)));
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%020d%s", segmentId, SEGMENT_SUFFIX));
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트를 삭제할 수 없습니다: " + path, e);
+        }
+    }
+
+    private static long segmentNumber(String fileName) {
+        try {
+            return Long.parseLong(fileName.substring(0, fileName.indexOf('.')));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("아카이브 세그먼트 파일 이름이 올바르지 않습니다: " + fileName, e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.ecommerce.point.archive;
+
+import com.ecommerce.point.entity.PointTransactionType;
+import com.ecommerce.point.snapshot.DailySnapshotJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래된 포인트 히스토리를 아카이브 세그먼트로 옮기는 작업
+ *
+ * - ID 순으로 읽다가 maxAge 보다 최근 히스토리를 만나면 그 앞에서 멈춘다 (앞부분은 이미 옮겨져 삭제되었으므로 PK 앞쪽만 읽음).
+ * - 세그먼트를 먼저 디스크에 기록(stage)한 뒤, 한 트랜잭션에서 세그먼트 보관본을 저장하고 DB 행을 삭제한다.
+ *   삭제가 커밋되면 로컬 세그먼트를 확정한다. 보관본과 삭제가 함께 커밋되므로 노드 디스크를 잃어도 행은 남는다.
+ * - 다른 노드가 같은 행을 먼저 옮겼으면 삭제 건수가 모자라므로 트랜잭션을 롤백하고 세그먼트를 버린다.
+ * - 일일 스냅샷 집계가 켜져 있으면 아직 집계되지 않은 히스토리(워터마크 초과)는 옮기지 않는다.
+ * - 모든 노드가 syncInterval 마다 다른 노드가 옮긴 세그먼트를 내려받는다 (그 사이에는 다른 노드가 방금 옮긴 행이 잠시 빠져 보일 수 있다).
+ */
+public class PointHistoryArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryArchiver.class);
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final String SELECT_HISTORIES =
+            "SELECT id, user_id, type, amount, balance_after, description, created_at FROM point_histories " +
+                    "WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+    private static final String SELECT_SNAPSHOT_WATERMARK =
+            "SELECT COALESCE(MAX(last_history_id), 0) FROM point_snapshot_watermarks WHERE job_name = ?";
+
+    private final PointHistoryArchive archive;
+    private final PointHistorySegmentStore segmentStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final boolean respectSnapshotWatermark;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param respectSnapshotWatermark 일일 스냅샷 집계가 켜져 있으면 true (집계 전 히스토리를 옮기지 않음)
+     */
+    public PointHistoryArchiver(PointHistoryArchive archive,
+                                PointHistorySegmentStore segmentStore,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                Duration maxAge,
+                                int batchSize,
+                                boolean respectSnapshotWatermark) {
+        this.archive = archive;
+        this.segmentStore = segmentStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.respectSnapshotWatermark = respectSnapshotWatermark;
+    }
+
+    public void start(Duration interval, Duration syncInterval) {
+        archive.sync(segmentStore);
+        // 같은 스레드에서 실행되므로 내려받기와 옮기기가 겹치지 않는다
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncInterval.toMillis(), syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::runQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 옮길 수 있는 히스토리를 모두 아카이브하고 옮긴 행 수를 반환
+     */
+    public int runOnce() {
+        archive.sync(segmentStore);
+        int total = 0;
+        while (true) {
+            int archived = archiveBatch();
+            total += archived;
+            if (archived < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        long upperBound = respectSnapshotWatermark
+                ? jdbcTemplate.queryForObject(SELECT_SNAPSHOT_WATERMARK, Long.class, DailySnapshotJob.JOB_NAME)
+                : Long.MAX_VALUE;
+
+        List<ArchivedPointHistory> rows = new ArrayList<>();
+        boolean[] old = {true};
+        jdbcTemplate.query(SELECT_HISTORIES, rs -> {
+            LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+            if (!old[0] || !createdAt.isBefore(cutoff)) {
+                old[0] = false;
+                return;
+            }
+            rows.add(new ArchivedPointHistory(
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    PointTransactionType.valueOf(rs.getString("type")),
+                    rs.getBigDecimal("amount"),
+                    rs.getBigDecimal("balance_after"),
+                    rs.getString("description"),
+                    createdAt));
+        }, 0L, upperBound, batchSize);
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        byte[] data = ArchiveSegmentWriter.encode(rows);
+        ArchiveSegment segment = archive.stage(data);
+        List<Long> ids = rows.stream().map(ArchivedPointHistory::id).toList();
+        long segmentId;
+        try {
+            segmentId = transactionTemplate.execute(status -> {
+                long storedId = segmentStore.insert(segment, data);
+                int deleted = 0;
+                for (List<Long> chunk : chunks(ids)) {
+                    deleted += jdbcTemplate.update("DELETE FROM point_histories WHERE id IN (" + placeholders(chunk.size()) + ")",
+                            chunk.toArray());
+                }
+                if (deleted != ids.size()) {
+                    throw new IllegalStateException(String.format(
+                            "다른 노드가 먼저 아카이브한 히스토리가 있어 이번 세그먼트를 버립니다. expected=%d, deleted=%d",
+                            ids.size(), deleted));
+                }
+                return storedId;
+            });
+        } catch (RuntimeException e) {
+            archive.discard(segment);
+            throw e;
+        }
+        try {
+            archive.commit(segment, segmentId);
+        } catch (RuntimeException e) {
+            // 보관본은 커밋되었으므로 다음 sync 가 다시 내려받는다
+            archive.discard(segment);
+            throw e;
+        }
+        log.info("포인트 히스토리를 아카이브했습니다. rows={}, bytes={}, segmentId={}",
+                rows.size(), segment.sizeBytes(), segmentId);
+        return rows.size();
+    }
+
+    private void syncQuietly() {
+        try {
+            archive.sync(segmentStore);
+        } catch (RuntimeException e) {
+            log.error("아카이브 세그먼트 내려받기에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            runOnce();
+        } catch (RuntimeException e) {
+            log.error("포인트 히스토리 아카이브에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
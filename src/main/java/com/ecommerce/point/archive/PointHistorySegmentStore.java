@@ -0,0 +1,62 @@
+package com.ecommerce.point.archive;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 아카이브 세그먼트의 DB 보관본 (point_history_archive_segments)
+ *
+ * 세그먼트는 히스토리 행을 삭제하는 트랜잭션에서 함께 저장되므로, 삭제가 커밋되면 보관본도 반드시 남는다.
+ * 노드 로컬 파일은 이 보관본의 캐시이고, 세그먼트 번호는 이 테이블의 id 다.
+ */
+public class PointHistorySegmentStore {
+
+    private static final String INSERT_SEGMENT =
+            "INSERT INTO point_history_archive_segments (row_count, min_created_at, max_created_at, data, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_IDS =
+            "SELECT id FROM point_history_archive_segments ORDER BY id";
+    private static final String SELECT_DATA =
+            "SELECT data FROM point_history_archive_segments WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PointHistorySegmentStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 세그먼트를 저장하고 세그먼트 번호 반환 (호출한 트랜잭션과 함께 커밋/롤백된다)
+     */
+    public long insert(ArchiveSegment segment, byte[] data) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SEGMENT, Statement.RETURN_GENERATED_KEYS);
+            statement.setInt(1, segment.rowCount());
+            statement.setTimestamp(2, Timestamp.valueOf(segment.minCreatedAt()));
+            statement.setTimestamp(3, Timestamp.valueOf(segment.maxCreatedAt()));
+            statement.setBytes(4, data);
+            statement.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+            return statement;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("아카이브 세그먼트 번호를 받지 못했습니다.");
+        }
+        return key.longValue();
+    }
+
+    public List<Long> findIds() {
+        return jdbcTemplate.queryForList(SELECT_IDS, Long.class);
+    }
+
+    public byte[] load(long segmentId) {
+        return jdbcTemplate.queryForObject(SELECT_DATA, (rs, rowNum) -> rs.getBytes("data"), segmentId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.point.archive;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 아카이브 컬럼 인코딩용 가변 길이 정수 (LEB128 + ZigZag)
+ * 작은 절댓값일수록 적은 바이트를 사용하므로 델타/금액 컬럼에 사용한다.
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+
+    static long readSignedVarLong(ByteBuffer buffer) {
+        return unZigZag(readVarLong(buffer));
+    }
+
+    /**
+     * 컬럼 하나를 쌓는 확장 가능한 바이트 버퍼
+     */
+    static final class Column {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong(zigZag(value));
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(ByteBuffer target) {
+            target.putInt(size);
+            target.put(bytes, 0, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.point.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 일괄 지급 입력 형식
+ *
+ * - CSV: 한 줄에 "userId" 또는 "userId,amount" (첫 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뜀)
+ * - NDJSON: 한 줄에 {"userId": 1, "amount": 1000} (amount 생략 가능)
+ */
+public enum BulkChargeFormat {
+    CSV,
+    NDJSON;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static BulkChargeFormat of(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 입력 형식입니다 (text/csv, application/x-ndjson): " + contentType);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.point.bulk;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 지급 작업 상태 (작업 스레드가 갱신하고 조회 요청이 스냅샷을 읽는다)
+ */
+public class BulkChargeJob {
+
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final List<String> rejections = new ArrayList<>();
+
+    private Status status = Status.QUEUED;
+    private long startedNanos;
+    private long finishedNanos;
+    private long linesRead;
+    private long appliedRows;
+    private long rejectedRows;
+    private long committedChunks;
+    private long lastCommittedLine;
+    private LocalDateTime finishedAt;
+    private String failure;
+
+    BulkChargeJob(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    synchronized void start() {
+        status = Status.RUNNING;
+        startedNanos = System.nanoTime();
+    }
+
+    synchronized void read(BulkChargeReader.Line line) {
+        linesRead++;
+        if (line.error() != null) {
+            rejectedRows++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(line.number() + ": " + line.error());
+            }
+        }
+    }
+
+    synchronized void committed(int rows, long lastLine) {
+        appliedRows += rows;
+        committedChunks++;
+        lastCommittedLine = lastLine;
+    }
+
+    synchronized void complete(long lastLine) {
+        lastCommittedLine = Math.max(lastCommittedLine, lastLine);
+        finish(Status.COMPLETED, null);
+    }
+
+    synchronized void fail(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    private void finish(Status finalStatus, String message) {
+        status = finalStatus;
+        failure = message;
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public synchronized BulkChargeProgress progress() {
+        double usersPerSecond = 0;
+        if (status != Status.QUEUED) {
+            long elapsed = (isFinished() ? finishedNanos : System.nanoTime()) - startedNanos;
+            usersPerSecond = elapsed > 0 ? appliedRows * 1_000_000_000.0 / elapsed : 0;
+        }
+        return new BulkChargeProgress(id, status, linesRead, appliedRows, rejectedRows, committedChunks,
+                lastCommittedLine, usersPerSecond, submittedAt, finishedAt, List.copyOf(rejections), failure);
+    }
+}
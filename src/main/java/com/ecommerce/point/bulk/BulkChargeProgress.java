@@ -0,0 +1,26 @@
+package com.ecommerce.point.bulk;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 지급 진행 상황
+ * @param lastCommittedLine 반영이 끝난 마지막 줄 번호 (실패 시 fromLine=lastCommittedLine+1 로 다시 요청하면 이어서 처리)
+ * @param usersPerSecond 지급 건 기준 처리 속도
+ * @param rejections 거절된 줄 (앞에서부터 최대 BulkChargeJob.MAX_REPORTED_REJECTIONS 건)
+ */
+public record BulkChargeProgress(
+        String jobId,
+        BulkChargeJob.Status status,
+        long linesRead,
+        long appliedRows,
+        long rejectedRows,
+        long committedChunks,
+        long lastCommittedLine,
+        double usersPerSecond,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt,
+        List<String> rejections,
+        String failure
+) {
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.point.bulk;
+
+import com.ecommerce.point.entity.UserBalance;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * 일괄 지급 입력을 한 줄씩 읽는 리더 (입력 전체를 메모리에 올리지 않는다)
+ * 형식이 잘못되었거나 금액 한도를 벗어난 줄은 예외 대신 거절 사유와 함께 돌려준다.
+ */
+public class BulkChargeReader {
+
+    private final BufferedReader reader;
+    private final BulkChargeFormat format;
+    private final BigDecimal defaultAmount;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    /**
+     * @param defaultAmount 줄에 금액이 없을 때 지급할 금액 (null 이면 금액이 없는 줄은 거절)
+     */
+    public BulkChargeReader(BufferedReader reader, BulkChargeFormat format, BigDecimal defaultAmount, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.defaultAmount = defaultAmount;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 줄 (빈 줄과 CSV 헤더는 건너뜀, 입력 끝이면 null)
+     */
+    public Line next() {
+        while (true) {
+            String text;
+            try {
+                text = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("일괄 지급 입력을 읽지 못했습니다.", e);
+            }
+            if (text == null) {
+                return null;
+            }
+            lineNumber++;
+            text = text.strip();
+            if (text.isEmpty() || (format == BulkChargeFormat.CSV && lineNumber == 1 && !Character.isDigit(text.charAt(0)))) {
+                continue;
+            }
+            try {
+                BulkChargeRow row = format == BulkChargeFormat.CSV ? parseCsv(text) : parseNdjson(text);
+                UserBalance.validateChargeAmount(row.amount());
+                return new Line(lineNumber, row, null);
+            } catch (RuntimeException e) {
+                return new Line(lineNumber, null, e.getMessage());
+            }
+        }
+    }
+
+    private BulkChargeRow parseCsv(String text) {
+        int comma = text.indexOf(',');
+        String userId = comma < 0 ? text : text.substring(0, comma).strip();
+        String amount = comma < 0 ? "" : text.substring(comma + 1).strip();
+        return row(parseUserId(userId), amount.isEmpty() ? null : parseAmount(amount));
+    }
+
+    private BulkChargeRow parseNdjson(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+        JsonNode userId = node.get("userId");
+        if (userId == null || !userId.canConvertToExactIntegral() || !userId.canConvertToLong()) {
+            throw new IllegalArgumentException("userId 가 올바르지 않습니다.");
+        }
+        JsonNode amount = node.get("amount");
+        if (amount == null || amount.isNull()) {
+            return row(userId.longValue(), null);
+        }
+        return row(userId.longValue(), amount.isNumber() ? amount.decimalValue() : parseAmount(amount.asText()));
+    }
+
+    private BulkChargeRow row(long userId, BigDecimal amount) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("userId 가 올바르지 않습니다: " + userId);
+        }
+        BigDecimal resolved = amount != null ? amount : defaultAmount;
+        if (resolved == null) {
+            throw new IllegalArgumentException("충전 금액이 없습니다.");
+        }
+        return new BulkChargeRow(lineNumber, userId, resolved);
+    }
+
+    private static long parseUserId(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("userId 가 올바르지 않습니다: " + text);
+        }
+    }
+
+    private static BigDecimal parseAmount(String text) {
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("충전 금액이 올바르지 않습니다: " + text);
+        }
+    }
+
+    /**
+     * 읽은 한 줄 (row 와 error 중 하나만 존재)
+     */
+    public record Line(long number, BulkChargeRow row, String error) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.point.bulk;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 지급 한 건 (입력의 한 줄)
+ * @param line 입력 파일의 줄 번호 (1부터)
+ */
+public record BulkChargeRow(long line, long userId, BigDecimal amount) {
+}
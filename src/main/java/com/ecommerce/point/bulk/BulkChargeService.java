@@ -0,0 +1,273 @@
+package com.ecommerce.point.bulk;
+
+import com.ecommerce.point.cache.BalanceCache;
+import com.ecommerce.point.entity.UserBalance;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 일괄 지급 (캠페인 등 수십만~수백만 명에게 같은 금액 지급)
+ *
+ * - 요청 본문(CSV/NDJSON)은 스풀 파일로 내려받은 뒤 바로 응답하고, 단일 작업 스레드가 순서대로 처리한다.
+ * - 입력을 chunkSize 줄씩 끊어 사용자 ID 순으로 정렬한 뒤 한 트랜잭션으로 반영한다 (사용자별 락/트랜잭션 없음).
+ * - 청크는 입력 순서대로 커밋되므로 실패해도 lastCommittedLine 이후부터 다시 요청하면 이어서 처리된다.
+ * - 잘못된 줄은 건너뛰고 거절 사유를 진행 상황에 남긴다.
+ * - 작업 상태는 메모리에만 있으므로, 같은 요청의 재전송으로 다시 지급하지 않으려면 API 의 Idempotency-Key 로 막는다
+ *   (PointBulkChargeController 가 본문 지문을 요청 지문에 넣어 IdempotencyGuard 로 실행).
+ */
+public class BulkChargeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkChargeService.class);
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final BulkChargeStore store;
+    private final BalanceCache balanceCache;
+    private final ObjectMapper objectMapper;
+    private final Path spoolDirectory;
+    private final int chunkSize;
+    private final Cache<String, BulkChargeJob> jobs;
+    private final ExecutorService executor;
+
+    /**
+     * @param balanceCache 잔액 조회 캐시 (없으면 null, 있으면 청크 커밋 후 지급 대상 사용자를 무효화)
+     */
+    public BulkChargeService(BulkChargeStore store,
+                             @Nullable BalanceCache balanceCache,
+                             ObjectMapper objectMapper,
+                             Path spoolDirectory,
+                             int chunkSize,
+                             Duration jobRetention) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.store = store;
+        this.balanceCache = balanceCache;
+        this.objectMapper = objectMapper;
+        this.spoolDirectory = spoolDirectory;
+        this.chunkSize = chunkSize;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(jobRetention)
+                .build();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-bulk-charge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스풀 파일로 내려받은 요청 본문
+     * @param sha256 본문 지문 (같은 멱등성 키로 다른 입력을 보냈는지 확인)
+     */
+    public record SpooledBody(Path path, String sha256) {
+    }
+
+    /**
+     * 일괄 지급 요청 접수 (본문을 스풀 파일로 모두 받은 뒤 반환)
+     * @param defaultAmount 금액이 없는 줄에 지급할 금액 (null 이면 모든 줄에 금액이 있어야 함)
+     * @param fromLine 이 줄 번호부터 처리 (이전 작업이 실패한 경우 lastCommittedLine + 1)
+     */
+    public BulkChargeProgress submit(InputStream body,
+                                     BulkChargeFormat format,
+                                     @Nullable BigDecimal defaultAmount,
+                                     String description,
+                                     long fromLine) {
+        validate(defaultAmount, fromLine);
+        return submit(spool(body), format, defaultAmount, description, fromLine);
+    }
+
+    /**
+     * 먼저 내려받은 본문으로 일괄 지급 요청 접수 (스풀 파일은 작업이 끝나면 지운다)
+     */
+    public BulkChargeProgress submit(SpooledBody body,
+                                     BulkChargeFormat format,
+                                     @Nullable BigDecimal defaultAmount,
+                                     String description,
+                                     long fromLine) {
+        try {
+            validate(defaultAmount, fromLine);
+        } catch (RuntimeException e) {
+            discard(body);
+            throw e;
+        }
+
+        BulkChargeJob job = new BulkChargeJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, body.path(), format, defaultAmount, description, fromLine));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            discard(body);
+            throw new IllegalStateException("일괄 지급 작업을 접수할 수 없습니다 (종료 중).", e);
+        }
+        return job.progress();
+    }
+
+    /**
+     * 요청 본문을 스풀 파일로 내려받으며 지문 계산
+     */
+    public SpooledBody spool(InputStream body) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("일괄 지급 입력 지문 계산에 실패했습니다.", e);
+        }
+        try {
+            Files.createDirectories(spoolDirectory);
+            Path spool = Files.createTempFile(spoolDirectory, "bulk-charge-", ".spool");
+            try {
+                Files.copy(new DigestInputStream(body, digest), spool, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                delete(spool);
+                throw e;
+            }
+            return new SpooledBody(spool, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("일괄 지급 입력을 저장하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 접수하지 않은 스풀 파일 삭제
+     */
+    public void discard(SpooledBody body) {
+        delete(body.path());
+    }
+
+    public Optional<BulkChargeProgress> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(BulkChargeJob::progress);
+    }
+
+    /**
+     * 대기 중인 작업을 버리고 진행 중인 작업은 현재 청크까지만 반영하고 종료
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void validate(@Nullable BigDecimal defaultAmount, long fromLine) {
+        if (fromLine < 1) {
+            throw new IllegalArgumentException("시작 줄 번호는 1 이상이어야 합니다: " + fromLine);
+        }
+        if (defaultAmount != null) {
+            try {
+                UserBalance.validateChargeAmount(defaultAmount);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void run(BulkChargeJob job, Path spool, BulkChargeFormat format, BigDecimal defaultAmount,
+                     String description, long fromLine) {
+        job.start();
+        try (BufferedReader input = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            BulkChargeReader reader = new BulkChargeReader(input, format, defaultAmount, objectMapper);
+            List<BulkChargeRow> chunk = new ArrayList<>(chunkSize);
+            long lastLine = fromLine - 1;
+            BulkChargeReader.Line line;
+            while ((line = reader.next()) != null) {
+                if (line.number() < fromLine) {
+                    continue;
+                }
+                job.read(line);
+                if (line.row() != null) {
+                    chunk.add(line.row());
+                }
+                lastLine = line.number();
+                if (chunk.size() == chunkSize) {
+                    commit(job, chunk, lastLine, description);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commit(job, chunk, lastLine, description);
+            }
+            job.complete(lastLine);
+            BulkChargeProgress progress = job.progress();
+            log.info("포인트 일괄 지급 완료. job={}, applied={}, rejected={}, usersPerSecond={}",
+                    job.getId(), progress.appliedRows(), progress.rejectedRows(), (long) progress.usersPerSecond());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("서버 종료로 중단되었습니다.");
+        } catch (Exception e) {
+            log.error("포인트 일괄 지급에 실패했습니다. job={}, progress={}", job.getId(), job.progress(), e);
+            job.fail(e.getMessage());
+        } finally {
+            delete(spool);
+        }
+    }
+
+    private void commit(BulkChargeJob job, List<BulkChargeRow> chunk, long lastLine, String description)
+            throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        // 안정 정렬이라 같은 사용자의 지급 건은 입력 순서를 유지한다
+        List<BulkChargeRow> sorted = new ArrayList<>(chunk);
+        sorted.sort(Comparator.comparingLong(BulkChargeRow::userId));
+        LocalDateTime chargedAt = LocalDateTime.now();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                store.apply(sorted, description, chargedAt);
+                break;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("일괄 지급 청크가 락 경합으로 롤백되어 재시도합니다. job={}, attempt={}", job.getId(), attempt);
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            }
+        }
+        job.committed(sorted.size(), lastLine);
+        if (balanceCache != null) {
+            balanceCache.evictAllAfterCommit(sorted.stream().map(BulkChargeRow::userId).distinct().toList());
+        }
+    }
+
+    private static void delete(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("일괄 지급 스풀 파일을 삭제하지 못했습니다: {}", spool, e);
+        }
+    }
+}
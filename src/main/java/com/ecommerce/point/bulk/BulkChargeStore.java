@@ -0,0 +1,16 @@
+package com.ecommerce.point.bulk;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 지급 저장소
+ */
+public interface BulkChargeStore {
+
+    /**
+     * 한 청크를 한 트랜잭션으로 반영 (잔액 가산 + 지급 히스토리 기록)
+     * @param rows 사용자 ID 순으로 정렬된 지급 건 (같은 사용자가 여러 번 나오면 입력 순서대로 적용)
+     */
+    void apply(List<BulkChargeRow> rows, String description, LocalDateTime chargedAt);
+}
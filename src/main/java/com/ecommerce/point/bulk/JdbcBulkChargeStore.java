@@ -0,0 +1,106 @@
+package com.ecommerce.point.bulk;
+
+import com.ecommerce.point.entity.PointTransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 기반 일괄 지급 저장소
+ *
+ * 사용자별 합계를 INSERT ... ON DUPLICATE KEY UPDATE 로 가산하고(잔액이 없으면 생성),
+ * 같은 트랜잭션에서 가산된 잔액을 다시 읽어 히스토리의 balance_after 를 계산한 뒤 배치 INSERT 한다.
+ * rewriteBatchedStatements 설정으로 두 배치 모두 multi-row 문장으로 전송되고,
+ * 행 락은 사용자 ID 순서로 잡아 동시에 실행되는 충전/사용과의 교착 가능성을 줄인다.
+ */
+public class JdbcBulkChargeStore implements BulkChargeStore {
+
+    private static final String UPSERT_BALANCE =
+            "INSERT INTO user_balances (user_id, balance, created_at, updated_at, version) VALUES (?, ?, ?, ?, 0) " +
+                    "ON DUPLICATE KEY UPDATE balance = balance + VALUES(balance), updated_at = VALUES(updated_at), version = version + 1";
+    private static final String SELECT_BALANCES =
+            "SELECT user_id, balance FROM user_balances WHERE user_id IN (%s)";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO point_histories (user_id, type, amount, balance_after, description, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcBulkChargeStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void apply(List<BulkChargeRow> rows, String description, LocalDateTime chargedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        List<BigDecimal> totals = new ArrayList<>();
+        for (BulkChargeRow row : rows) {
+            int last = userIds.size() - 1;
+            if (last >= 0 && userIds.get(last) == row.userId()) {
+                totals.set(last, totals.get(last).add(row.amount()));
+            } else {
+                userIds.add(row.userId());
+                totals.add(row.amount());
+            }
+        }
+        Timestamp timestamp = Timestamp.valueOf(chargedAt);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPSERT_BALANCE, indices(userIds.size()), userIds.size(), (ps, i) -> {
+                ps.setLong(1, userIds.get(i));
+                ps.setBigDecimal(2, totals.get(i));
+                ps.setTimestamp(3, timestamp);
+                ps.setTimestamp(4, timestamp);
+            });
+
+            Map<Long, BigDecimal> balances = new HashMap<>(userIds.size() * 2);
+            String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+            jdbcTemplate.query(SELECT_BALANCES.formatted(placeholders),
+                    rs -> { balances.put(rs.getLong(1), rs.getBigDecimal(2)); },
+                    userIds.toArray());
+
+            // 같은 사용자의 지급 건은 입력 순서대로 적용된 것으로 보고, 최종 잔액에서 거꾸로 빼며 balance_after 를 채운다
+            BigDecimal[] balanceAfter = new BigDecimal[rows.size()];
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                Long userId = rows.get(i).userId();
+                BigDecimal balance = balances.get(userId);
+                if (balance == null) {
+                    throw new IllegalStateException("지급 후 잔액을 찾을 수 없습니다: " + userId);
+                }
+                balanceAfter[i] = balance;
+                balances.put(userId, balance.subtract(rows.get(i).amount()));
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, indices(rows.size()), rows.size(), (ps, i) -> {
+                BulkChargeRow row = rows.get(i);
+                ps.setLong(1, row.userId());
+                ps.setString(2, PointTransactionType.CHARGE.name());
+                ps.setBigDecimal(3, row.amount());
+                ps.setBigDecimal(4, balanceAfter[i]);
+                ps.setString(5, description);
+                ps.setTimestamp(6, timestamp);
+            });
+        });
+    }
+
+    private static List<Integer> indices(int size) {
+        List<Integer> indices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indices.add(i);
+        }
+        return indices;
+    }
+}
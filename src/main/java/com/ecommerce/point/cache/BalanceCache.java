@@ -0,0 +1,99 @@
+package com.ecommerce.point.cache;
+
+import com.ecommerce.point.entity.UserBalance;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 사용자 잔액 read-through 캐시 (크기 제한 + TTL)
+ *
+ * - 변경은 트랜잭션 커밋 이후에만 반영하므로 커밋되지 않은 잔액은 조회되지 않는다.
+ * - afterCommit 순서가 커밋 순서와 다를 수 있으므로 버전이 더 큰 값만 덮어쓴다.
+ * - 포인트 모듈을 거치지 않는 잔액 변경(주문 결제 등)은 TTL 이 지나야 반영된다.
+ *
+ * 적중률(cache.gets), 축출 수(cache.evictions), 로딩 시간(cache.load.duration)은 name=point.balance 태그로 노출된다.
+ */
+public class BalanceCache {
+
+    public static final String CACHE_NAME = "point.balance";
+    private static final long ABSENT_VERSION = -1L;
+
+    private final Cache<Long, CachedBalance> cache;
+
+    public BalanceCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어 적재 (같은 사용자에 대한 동시 로딩은 한 번만 수행)
+     */
+    public BigDecimal get(Long userId, Function<Long, UserBalance> loader) {
+        return cache.get(userId, id -> {
+            UserBalance userBalance = loader.apply(id);
+            return userBalance == null
+                    ? new CachedBalance(BigDecimal.ZERO, ABSENT_VERSION)
+                    : CachedBalance.of(userBalance);
+        }).balance();
+    }
+
+    /**
+     * 커밋된 잔액으로 캐시 갱신 (트랜잭션 안이면 커밋 이후, 롤백되면 반영하지 않음)
+     * 버전은 커밋 시점 flush 이후 값을 사용해야 하므로 afterCommit 에서 엔티티로부터 읽는다.
+     */
+    public void putAfterCommit(UserBalance userBalance) {
+        runAfterCommit(() -> put(userBalance.getUserId(), CachedBalance.of(userBalance)));
+    }
+
+    /**
+     * 커밋 이후 캐시 무효화 (버전을 알 수 없는 경로에서 변경된 경우)
+     */
+    public void evictAfterCommit(Long userId) {
+        runAfterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 커밋 이후 여러 사용자 캐시 무효화 (일괄 지급 등)
+     */
+    public void evictAllAfterCommit(Collection<Long> userIds) {
+        runAfterCommit(() -> cache.invalidateAll(userIds));
+    }
+
+    private void put(Long userId, CachedBalance balance) {
+        cache.asMap().merge(userId, balance,
+                (cached, updated) -> updated.version() > cached.version() ? updated : cached);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CachedBalance(BigDecimal balance, long version) {
+        static CachedBalance of(UserBalance userBalance) {
+            Long version = userBalance.getVersion();
+            return new CachedBalance(userBalance.getBalance(), version != null ? version : 0L);
+        }
+    }
+}
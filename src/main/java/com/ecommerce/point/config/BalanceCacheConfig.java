@@ -0,0 +1,22 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.point.cache.BalanceCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잔액 조회 캐시 설정 (point.balance-cache.enabled=true 일 때만 활성화)
+ */
+@Configuration
+@EnableConfigurationProperties(BalanceCacheProperties.class)
+@ConditionalOnProperty(prefix = "point.balance-cache", name = "enabled", havingValue = "true")
+public class BalanceCacheConfig {
+
+    @Bean
+    public BalanceCache balanceCache(BalanceCacheProperties properties, MeterRegistry meterRegistry) {
+        return new BalanceCache(properties.maximumSize(), properties.timeToLive(), meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액 조회 캐시 설정 (point.balance-cache.*)
+ */
+@ConfigurationProperties(prefix = "point.balance-cache")
+public record BalanceCacheProperties(
+        boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("5s") Duration timeToLive
+) {
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.point.history.PointHistoryAppender;
+import com.ecommerce.point.ledger.BalanceLedgerEngine;
+import com.ecommerce.point.ledger.JdbcBalanceLedgerStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 샤딩된 잔액 원장 설정 (point.ledger.enabled=true 일 때만 활성화)
+ * 활성화되면 호출자 트랜잭션 없이 들어온 PointService 의 충전/사용이 원장 엔진으로 처리된다.
+ */
+@Configuration
+@EnableConfigurationProperties(BalanceLedgerProperties.class)
+@ConditionalOnProperty(prefix = "point.ledger", name = "enabled", havingValue = "true")
+public class BalanceLedgerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public BalanceLedgerEngine balanceLedgerEngine(BalanceLedgerProperties properties,
+                                                   JdbcTemplate jdbcTemplate,
+                                                   PlatformTransactionManager transactionManager,
+                                                   ObjectProvider<PointHistoryAppender> pointHistoryAppender) {
+        return new BalanceLedgerEngine(
+                new JdbcBalanceLedgerStore(jdbcTemplate, transactionManager, pointHistoryAppender.getIfAvailable()),
+                properties.shards(),
+                properties.queueCapacity(),
+                properties.maxBatchSize(),
+                properties.maxCachedAccounts(),
+                properties.timeout()
+        );
+    }
+}
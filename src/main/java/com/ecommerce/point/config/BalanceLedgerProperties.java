@@ -0,0 +1,20 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 샤딩된 잔액 원장 설정 (point.ledger.*)
+ */
+@ConfigurationProperties(prefix = "point.ledger")
+public record BalanceLedgerProperties(
+        boolean enabled,
+        @DefaultValue("8") int shards,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("10000") int maxCachedAccounts,
+        @DefaultValue("5s") Duration timeout
+) {
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.point.archive.PointHistoryArchive;
+import com.ecommerce.point.archive.PointHistoryArchiver;
+import com.ecommerce.point.archive.PointHistorySegmentStore;
+import com.ecommerce.point.snapshot.DailySnapshotJob;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * 포인트 히스토리 아카이브 설정 (point.archive.enabled=true 일 때만 활성화)
+ * 세그먼트 원본은 DB(point_history_archive_segments)에 두고, 각 노드는 sync-interval 마다 로컬 캐시로 내려받아 조회한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointArchiveProperties.class)
+@ConditionalOnProperty(prefix = "point.archive", name = "enabled", havingValue = "true")
+public class PointArchiveConfig {
+
+    @Bean
+    public PointHistoryArchive pointHistoryArchive(PointArchiveProperties properties) {
+        return new PointHistoryArchive(Path.of(properties.directory()));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public PointHistoryArchiver pointHistoryArchiver(PointArchiveProperties properties,
+                                                     PointHistoryArchive archive,
+                                                     JdbcTemplate jdbcTemplate,
+                                                     PlatformTransactionManager transactionManager,
+                                                     ObjectProvider<DailySnapshotJob> dailySnapshotJob) {
+        PointHistoryArchiver archiver = new PointHistoryArchiver(archive, new PointHistorySegmentStore(jdbcTemplate),
+                jdbcTemplate, transactionManager, properties.maxAge(), properties.batchSize(),
+                dailySnapshotJob.getIfAvailable() != null);
+        archiver.start(properties.interval(), properties.syncInterval());
+        return archiver;
+    }
+}
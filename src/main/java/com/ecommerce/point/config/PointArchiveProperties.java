@@ -0,0 +1,20 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 히스토리 아카이브 설정 (point.archive.*)
+ */
+@ConfigurationProperties(prefix = "point.archive")
+public record PointArchiveProperties(
+        boolean enabled,
+        @DefaultValue("data/point-archive") String directory,
+        @DefaultValue("365d") Duration maxAge,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("10s") Duration syncInterval,
+        @DefaultValue("100000") int batchSize
+) {
+}
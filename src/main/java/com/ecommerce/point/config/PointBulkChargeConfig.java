@@ -0,0 +1,39 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.point.bulk.BulkChargeService;
+import com.ecommerce.point.bulk.JdbcBulkChargeStore;
+import com.ecommerce.point.cache.BalanceCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * 포인트 일괄 지급 설정 (point.bulk-charge.enabled=true 일 때만 활성화, 비활성화되면 일괄 지급 API 도 없다)
+ */
+@Configuration
+@EnableConfigurationProperties(PointBulkChargeProperties.class)
+@ConditionalOnProperty(prefix = "point.bulk-charge", name = "enabled", havingValue = "true")
+public class PointBulkChargeConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public BulkChargeService bulkChargeService(PointBulkChargeProperties properties,
+                                               JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager,
+                                               ObjectProvider<BalanceCache> balanceCache,
+                                               ObjectMapper objectMapper) {
+        return new BulkChargeService(
+                new JdbcBulkChargeStore(jdbcTemplate, transactionManager),
+                balanceCache.getIfAvailable(),
+                objectMapper,
+                Path.of(properties.spoolDirectory()),
+                properties.chunkSize(),
+                properties.jobRetention());
+    }
+}
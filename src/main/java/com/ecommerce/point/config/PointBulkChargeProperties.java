@@ -0,0 +1,18 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 일괄 지급 설정 (point.bulk-charge.*)
+ */
+@ConfigurationProperties(prefix = "point.bulk-charge")
+public record PointBulkChargeProperties(
+        boolean enabled,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("data/point-bulk-charge") String spoolDirectory,
+        @DefaultValue("1d") Duration jobRetention
+) {
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import com.ecommerce.point.history.JdbcPointHistoryStore;
+import com.ecommerce.point.history.PointHistoryAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 포인트 히스토리 비동기 기록기 설정 (point.history.appender.enabled=true 일 때만 활성화)
+ * 활성화되면 PointService 가 히스토리를 잔액 트랜잭션 커밋 직전 저널에 남기고 배치로 기록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointHistoryProperties.class)
+@ConditionalOnProperty(prefix = "point.history.appender", name = "enabled", havingValue = "true")
+public class PointHistoryConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public PointHistoryAppender pointHistoryAppender(PointHistoryProperties properties,
+                                                     JdbcTemplate jdbcTemplate,
+                                                     PlatformTransactionManager transactionManager,
+                                                     ObjectMapper objectMapper) {
+        return new PointHistoryAppender(
+                new JdbcPointHistoryStore(jdbcTemplate, transactionManager),
+                new AppendOnlyJournal(properties.journalDirectory()),
+                objectMapper,
+                properties.nodeId(),
+                properties.bufferCapacity(),
+                properties.maxBatchSize(),
+                properties.maxWait()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 히스토리 비동기 기록기 설정 (point.history.appender.*)
+ * nodeId 는 체크포인트 키이므로 노드마다 고유해야 한다 (기본값 없음, 활성화 시 필수)
+ */
+@ConfigurationProperties(prefix = "point.history.appender")
+public record PointHistoryProperties(
+        boolean enabled,
+        @DefaultValue("8192") int bufferCapacity,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("20ms") Duration maxWait,
+        @DefaultValue("data/point-history-journal") Path journalDirectory,
+        String nodeId
+) {
+}
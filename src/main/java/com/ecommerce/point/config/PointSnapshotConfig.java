@@ -0,0 +1,29 @@
+package com.ecommerce.point.config;
+
+import com.ecommerce.point.snapshot.DailySnapshotJob;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 포인트 일일 스냅샷 집계 설정 (point.snapshot.enabled=true 일 때만 활성화)
+ * 비활성화되어도 명세서 조회는 워터마크 이후의 히스토리를 직접 읽으므로 결과는 같고 느려질 뿐이다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "point.snapshot", name = "enabled", havingValue = "true")
+public class PointSnapshotConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public DailySnapshotJob dailySnapshotJob(PointSnapshotProperties properties,
+                                             JdbcTemplate jdbcTemplate,
+                                             PlatformTransactionManager transactionManager) {
+        DailySnapshotJob job = new DailySnapshotJob(
+                jdbcTemplate, transactionManager, properties.batchSize(), properties.gapTimeout());
+        job.start(properties.interval());
+        return job;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 일일 스냅샷 집계 설정 (point.snapshot.*)
+ * gapTimeout 은 비어 있는 히스토리 ID 가 채워지기를 기다리는 최대 시간 (지나면 롤백된 ID 로 본다)
+ */
+@ConfigurationProperties(prefix = "point.snapshot")
+public record PointSnapshotProperties(
+        boolean enabled,
+        @DefaultValue("1m") Duration interval,
+        @DefaultValue("5000") int batchSize,
+        @DefaultValue("2m") Duration gapTimeout
+) {
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.point.controller;
+
+import com.ecommerce.infrastructure.idempotency.IdempotencyGuard;
+import com.ecommerce.point.bulk.BulkChargeFormat;
+import com.ecommerce.point.bulk.BulkChargeProgress;
+import com.ecommerce.point.bulk.BulkChargeService;
+import com.ecommerce.point.controller.dto.BulkChargeRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/points/bulk-charge")
+@ConditionalOnProperty(prefix = "point.bulk-charge", name = "enabled", havingValue = "true")
+public class PointBulkChargeController {
+
+    private final BulkChargeService bulkChargeService;
+    private final IdempotencyGuard idempotencyGuard; // idempotency.enabled=true 일 때만 존재
+
+    public PointBulkChargeController(BulkChargeService bulkChargeService,
+                                     ObjectProvider<IdempotencyGuard> idempotencyGuard) {
+        this.bulkChargeService = bulkChargeService;
+        this.idempotencyGuard = idempotencyGuard.getIfAvailable();
+    }
+
+    /**
+     * 포인트 일괄 지급 API (본문: text/csv 또는 application/x-ndjson)
+     * 본문을 모두 받으면 202 로 응답하고, 진행 상황은 Location 의 작업 조회 API 로 확인한다.
+     * Idempotency-Key 헤더가 있으면 같은 키로 같은 본문을 다시 보낸 요청에 처음 작업의 응답을 돌려준다 (다시 지급하지 않음).
+     * 실패한 작업을 fromLine 으로 이어서 처리할 때는 새 키를 사용한다.
+     * @param amount 금액이 없는 줄에 지급할 금액
+     * @param fromLine 이 줄 번호부터 처리 (실패한 작업을 이어서 처리할 때 lastCommittedLine + 1)
+     */
+    @PostMapping(consumes = {BulkChargeFormat.CSV_VALUE, BulkChargeFormat.NDJSON_VALUE})
+    public ResponseEntity<BulkChargeProgress> submit(@RequestHeader(name = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
+                                                     @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                     @RequestParam(required = false) BigDecimal amount,
+                                                     @RequestParam(defaultValue = "포인트 일괄 지급") String description,
+                                                     @RequestParam(defaultValue = "1") long fromLine,
+                                                     InputStream body) {
+        BulkChargeFormat format = BulkChargeFormat.of(contentType);
+        if (idempotencyGuard == null) {
+            return accepted(bulkChargeService.submit(body, format, amount, description, fromLine));
+        }
+
+        // 같은 키로 다른 본문을 보냈는지 알 수 있도록 본문 지문을 요청 지문에 넣는다
+        BulkChargeService.SpooledBody spooled = bulkChargeService.spool(body);
+        BulkChargeRequest request = new BulkChargeRequest(format, amount, description, fromLine, spooled.sha256());
+        boolean[] submitted = {false};
+        try {
+            return idempotencyGuard.execute("point-bulk-charge", idempotencyKey, request, BulkChargeProgress.class, () -> {
+                submitted[0] = true;
+                return accepted(bulkChargeService.submit(spooled, format, amount, description, fromLine));
+            });
+        } finally {
+            // 저장된 응답을 돌려주거나 충돌로 거절한 요청의 본문은 쓰이지 않는다
+            if (!submitted[0]) {
+                bulkChargeService.discard(spooled);
+            }
+        }
+    }
+
+    private static ResponseEntity<BulkChargeProgress> accepted(BulkChargeProgress progress) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/points/bulk-charge/" + progress.jobId()))
+                .body(progress);
+    }
+
+    /**
+     * 일괄 지급 진행 상황 조회 API
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkChargeProgress> getProgress(@PathVariable String jobId) {
+        return bulkChargeService.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
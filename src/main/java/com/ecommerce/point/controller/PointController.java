@@ -1,32 +1,63 @@
 package com.ecommerce.point.controller;
+import com.ecommerce.infrastructure.idempotency.IdempotencyGuard;
 import com.ecommerce.point.controller.dto.BalanceResponse;
 import com.ecommerce.point.controller.dto.ChargePointRequest;
+import com.ecommerce.point.controller.dto.PointHistoryPageResponse;
 import com.ecommerce.point.controller.dto.PointResponse;
 import com.ecommerce.point.entity.UserBalance;
+import com.ecommerce.point.ledger.BalanceLedgerPendingException;
 import com.ecommerce.point.service.PointService;
+import com.ecommerce.point.service.PointStatementService;
+import com.ecommerce.point.service.dto.PointHistorySlice;
+import com.ecommerce.point.service.dto.PointStatement;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/points")
 public class PointController {
 
     private final PointService pointService;
+    private final PointStatementService pointStatementService;
+    private final IdempotencyGuard idempotencyGuard; // idempotency.enabled=true 일 때만 존재
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService,
+                           PointStatementService pointStatementService,
+                           ObjectProvider<IdempotencyGuard> idempotencyGuard) {
         this.pointService = pointService;
+        this.pointStatementService = pointStatementService;
+        this.idempotencyGuard = idempotencyGuard.getIfAvailable();
     }
 
     /**
      * 포인트 충전 API
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 응답을 그대로 돌려준다 (잔액을 다시 변경하지 않음).
+     * 잔액 원장 대기 시간을 넘기면 202 로 응답한다 (요청은 이후 반영될 수 있으므로 실패로 응답하지 않음).
      */
     @PostMapping("/charge")
-    public ResponseEntity<PointResponse> chargePoint(@RequestBody @Valid ChargePointRequest request) {
-        UserBalance userBalance = pointService.chargePoint(request.toCommand());
+    public ResponseEntity<PointResponse> chargePoint(@RequestHeader(name = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
+                                                     @RequestBody @Valid ChargePointRequest request) {
+        if (idempotencyGuard == null) {
+            return charge(request);
+        }
+        return idempotencyGuard.execute("point-charge", idempotencyKey, request, PointResponse.class,
+                () -> charge(request));
+    }
+
+    private ResponseEntity<PointResponse> charge(ChargePointRequest request) {
+        UserBalance userBalance;
+        try {
+            userBalance = pointService.chargePoint(request.toCommand());
+        } catch (BalanceLedgerPendingException e) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(PointResponse.pending(request.userId()));
+        }
         PointResponse response = PointResponse.from(userBalance);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -42,11 +73,24 @@ public class PointController {
     }
 
     /**
-     * 포인트 히스토리 조회 API (선택사항)
+     * 포인트 히스토리 조회 API (최신순, 커서 기반 페이지네이션)
+     * 응답의 nextCursor 를 cursor 파라미터로 전달하면 다음 페이지를 조회한다.
      */
     @GetMapping("/history/{userId}")
-    public ResponseEntity<?> getPointHistory(@PathVariable Long userId) {
-        var history = pointService.getPointHistory(userId);
-        return ResponseEntity.ok(history);
+    public ResponseEntity<PointHistoryPageResponse> getPointHistory(@PathVariable Long userId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        PointHistorySlice slice = pointService.getPointHistory(userId, cursor, size);
+        return ResponseEntity.ok(PointHistoryPageResponse.of(userId, slice));
+    }
+
+    /**
+     * 기간별 포인트 명세서 API (일일 스냅샷 + 미반영 히스토리)
+     */
+    @GetMapping("/statement/{userId}")
+    public ResponseEntity<PointStatement> getStatement(@PathVariable Long userId,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(pointStatementService.getStatement(userId, from, to));
     }
-}
\ No newline at end of file
+}
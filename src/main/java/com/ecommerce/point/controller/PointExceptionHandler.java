@@ -0,0 +1,34 @@
+package com.ecommerce.point.controller;
+
+import com.ecommerce.infrastructure.idempotency.IdempotencyConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice(assignableTypes = {PointController.class, PointBulkChargeController.class})
+public class PointExceptionHandler {
+
+    /**
+     * 잘못된 요청 값 (유효하지 않은 커서, 조회 크기 범위 초과 등) 은 400 으로 응답
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("code", "INVALID_REQUEST", "message", e.getMessage()));
+    }
+
+    /**
+     * 멱등성 키 충돌 - 처리 중이면 409, 다른 요청 본문에 재사용했으면 422
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyConflict(IdempotencyConflictException e) {
+        HttpStatus status = e.getReason() == IdempotencyConflictException.Reason.IN_PROGRESS
+                ? HttpStatus.CONFLICT
+                : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status)
+                .body(Map.of("code", e.getReason().name(), "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.point.controller.dto;
+
+import com.ecommerce.point.bulk.BulkChargeFormat;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 지급 요청 지문 (같은 멱등성 키로 같은 요청을 다시 보냈는지 확인할 때 사용)
+ * @param bodySha256 스풀 파일로 내려받은 본문의 SHA-256
+ */
+public record BulkChargeRequest(
+        BulkChargeFormat format,
+        BigDecimal amount,
+        String description,
+        long fromLine,
+        String bodySha256
+) {
+}
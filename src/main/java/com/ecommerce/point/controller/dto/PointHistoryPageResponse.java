@@ -0,0 +1,16 @@
+package com.ecommerce.point.controller.dto;
+import com.ecommerce.point.service.dto.PointHistorySlice;
+import com.ecommerce.point.service.dto.PointHistoryView;
+
+import java.util.List;
+
+public record PointHistoryPageResponse(
+        Long userId,
+        List<PointHistoryView> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static PointHistoryPageResponse of(Long userId, PointHistorySlice slice) {
+        return new PointHistoryPageResponse(userId, slice.items(), slice.nextCursor(), slice.hasNext());
+    }
+}
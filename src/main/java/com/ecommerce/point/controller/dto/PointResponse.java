@@ -16,4 +16,9 @@ public record PointResponse(
                 userBalance.getUpdatedAt()
         );
     }
+
+    // 접수되었지만 반영 결과를 아직 알 수 없는 요청 (잔액 원장 대기 시간 초과)
+    public static PointResponse pending(Long userId) {
+        return new PointResponse(userId, null, null);
+    }
 }
\ No newline at end of file
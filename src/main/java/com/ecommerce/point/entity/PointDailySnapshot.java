@@ -0,0 +1,62 @@
+package com.ecommerce.point.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 잔액 스냅샷 (point_histories 를 DailySnapshotJob 이 증분 집계)
+ * 시작/마감 잔액은 그날 가장 작은/큰 히스토리 ID 기준이며, 합계는 반영된 히스토리만 포함한다.
+ */
+@Entity
+@Table(name = "point_daily_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_daily_snapshot_user_date", columnNames = {"user_id", "snapshot_date"})
+})
+public class PointDailySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalCharged;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalUsed;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private Long firstHistoryId;
+
+    @Column(nullable = false)
+    private Long lastHistoryId;
+
+    // 기본 생성자
+    protected PointDailySnapshot() {}
+
+    // Getter 메서드들
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public LocalDate getSnapshotDate() { return snapshotDate; }
+    public BigDecimal getOpeningBalance() { return openingBalance; }
+    public BigDecimal getClosingBalance() { return closingBalance; }
+    public BigDecimal getTotalCharged() { return totalCharged; }
+    public BigDecimal getTotalUsed() { return totalUsed; }
+    public Long getTransactionCount() { return transactionCount; }
+    public Long getFirstHistoryId() { return firstHistoryId; }
+    public Long getLastHistoryId() { return lastHistoryId; }
+}
@@ -5,7 +5,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_histories")
+// (user_id, created_at, id) 인덱스로 사용자별 최신순 keyset 조회를 정렬 없이 범위 탐색
+@Table(name = "point_histories", indexes = {
+        @Index(name = "idx_point_history_user_created", columnList = "user_id, created_at, id")
+})
 public class PointHistory {
 
     @Id
@@ -55,6 +58,15 @@ public class PointHistory {
         return new PointHistory(userId, PointTransactionType.USE, amount, balanceAfter, description);
     }
 
+    // 아카이브에서 복원한 읽기 전용 히스토리 (영속성 컨텍스트에 속하지 않으므로 저장하면 안 됨)
+    public static PointHistory restore(Long id, Long userId, PointTransactionType type, BigDecimal amount,
+                                       BigDecimal balanceAfter, String description, LocalDateTime createdAt) {
+        PointHistory history = new PointHistory(userId, type, amount, balanceAfter, description);
+        history.id = id;
+        history.createdAt = createdAt;
+        return history;
+    }
+
     // Getter 메서드들
     public Long getId() { return id; }
     public Long getUserId() { return userId; }
@@ -64,19 +76,3 @@ public class PointHistory {
     public String getDescription() { return description; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 }
-
-// 포인트 거래 타입 열거형
-enum PointTransactionType {
-    CHARGE("충전"),
-    USE("사용");
-
-    private final String description;
-
-    PointTransactionType(String description) {
-        this.description = description;
-    }
-
-    public String getDescription() {
-        return description;
-    }
-}
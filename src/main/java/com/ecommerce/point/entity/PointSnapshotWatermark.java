@@ -0,0 +1,24 @@
+package com.ecommerce.point.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 일일 스냅샷 집계 워터마크 - 스냅샷에 반영이 끝난 마지막 히스토리 ID (DailySnapshotJob 이 갱신)
+ */
+@Entity
+@Table(name = "point_snapshot_watermarks")
+public class PointSnapshotWatermark {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private Long lastHistoryId;
+
+    // 기본 생성자
+    protected PointSnapshotWatermark() {}
+
+    public String getJobName() { return jobName; }
+    public Long getLastHistoryId() { return lastHistoryId; }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.point.entity;
+
+// 포인트 거래 타입 열거형
+public enum PointTransactionType {
+    CHARGE("충전"),
+    USE("사용");
+
+    private final String description;
+
+    PointTransactionType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -47,6 +47,14 @@ public class UserBalance {
         return new UserBalance(userId, initialBalance);
     }
 
+    // 잔액 원장의 반영 결과로 만든 읽기 전용 잔액 (영속성 컨텍스트에 속하지 않으므로 저장하면 안 됨)
+    public static UserBalance restore(Long userId, BigDecimal balance, Long version, LocalDateTime updatedAt) {
+        UserBalance userBalance = new UserBalance(userId, balance);
+        userBalance.version = version;
+        userBalance.updatedAt = updatedAt;
+        return userBalance;
+    }
+
     // 비즈니스 로직 - 포인트 충전
     public void charge(BigDecimal amount) {
         validateChargeAmount(amount);
@@ -64,8 +72,8 @@ public class UserBalance {
         this.updatedAt = LocalDateTime.now();
     }
 
-    // 검증 로직
-    private void validateChargeAmount(BigDecimal amount) {
+    // 검증 로직 (일괄 지급에서도 같은 한도를 적용)
+    public static void validateChargeAmount(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidAmountException("충전 금액은 0보다 커야 합니다.");
         }
@@ -0,0 +1,54 @@
+package com.ecommerce.point.history;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC 기반 포인트 히스토리 저장소
+ * rewriteBatchedStatements 설정으로 배치가 multi-row INSERT 한 문장으로 전송된다.
+ */
+public class JdbcPointHistoryStore implements PointHistoryStore {
+
+    private static final String INSERT_HISTORY =
+            "INSERT INTO point_histories (user_id, type, amount, balance_after, description, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_CHECKPOINT =
+            "SELECT last_sequence FROM point_history_checkpoints WHERE node_id = ?";
+    private static final String UPSERT_CHECKPOINT =
+            "INSERT INTO point_history_checkpoints (node_id, last_sequence) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE last_sequence = VALUES(last_sequence)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcPointHistoryStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public long loadCheckpoint(String nodeId) {
+        List<Long> sequences = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, nodeId);
+        return sequences.isEmpty() ? 0L : sequences.get(0);
+    }
+
+    @Override
+    public void append(List<PointHistoryRecord> records, String nodeId, long journalSequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!records.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_HISTORY, records, records.size(), (ps, record) -> {
+                    ps.setLong(1, record.userId());
+                    ps.setString(2, record.type().name());
+                    ps.setBigDecimal(3, record.amount());
+                    ps.setBigDecimal(4, record.balanceAfter());
+                    ps.setString(5, record.description());
+                    ps.setTimestamp(6, Timestamp.valueOf(record.createdAt()));
+                });
+            }
+            jdbcTemplate.update(UPSERT_CHECKPOINT, nodeId, journalSequence);
+        });
+    }
+}
@@ -0,0 +1,385 @@
+package com.ecommerce.point.history;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import com.ecommerce.point.entity.PointHistory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리 비동기 배치 기록기
+ *
+ * - 잔액 트랜잭션 커밋 직전(beforeCommit)에 히스토리를 로컬 저널에 기록(fsync)하므로,
+ *   저널 기록에 실패하면 잔액 변경도 롤백되고 커밋된 잔액 변경의 히스토리는 장애가 나도 저널에 남는다.
+ * - 커밋 직전에 기록한 뒤 롤백되면 취소 레코드를 저널에 남겨 재시작 시에도 반영하지 않는다.
+ * - 백그라운드 워커는 커밋/롤백이 정해진 레코드를 저널 시퀀스 순서대로 모아 multi-row INSERT 로 반영하고,
+ *   같은 트랜잭션에 체크포인트를 남긴다. 커밋 순서가 저널 순서와 달라도 앞선 레코드가 정해질 때까지 기다리므로
+ *   체크포인트는 항상 "이 시퀀스까지 반영 완료"를 의미한다.
+ * - 대기 레코드가 bufferCapacity 를 넘으면 내용은 메모리에 두지 않고(spill) 반영할 때 저널에서 다시 읽는다.
+ * - 재시작 시 체크포인트 이후의 저널 레코드를 반영한다. 커밋 직전 기록 후 커밋 여부가 정해지기 전에
+ *   프로세스가 종료된 레코드는 커밋된 것으로 본다.
+ *
+ * 히스토리는 잔액보다 늦게 조회될 수 있다 (최대 워커 배치 주기 + DB 반영 지연).
+ * 체크포인트는 nodeId 별로 저장되므로 노드마다 고유한 nodeId 가 필요하다.
+ */
+public class PointHistoryAppender {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryAppender.class);
+    private static final long ROTATE_EVERY_RECORDS = 10_000;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final String CANCELLED_FIELD = "cancelledSequence";
+
+    private final PointHistoryStore store;
+    private final AppendOnlyJournal journal;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final int bufferCapacity;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    // 체크포인트 이후 저널 시퀀스별 상태 (반영이 끝나면 제거)
+    private final ConcurrentSkipListMap<Long, Slot> slots = new ConcurrentSkipListMap<>();
+    // 내용을 메모리에 들고 있는 슬롯 수 (bufferCapacity 를 넘으면 spill)
+    private final AtomicInteger bufferedRecords = new AtomicInteger();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Thread worker;
+
+    private volatile boolean running;
+    private volatile long persistedSequence;
+    private long rotatedSequence;
+
+    public PointHistoryAppender(PointHistoryStore store,
+                                AppendOnlyJournal journal,
+                                ObjectMapper objectMapper,
+                                String nodeId,
+                                int bufferCapacity,
+                                int maxBatchSize,
+                                Duration maxWait) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("포인트 히스토리 기록기의 노드 ID 는 필수입니다");
+        }
+        this.store = store;
+        this.journal = journal;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.bufferCapacity = bufferCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.worker = new Thread(this::run, "point-history-appender");
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        persistedSequence = store.loadCheckpoint(nodeId);
+        rotatedSequence = persistedSequence;
+        recover();
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 히스토리 기록 요청
+     * 트랜잭션 안에서 호출되면 커밋 직전에 저널에 기록되고, 커밋된 경우에만 반영된다.
+     */
+    public void append(PointHistory history) {
+        PointHistoryRecord record = PointHistoryRecord.from(history);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal(record).commit();
+            LockSupport.unpark(worker);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Slot slot;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 실패하면 예외가 커밋을 중단시켜 잔액 변경도 롤백된다
+                slot = journal(record);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (slot == null) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        cancel(slot);
+                    } else {
+                        if (status != STATUS_COMMITTED) {
+                            log.warn("커밋 여부를 알 수 없어 포인트 히스토리를 반영합니다. seq={}", slot.sequence);
+                        }
+                        slot.commit();
+                    }
+                    LockSupport.unpark(worker);
+                } catch (RuntimeException e) {
+                    log.error("포인트 히스토리 완료 처리에 실패했습니다. seq={}", slot.sequence, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * DB 에 반영이 끝난 마지막 저널 시퀀스
+     */
+    public long persistedSequence() {
+        return persistedSequence;
+    }
+
+    /**
+     * 반영 대기 중인 저널 레코드 수 (커밋 여부 대기 + 반영 대기)
+     */
+    public int queueSize() {
+        return slots.size();
+    }
+
+    /**
+     * 커밋이 정해진 히스토리를 반영하고 종료 (반영하지 못한 레코드는 저널에 남아 재시작 시 처리)
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    // 저널 시퀀스 부여와 슬롯 등록을 함께 해야 워커가 시퀀스 사이의 빈 곳을 보지 않는다
+    private Slot journal(PointHistoryRecord record) {
+        String payload = serialize(record);
+        Slot slot;
+        appendLock.lock();
+        try {
+            long sequence = journal.append(payload);
+            slot = new Slot(sequence, buffer(record));
+            slots.put(sequence, slot);
+        } finally {
+            appendLock.unlock();
+        }
+        journal.force(slot.sequence);
+        return slot;
+    }
+
+    // 롤백된 레코드는 취소 레코드를 남겨 재시작 시에도 반영하지 않는다 (취소 레코드 자체는 반영할 내용 없음)
+    private void cancel(Slot slot) {
+        slot.cancel();
+        String payload = objectMapper.createObjectNode().put(CANCELLED_FIELD, slot.sequence).toString();
+        long sequence;
+        appendLock.lock();
+        try {
+            sequence = journal.append(payload);
+            Slot tombstone = new Slot(sequence, null);
+            tombstone.cancel();
+            slots.put(sequence, tombstone);
+        } finally {
+            appendLock.unlock();
+        }
+        journal.force(sequence);
+    }
+
+    // 체크포인트 이후 저널을 읽어 슬롯을 복원 (취소되지 않은 레코드는 모두 커밋된 것으로 본다)
+    private void recover() {
+        journal.replay(persistedSequence, (sequence, payload) -> {
+            JsonNode node = readTree(sequence, payload);
+            PointHistoryRecord record = node == null || node.has(CANCELLED_FIELD) ? null : toRecord(sequence, node);
+            Slot slot = new Slot(sequence, buffer(record));
+            if (record != null) {
+                slot.commit();
+            } else {
+                slot.cancel();
+                Slot target = node == null ? null : slots.get(node.path(CANCELLED_FIELD).asLong());
+                if (target != null) {
+                    target.cancel();
+                }
+            }
+            slots.put(sequence, slot);
+        });
+        if (!slots.isEmpty()) {
+            log.info("저널에 남은 포인트 히스토리를 반영합니다. node={}, records={}", nodeId, slots.size());
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                if (persistResolved()) {
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(maxWait.toNanos());
+            } catch (RuntimeException e) {
+                log.error("포인트 히스토리 기록기에서 예외가 발생했습니다.", e);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    // 체크포인트 바로 다음부터 커밋/롤백이 정해진 연속 구간을 한 배치로 반영, 반영할 구간이 없으면 false
+    private boolean persistResolved() {
+        Map<Long, PointHistoryRecord> batch = new HashMap<>();
+        List<Long> committed = new ArrayList<>();
+        List<Long> spilled = new ArrayList<>();
+        int buffered = 0;
+        long lastSequence = persistedSequence;
+        for (Slot slot : slots.tailMap(persistedSequence, false).values()) {
+            if (slot.sequence != lastSequence + 1 || slot.state == Slot.PENDING || committed.size() >= maxBatchSize) {
+                break;
+            }
+            if (slot.record != null) {
+                buffered++;
+            }
+            if (slot.state == Slot.COMMITTED) {
+                committed.add(slot.sequence);
+                if (slot.record != null) {
+                    batch.put(slot.sequence, slot.record);
+                } else {
+                    spilled.add(slot.sequence);
+                }
+            }
+            lastSequence = slot.sequence;
+        }
+        if (lastSequence == persistedSequence) {
+            return false;
+        }
+        if (!spilled.isEmpty()) {
+            loadSpilled(spilled, lastSequence, batch);
+        }
+        List<PointHistoryRecord> records = committed.stream().map(batch::get).filter(record -> record != null).toList();
+        if (!persist(records, lastSequence)) {
+            return false;
+        }
+        slots.headMap(lastSequence, true).clear();
+        bufferedRecords.addAndGet(-buffered);
+        return true;
+    }
+
+    private void loadSpilled(List<Long> spilled, long lastSequence, Map<Long, PointHistoryRecord> batch) {
+        long firstSequence = spilled.get(0);
+        journal.replay(firstSequence - 1, (sequence, payload) -> {
+            if (sequence > lastSequence || !spilled.contains(sequence)) {
+                return;
+            }
+            JsonNode node = readTree(sequence, payload);
+            PointHistoryRecord record = node == null || node.has(CANCELLED_FIELD) ? null : toRecord(sequence, node);
+            if (record != null) {
+                batch.put(sequence, record);
+            }
+        });
+    }
+
+    // 반영에 성공할 때까지 지수 백오프로 재시도하고, 종료 중이면 포기한다 (레코드는 저널에 남아 있음)
+    private boolean persist(List<PointHistoryRecord> records, long lastSequence) {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                store.append(records, nodeId, lastSequence);
+                persistedSequence = lastSequence;
+                rotateIfNeeded();
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.warn("종료 중 포인트 히스토리 반영에 실패했습니다. 재시작 시 저널에서 복구합니다. records={}", records.size());
+                    return false;
+                }
+                log.error("포인트 히스토리 반영에 실패했습니다. {}ms 후 재시도합니다.", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void rotateIfNeeded() {
+        if (persistedSequence - rotatedSequence < ROTATE_EVERY_RECORDS) {
+            return;
+        }
+        journal.rotate();
+        journal.deleteUpTo(persistedSequence);
+        rotatedSequence = persistedSequence;
+    }
+
+    private String serialize(PointHistoryRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포인트 히스토리 직렬화에 실패했습니다: " + record, e);
+        }
+    }
+
+    private JsonNode readTree(long sequence, String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("손상된 저널 레코드를 건너뜁니다. seq={}, payload={}", sequence, payload);
+            return null;
+        }
+    }
+
+    private PointHistoryRecord toRecord(long sequence, JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, PointHistoryRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("손상된 저널 레코드를 건너뜁니다. seq={}, payload={}", sequence, node);
+            return null;
+        }
+    }
+
+    // 메모리 여유가 있으면 내용을 보관하고, 없으면 null (반영 시 저널에서 다시 읽음)
+    private PointHistoryRecord buffer(PointHistoryRecord record) {
+        if (record == null || bufferedRecords.incrementAndGet() <= bufferCapacity) {
+            return record;
+        }
+        bufferedRecords.decrementAndGet();
+        return null;
+    }
+
+    // 저널 레코드 하나의 커밋 여부 (record 가 null 이면 spill 되어 반영 시 저널에서 다시 읽는다)
+    private static final class Slot {
+        static final int PENDING = 0;
+        static final int COMMITTED = 1;
+        static final int CANCELLED = 2;
+
+        final long sequence;
+        final PointHistoryRecord record;
+        volatile int state = PENDING;
+
+        Slot(long sequence, PointHistoryRecord record) {
+            this.sequence = sequence;
+            this.record = record;
+        }
+
+        void commit() {
+            state = COMMITTED;
+        }
+
+        void cancel() {
+            state = CANCELLED;
+        }
+    }
+}
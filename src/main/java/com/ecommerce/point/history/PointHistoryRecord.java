@@ -0,0 +1,30 @@
+package com.ecommerce.point.history;
+
+import com.ecommerce.point.entity.PointHistory;
+import com.ecommerce.point.entity.PointTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 기록 대기 중인 포인트 히스토리 (저널에 JSON 한 줄로 기록됨)
+ */
+public record PointHistoryRecord(
+        Long userId,
+        PointTransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+    public static PointHistoryRecord from(PointHistory history) {
+        return new PointHistoryRecord(
+                history.getUserId(),
+                history.getType(),
+                history.getAmount(),
+                history.getBalanceAfter(),
+                history.getDescription(),
+                history.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.point.history;
+
+import java.util.List;
+
+/**
+ * 포인트 히스토리 배치 저장소
+ */
+public interface PointHistoryStore {
+
+    /**
+     * 노드의 마지막 반영 저널 시퀀스 (기록이 없으면 0)
+     */
+    long loadCheckpoint(String nodeId);
+
+    /**
+     * 히스토리를 배치 INSERT 하고, 같은 트랜잭션에서 체크포인트를 journalSequence 로 갱신
+     */
+    void append(List<PointHistoryRecord> records, String nodeId, long journalSequence);
+}
@@ -0,0 +1,345 @@
+package com.ecommerce.point.ledger;
+
+import com.ecommerce.point.entity.UserBalance;
+import com.ecommerce.point.exception.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자별 단일 writer 잔액 원장 엔진
+ *
+ * - userId 해시로 N 개 샤드 중 하나를 선택하며, 한 사용자의 충전/사용은 항상 같은 샤드 스레드에서 순서대로 처리된다.
+ * - 샤드는 lock-free 큐에서 명령을 모아 메모리 잔액에 적용하고, 묶음 단위(micro-batch)로 한 트랜잭션에 반영한다.
+ * - 호출자의 future 는 DB 반영이 끝난 뒤 완료되므로 응답을 받은 변경은 유실되지 않는다.
+ *   대기 시간을 넘기면 BalanceLedgerPendingException 을 던지며, 이때 명령은 이후 반영될 수 있다.
+ * - 잔액 행 버전은 적용한 명령마다 1씩 올리므로 결과의 버전으로 잔액 캐시를 순서대로 갱신할 수 있다.
+ * - 다른 경로에서 잔액이 변경되어 버전이 어긋나면 DB 에서 다시 읽어 해당 사용자의 명령을 재적용한다.
+ *   이전 잔액 기준으로 거절된 명령(잔액 부족 등)도 반영이 확정될 때까지 완료하지 않고 함께 재평가한다.
+ *
+ * 단일 인스턴스 배포를 전제로 한다 (여러 인스턴스가 같은 사용자를 처리하면 버전 충돌 재시도로 동작).
+ */
+public class BalanceLedgerEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceLedgerEngine.class);
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
+    private final BalanceLedgerStore store;
+    private final Shard[] shards;
+    private final long timeoutMillis;
+
+    public BalanceLedgerEngine(BalanceLedgerStore store, int shardCount, int queueCapacity, int maxBatchSize,
+                               int maxCachedAccounts, Duration timeout) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 0보다 커야 합니다.");
+        }
+        this.store = store;
+        this.timeoutMillis = timeout.toMillis();
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity, maxBatchSize, maxCachedAccounts);
+        }
+    }
+
+    public void start() {
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    /**
+     * 남은 명령을 모두 처리한 뒤 종료
+     */
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.running = false;
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public LedgerBalance charge(Long userId, BigDecimal amount, String description) {
+        return await(userId, submitCharge(userId, amount, description));
+    }
+
+    public LedgerBalance use(Long userId, BigDecimal amount, String description) {
+        return await(userId, submitUse(userId, amount, description));
+    }
+
+    public CompletableFuture<LedgerBalance> submitCharge(Long userId, BigDecimal amount, String description) {
+        return submit(new Command(userId, CommandType.CHARGE, amount,
+                description != null ? description : "포인트 충전"));
+    }
+
+    public CompletableFuture<LedgerBalance> submitUse(Long userId, BigDecimal amount, String description) {
+        return submit(new Command(userId, CommandType.USE, amount,
+                description != null ? description : "포인트 사용"));
+    }
+
+    private CompletableFuture<LedgerBalance> submit(Command command) {
+        if (command.userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        shardOf(command.userId).offer(command);
+        return command.future;
+    }
+
+    private Shard shardOf(Long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return shards[(int) Math.floorMod(hash ^ (hash >>> 32), (long) shards.length)];
+    }
+
+    private LedgerBalance await(Long userId, CompletableFuture<LedgerBalance> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 처리 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("잔액 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new BalanceLedgerPendingException(userId, e);
+        }
+    }
+
+    private enum CommandType {
+        CHARGE, USE
+    }
+
+    private static final class Command {
+        private final Long userId;
+        private final CommandType type;
+        private final BigDecimal amount;
+        private final String description;
+        private final CompletableFuture<LedgerBalance> future = new CompletableFuture<>();
+
+        Command(Long userId, CommandType type, BigDecimal amount, String description) {
+            this.userId = userId;
+            this.type = type;
+            this.amount = amount;
+            this.description = description;
+        }
+    }
+
+    // 메모리 잔액 (샤드 스레드만 접근)
+    private static final class Account {
+        private BigDecimal balance;
+        private Long version;   // null 이면 아직 DB 에 행이 없음
+        private boolean exists; // 같은 배치의 충전으로 생성될 예정인 경우 포함
+
+        Account(BigDecimal balance, Long version) {
+            this.balance = balance;
+            this.version = version;
+            this.exists = version != null;
+        }
+    }
+
+    // 적용된 명령과 적용 후 잔액/버전
+    private record Applied(Command command, BigDecimal balanceAfter, long version, LocalDateTime appliedAt) {
+    }
+
+    // 메모리 잔액 기준으로 거절된 명령 (반영이 확정된 뒤에 완료)
+    private record Rejected(Command command, RuntimeException error) {
+    }
+
+    private final class Shard implements Runnable {
+        private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int queueCapacity;
+        private final int maxBatchSize;
+        private final Map<Long, Account> accounts;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Shard(int index, int queueCapacity, int maxBatchSize, int maxCachedAccounts) {
+            this.queueCapacity = queueCapacity;
+            this.maxBatchSize = maxBatchSize;
+            this.accounts = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Account> eldest) {
+                    return size() > maxCachedAccounts;
+                }
+            };
+            this.thread = new Thread(this, "balance-ledger-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void offer(Command command) {
+            if (!running) {
+                throw new IllegalStateException("잔액 원장이 종료되었습니다.");
+            }
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                throw new IllegalStateException("잔액 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+            queue.offer(command);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                Command command;
+                while (batch.size() < maxBatchSize && (command = queue.poll()) != null) {
+                    batch.add(command);
+                }
+                if (batch.isEmpty()) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+                    continue;
+                }
+                size.addAndGet(-batch.size());
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    log.error("잔액 원장 배치 처리 중 오류가 발생했습니다.", e);
+                    batch.forEach(c -> c.future.completeExceptionally(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<Command> batch) {
+            Map<Long, List<Command>> pending = new LinkedHashMap<>();
+            for (Command command : batch) {
+                pending.computeIfAbsent(command.userId, id -> new ArrayList<>()).add(command);
+            }
+
+            for (int attempt = 0; attempt <= MAX_CONFLICT_RETRIES && !pending.isEmpty(); attempt++) {
+                pending = persist(pending);
+            }
+
+            pending.values().forEach(commands -> commands.forEach(c -> c.future.completeExceptionally(
+                    new OptimisticLockingFailureException("잔액이 동시에 변경되어 처리하지 못했습니다. 사용자ID: " + c.userId))));
+        }
+
+        // 사용자별 명령을 메모리에 적용하고 반영, 버전 충돌로 반영하지 못한 사용자의 명령을 반환
+        private Map<Long, List<Command>> persist(Map<Long, List<Command>> commandsByUser) {
+            Map<Long, List<Applied>> appliedByUser = new LinkedHashMap<>();
+            Map<Long, List<Rejected>> rejectedByUser = new LinkedHashMap<>();
+            List<BalanceLedgerStore.BalanceWrite> writes = new ArrayList<>();
+            List<BalanceLedgerStore.HistoryWrite> histories = new ArrayList<>();
+
+            commandsByUser.forEach((userId, commands) -> {
+                Account account;
+                try {
+                    account = account(userId);
+                } catch (RuntimeException e) {
+                    commands.forEach(c -> c.future.completeExceptionally(e));
+                    return;
+                }
+
+                List<Applied> applied = new ArrayList<>();
+                List<Rejected> rejected = new ArrayList<>();
+                long version = account.version == null ? -1L : account.version;
+                for (Command command : commands) {
+                    try {
+                        applied.add(apply(account, command, version + applied.size() + 1));
+                    } catch (RuntimeException e) {
+                        rejected.add(new Rejected(command, e));
+                    }
+                }
+                if (applied.isEmpty()) {
+                    // 반영할 변경이 없으면 버전 충돌도 없으므로 거절을 바로 확정
+                    rejected.forEach(r -> r.command().future.completeExceptionally(r.error()));
+                    return;
+                }
+                appliedByUser.put(userId, applied);
+                rejectedByUser.put(userId, rejected);
+
+                Applied last = applied.get(applied.size() - 1);
+                writes.add(new BalanceLedgerStore.BalanceWrite(userId, account.balance, account.version,
+                        last.version(), last.appliedAt()));
+                for (Applied a : applied) {
+                    histories.add(new BalanceLedgerStore.HistoryWrite(userId, a.command().type.name(),
+                            a.command().amount, a.balanceAfter(), a.command().description, a.appliedAt()));
+                }
+            });
+
+            if (writes.isEmpty()) {
+                return Map.of();
+            }
+
+            Set<Long> conflicts;
+            try {
+                conflicts = store.persist(writes, histories);
+            } catch (RuntimeException e) {
+                // 반영 여부를 알 수 없으므로 캐시를 버리고 다음 요청에서 다시 읽는다
+                appliedByUser.keySet().forEach(accounts::remove);
+                appliedByUser.values().forEach(list -> list.forEach(a -> a.command().future.completeExceptionally(e)));
+                rejectedByUser.values().forEach(list -> list.forEach(r -> r.command().future.completeExceptionally(r.error())));
+                return Map.of();
+            }
+
+            Map<Long, List<Command>> retry = new LinkedHashMap<>();
+            appliedByUser.forEach((userId, applied) -> {
+                if (conflicts.contains(userId)) {
+                    // 거절된 명령도 다시 읽은 잔액 기준으로 원래 순서대로 재평가
+                    accounts.remove(userId);
+                    retry.put(userId, commandsByUser.get(userId));
+                    return;
+                }
+                Account account = accounts.get(userId);
+                if (account != null) {
+                    account.version = applied.get(applied.size() - 1).version();
+                }
+                applied.forEach(a -> a.command().future.complete(
+                        new LedgerBalance(userId, a.balanceAfter(), a.version(), a.appliedAt())));
+                rejectedByUser.get(userId).forEach(r -> r.command().future.completeExceptionally(r.error()));
+            });
+            return retry;
+        }
+
+        private Applied apply(Account account, Command command, long version) {
+            UserBalance balance = UserBalance.create(command.userId, account.balance);
+            if (command.type == CommandType.CHARGE) {
+                balance.charge(command.amount);
+                account.exists = true;
+            } else {
+                if (!account.exists) {
+                    throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + command.userId);
+                }
+                balance.use(command.amount);
+            }
+            account.balance = balance.getBalance();
+            return new Applied(command, balance.getBalance(), version, balance.getUpdatedAt());
+        }
+
+        private Account account(Long userId) {
+            Account account = accounts.get(userId);
+            if (account == null) {
+                account = store.load(userId)
+                        .map(stored -> new Account(stored.balance(), stored.version()))
+                        .orElseGet(() -> new Account(BigDecimal.ZERO, null));
+                accounts.put(userId, account);
+            }
+            return account;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.point.ledger;
+
+/**
+ * 잔액 원장 처리 결과를 기다리다 대기 시간을 초과한 경우
+ * 명령은 이미 대기열에 들어갔으므로 이후 반영될 수 있다 (실패로 보고 다시 요청하면 중복 반영될 수 있음).
+ */
+public class BalanceLedgerPendingException extends IllegalStateException {
+
+    private final Long userId;
+
+    public BalanceLedgerPendingException(Long userId, Throwable cause) {
+        super("잔액 처리 대기 시간을 초과했습니다. 요청은 처리 중이며 이후 반영될 수 있습니다. 사용자ID: " + userId, cause);
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.point.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 잔액 원장 영속화 포트
+ */
+public interface BalanceLedgerStore {
+
+    /**
+     * 사용자 잔액과 버전 조회 (없으면 empty)
+     */
+    Optional<StoredBalance> load(Long userId);
+
+    /**
+     * 잔액 변경과 히스토리를 한 트랜잭션으로 반영
+     * 버전이 일치하지 않아(다른 경로에서 변경됨) 반영하지 못한 사용자 ID 를 반환하며, 해당 사용자의 히스토리는 기록하지 않는다.
+     */
+    Set<Long> persist(List<BalanceWrite> writes, List<HistoryWrite> histories);
+
+    record StoredBalance(BigDecimal balance, long version) {
+    }
+
+    /**
+     * expectedVersion 이 null 이면 신규 잔액 행 생성, 반영 후 버전은 newVersion (적용한 명령마다 1씩 증가)
+     */
+    record BalanceWrite(Long userId, BigDecimal balance, Long expectedVersion, long newVersion, LocalDateTime updatedAt) {
+    }
+
+    record HistoryWrite(Long userId, String type, BigDecimal amount, BigDecimal balanceAfter,
+                        String description, LocalDateTime createdAt) {
+    }
+}
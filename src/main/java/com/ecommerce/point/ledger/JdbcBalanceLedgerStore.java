@@ -0,0 +1,107 @@
+package com.ecommerce.point.ledger;
+
+import com.ecommerce.point.entity.PointHistory;
+import com.ecommerce.point.entity.PointTransactionType;
+import com.ecommerce.point.history.PointHistoryAppender;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC 기반 잔액 원장 저장소
+ * 사용자별 최종 잔액은 버전 조건부 UPDATE 로, 히스토리는 배치 INSERT 로 한 트랜잭션에 반영한다.
+ * 포인트 히스토리 기록기가 활성화되어 있으면 히스토리는 PointService 와 같은 기록기로 보낸다 (커밋 직전 저널 기록).
+ */
+public class JdbcBalanceLedgerStore implements BalanceLedgerStore {
+
+    private static final String SELECT_BALANCE =
+            "SELECT balance, version FROM user_balances WHERE user_id = ?";
+    private static final String INSERT_BALANCE =
+            "INSERT INTO user_balances (user_id, balance, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_BALANCE =
+            "UPDATE user_balances SET balance = ?, updated_at = ?, version = ? WHERE user_id = ? AND version = ?";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO point_histories (user_id, type, amount, balance_after, description, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PointHistoryAppender historyAppender;
+
+    /**
+     * @param historyAppender 포인트 히스토리 기록기 (point.history.appender.enabled=false 이면 null, 배치 INSERT)
+     */
+    public JdbcBalanceLedgerStore(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Nullable PointHistoryAppender historyAppender) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.historyAppender = historyAppender;
+    }
+
+    @Override
+    public Optional<StoredBalance> load(Long userId) {
+        return jdbcTemplate.query(SELECT_BALANCE,
+                (rs, rowNum) -> new StoredBalance(rs.getBigDecimal("balance"), rs.getLong("version")),
+                userId).stream().findFirst();
+    }
+
+    @Override
+    public Set<Long> persist(List<BalanceWrite> writes, List<HistoryWrite> histories) {
+        return transactionTemplate.execute(status -> {
+            Set<Long> conflicts = new HashSet<>();
+            for (BalanceWrite write : writes) {
+                if (!write(write)) {
+                    conflicts.add(write.userId());
+                }
+            }
+
+            List<HistoryWrite> applied = histories.stream()
+                    .filter(history -> !conflicts.contains(history.userId()))
+                    .toList();
+            if (historyAppender != null) {
+                applied.forEach(history -> historyAppender.append(toPointHistory(history)));
+                return conflicts;
+            }
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, applied, applied.size(), (ps, history) -> {
+                ps.setLong(1, history.userId());
+                ps.setString(2, history.type());
+                ps.setBigDecimal(3, history.amount());
+                ps.setBigDecimal(4, history.balanceAfter());
+                ps.setString(5, history.description());
+                ps.setObject(6, history.createdAt());
+            });
+            return conflicts;
+        });
+    }
+
+    private boolean write(BalanceWrite write) {
+        if (write.expectedVersion() == null) {
+            try {
+                jdbcTemplate.update(INSERT_BALANCE,
+                        write.userId(), write.balance(), write.updatedAt(), write.updatedAt(), write.newVersion());
+                return true;
+            } catch (DuplicateKeyException e) {
+                // 다른 경로에서 먼저 생성됨
+                return false;
+            }
+        }
+        return jdbcTemplate.update(UPDATE_BALANCE,
+                write.balance(), write.updatedAt(), write.newVersion(), write.userId(), write.expectedVersion()) == 1;
+    }
+
+    private PointHistory toPointHistory(HistoryWrite history) {
+        if (PointTransactionType.valueOf(history.type()) == PointTransactionType.CHARGE) {
+            return PointHistory.createChargeHistory(history.userId(), history.amount(), history.balanceAfter(),
+                    history.description());
+        }
+        return PointHistory.createUseHistory(history.userId(), history.amount(), history.balanceAfter(),
+                history.description());
+    }
+}
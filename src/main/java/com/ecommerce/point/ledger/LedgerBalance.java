@@ -0,0 +1,16 @@
+package com.ecommerce.point.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 원장 처리 결과 (반영 후 잔액)
+ * version 은 명령마다 1씩 증가하는 잔액 행 버전이므로 캐시는 버전이 더 큰 값만 덮어쓰면 된다.
+ */
+public record LedgerBalance(
+        Long userId,
+        BigDecimal balance,
+        long version,
+        LocalDateTime updatedAt
+) {
+}
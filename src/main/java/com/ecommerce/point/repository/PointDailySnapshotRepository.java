@@ -0,0 +1,16 @@
+package com.ecommerce.point.repository;
+
+import com.ecommerce.point.entity.PointDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PointDailySnapshotRepository extends JpaRepository<PointDailySnapshot, Long> {
+
+    // 기간 내 사용자 일일 스냅샷 (uk_point_daily_snapshot_user_date 범위 탐색)
+    List<PointDailySnapshot> findByUserIdAndSnapshotDateBetweenOrderBySnapshotDate(
+            Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.point.repository;
+
+import com.ecommerce.point.entity.PointHistory;
+import com.ecommerce.point.service.dto.PointHistoryView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 히스토리 조회 (DB 행과 아카이브 세그먼트를 병합)
+ * 아카이브가 비활성화되어 있으면 DB 만 조회한다.
+ */
+public interface PointHistoryQueryRepository {
+
+    // 사용자별 포인트 히스토리 조회 (페이징)
+    Page<PointHistory> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    // 사용자별 최근 히스토리 조회
+    List<PointHistory> findTop10ByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 특정 기간의 히스토리 조회
+    List<PointHistory> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
+            Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    // keyset 첫 페이지 (pageable 은 LIMIT 용도로만 사용)
+    List<PointHistoryView> findLatestViews(Long userId, Pageable pageable);
+
+    // keyset 다음 페이지 - (createdAt, id) 가 커서보다 작은 행
+    List<PointHistoryView> findViewsBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 스냅샷 워터마크 이후 기간 내 히스토리 (명세서 조회 시 스냅샷에 아직 반영되지 않은 꼬리 구간)
+    List<PointHistoryView> findViewsAfterIdBetween(Long userId, Long afterId, LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,217 @@
+package com.ecommerce.point.repository;
+
+import com.ecommerce.point.archive.ArchivedPointHistory;
+import com.ecommerce.point.archive.PointHistoryArchive;
+import com.ecommerce.point.entity.PointHistory;
+import com.ecommerce.point.service.dto.PointHistoryView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * PointHistoryQueryRepository 구현
+ *
+ * DB 조회 결과에 아카이브 행을 합쳐 같은 정렬/LIMIT 으로 잘라낸다.
+ * 아카이브 중에는 같은 id 가 양쪽에 있을 수 있으므로 DB 행을 우선하여 중복을 제거한다.
+ */
+public class PointHistoryQueryRepositoryImpl implements PointHistoryQueryRepository {
+
+    private static final String VIEW_SELECT = "SELECT new com.ecommerce.point.service.dto.PointHistoryView(" +
+            "h.id, h.type, h.amount, h.balanceAfter, h.description, h.createdAt) FROM PointHistory h ";
+
+    private static final Comparator<PointHistory> ENTITY_LATEST_FIRST = Comparator
+            .comparing(PointHistory::getCreatedAt).thenComparing(PointHistory::getId).reversed();
+    private static final Comparator<PointHistoryView> VIEW_LATEST_FIRST = Comparator
+            .comparing(PointHistoryView::createdAt).thenComparing(PointHistoryView::id).reversed();
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<PointHistoryArchive> archiveProvider;
+
+    public PointHistoryQueryRepositoryImpl(EntityManager entityManager,
+                                           ObjectProvider<PointHistoryArchive> archiveProvider) {
+        this.entityManager = entityManager;
+        this.archiveProvider = archiveProvider;
+    }
+
+    @Override
+    public Page<PointHistory> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable) {
+        Long liveCount = entityManager.createQuery(
+                        "SELECT COUNT(h) FROM PointHistory h WHERE h.userId = :userId", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult();
+        TypedQuery<PointHistory> query = entityManager.createQuery(
+                        "SELECT h FROM PointHistory h WHERE h.userId = :userId ORDER BY h.createdAt DESC, h.id DESC",
+                        PointHistory.class)
+                .setParameter("userId", userId);
+
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            if (pageable.isPaged()) {
+                query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+            }
+            return new PageImpl<>(query.getResultList(), pageable, liveCount);
+        }
+
+        // 병합 순서에서 offset 위치를 알 수 없으므로 양쪽 모두 offset + size 까지 읽고 잘라낸다
+        int limit = pageable.isPaged() ? (int) pageable.getOffset() + pageable.getPageSize() : Integer.MAX_VALUE;
+        if (pageable.isPaged()) {
+            query.setMaxResults(limit);
+        }
+        List<PointHistory> merged = mergeLatestFirst(query.getResultList(), archive,
+                () -> archive.findLatestBefore(userId, null, null, limit), ArchivedPointHistory::toEntity,
+                PointHistory::getId, PointHistory::getCreatedAt, ENTITY_LATEST_FIRST, limit);
+        int from = (int) Math.min(pageable.isPaged() ? pageable.getOffset() : 0, merged.size());
+        // 아카이브 진행 중에는 중복 행만큼 전체 건수가 잠시 크게 보일 수 있다
+        return new PageImpl<>(merged.subList(from, merged.size()), pageable, liveCount + archive.countByUser(userId));
+    }
+
+    @Override
+    public List<PointHistory> findTop10ByUserIdOrderByCreatedAtDesc(Long userId) {
+        List<PointHistory> live = entityManager.createQuery(
+                        "SELECT h FROM PointHistory h WHERE h.userId = :userId ORDER BY h.createdAt DESC, h.id DESC",
+                        PointHistory.class)
+                .setParameter("userId", userId)
+                .setMaxResults(10)
+                .getResultList();
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            return live;
+        }
+        return mergeLatestFirst(live, archive, () -> archive.findLatestBefore(userId, null, null, 10),
+                ArchivedPointHistory::toEntity, PointHistory::getId, PointHistory::getCreatedAt, ENTITY_LATEST_FIRST, 10);
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
+            Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<PointHistory> live = entityManager.createQuery(
+                        "SELECT h FROM PointHistory h WHERE h.userId = :userId " +
+                                "AND h.createdAt BETWEEN :startDate AND :endDate ORDER BY h.createdAt DESC, h.id DESC",
+                        PointHistory.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            return live;
+        }
+        return mergeLatestFirst(live, archive, () -> archive.findByUser(userId, startDate, endDate),
+                ArchivedPointHistory::toEntity, PointHistory::getId, PointHistory::getCreatedAt,
+                ENTITY_LATEST_FIRST, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<PointHistoryView> findLatestViews(Long userId, Pageable pageable) {
+        List<PointHistoryView> live = entityManager.createQuery(
+                        VIEW_SELECT + "WHERE h.userId = :userId ORDER BY h.createdAt DESC, h.id DESC",
+                        PointHistoryView.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            return live;
+        }
+        return mergeLatestFirst(live, archive, () -> archive.findLatestBefore(userId, null, null, pageable.getPageSize()),
+                ArchivedPointHistory::toView, PointHistoryView::id, PointHistoryView::createdAt,
+                VIEW_LATEST_FIRST, pageable.getPageSize());
+    }
+
+    @Override
+    public List<PointHistoryView> findViewsBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable) {
+        List<PointHistoryView> live = entityManager.createQuery(
+                        VIEW_SELECT + "WHERE h.userId = :userId " +
+                                "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+                                "ORDER BY h.createdAt DESC, h.id DESC",
+                        PointHistoryView.class)
+                .setParameter("userId", userId)
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            return live;
+        }
+        // 아카이브도 같은 (createdAt, id) 위치에서 이어 읽고 페이지 크기만큼만 디코딩한다
+        return mergeLatestFirst(live, archive, () -> archive.findLatestBefore(userId, createdAt, id, pageable.getPageSize()),
+                ArchivedPointHistory::toView, PointHistoryView::id, PointHistoryView::createdAt,
+                VIEW_LATEST_FIRST, pageable.getPageSize());
+    }
+
+    @Override
+    public List<PointHistoryView> findViewsAfterIdBetween(Long userId, Long afterId,
+                                                          LocalDateTime start, LocalDateTime end) {
+        List<PointHistoryView> live = entityManager.createQuery(
+                        VIEW_SELECT + "WHERE h.userId = :userId AND h.id > :afterId " +
+                                "AND h.createdAt >= :start AND h.createdAt < :end ORDER BY h.id",
+                        PointHistoryView.class)
+                .setParameter("userId", userId)
+                .setParameter("afterId", afterId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList();
+        PointHistoryArchive archive = archive();
+        if (archive == null) {
+            return live;
+        }
+        Set<Long> liveIds = new HashSet<>();
+        live.forEach(view -> liveIds.add(view.id()));
+        List<PointHistoryView> merged = new ArrayList<>(live);
+        for (ArchivedPointHistory history : archive.findByUser(userId, start, end)) {
+            if (history.id() > afterId && history.createdAt().isBefore(end) && !liveIds.contains(history.id())) {
+                merged.add(history.toView());
+            }
+        }
+        merged.sort(Comparator.comparing(PointHistoryView::id));
+        return merged;
+    }
+
+    private PointHistoryArchive archive() {
+        PointHistoryArchive archive = archiveProvider.getIfAvailable();
+        return archive == null || archive.isEmpty() ? null : archive;
+    }
+
+    /**
+     * DB 결과(최신순, 최대 limit 건)와 아카이브 조회 결과를 최신순으로 병합해 limit 건 반환
+     */
+    private static <T> List<T> mergeLatestFirst(List<T> live,
+                                                PointHistoryArchive archive,
+                                                Supplier<List<ArchivedPointHistory>> archived,
+                                                Function<ArchivedPointHistory, T> mapper,
+                                                Function<T, Long> idOf,
+                                                Function<T, LocalDateTime> createdAtOf,
+                                                Comparator<T> order,
+                                                int limit) {
+        // DB 결과가 이미 가득 찼고 가장 오래된 행도 아카이브보다 최근이면 아카이브를 읽을 필요가 없다
+        LocalDateTime archivedUntil = archive.maxCreatedAt();
+        if (live.size() >= limit && !live.isEmpty()
+                && createdAtOf.apply(live.get(live.size() - 1)).isAfter(archivedUntil)) {
+            return live;
+        }
+
+        Set<Long> liveIds = new HashSet<>();
+        live.forEach(row -> liveIds.add(idOf.apply(row)));
+        List<T> merged = new ArrayList<>(live);
+        for (ArchivedPointHistory history : archived.get()) {
+            if (!liveIds.contains(history.id())) {
+                merged.add(mapper.apply(history));
+            }
+        }
+        merged.sort(order);
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+}
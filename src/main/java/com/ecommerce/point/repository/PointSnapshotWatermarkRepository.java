@@ -0,0 +1,9 @@
+package com.ecommerce.point.repository;
+
+import com.ecommerce.point.entity.PointSnapshotWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointSnapshotWatermarkRepository extends JpaRepository<PointSnapshotWatermark, String> {
+}
@@ -1,40 +1,87 @@
 package com.ecommerce.point.service;
+import com.ecommerce.infrastructure.retry.ContentionRetry;
+import com.ecommerce.point.cache.BalanceCache;
 import com.ecommerce.point.entity.PointHistory;
 import com.ecommerce.point.entity.UserBalance;
 import com.ecommerce.point.exception.UserNotFoundException;
+import com.ecommerce.point.history.PointHistoryAppender;
+import com.ecommerce.point.ledger.BalanceLedgerEngine;
+import com.ecommerce.point.ledger.BalanceLedgerPendingException;
+import com.ecommerce.point.ledger.LedgerBalance;
 import com.ecommerce.point.repository.PointHistoryRepository;
 import com.ecommerce.point.repository.UserBalanceRepository;
 import com.ecommerce.point.service.dto.ChargePointCommand;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import com.ecommerce.point.service.dto.PointHistoryCursor;
+import com.ecommerce.point.service.dto.PointHistorySlice;
+import com.ecommerce.point.service.dto.PointHistoryView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @Transactional(readOnly = true)
 public class PointService {
 
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final UserBalanceRepository userBalanceRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryAppender pointHistoryAppender;
+    private final BalanceCache balanceCache;
+    private final BalanceLedgerEngine balanceLedgerEngine;
+    private final TransactionTemplate transactionTemplate;
 
     public PointService(UserBalanceRepository userBalanceRepository,
                         PointHistoryRepository pointHistoryRepository) {
+        this(userBalanceRepository, pointHistoryRepository, null, null, null, null);
+    }
+
+    /**
+     * @param pointHistoryAppender 비동기 히스토리 기록기 (point.history.appender.enabled=false 이면 null, 동기 INSERT)
+     * @param balanceCache 잔액 조회 캐시 (point.balance-cache.enabled=false 이면 null, 매번 DB 조회)
+     * @param balanceLedgerEngine 잔액 원장 (point.ledger.enabled=false 이면 null, 행 락으로 처리)
+     * @param transactionTemplate 충전/사용의 행 락 경로 트랜잭션 (null 이면 호출자 트랜잭션 안에서 그대로 실행)
+     */
+    @Autowired
+    public PointService(UserBalanceRepository userBalanceRepository,
+                        PointHistoryRepository pointHistoryRepository,
+                        @Nullable PointHistoryAppender pointHistoryAppender,
+                        @Nullable BalanceCache balanceCache,
+                        @Nullable BalanceLedgerEngine balanceLedgerEngine,
+                        @Nullable TransactionTemplate transactionTemplate) {
         this.userBalanceRepository = userBalanceRepository;
         this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryAppender = pointHistoryAppender;
+        this.balanceCache = balanceCache;
+        this.balanceLedgerEngine = balanceLedgerEngine;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * 포인트 충전
+     * 잔액 원장이 활성화되어 있고 호출자 트랜잭션이 없으면 원장 샤드에서 처리하고 (커넥션/행 락을 잡지 않고 대기),
+     * 그 밖에는 행 락으로 처리한다 (호출자 트랜잭션이 있으면 함께 커밋/롤백).
+     * @throws BalanceLedgerPendingException 원장 처리 대기 시간을 초과한 경우 (요청은 이후 반영될 수 있음)
      */
-    @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @ContentionRetry(entity = "user_balance", key = "#command.userId()")
     public UserBalance chargePoint(ChargePointCommand command) {
+        if (useLedger()) {
+            return fromLedger(balanceLedgerEngine.charge(command.userId(), command.amount(), command.description()));
+        }
+        return inTransaction(() -> chargeWithLock(command));
+    }
+
+    private UserBalance chargeWithLock(ChargePointCommand command) {
         // 1. 사용자 잔액 조회 또는 생성
         UserBalance userBalance = userBalanceRepository.findByUserIdWithLock(command.userId())
                 .orElseGet(() -> UserBalance.create(command.userId()));
@@ -52,15 +99,25 @@ public class PointService {
                 savedBalance.getBalance(),
                 command.description() != null ? command.description() : "포인트 충전"
         );
-        pointHistoryRepository.save(history);
+        recordHistory(history);
+
+        // 5. 커밋 이후 잔액 캐시 갱신
+        if (balanceCache != null) {
+            balanceCache.putAfterCommit(savedBalance);
+        }
 
         return savedBalance;
     }
 
     /**
      * 잔액 조회
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다 (미적중 로딩은 리포지토리 트랜잭션 사용).
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal getUserBalance(Long userId) {
+        if (balanceCache != null) {
+            return balanceCache.get(userId, id -> userBalanceRepository.findByUserId(id).orElse(null));
+        }
         return userBalanceRepository.findByUserId(userId)
                 .map(UserBalance::getBalance)
                 .orElse(BigDecimal.ZERO);
@@ -76,12 +133,19 @@ public class PointService {
 
     /**
      * 포인트 사용 (주문/결제 모듈에서 사용)
+     * 충전과 같이 호출자 트랜잭션이 없으면 잔액 원장으로, 있으면 행 락으로 처리한다.
+     * @throws BalanceLedgerPendingException 원장 처리 대기 시간을 초과한 경우 (요청은 이후 반영될 수 있음)
      */
-    @Transactional
-    @Retryable(value = {OptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @ContentionRetry(entity = "user_balance", key = "#userId")
     public UserBalance usePoint(Long userId, BigDecimal amount, String description) {
+        if (useLedger()) {
+            return fromLedger(balanceLedgerEngine.use(userId, amount, description));
+        }
+        return inTransaction(() -> useWithLock(userId, amount, description));
+    }
+
+    private UserBalance useWithLock(Long userId, BigDecimal amount, String description) {
         // 1. 사용자 잔액 조회
         UserBalance userBalance = userBalanceRepository.findByUserIdWithLock(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
@@ -99,15 +163,76 @@ public class PointService {
                 savedBalance.getBalance(),
                 description != null ? description : "포인트 사용"
         );
-        pointHistoryRepository.save(history);
+        recordHistory(history);
+
+        // 5. 커밋 이후 잔액 캐시 갱신
+        if (balanceCache != null) {
+            balanceCache.putAfterCommit(savedBalance);
+        }
 
         return savedBalance;
     }
 
+    // 호출자 트랜잭션에 참여해야 하는 요청은 원장으로 보내지 않는다 (원장은 별도 트랜잭션으로 반영)
+    private boolean useLedger() {
+        return balanceLedgerEngine != null && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    // 원장 반영 결과로 캐시를 버전 순서대로 갱신 (원장 히스토리는 원장 저장소가 기록)
+    private UserBalance fromLedger(LedgerBalance ledgerBalance) {
+        UserBalance userBalance = UserBalance.restore(ledgerBalance.userId(), ledgerBalance.balance(),
+                ledgerBalance.version(), ledgerBalance.updatedAt());
+        if (balanceCache != null) {
+            balanceCache.putAfterCommit(userBalance);
+        }
+        return userBalance;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        if (transactionTemplate == null) {
+            return action.get();
+        }
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void recordHistory(PointHistory history) {
+        if (pointHistoryAppender != null) {
+            pointHistoryAppender.append(history);
+        } else {
+            pointHistoryRepository.save(history);
+        }
+    }
+
     /**
      * 포인트 히스토리 조회
      */
     public List<PointHistory> getPointHistory(Long userId) {
         return pointHistoryRepository.findTop10ByUserIdOrderByCreatedAtDesc(userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 포인트 히스토리 커서 기반 조회 (최신순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public PointHistorySlice getPointHistory(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<PointHistoryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = pointHistoryRepository.findLatestViews(userId, limit);
+        } else {
+            PointHistoryCursor position = PointHistoryCursor.decode(cursor);
+            rows = pointHistoryRepository.findViewsBefore(userId, position.createdAt(), position.id(), limit);
+        }
+
+        if (rows.size() <= size) {
+            return new PointHistorySlice(rows, null);
+        }
+        List<PointHistoryView> page = rows.subList(0, size);
+        return new PointHistorySlice(List.copyOf(page), PointHistoryCursor.of(page.get(size - 1)).encode());
+    }
+}
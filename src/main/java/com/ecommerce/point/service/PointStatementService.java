@@ -0,0 +1,77 @@
+package com.ecommerce.point.service;
+
+import com.ecommerce.point.entity.PointDailySnapshot;
+import com.ecommerce.point.entity.PointSnapshotWatermark;
+import com.ecommerce.point.repository.PointDailySnapshotRepository;
+import com.ecommerce.point.repository.PointHistoryRepository;
+import com.ecommerce.point.repository.PointSnapshotWatermarkRepository;
+import com.ecommerce.point.service.dto.PointHistoryView;
+import com.ecommerce.point.service.dto.PointStatement;
+import com.ecommerce.point.snapshot.DailyBalanceAggregate;
+import com.ecommerce.point.snapshot.DailySnapshotJob;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 기간별 포인트 명세서 조회
+ * 워터마크까지는 일일 스냅샷으로, 그 이후는 원본 히스토리로 계산한다.
+ * 하나의 읽기 트랜잭션(REPEATABLE READ)에서 조회하므로 집계 작업이 중간에 커밋되어도 중복/누락이 없다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PointStatementService {
+
+    public static final int MAX_STATEMENT_DAYS = 1830;
+
+    private final PointDailySnapshotRepository snapshotRepository;
+    private final PointSnapshotWatermarkRepository watermarkRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    public PointStatementService(PointDailySnapshotRepository snapshotRepository,
+                                 PointSnapshotWatermarkRepository watermarkRepository,
+                                 PointHistoryRepository pointHistoryRepository) {
+        this.snapshotRepository = snapshotRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * 기간별 명세서 조회 (from, to 모두 포함)
+     */
+    public PointStatement getStatement(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_STATEMENT_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 " + MAX_STATEMENT_DAYS + "일을 넘을 수 없습니다: " + from + " ~ " + to);
+        }
+
+        long watermark = watermarkRepository.findById(DailySnapshotJob.JOB_NAME)
+                .map(PointSnapshotWatermark::getLastHistoryId)
+                .orElse(0L);
+
+        // 1. 스냅샷에 반영된 구간
+        SortedMap<LocalDate, DailyBalanceAggregate> days = new TreeMap<>();
+        for (PointDailySnapshot snapshot : snapshotRepository
+                .findByUserIdAndSnapshotDateBetweenOrderBySnapshotDate(userId, from, to)) {
+            days.put(snapshot.getSnapshotDate(), DailyBalanceAggregate.from(snapshot));
+        }
+
+        // 2. 워터마크 이후 아직 반영되지 않은 히스토리
+        List<PointHistoryView> tail = pointHistoryRepository.findViewsAfterIdBetween(
+                userId, watermark, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        for (PointHistoryView history : tail) {
+            LocalDate date = history.createdAt().toLocalDate();
+            days.computeIfAbsent(date, d -> new DailyBalanceAggregate(userId, d))
+                    .add(history.id(), history.type(), history.amount(), history.balanceAfter());
+        }
+
+        return PointStatement.of(userId, from, to, days.values());
+    }
+}
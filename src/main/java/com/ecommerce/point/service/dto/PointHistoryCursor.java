@@ -0,0 +1,40 @@
+package com.ecommerce.point.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 포인트 히스토리 keyset 커서 - 마지막으로 받은 행의 (createdAt, id)
+ * 클라이언트에는 구조를 알 수 없는 base64url 문자열로 전달한다.
+ */
+public record PointHistoryCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PointHistoryCursor of(PointHistoryView view) {
+        return new PointHistoryCursor(view.createdAt(), view.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PointHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+            }
+            return new PointHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
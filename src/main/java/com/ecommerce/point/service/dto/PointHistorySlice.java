@@ -0,0 +1,15 @@
+package com.ecommerce.point.service.dto;
+
+import java.util.List;
+
+/**
+ * 포인트 히스토리 한 페이지와 다음 페이지 커서 (마지막 페이지면 nextCursor 는 null)
+ */
+public record PointHistorySlice(
+        List<PointHistoryView> items,
+        String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.point.service.dto;
+
+import com.ecommerce.point.entity.PointTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 히스토리 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 JPQL 생성자 표현식으로 바로 생성)
+ */
+public record PointHistoryView(
+        Long id,
+        PointTransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+}
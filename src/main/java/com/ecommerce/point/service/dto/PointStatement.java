@@ -0,0 +1,62 @@
+package com.ecommerce.point.service.dto;
+
+import com.ecommerce.point.snapshot.DailyBalanceAggregate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 기간별 포인트 명세서 (거래가 있었던 날짜만 일별 항목에 포함, 거래가 없으면 시작/마감 잔액은 null)
+ */
+public record PointStatement(
+        Long userId,
+        LocalDate from,
+        LocalDate to,
+        BigDecimal openingBalance,
+        BigDecimal closingBalance,
+        BigDecimal totalCharged,
+        BigDecimal totalUsed,
+        long transactionCount,
+        List<DailyBalance> days
+) {
+    public record DailyBalance(
+            LocalDate date,
+            BigDecimal openingBalance,
+            BigDecimal closingBalance,
+            BigDecimal totalCharged,
+            BigDecimal totalUsed,
+            long transactionCount
+    ) {
+        static DailyBalance from(DailyBalanceAggregate aggregate) {
+            return new DailyBalance(
+                    aggregate.getDate(),
+                    aggregate.getOpeningBalance(),
+                    aggregate.getClosingBalance(),
+                    aggregate.getTotalCharged(),
+                    aggregate.getTotalUsed(),
+                    aggregate.getTransactionCount()
+            );
+        }
+    }
+
+    /**
+     * @param aggregates 날짜 오름차순 일별 누적
+     */
+    public static PointStatement of(Long userId, LocalDate from, LocalDate to,
+                                    Collection<DailyBalanceAggregate> aggregates) {
+        List<DailyBalance> days = aggregates.stream().map(DailyBalance::from).toList();
+        return new PointStatement(
+                userId,
+                from,
+                to,
+                days.isEmpty() ? null : days.get(0).openingBalance(),
+                days.isEmpty() ? null : days.get(days.size() - 1).closingBalance(),
+                days.stream().map(DailyBalance::totalCharged).reduce(BigDecimal.ZERO, BigDecimal::add),
+                days.stream().map(DailyBalance::totalUsed).reduce(BigDecimal.ZERO, BigDecimal::add),
+                days.stream().mapToLong(DailyBalance::transactionCount).sum(),
+                days
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.point.snapshot;
+
+import com.ecommerce.point.entity.PointDailySnapshot;
+import com.ecommerce.point.entity.PointTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사용자 하루치 히스토리 누적기
+ * 스냅샷 집계 작업과 명세서 조회(스냅샷 + 미반영 히스토리 병합)가 같은 규칙으로 누적한다.
+ * 시작 잔액은 가장 작은 히스토리 ID 의 거래 전 잔액, 마감 잔액은 가장 큰 히스토리 ID 의 거래 후 잔액.
+ */
+public class DailyBalanceAggregate {
+
+    private final Long userId;
+    private final LocalDate date;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private BigDecimal totalCharged = BigDecimal.ZERO;
+    private BigDecimal totalUsed = BigDecimal.ZERO;
+    private long transactionCount;
+    private long firstHistoryId = Long.MAX_VALUE;
+    private long lastHistoryId = Long.MIN_VALUE;
+
+    public DailyBalanceAggregate(Long userId, LocalDate date) {
+        this.userId = userId;
+        this.date = date;
+    }
+
+    public static DailyBalanceAggregate from(PointDailySnapshot snapshot) {
+        DailyBalanceAggregate aggregate = new DailyBalanceAggregate(snapshot.getUserId(), snapshot.getSnapshotDate());
+        aggregate.openingBalance = snapshot.getOpeningBalance();
+        aggregate.closingBalance = snapshot.getClosingBalance();
+        aggregate.totalCharged = snapshot.getTotalCharged();
+        aggregate.totalUsed = snapshot.getTotalUsed();
+        aggregate.transactionCount = snapshot.getTransactionCount();
+        aggregate.firstHistoryId = snapshot.getFirstHistoryId();
+        aggregate.lastHistoryId = snapshot.getLastHistoryId();
+        return aggregate;
+    }
+
+    /**
+     * 히스토리 한 건 누적 (잔액 정보가 없는 히스토리는 합계에만 반영)
+     */
+    public void add(long historyId, PointTransactionType type, BigDecimal amount, BigDecimal balanceAfter) {
+        if (type == PointTransactionType.CHARGE) {
+            totalCharged = totalCharged.add(amount);
+        } else {
+            totalUsed = totalUsed.add(amount);
+        }
+        transactionCount++;
+
+        if (historyId < firstHistoryId) {
+            firstHistoryId = historyId;
+            openingBalance = balanceAfter == null ? null
+                    : type == PointTransactionType.CHARGE ? balanceAfter.subtract(amount) : balanceAfter.add(amount);
+        }
+        if (historyId > lastHistoryId) {
+            lastHistoryId = historyId;
+            closingBalance = balanceAfter;
+        }
+    }
+
+    public Long getUserId() { return userId; }
+    public LocalDate getDate() { return date; }
+    public BigDecimal getOpeningBalance() { return openingBalance; }
+    public BigDecimal getClosingBalance() { return closingBalance; }
+    public BigDecimal getTotalCharged() { return totalCharged; }
+    public BigDecimal getTotalUsed() { return totalUsed; }
+    public long getTransactionCount() { return transactionCount; }
+    public long getFirstHistoryId() { return firstHistoryId; }
+    public long getLastHistoryId() { return lastHistoryId; }
+}
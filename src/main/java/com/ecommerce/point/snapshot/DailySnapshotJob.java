@@ -0,0 +1,192 @@
+package com.ecommerce.point.snapshot;
+
+import com.ecommerce.point.entity.PointTransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 히스토리 일일 스냅샷 증분 집계 작업
+ *
+ * - 워터마크(마지막 반영 히스토리 ID) 이후의 히스토리만 ID 순으로 읽어 (사용자, 날짜) 별로 누적하고
+ *   스냅샷 UPSERT 와 워터마크 갱신을 한 트랜잭션으로 처리한다.
+ * - 워터마크 행을 FOR UPDATE 로 잠그므로 여러 노드에서 실행되어도 같은 히스토리를 두 번 반영하지 않는다.
+ * - IDENTITY ID 는 INSERT 시점에 정해지고 커밋 순서와 다를 수 있으므로 (created_at 도 애플리케이션이 INSERT 전에 정한다),
+ *   ID 가 비어 있는 곳(아직 커밋되지 않았거나 롤백된 ID)을 만나면 그 앞에서 멈춘다.
+ *   같은 빈 곳이 gapTimeout 동안 채워지지 않으면 롤백된 ID 로 보고 넘어간다.
+ *   워터마크가 빈 곳 아래에 머무는 동안 그 위의 히스토리는 명세서 조회의 꼬리 구간(ID > 워터마크)으로 읽힌다.
+ */
+public class DailySnapshotJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DailySnapshotJob.class);
+
+    public static final String JOB_NAME = "point-daily-snapshot";
+
+    // 처음 실행할 때는 남아 있는 가장 오래된 히스토리 바로 앞에서 시작 (보관 기간이 지나 삭제된 ID 를 빈 곳으로 기다리지 않도록)
+    private static final String INIT_WATERMARK =
+            "INSERT IGNORE INTO point_snapshot_watermarks (job_name, last_history_id) " +
+                    "SELECT ?, COALESCE(MIN(id), 1) - 1 FROM point_histories";
+    private static final String LOCK_WATERMARK =
+            "SELECT last_history_id FROM point_snapshot_watermarks WHERE job_name = ? FOR UPDATE";
+    private static final String SELECT_HISTORIES =
+            "SELECT id, user_id, type, amount, balance_after, created_at FROM point_histories " +
+                    "WHERE id > ? ORDER BY id LIMIT ?";
+    // ON DUPLICATE KEY UPDATE 는 왼쪽부터 적용되므로 시작/마감 잔액을 ID 경계보다 먼저 갱신해야 한다
+    private static final String UPSERT_SNAPSHOT =
+            "INSERT INTO point_daily_snapshots (user_id, snapshot_date, opening_balance, closing_balance, " +
+                    "total_charged, total_used, transaction_count, first_history_id, last_history_id) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "opening_balance = IF(VALUES(first_history_id) < first_history_id, VALUES(opening_balance), opening_balance), " +
+                    "first_history_id = LEAST(first_history_id, VALUES(first_history_id)), " +
+                    "closing_balance = IF(VALUES(last_history_id) > last_history_id, VALUES(closing_balance), closing_balance), " +
+                    "last_history_id = GREATEST(last_history_id, VALUES(last_history_id)), " +
+                    "total_charged = total_charged + VALUES(total_charged), " +
+                    "total_used = total_used + VALUES(total_used), " +
+                    "transaction_count = transaction_count + VALUES(transaction_count)";
+    private static final String UPDATE_WATERMARK =
+            "UPDATE point_snapshot_watermarks SET last_history_id = ? WHERE job_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    // 빈 곳의 첫 ID -> 처음 발견한 시각 (노드별 메모리, 워터마크가 지나가면 정리)
+    private final Map<Long, Instant> gapFirstSeen = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DailySnapshotJob(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            int batchSize,
+                            Duration gapTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+    }
+
+    public void start(Duration interval) {
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 반영 가능한 히스토리를 모두 집계하고 반영한 히스토리 수를 반환
+     */
+    public int runOnce() {
+        jdbcTemplate.update(INIT_WATERMARK, JOB_NAME);
+        int total = 0;
+        while (true) {
+            Integer folded = transactionTemplate.execute(status -> foldBatch());
+            total += folded;
+            if (folded < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int foldBatch() {
+        long watermark = jdbcTemplate.queryForObject(LOCK_WATERMARK, Long.class, JOB_NAME);
+        Instant now = Instant.now();
+
+        Map<Key, DailyBalanceAggregate> aggregates = new LinkedHashMap<>();
+        long[] lastHistoryId = {watermark};
+        int[] folded = {0};
+        boolean[] blocked = {false};
+        jdbcTemplate.query(SELECT_HISTORIES, rs -> {
+            long historyId = rs.getLong("id");
+            if (blocked[0] || (historyId != lastHistoryId[0] + 1 && !gapExpired(lastHistoryId[0] + 1, now))) {
+                blocked[0] = true;
+                return;
+            }
+            LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+            Long userId = rs.getLong("user_id");
+            LocalDate date = createdAt.toLocalDate();
+            aggregates.computeIfAbsent(new Key(userId, date), key -> new DailyBalanceAggregate(userId, date))
+                    .add(historyId,
+                            PointTransactionType.valueOf(rs.getString("type")),
+                            rs.getBigDecimal("amount"),
+                            rs.getBigDecimal("balance_after"));
+            lastHistoryId[0] = historyId;
+            folded[0]++;
+        }, watermark, batchSize);
+
+        if (folded[0] == 0) {
+            return 0;
+        }
+
+        List<Object[]> upserts = new ArrayList<>(aggregates.size());
+        for (DailyBalanceAggregate aggregate : aggregates.values()) {
+            upserts.add(new Object[]{
+                    aggregate.getUserId(),
+                    Date.valueOf(aggregate.getDate()),
+                    aggregate.getOpeningBalance(),
+                    aggregate.getClosingBalance(),
+                    aggregate.getTotalCharged(),
+                    aggregate.getTotalUsed(),
+                    aggregate.getTransactionCount(),
+                    aggregate.getFirstHistoryId(),
+                    aggregate.getLastHistoryId()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, upserts);
+        jdbcTemplate.update(UPDATE_WATERMARK, lastHistoryId[0], JOB_NAME);
+        gapFirstSeen.keySet().removeIf(gapStart -> gapStart <= lastHistoryId[0]);
+
+        // 빈 곳에서 멈췄다면 folded 가 배치 크기보다 작으므로 이번 주기가 끝난다
+        return folded[0];
+    }
+
+    // gapStart 부터 비어 있는 구간을 처음 본 뒤 gapTimeout 이 지났는지 (지났으면 롤백된 ID 로 보고 넘어간다)
+    private boolean gapExpired(long gapStart, Instant now) {
+        Instant firstSeen = gapFirstSeen.computeIfAbsent(gapStart, id -> now);
+        if (Duration.between(firstSeen, now).compareTo(gapTimeout) < 0) {
+            return false;
+        }
+        log.info("ID {} 부터 비어 있는 히스토리를 {} 동안 기다렸으므로 롤백된 것으로 보고 넘어갑니다.", gapStart, gapTimeout);
+        return true;
+    }
+
+    private void runQuietly() {
+        try {
+            int folded = runOnce();
+            if (folded > 0) {
+                log.debug("일일 스냅샷 집계 완료. folded={}", folded);
+            }
+        } catch (RuntimeException e) {
+            log.error("일일 스냅샷 집계에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private record Key(Long userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.service.dto.ProductSlice;
+
+import java.util.List;
+
+public record ProductPageResponse(
+        List<ProductResponse> products,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static ProductPageResponse from(ProductSlice slice) {
+        List<ProductResponse> productResponses = slice.items().stream()
+                .map(ProductResponse::from)
+                .toList();
+
+        return new ProductPageResponse(productResponses, slice.nextCursor(), slice.hasNext());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.service.dto.ProductSearchResult;
+
+import java.util.List;
+
+public record ProductSearchResponse(
+        List<ProductResponse> products,
+        int totalHits,
+        int page,
+        int size,
+        boolean hasNext
+) {
+    public static ProductSearchResponse from(ProductSearchResult result) {
+        List<ProductResponse> productResponses = result.items().stream()
+                .map(ProductResponse::from)
+                .toList();
+
+        return new ProductSearchResponse(productResponses, result.totalHits(), result.page(), result.size(), result.hasNext());
+    }
+}
@@ -44,6 +44,16 @@ public class Product {
         return new Product(name, price, stock);
     }
 
+    // 상품 캐시에서 복원한 읽기 전용 상품 (영속성 컨텍스트에 속하지 않으므로 저장하면 안 됨)
+    public static Product restore(Long id, String name, BigDecimal price, Integer stock,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Product product = new Product(name, price, stock);
+        product.id = id;
+        product.createdAt = createdAt;
+        product.updatedAt = updatedAt;
+        return product;
+    }
+
     // 비즈니스 로직: 재고 차감
     public void decreaseStock(int quantity) {
         if (this.stock < quantity) {
@@ -1,8 +1,10 @@
 package com.ecommerce.product.repository;
 
 import com.ecommerce.product.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +23,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 가격 범위로 검색
     @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price")
     List<Product> findByPriceBetween(java.math.BigDecimal minPrice, java.math.BigDecimal maxPrice);
-}
\ No newline at end of file
+
+    // (price, id) keyset 가격 범위 조회 (idx_product_price 범위 스캔, 첫 페이지는 afterPrice = 최소 가격, afterId = 0)
+    @Query("SELECT p FROM Product p WHERE (p.price > :afterPrice OR (p.price = :afterPrice AND p.id > :afterId)) " +
+            "AND p.price <= :maxPrice AND (:inStockOnly = false OR p.stock > 0) ORDER BY p.price, p.id")
+    List<Product> findPriceRangeAfter(@Param("afterPrice") java.math.BigDecimal afterPrice,
+                                      @Param("afterId") long afterId,
+                                      @Param("maxPrice") java.math.BigDecimal maxPrice,
+                                      @Param("inStockOnly") boolean inStockOnly,
+                                      Pageable limit);
+
+    // id keyset 페이지 조회 (PK 범위 스캔)
+    @Query("SELECT p FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<Product> findPageAfter(@Param("afterId") long afterId, Pageable limit);
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.Product;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 상품 전체를 id 순으로 끝까지 읽는 조회 (결과 전체를 메모리에 모으지 않음)
+ *
+ * id 키셋 배치(WHERE id > ? LIMIT n)로 나눠 읽고, 배치마다 커넥션을 반납한 뒤 상품을 전달한다.
+ * 느린 클라이언트가 응답을 받는 동안에도 커넥션 풀을 점유하지 않으며, 메모리에는 배치 하나만 남는다.
+ */
+@Repository
+public class ProductStreamRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_PRODUCTS_AFTER =
+            "SELECT id, name, price, stock, created_at, updated_at FROM products WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (rs, rowNum) -> Product.restore(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getBigDecimal("price"),
+            rs.getInt("stock"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStreamRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상품 id 순으로 한 건씩 전달 (전달받은 상품은 영속성 컨텍스트에 속하지 않음)
+     */
+    public void forEach(Consumer<Product> consumer) {
+        long lastId = 0;
+        while (true) {
+            List<Product> batch = jdbcTemplate.query(SELECT_PRODUCTS_AFTER, PRODUCT_ROW_MAPPER, lastId, BATCH_SIZE);
+            batch.forEach(consumer);
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
@@ -1,22 +1,72 @@
 package com.ecommerce.product.service;
 
 
+import com.ecommerce.infrastructure.cache.ProductNearCache;
+import com.ecommerce.infrastructure.cache.ProductSnapshot;
+import com.ecommerce.infrastructure.search.PricePage;
+import com.ecommerce.infrastructure.search.PricePosition;
+import com.ecommerce.infrastructure.search.ProductPriceIndex;
+import com.ecommerce.infrastructure.search.ProductSearchHits;
+import com.ecommerce.infrastructure.search.ProductSearchIndex;
 import com.ecommerce.product.entity.Product;
 import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.ProductStreamRepository;
+import com.ecommerce.product.service.dto.PriceCursor;
+import com.ecommerce.product.service.dto.ProductCursor;
+import com.ecommerce.product.service.dto.ProductSearchResult;
+import com.ecommerce.product.service.dto.ProductSlice;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
 public class ProductService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Product.price (precision 10, scale 2) 의 최댓값 (가격 범위 상한이 없을 때) */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
     private final ProductRepository productRepository;
+    private final ProductStreamRepository productStreamRepository;
+    private final ProductNearCache productNearCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductPriceIndex productPriceIndex;
 
     public ProductService(ProductRepository productRepository) {
+        this(productRepository, null, null, null, null);
+    }
+
+    /**
+     * @param productStreamRepository 전체 상품 스트리밍 조회 (없으면 스트리밍 조회 불가)
+     * @param productNearCache 상품 상세 캐시 (product.cache.enabled=false 이면 null, 매번 DB 조회)
+     * @param productSearchIndex 상품 검색 색인 (product.search.enabled=false 이면 null, LIKE 검색)
+     * @param productPriceIndex 가격 색인 (product.price-index.enabled=false 이면 null, DB keyset 조회)
+     */
+    @Autowired
+    public ProductService(ProductRepository productRepository,
+                          @Nullable ProductStreamRepository productStreamRepository,
+                          @Nullable ProductNearCache productNearCache,
+                          @Nullable ProductSearchIndex productSearchIndex,
+                          @Nullable ProductPriceIndex productPriceIndex) {
         this.productRepository = productRepository;
+        this.productStreamRepository = productStreamRepository;
+        this.productNearCache = productNearCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productPriceIndex = productPriceIndex;
     }
 
     /**
@@ -26,10 +76,46 @@ public class ProductService {
         return productRepository.findAll();
     }
 
+    /**
+     * 상품 목록 커서 기반 조회 (id 순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public ProductSlice getProductPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        long afterId = cursor == null || cursor.isBlank() ? 0L : ProductCursor.decode(cursor).id();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Product> rows = productRepository.findPageAfter(afterId, PageRequest.ofSize(size + 1));
+        if (rows.size() <= size) {
+            return new ProductSlice(rows, null);
+        }
+        List<Product> page = List.copyOf(rows.subList(0, size));
+        return new ProductSlice(page, new ProductCursor(page.get(size - 1).getId()).encode());
+    }
+
+    /**
+     * 전체 상품을 id 순으로 한 건씩 전달 (배치 단위로 읽어 결과 전체를 메모리에 모으지 않음)
+     */
+    public void streamProducts(Consumer<Product> consumer) {
+        if (productStreamRepository == null) {
+            throw new IllegalStateException("상품 스트리밍 조회를 사용할 수 없습니다.");
+        }
+        productStreamRepository.forEach(consumer);
+    }
+
     /**
      * 특정 상품 조회
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Product getProductById(Long id) {
+        if (productNearCache != null) {
+            return productNearCache.get(id)
+                    .map(ProductService::toProduct)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. ID: " + id));
+        }
         return productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. ID: " + id));
     }
@@ -43,16 +129,44 @@ public class ProductService {
 
     /**
      * 상품명으로 검색
+     * 검색 색인이 준비되어 있으면 상품명/카테고리/설명 일치 점수 순으로 최대 MAX_RESULT_WINDOW 건을 반환한다.
      */
     public List<Product> searchProductsByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return getAllProducts();
         }
-        return productRepository.findByNameContaining(name.trim());
+        if (!searchIndexReady()) {
+            return productRepository.findByNameContaining(name.trim());
+        }
+        return loadInOrder(productSearchIndex.search(name, false, 0, ProductSearchIndex.MAX_RESULT_WINDOW).productIds());
+    }
+
+    /**
+     * 상품 검색 (점수 순 페이징, page 는 0부터)
+     * 색인이 없거나 적재 중이면 상품명 LIKE 검색 결과를 잘라서 반환한다.
+     */
+    public ProductSearchResult searchProducts(String keyword, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: page=" + page + ", size=" + size);
+        }
+        long offset = (long) page * size;
+        if (!searchIndexReady()) {
+            List<Product> all = productRepository.findByNameContaining(keyword.trim());
+            int from = (int) Math.min(offset, all.size());
+            return new ProductSearchResult(all.subList(from, Math.min(from + size, all.size())), all.size(), page, size);
+        }
+        if (offset + size > ProductSearchIndex.MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 " + ProductSearchIndex.MAX_RESULT_WINDOW + "번째까지만 조회할 수 있습니다.");
+        }
+        ProductSearchHits hits = productSearchIndex.search(keyword, false, (int) offset, size);
+        return new ProductSearchResult(loadInOrder(hits.productIds()), hits.totalHits(), page, size);
     }
 
     /**
-     * 가격 범위로 검색
+     * 가격 범위로 검색 (범위 안 전체를 한 번에 반환하므로 넓은 범위는 getProductPageByPrice 로 조회한다)
      */
     public List<Product> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         if (minPrice == null) minPrice = BigDecimal.ZERO;
@@ -64,4 +178,96 @@ public class ProductService {
 
         return productRepository.findByPriceBetween(minPrice, maxPrice);
     }
+
+    /**
+     * 가격 범위 상품 목록 커서 기반 조회 (가격 → id 순, 양 끝 포함)
+     * 가격 색인이 준비되어 있으면 색인에서 위치를 읽고, 아니면 price 인덱스를 타는 keyset 쿼리로 조회한다.
+     * @param minPrice 최소 가격 (null 이면 0)
+     * @param maxPrice 최대 가격 (null 이면 상한 없음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public ProductSlice getProductPageByPrice(BigDecimal minPrice, BigDecimal maxPrice, boolean inStockOnly,
+                                              String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        if (minPrice == null) minPrice = BigDecimal.ZERO;
+        if (maxPrice == null) maxPrice = MAX_PRICE;
+        if (minPrice.signum() < 0) {
+            throw new IllegalArgumentException("최소 가격은 0 이상이어야 합니다.");
+        }
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        PriceCursor after = cursor == null || cursor.isBlank() ? null : PriceCursor.decode(cursor);
+        long minCents = ProductPriceIndex.toCents(minPrice, RoundingMode.CEILING);
+        long maxCents = ProductPriceIndex.toCents(maxPrice, RoundingMode.FLOOR);
+
+        if (productPriceIndex != null && productPriceIndex.isReady()) {
+            return pageFromPriceIndex(minCents, maxCents, inStockOnly, after, size);
+        }
+
+        // 첫 페이지(또는 범위 하한보다 앞선 커서)는 (최소 가격, 0) 다음부터 읽어 최소 가격인 상품부터 포함한다
+        boolean fromStart = after == null || after.cents() < minCents;
+        BigDecimal afterPrice = BigDecimal.valueOf(fromStart ? minCents : after.cents(), 2);
+        long afterId = fromStart ? 0L : after.id();
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Product> rows = productRepository.findPriceRangeAfter(afterPrice, afterId, BigDecimal.valueOf(maxCents, 2),
+                inStockOnly, PageRequest.ofSize(size + 1));
+        if (rows.size() <= size) {
+            return new ProductSlice(rows, null);
+        }
+        List<Product> page = List.copyOf(rows.subList(0, size));
+        Product last = page.get(size - 1);
+        return new ProductSlice(page, new PriceCursor(ProductPriceIndex.toCents(last.getPrice(), RoundingMode.HALF_UP), last.getId()).encode());
+    }
+
+    /**
+     * 색인의 가격과 재고는 늦게 반영될 수 있으므로, 가격 범위와 재고 조건은 id 로 읽은 현재 행으로 다시 거르고 모자라면 이어서 채운다.
+     */
+    private ProductSlice pageFromPriceIndex(long minCents, long maxCents, boolean inStockOnly, PriceCursor after, int size) {
+        PricePosition position = after == null ? null : new PricePosition(after.cents(), after.id());
+        List<Product> items = new ArrayList<>(size);
+        while (true) {
+            PricePage page = productPriceIndex.page(minCents, maxCents, inStockOnly, position, size - items.size());
+            for (Product product : loadInOrder(page.productIds())) {
+                long cents = ProductPriceIndex.toCents(product.getPrice(), RoundingMode.HALF_UP);
+                if (cents >= minCents && cents <= maxCents && (!inStockOnly || product.getStock() > 0)) {
+                    items.add(product);
+                }
+            }
+            if (page.next() == null) {
+                return new ProductSlice(items, null);
+            }
+            position = page.next();
+            if (items.size() == size) {
+                return new ProductSlice(items, new PriceCursor(position.cents(), position.id()).encode());
+            }
+        }
+    }
+
+    private boolean searchIndexReady() {
+        return productSearchIndex != null && productSearchIndex.isReady();
+    }
+
+    /**
+     * 색인 순서대로 상품 조회 (색인 반영 전에 삭제된 상품은 빠진다)
+     */
+    private List<Product> loadInOrder(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> ranks = new HashMap<>(rankedIds.size() * 2);
+        for (int i = 0; i < rankedIds.size(); i++) {
+            ranks.put(rankedIds.get(i), i);
+        }
+        List<Product> products = new ArrayList<>(productRepository.findAllById(rankedIds));
+        products.sort(Comparator.comparingInt(product -> ranks.get(product.getId())));
+        return products;
+    }
+
+    private static Product toProduct(ProductSnapshot snapshot) {
+        return Product.restore(snapshot.id(), snapshot.name(), snapshot.price(), snapshot.stock(),
+                snapshot.createdAt(), snapshot.updatedAt());
+    }
 }
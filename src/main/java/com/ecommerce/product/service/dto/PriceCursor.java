@@ -0,0 +1,30 @@
+package com.ecommerce.product.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 가격 범위 목록 keyset 커서 - 마지막으로 받은 상품의 (가격 x100, id)
+ * 클라이언트에는 구조를 알 수 없는 base64url 문자열로 전달한다.
+ */
+public record PriceCursor(long cents, long id) {
+
+    public String encode() {
+        String raw = cents + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PriceCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            return new PriceCursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
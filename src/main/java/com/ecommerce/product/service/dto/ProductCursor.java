@@ -0,0 +1,24 @@
+package com.ecommerce.product.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 커서 - 마지막으로 받은 상품의 id
+ * 클라이언트에는 구조를 알 수 없는 base64url 문자열로 전달한다.
+ */
+public record ProductCursor(Long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            return new ProductCursor(Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.product.service.dto;
+
+import com.ecommerce.product.entity.Product;
+
+import java.util.List;
+
+/**
+ * 상품 검색 결과 한 페이지 (점수 순)
+ * @param totalHits 검색어와 일치하는 전체 상품 수
+ */
+public record ProductSearchResult(List<Product> items, int totalHits, int page, int size) {
+
+    public boolean hasNext() {
+        return (long) (page + 1) * size < totalHits;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.product.service.dto;
+
+import com.ecommerce.product.entity.Product;
+
+import java.util.List;
+
+/**
+ * 상품 목록 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record ProductSlice(List<Product> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,98 @@
+-- 애플리케이션이 직접 관리하는 보조 테이블 (spring.sql.init.mode=always 로 기동 시 실행되므로 모두 IF NOT EXISTS)
+-- 기존 테이블(products, point_histories 등)의 인덱스 변경은 docs/schema.md 참고
+
+-- 주문/주문 항목 ID 채번 (OrderIdGenerators, 행은 기동 시 기존 최대 ID 뒤로 맞춘다)
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+-- 주문 이벤트 아웃박스 (order.outbox)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    event_type   VARCHAR(50)   NOT NULL,
+    aggregate_id BIGINT        NOT NULL,
+    payload      VARCHAR(1000) NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    attempts     INT           NOT NULL DEFAULT 0,
+    parked_at    DATETIME(6)   NULL,
+    PRIMARY KEY (id)
+);
+
+-- 핫 상품 메모리 재고 엔진 (order.inventory.hot)
+CREATE TABLE IF NOT EXISTS hot_stock_checkpoints (
+    node_id       VARCHAR(100) NOT NULL,
+    last_sequence BIGINT       NOT NULL,
+    PRIMARY KEY (node_id)
+);
+
+CREATE TABLE IF NOT EXISTS hot_stock_owners (
+    product_id BIGINT       NOT NULL,
+    node_id    VARCHAR(100) NOT NULL,
+    claimed_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (product_id),
+    KEY idx_hot_stock_owners_node (node_id)
+);
+
+-- 멱등성 키 (idempotency)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    record_key      VARCHAR(160) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    response_status INT          NULL,
+    response_body   TEXT         NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (record_key),
+    KEY idx_idempotency_keys_expires (expires_at)
+);
+
+-- 포인트 히스토리 저널 반영 체크포인트 (point.history.appender)
+CREATE TABLE IF NOT EXISTS point_history_checkpoints (
+    node_id       VARCHAR(100) NOT NULL,
+    last_sequence BIGINT       NOT NULL,
+    PRIMARY KEY (node_id)
+);
+
+-- 포인트 일일 스냅샷 (point.snapshot)
+CREATE TABLE IF NOT EXISTS point_daily_snapshots (
+    id                BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT         NOT NULL,
+    snapshot_date     DATE           NOT NULL,
+    opening_balance   DECIMAL(15, 2) NULL,
+    closing_balance   DECIMAL(15, 2) NULL,
+    total_charged     DECIMAL(19, 2) NOT NULL,
+    total_used        DECIMAL(19, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    first_history_id  BIGINT         NOT NULL,
+    last_history_id   BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_point_daily_snapshot_user_date (user_id, snapshot_date)
+);
+
+CREATE TABLE IF NOT EXISTS point_snapshot_watermarks (
+    job_name        VARCHAR(100) NOT NULL,
+    last_history_id BIGINT       NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+-- 상품 변경 순번 (product.indexer 가 색인 변경분을 따라잡는 기준, retention 이 지나면 삭제)
+CREATE TABLE IF NOT EXISTS product_changes (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    product_id BIGINT      NOT NULL,
+    changed_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    KEY idx_product_changes_changed_at (changed_at)
+);
+
+-- 포인트 히스토리 아카이브 세그먼트 원본 (point.archive, 노드 로컬 파일은 이 테이블의 캐시)
+CREATE TABLE IF NOT EXISTS point_history_archive_segments (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    row_count      INT         NOT NULL,
+    min_created_at DATETIME(6) NOT NULL,
+    max_created_at DATETIME(6) NOT NULL,
+    data           LONGBLOB    NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,161 @@
+package com.ecommerce;
+
+import com.ecommerce.infrastructure.persistence.entity.UserBalanceJpaEntity;
+import com.ecommerce.infrastructure.persistence.repository.SpringUserBalanceRepository;
+import com.ecommerce.order.adapter.out.persistence.OrderUserPersistenceAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 단일 지갑에 대한 조건부 잔액 차감(UPDATE ... SET balance = balance + delta) 경합 벤치마크
+ * findByUserIdWithLock(SELECT ... FOR UPDATE) 후 차감하는 경로와 처리량 비교 (결과는 TestReporter 로 기록)
+ */
+@JpaContainerTest
+@Import(OrderUserPersistenceAdapter.class)
+class BalanceDeltaContentionTest {
+
+    private static final int THREADS = 32;
+    private static final int DEBITS = 1_000;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("7500.00");
+
+    @Autowired
+    private SpringUserBalanceRepository springUserBalanceRepository;
+
+    @Autowired
+    private OrderUserPersistenceAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("1,000건의 동시 차감이 잔액 범위 안에서만 반영되고 최종 잔액이 정확히 맞으며, 비관적 락 차감과 처리량을 비교해 기록한다")
+    void applyBalanceDelta_ComparedWithPessimisticLock(TestReporter testReporter) throws InterruptedException {
+        // given
+        Long lockingUserId = 1L;
+        Long deltaUserId = 2L;
+        createBalance(lockingUserId);
+        createBalance(deltaUserId);
+        ConcurrentLinkedQueue<BigDecimal> negativeResults = new ConcurrentLinkedQueue<>();
+
+        // when
+        BenchmarkResult locking = run(() -> {
+            UserBalanceJpaEntity balance = springUserBalanceRepository.findByUserIdWithLock(lockingUserId).orElseThrow();
+            if (balance.getBalance().compareTo(AMOUNT) < 0) {
+                return false;
+            }
+            balance.setBalance(balance.getBalance().subtract(AMOUNT));
+            balance.setUpdatedAt(LocalDateTime.now());
+            return true;
+        });
+        BenchmarkResult delta = run(() -> {
+            Optional<BigDecimal> result = adapter.applyBalanceDelta(deltaUserId, AMOUNT.negate());
+            result.filter(remaining -> remaining.signum() < 0).ifPresent(negativeResults::add);
+            return result.isPresent();
+        });
+
+        testReporter.publishEntry("findByUserIdWithLock", locking.toString());
+        testReporter.publishEntry("delta UPDATE", delta.toString());
+        testReporter.publishEntry("speedup", String.format("%.2fx", delta.throughputPerSecond() / locking.throughputPerSecond()));
+
+        // then
+        int expectedSuccesses = INITIAL_BALANCE.divide(AMOUNT).intValueExact();
+        assertThat(locking.failures()).isEmpty();
+        assertThat(delta.failures()).isEmpty();
+        assertThat(negativeResults).isEmpty();
+        assertThat(locking.successes()).isEqualTo(expectedSuccesses);
+        assertThat(delta.successes()).isEqualTo(expectedSuccesses);
+        assertThat(delta.rejections()).isEqualTo(DEBITS - expectedSuccesses);
+        assertThat(springUserBalanceRepository.findByUserId(lockingUserId).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.ZERO);
+        UserBalanceJpaEntity balance = springUserBalanceRepository.findByUserId(deltaUserId).orElseThrow();
+        assertThat(balance.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balance.getVersion()).isEqualTo((long) expectedSuccesses);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자에 대한 차감은 반영되지 않는다")
+    void applyBalanceDelta_UnknownUser_ReturnsEmpty() {
+        // when
+        Optional<BigDecimal> result = new TransactionTemplate(transactionManager)
+                .execute(status -> adapter.applyBalanceDelta(999L, AMOUNT.negate()));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    // 주문 결제처럼 차감마다 트랜잭션 하나로 실행 (debit 이 false 를 반환하면 잔액 부족 거절)
+    private BenchmarkResult run(Supplier<Boolean> debit) throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(DEBITS);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger rejections = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < DEBITS; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> debit.get()))) {
+                        successes.incrementAndGet();
+                    } else {
+                        rejections.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        boolean finished = done.await(2, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        assertThat(finished).as("차감 시도가 제한 시간 안에 끝나야 한다").isTrue();
+
+        return new BenchmarkResult(successes.get(), rejections.get(), List.copyOf(failures), elapsedNanos);
+    }
+
+    private void createBalance(Long userId) {
+        springUserBalanceRepository.save(new UserBalanceJpaEntity(
+                userId, INITIAL_BALANCE, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    private record BenchmarkResult(int successes, int rejections, List<Throwable> failures, long elapsedNanos) {
+        double throughputPerSecond() {
+            return DEBITS / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("debits=%d, successes=%d, rejections=%d, elapsed=%dms, throughput=%.1f ops/s",
+                    DEBITS, successes, rejections, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughputPerSecond());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecommerce;
+
+import com.ecommerce.application.dto.CategoryFacet;
+import com.ecommerce.application.dto.CategoryProductSlice;
+import com.ecommerce.application.dto.CreateProductCommand;
+import com.ecommerce.application.service.ProductService;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.persistence.adapter.ProductPersistenceAdapter;
+import com.ecommerce.infrastructure.search.ProductCategoryIndex;
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.infrastructure.search.ProductIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 카테고리 목록/패싯 - 메모리 색인 경로와 DB keyset 경로의 결과 일치, 상품 변경의 커밋 후 반영 검증
+ */
+@JpaContainerTest
+@Import({ProductService.class, ProductPersistenceAdapter.class, CategoryListingTest.CategoryIndexConfig.class})
+class CategoryListingTest {
+
+    private static final String[] CATEGORIES = {"전자기기", "주방", "가구"};
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductPersistenceAdapter productPersistenceAdapter;
+
+    @Autowired
+    private ProductCategoryIndex categoryIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductService databaseOnly;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.queryForList("SELECT id FROM products", Long.class).forEach(categoryIndex::remove);
+        jdbcTemplate.update("DELETE FROM products");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            // 같은 상품명이 여러 개 있어 ID 로 동순위를 나누는 경우 포함
+            String name = String.format("상품%03d", i % 20);
+            rows.add(new Object[]{name, "설명", BigDecimal.valueOf(1000 + i), 10, CATEGORIES[i % 3], i % 10 != 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, stock, category, active, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+
+        new ProductIndexer(List.of(categoryIndex), jdbcTemplate, new ProductChangeLog(jdbcTemplate),
+                Duration.ofMinutes(2), Duration.ofHours(1)).runOnce();
+        databaseOnly = new ProductService(productPersistenceAdapter);
+    }
+
+    @Test
+    @DisplayName("색인 경로와 DB 경로 모두 커서를 따라가면 (상품명, ID) 순으로 활성 상품을 한 번씩 받는다")
+    void getProductsByCategory_IndexAndDatabase_SameOrder() {
+        // given
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE category = '주방' AND active = true ORDER BY name, id", Long.class);
+
+        // when
+        List<Long> fromIndex = collect(productService, "주방", 7);
+        List<Long> fromDatabase = collect(databaseOnly, "주방", 7);
+
+        // then
+        assertThat(expected).hasSize(36);
+        assertThat(fromIndex).containsExactlyElementsOf(expected);
+        assertThat(fromDatabase).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("패싯 수는 색인과 DB 집계가 같다")
+    void getCategoryFacets_IndexMatchesDatabase() {
+        // when
+        List<CategoryFacet> fromIndex = productService.getCategoryFacets();
+        List<CategoryFacet> fromDatabase = databaseOnly.getCategoryFacets();
+
+        // then
+        assertThat(fromIndex).containsExactlyElementsOf(fromDatabase);
+        assertThat(fromIndex).extracting(CategoryFacet::activeProducts).containsExactly(36L, 36L, 36L);
+    }
+
+    @Test
+    @DisplayName("상품 비활성화/생성이 커밋되면 목록과 패싯에 바로 반영된다")
+    void deactivateAndCreate_ReflectedAfterCommit() {
+        // given
+        Long target = productService.getProductsByCategory("전자기기", null, 1).items().get(0).getId();
+
+        // when
+        productService.deactivateProduct(target);
+        Product created = productService.createProduct(
+                new CreateProductCommand("가습기", "설명", BigDecimal.TEN, 1, "생활가전"));
+
+        // then
+        assertThat(collect(productService, "전자기기", 50)).doesNotContain(target).hasSize(35);
+        assertThat(productService.getProductsByCategory("생활가전", null, 10).items())
+                .extracting(Product::getId).containsExactly(created.getId());
+        assertThat(productService.getCategoryFacets()).containsExactlyElementsOf(databaseOnly.getCategoryFacets());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 조회 크기는 예외가 발생한다")
+    void getProductsByCategory_InvalidInput_Throws() {
+        assertThatThrownBy(() -> productService.getProductsByCategory("주방", "not-a-cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getProductsByCategory("주방", null, ProductService.MAX_CATEGORY_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> collect(ProductService service, String category, int size) {
+        List<Long> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            CategoryProductSlice slice = service.getProductsByCategory(category, cursor, size);
+            slice.items().forEach(product -> collected.add(product.getId()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return collected;
+    }
+
+    @TestConfiguration
+    static class CategoryIndexConfig {
+
+        @Bean
+        ProductCategoryIndex productCategoryIndex() {
+            return new ProductCategoryIndex();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.ecommerce;
+
+import com.ecommerce.order.adapter.out.persistence.GroupCommitOrderRepository;
+import com.ecommerce.order.adapter.out.persistence.GroupCommitOrderWriter;
+import com.ecommerce.order.adapter.out.persistence.OrderIdGenerators;
+import com.ecommerce.order.adapter.out.persistence.OrderPersistenceAdapter;
+import com.ecommerce.order.config.GroupCommitConfig;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 그룹 커밋 저장 검증
+ * 동시 주문이 적은 수의 트랜잭션으로 묶이는지, 호출자 롤백 시 주문 행이 남지 않는지, 채번이 JPA 경로와 겹치지 않는지 확인
+ */
+@JpaContainerTest
+@Import(OrderPersistenceAdapter.class)
+class GroupCommitOrderWriterTest {
+
+    private static final int THREADS = 32;
+    private static final int ORDERS_PER_THREAD = 10;
+
+    @Autowired
+    private OrderPersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GroupCommitOrderWriter writer;
+    private GroupCommitOrderRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        OrderIdGenerators.seed(jdbcTemplate);
+        writer = new GroupCommitOrderWriter(
+                GroupCommitConfig.writerDataSource(dataSourceProperties, 2), 50, Duration.ofMillis(2), 1024);
+        writer.start();
+        repository = new GroupCommitOrderRepository(persistenceAdapter, writer, Duration.ofSeconds(10));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 커밋되는 주문은 적은 수의 트랜잭션으로 묶여 저장되고 각자 고유 ID 를 받는다")
+    void save_ConcurrentOrders_GroupedIntoBatches(TestReporter testReporter) throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        ConcurrentLinkedQueue<Long> ids = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            long userId = t + 1;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        ids.add(transactionTemplate.execute(status -> repository.save(createOrder(userId))).getId());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        boolean finished = done.await(1, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdownNow();
+
+        testReporter.publishEntry("group commit", String.format("orders=%d, batches=%d, elapsed=%dms",
+                ids.size(), writer.committedBatches(), elapsedMillis));
+
+        // then
+        int total = THREADS * ORDERS_PER_THREAD;
+        Set<Long> distinctIds = ids.stream().collect(Collectors.toSet());
+        assertThat(finished).as("주문 저장이 제한 시간 안에 끝나야 한다").isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(distinctIds).hasSize(total);
+        assertThat(countOf("orders")).isEqualTo(total);
+        assertThat(countOf("order_items")).isEqualTo(total * 2L);
+        assertThat(writer.committedBatches()).isLessThan(total);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 호출자 트랜잭션이 롤백되면 주문 행은 저장되지 않는다")
+    void save_CallerRollsBackBeforeCommit_NothingPersisted() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            repository.save(createOrder(1L));
+            throw new IllegalStateException("결제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(countOf("orders")).isZero();
+        assertThat(countOf("order_items")).isZero();
+        assertThat(writer.committedBatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 행이 저장된 뒤 호출자 커밋이 실패하면 주문 행을 지운다")
+    void save_CallerCommitFailsAfterWrite_OrderDeleted() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            repository.save(createOrder(1L));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("커밋 실패");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(writer.committedBatches()).isEqualTo(1);
+        assertThat(countOf("orders")).isZero();
+        assertThat(countOf("order_items")).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 호출하면 예외가 발생한다")
+    void save_WithoutTransaction_Throws() {
+        assertThatThrownBy(() -> repository.save(createOrder(1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("채번 행은 기존 최대 ID 뒤로 맞춰지고 JPA 저장과 그룹 커밋 저장의 ID 가 겹치지 않는다")
+    void seed_ExistingOrders_IdsContinueWithoutCollision() {
+        // given
+        long existingId = 1_000_000L;
+        jdbcTemplate.update("INSERT INTO orders (id, user_id, status, total_amount, ordered_at) VALUES (?, 1, 'PAID', 1000, ?)",
+                existingId, LocalDateTime.now());
+        OrderIdGenerators.seed(jdbcTemplate);
+
+        // when
+        Long jpaId = transactionTemplate.execute(status -> persistenceAdapter.save(createOrder(1L)).getId());
+        Long groupCommitId = transactionTemplate.execute(status -> repository.save(createOrder(2L)).getId());
+
+        // then (JPA 경로는 이전 테스트에서 받아 둔 블록을 이어 쓸 수 있으므로 충돌 여부만 확인)
+        assertThat(groupCommitId).isGreaterThan(existingId).isNotEqualTo(jpaId);
+        assertThat(countOf("orders")).isEqualTo(3);
+    }
+
+    private long countOf(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private Order createOrder(Long userId) {
+        return Order.create(userId, List.of(
+                OrderItem.create(1L, "상품1", BigDecimal.valueOf(1000), 1),
+                OrderItem.create(2L, "상품2", BigDecimal.valueOf(2000), 2)
+        ));
+    }
+}
@@ -0,0 +1,155 @@
+package com.ecommerce;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import com.ecommerce.infrastructure.persistence.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.persistence.repository.SpringProductRepository;
+import com.ecommerce.order.adapter.out.inventory.HotInventoryEngine;
+import com.ecommerce.order.adapter.out.inventory.HotInventoryProductRepository;
+import com.ecommerce.order.adapter.out.inventory.JdbcHotStockStore;
+import com.ecommerce.order.adapter.out.persistence.OrderProductPersistenceAdapter;
+import com.ecommerce.order.domain.exception.InsufficientStockException;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 단일 핫 상품에 대한 재고 차감 경합 벤치마크
+ * findByIdWithLock(SELECT ... FOR UPDATE) 경로와 메모리 재고 엔진(커밋 시 저널 fsync, write-behind 반영) 경로의 처리량 비교 (결과는 TestReporter 로 기록)
+ */
+@JpaContainerTest
+@Import(OrderProductPersistenceAdapter.class)
+class HotInventoryContentionTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS = 2_000;
+    private static final int INITIAL_STOCK = 1_500;
+
+    @TempDir
+    Path journalDirectory;
+
+    @Autowired
+    private SpringProductRepository springProductRepository;
+
+    @Autowired
+    private OrderProductPersistenceAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("메모리 재고 엔진 차감은 초과 판매 없이 비관적 락 차감과 같은 결과를 내고 두 경로의 처리량을 기록한다")
+    void hotInventory_ComparedWithPessimisticLock(TestReporter testReporter) throws InterruptedException {
+        // given
+        Long lockingProductId = createProduct("락 차감 상품");
+        Long hotProductId = createProduct("핫 상품");
+        HotInventoryEngine engine = new HotInventoryEngine(
+                new JdbcHotStockStore(jdbcTemplate, transactionManager),
+                new AppendOnlyJournal(journalDirectory),
+                "contention-test-" + UUID.randomUUID()
+        );
+        engine.start(Set.of(hotProductId), Duration.ofMillis(200));
+        ProductRepository hotRepository = new HotInventoryProductRepository(adapter, engine);
+
+        // when
+        BenchmarkResult locking = run(adapter, lockingProductId);
+        BenchmarkResult hot;
+        try {
+            hot = run(hotRepository, hotProductId);
+            engine.flush();
+        } finally {
+            engine.shutdown();
+        }
+
+        testReporter.publishEntry("findByIdWithLock", locking.toString());
+        testReporter.publishEntry("hot inventory engine", hot.toString());
+        testReporter.publishEntry("speedup", String.format("%.2fx", hot.throughputPerSecond() / locking.throughputPerSecond()));
+
+        // then
+        assertThat(locking.successes()).isEqualTo(INITIAL_STOCK);
+        assertThat(hot.successes()).isEqualTo(INITIAL_STOCK);
+        assertThat(stockOf(lockingProductId)).isZero();
+        assertThat(stockOf(hotProductId)).isZero();
+    }
+
+    // 주문 트랜잭션처럼 시도마다 트랜잭션 하나로 차감
+    private BenchmarkResult run(ProductRepository repository, Long productId) throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ATTEMPTS);
+        AtomicInteger successes = new AtomicInteger();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    transactionTemplate.executeWithoutResult(status -> repository.decreaseStock(productId, 1));
+                    successes.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    // 재고 소진 후의 시도
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        boolean finished = done.await(2, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        assertThat(finished).as("차감 시도가 제한 시간 안에 끝나야 한다").isTrue();
+
+        return new BenchmarkResult(successes.get(), elapsedNanos);
+    }
+
+    private Long createProduct(String name) {
+        ProductJpaEntity entity = new ProductJpaEntity(
+                name, "설명", BigDecimal.valueOf(10000), INITIAL_STOCK,
+                "전자제품", true, LocalDateTime.now(), LocalDateTime.now()
+        );
+        return springProductRepository.save(entity).getId();
+    }
+
+    private int stockOf(Long productId) {
+        return springProductRepository.findById(productId).orElseThrow().getStock();
+    }
+
+    private record BenchmarkResult(int successes, long elapsedNanos) {
+        double throughputPerSecond() {
+            return ATTEMPTS / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("attempts=%d, successes=%d, elapsed=%dms, throughput=%.1f ops/s",
+                    ATTEMPTS, successes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughputPerSecond());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MySQL 컨테이너에 붙는 JPA 슬라이스 테스트
+ *
+ * - 엔티티 테이블은 create-drop 으로, 보조 테이블은 schema.sql 로 만든다.
+ * - 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션(롤백)은 쓰지 않는다. 데이터는 각 테스트가 직접 정리한다.
+ * - 추가로 필요한 빈은 테스트 클래스에 @Import 로 더한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public @interface JpaContainerTest {
+}
@@ -0,0 +1,183 @@
+package com.ecommerce;
+
+import com.ecommerce.infrastructure.persistence.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.persistence.repository.SpringProductRepository;
+import com.ecommerce.order.adapter.out.persistence.OrderProductPersistenceAdapter;
+import com.ecommerce.order.application.dto.PlaceOrderCommand;
+import com.ecommerce.order.application.service.PlaceOrderService;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.port.out.EventPublisher;
+import com.ecommerce.order.domain.port.out.OrderRepository;
+import com.ecommerce.order.domain.port.out.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 겹치는 장바구니를 서로 다른 순서로 동시에 주문해도 InnoDB 데드락이 발생하지 않는지 검증
+ */
+@JpaContainerTest
+@Import(OrderProductPersistenceAdapter.class)
+class OrderLockOrderingStressTest {
+
+    private static final int THREADS = 64;
+    private static final int ORDERS_PER_THREAD = 20;
+    private static final int PRODUCT_COUNT = 5;
+    private static final int INITIAL_STOCK = 100_000;
+
+    @Autowired
+    private SpringProductRepository springProductRepository;
+
+    @Autowired
+    private OrderProductPersistenceAdapter productAdapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("64개 스레드가 겹치는 장바구니를 역순으로 주문해도 데드락이 발생하지 않는다")
+    void placeOrder_OverlappingCartsInRandomOrder_NoDeadlock(TestReporter testReporter) throws InterruptedException {
+        // given
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productIds.add(createProduct("상품" + i));
+        }
+
+        PlaceOrderService placeOrderService = new PlaceOrderService(
+                new InMemoryOrderRepository(), new UnlimitedUserRepository(), productAdapter, new NoOpEventPublisher());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger deadlocks = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        PlaceOrderCommand command = new PlaceOrderCommand(1L, shuffledCart(productIds));
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> placeOrderService.placeOrder(command));
+                            successes.incrementAndGet();
+                        } catch (PessimisticLockingFailureException e) {
+                            deadlocks.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdownNow();
+
+        testReporter.publishEntry("lock ordering", String.format("orders=%d, successes=%d, deadlocks=%d, failures=%d, elapsed=%dms",
+                THREADS * ORDERS_PER_THREAD, successes.get(), deadlocks.get(), failures.size(), elapsedMillis));
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(deadlocks.get()).isZero();
+        assertThat(failures).isEmpty();
+        assertThat(successes.get()).isEqualTo(THREADS * ORDERS_PER_THREAD);
+        for (Long productId : productIds) {
+            int stock = springProductRepository.findById(productId).orElseThrow().getStock();
+            // 장바구니마다 각 상품 1개 + 중복 라인 1개씩 포함되므로 상품당 주문 건수 * 2 만큼 차감
+            assertThat(stock).isEqualTo(INITIAL_STOCK - THREADS * ORDERS_PER_THREAD * 2);
+        }
+    }
+
+    // 모든 상품을 임의 순서로 담고, 같은 상품의 중복 라인을 하나씩 추가
+    private List<PlaceOrderCommand.OrderItemRequest> shuffledCart(List<Long> productIds) {
+        List<PlaceOrderCommand.OrderItemRequest> items = new ArrayList<>();
+        for (Long productId : productIds) {
+            items.add(new PlaceOrderCommand.OrderItemRequest(productId, 1));
+            items.add(new PlaceOrderCommand.OrderItemRequest(productId, 1));
+        }
+        Collections.shuffle(items, ThreadLocalRandom.current());
+        return items;
+    }
+
+    private Long createProduct(String name) {
+        ProductJpaEntity entity = new ProductJpaEntity(
+                name, "설명", BigDecimal.valueOf(100), INITIAL_STOCK,
+                "전자제품", true, LocalDateTime.now(), LocalDateTime.now()
+        );
+        return springProductRepository.save(entity).getId();
+    }
+
+    private static class InMemoryOrderRepository implements OrderRepository {
+        @Override
+        public Order save(Order order) {
+            return order;
+        }
+
+        @Override
+        public Optional<Order> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void delete(Order order) {
+        }
+    }
+
+    private static class UnlimitedUserRepository implements UserRepository {
+        @Override
+        public boolean existsById(Long userId) {
+            return true;
+        }
+
+        @Override
+        public BigDecimal getUserBalance(Long userId) {
+            return new BigDecimal("1000000000");
+        }
+
+        @Override
+        public Optional<BigDecimal> applyBalanceDelta(Long userId, BigDecimal delta) {
+            return Optional.of(getUserBalance(userId).add(delta));
+        }
+    }
+
+    private static class NoOpEventPublisher implements EventPublisher {
+        @Override
+        public void publishOrderCreated(Order order) {
+        }
+
+        @Override
+        public void publishPaymentCompleted(Order order) {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=false",
+                "server.tomcat.threads.max=" + RequestLoadTestSupport.TOMCAT_MAX_THREADS
+        })
+@Import({TestcontainersConfiguration.class, RequestLoadTestSupport.LoadTestConfiguration.class})
+class PlatformThreadRequestLoadTest extends RequestLoadTestSupport {
+
+    @Autowired
+    private InFlightRequestFilter inFlightRequestFilter;
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드는 동시 처리 요청 수가 Tomcat 스레드 수로 제한된다")
+    void platformThreads_InFlightBoundedByPool(TestReporter testReporter) throws InterruptedException {
+        // when
+        LoadResult result = runLoad(inFlightRequestFilter);
+        testReporter.publishEntry("platform threads", result.toString());
+
+        // then
+        assertThat(result.failures()).isZero();
+        assertThat(result.latencyNanos()).hasSize(REQUESTS);
+        assertThat(result.maxInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce;
+
+import com.ecommerce.point.bulk.BulkChargeFormat;
+import com.ecommerce.point.bulk.BulkChargeJob;
+import com.ecommerce.point.bulk.BulkChargeProgress;
+import com.ecommerce.point.bulk.BulkChargeRow;
+import com.ecommerce.point.bulk.BulkChargeService;
+import com.ecommerce.point.bulk.JdbcBulkChargeStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포인트 일괄 지급 (upsert + 배치 히스토리) 정합성과 처리량 측정 (처리량은 TestReporter 로 기록)
+ */
+@JpaContainerTest
+class PointBulkChargeTest {
+
+    private static final int USERS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private JdbcBulkChargeStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_histories");
+        jdbcTemplate.update("DELETE FROM user_balances");
+        store = new JdbcBulkChargeStore(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("기존 잔액은 가산하고 없는 잔액은 생성하며, 같은 사용자의 여러 지급은 입력 순서대로 balance_after 가 기록된다")
+    void apply_UpsertsBalancesAndHistories() {
+        // given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        jdbcTemplate.update("INSERT INTO user_balances (user_id, balance, created_at, updated_at, version) VALUES (?, ?, ?, ?, 3)",
+                1L, new BigDecimal("100.00"), now, now);
+        List<BulkChargeRow> rows = List.of(
+                new BulkChargeRow(1, 1L, new BigDecimal("1000")),
+                new BulkChargeRow(3, 1L, new BigDecimal("200")),
+                new BulkChargeRow(2, 2L, new BigDecimal("500")));
+
+        // when
+        store.apply(rows, "이벤트 지급", now);
+
+        // then
+        assertThat(balance(1L)).isEqualByComparingTo("1300");
+        assertThat(balance(2L)).isEqualByComparingTo("500");
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM user_balances WHERE user_id = 1", Long.class)).isEqualTo(4L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT balance_after FROM point_histories WHERE user_id = 1 ORDER BY id", BigDecimal.class))
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1100"), new BigDecimal("1300"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_histories WHERE type = 'CHARGE' AND description = '이벤트 지급'", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("2만 명 일괄 지급 처리량 (users/s) - 모든 사용자의 잔액과 히스토리가 한 건씩 반영된다")
+    void bulkCharge_Throughput(TestReporter testReporter) throws Exception {
+        // given
+        StringBuilder csv = new StringBuilder("user_id\n");
+        for (int i = USERS; i >= 1; i--) {
+            csv.append(i).append('\n');
+        }
+        BulkChargeService service = new BulkChargeService(
+                store, null, new ObjectMapper(), spoolDirectory, 1000, Duration.ofHours(1));
+
+        // when
+        BulkChargeProgress progress;
+        try {
+            BulkChargeProgress submitted = service.submit(
+                    new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                    BulkChargeFormat.CSV, new BigDecimal("1000"), "이벤트 지급", 1);
+            progress = await(service, submitted.jobId());
+        } finally {
+            service.shutdown();
+        }
+
+        testReporter.publishEntry("bulk-charge", String.format("users=%d, chunks=%d, usersPerSecond=%.0f",
+                progress.appliedRows(), progress.committedChunks(), progress.usersPerSecond()));
+
+        // then
+        assertThat(progress.status()).isEqualTo(BulkChargeJob.Status.COMPLETED);
+        assertThat(progress.appliedRows()).isEqualTo(USERS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_balances", Long.class)).isEqualTo(USERS);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(balance) FROM user_balances", BigDecimal.class))
+                .isEqualByComparingTo(BigDecimal.valueOf(1000L * USERS));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_histories", Long.class)).isEqualTo(USERS);
+    }
+
+    private BulkChargeProgress await(BulkChargeService service, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            BulkChargeProgress progress = service.find(jobId).orElseThrow();
+            if (progress.status() == BulkChargeJob.Status.COMPLETED || progress.status() == BulkChargeJob.Status.FAILED) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("일괄 지급 작업이 끝나지 않았습니다: " + jobId);
+    }
+
+    private BigDecimal balance(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM user_balances WHERE user_id = ?", BigDecimal.class, userId);
+    }
+}
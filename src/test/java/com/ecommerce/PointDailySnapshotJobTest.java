@@ -0,0 +1,184 @@
+package com.ecommerce;
+
+import com.ecommerce.point.service.PointStatementService;
+import com.ecommerce.point.service.dto.PointStatement;
+import com.ecommerce.point.snapshot.DailySnapshotJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일일 스냅샷 증분 집계와 스냅샷 + 미반영 히스토리 병합 명세서 검증
+ */
+@JpaContainerTest
+@Import(PointStatementService.class)
+class PointDailySnapshotJobTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2024, 3, 1);
+    private static final LocalDate DAY2 = DAY1.plusDays(1);
+    private static final LocalDate DAY3 = DAY1.plusDays(2);
+
+    @Autowired
+    private PointStatementService pointStatementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private DailySnapshotJob job;
+    private BigDecimal balance;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_histories");
+        jdbcTemplate.update("DELETE FROM point_daily_snapshots");
+        jdbcTemplate.update("DELETE FROM point_snapshot_watermarks");
+        // 작은 배치로 여러 트랜잭션에 걸쳐 집계되도록 구성
+        job = new DailySnapshotJob(jdbcTemplate, transactionManager, 3, Duration.ZERO);
+        balance = BigDecimal.ZERO;
+    }
+
+    @Test
+    @DisplayName("스냅샷 집계 전후와 추가 히스토리 유입 후에도 명세서가 원본 히스토리 계산과 같다")
+    void statement_SnapshotPlusTail_MatchesRawHistory() {
+        // given
+        charge(DAY1.atTime(9, 0), "1000");
+        use(DAY1.atTime(12, 0), "300");
+        charge(DAY1.atTime(18, 0), "500");
+        use(DAY2.atTime(10, 0), "200");
+        charge(DAY3.atTime(8, 0), "50");
+        use(DAY3.atTime(20, 0), "1000");
+        insertHistory(2L, "CHARGE", "999", "999", DAY2.atTime(11, 0)); // 다른 사용자
+        PointStatement raw = pointStatementService.getStatement(USER_ID, DAY1, DAY3);
+
+        // when
+        int folded = job.runOnce();
+        PointStatement fromSnapshots = pointStatementService.getStatement(USER_ID, DAY1, DAY3);
+
+        // then
+        assertThat(folded).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_daily_snapshots WHERE user_id = ?",
+                Long.class, USER_ID)).isEqualTo(3);
+        assertThat(fromSnapshots).usingRecursiveComparison().withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(raw);
+        assertThat(fromSnapshots.openingBalance()).isEqualByComparingTo("0");
+        assertThat(fromSnapshots.closingBalance()).isEqualByComparingTo("50");
+        assertThat(fromSnapshots.totalCharged()).isEqualByComparingTo("1550");
+        assertThat(fromSnapshots.totalUsed()).isEqualByComparingTo("1500");
+        assertThat(fromSnapshots.transactionCount()).isEqualTo(6);
+        assertThat(fromSnapshots.days()).extracting(PointStatement.DailyBalance::date).containsExactly(DAY1, DAY2, DAY3);
+        assertThat(fromSnapshots.days().get(1).openingBalance()).isEqualByComparingTo("1200");
+        assertThat(fromSnapshots.days().get(1).closingBalance()).isEqualByComparingTo("1000");
+
+        // when - 이미 집계된 날짜(DAY3)에 히스토리 추가: 워터마크 이후 꼬리 구간으로 조회되고, 재집계 시 스냅샷에 병합
+        charge(DAY3.atTime(23, 0), "70");
+        PointStatement withTail = pointStatementService.getStatement(USER_ID, DAY1, DAY3);
+        int refolded = job.runOnce();
+        PointStatement afterRefold = pointStatementService.getStatement(USER_ID, DAY1, DAY3);
+
+        // then
+        assertThat(withTail.closingBalance()).isEqualByComparingTo("120");
+        assertThat(withTail.totalCharged()).isEqualByComparingTo("1620");
+        assertThat(withTail.transactionCount()).isEqualTo(7);
+        assertThat(refolded).isEqualTo(1);
+        assertThat(afterRefold).usingRecursiveComparison().withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(withTail);
+        assertThat(afterRefold.days().get(2).openingBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("비어 있는 히스토리 ID 앞에서 멈추고, 빈 곳이 늦게 커밋되면 created_at 이 오래되었어도 이어서 반영한다")
+    void runOnce_IdGap_HoldsWatermarkUntilFilled() {
+        // given - 가운데 ID 가 아직 커밋되지 않은 상황을 만든다
+        DailySnapshotJob gapJob = new DailySnapshotJob(jdbcTemplate, transactionManager, 100, Duration.ofHours(1));
+        charge(DAY1.atTime(9, 0), "100");
+        charge(DAY1.atTime(10, 0), "100");
+        charge(DAY1.atTime(11, 0), "100");
+        Long firstId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM point_histories", Long.class);
+        Long gapId = firstId + 1;
+        jdbcTemplate.update("DELETE FROM point_histories WHERE id = ?", gapId);
+
+        // when
+        int folded = gapJob.runOnce();
+
+        // then
+        assertThat(folded).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(firstId);
+
+        // when - 빈 ID 가 오래된 created_at 으로 늦게 커밋됨
+        jdbcTemplate.update("INSERT INTO point_histories (id, user_id, type, amount, balance_after, description, created_at) " +
+                        "VALUES (?, ?, 'CHARGE', 100, 200, 'CHARGE', ?)",
+                gapId, USER_ID, Timestamp.valueOf(DAY1.atTime(10, 0)));
+        int refolded = gapJob.runOnce();
+
+        // then
+        assertThat(refolded).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(firstId + 2);
+        assertThat(jdbcTemplate.queryForObject("SELECT transaction_count FROM point_daily_snapshots WHERE user_id = ?",
+                Integer.class, USER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 히스토리 ID 가 대기 시간 동안 채워지지 않으면 롤백된 것으로 보고 넘어간다")
+    void runOnce_ExpiredIdGap_SkipsIt() {
+        // given
+        charge(DAY1.atTime(9, 0), "100");
+        charge(DAY1.atTime(10, 0), "100");
+        charge(DAY1.atTime(11, 0), "100");
+        Long firstId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM point_histories", Long.class);
+        jdbcTemplate.update("DELETE FROM point_histories WHERE id = ?", firstId + 1);
+
+        // when - 대기 시간 0
+        int folded = job.runOnce();
+
+        // then
+        assertThat(folded).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(firstId + 2);
+    }
+
+    @Test
+    @DisplayName("조회 기간이 잘못되면 예외가 발생한다")
+    void getStatement_InvalidRange_Throws() {
+        assertThatThrownBy(() -> pointStatementService.getStatement(USER_ID, DAY3, DAY1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointStatementService.getStatement(USER_ID, DAY1,
+                DAY1.plusDays(PointStatementService.MAX_STATEMENT_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long watermark() {
+        return jdbcTemplate.queryForObject("SELECT last_history_id FROM point_snapshot_watermarks WHERE job_name = ?",
+                Long.class, DailySnapshotJob.JOB_NAME);
+    }
+
+    private void charge(LocalDateTime createdAt, String amount) {
+        balance = balance.add(new BigDecimal(amount));
+        insertHistory(USER_ID, "CHARGE", amount, balance.toPlainString(), createdAt);
+    }
+
+    private void use(LocalDateTime createdAt, String amount) {
+        balance = balance.subtract(new BigDecimal(amount));
+        insertHistory(USER_ID, "USE", amount, balance.toPlainString(), createdAt);
+    }
+
+    private void insertHistory(Long userId, String type, String amount, String balanceAfter, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO point_histories (user_id, type, amount, balance_after, description, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                userId, type, new BigDecimal(amount), new BigDecimal(balanceAfter), type, Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecommerce;
+
+import com.ecommerce.point.service.PointService;
+import com.ecommerce.point.service.dto.PointHistorySlice;
+import com.ecommerce.point.service.dto.PointHistoryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포인트 히스토리 keyset 페이지네이션 검증
+ * 같은 createdAt 을 가진 행이 페이지 경계에 걸려도 누락/중복 없이 이어지는지 확인
+ */
+@JpaContainerTest
+@Import(PointService.class)
+class PointHistoryKeysetPaginationTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final int HISTORY_COUNT = 250;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("커서를 따라 끝까지 조회하면 전체 히스토리를 최신순으로 누락/중복 없이 한 번씩 받는다")
+    void getPointHistory_FollowCursor_ReturnsAllInOrder() {
+        // given - 5건씩 같은 시각으로 기록 (createdAt 동률은 id 로 정렬)
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < HISTORY_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i / 5));
+            rows.add(new Object[]{USER_ID, "CHARGE", BigDecimal.valueOf(i + 1), BigDecimal.valueOf(i + 1), "충전" + i, createdAt});
+            rows.add(new Object[]{OTHER_USER_ID, "USE", BigDecimal.ONE, BigDecimal.ZERO, "다른 사용자", createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO point_histories (user_id, type, amount, balance_after, description, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+
+        // when
+        List<PointHistoryView> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PointHistorySlice slice = pointService.getPointHistory(USER_ID, cursor, 40);
+            collected.addAll(slice.items());
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(7);
+        assertThat(collected).hasSize(HISTORY_COUNT);
+        assertThat(collected).extracting(PointHistoryView::id).doesNotHaveDuplicates();
+        assertThat(collected).extracting(PointHistoryView::description).allMatch(d -> d.startsWith("충전"));
+        for (int i = 1; i < collected.size(); i++) {
+            PointHistoryView previous = collected.get(i - 1);
+            PointHistoryView current = collected.get(i);
+            assertThat(current.createdAt()).isBeforeOrEqualTo(previous.createdAt());
+            if (current.createdAt().isEqual(previous.createdAt())) {
+                assertThat(current.id()).isLessThan(previous.id());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조회는 (user_id, created_at, id) 인덱스를 범위 탐색한다")
+    void nextPageQuery_UsesUserCreatedIndex() {
+        // when
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id, type, amount, balance_after, description, created_at FROM point_histories " +
+                        "WHERE user_id = ? AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+                        "ORDER BY created_at DESC, id DESC LIMIT 41",
+                USER_ID, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()), 1_000L);
+
+        // then
+        assertThat(plan).hasSize(1);
+        assertThat(plan.get(0).get("key")).isEqualTo("idx_point_history_user_created");
+        assertThat(String.valueOf(plan.get(0).get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서나 범위를 벗어난 조회 크기는 예외가 발생한다")
+    void getPointHistory_InvalidRequest_Throws() {
+        assertThatThrownBy(() -> pointService.getPointHistory(USER_ID, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다");
+        assertThatThrownBy(() -> pointService.getPointHistory(USER_ID, null, PointService.MAX_HISTORY_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
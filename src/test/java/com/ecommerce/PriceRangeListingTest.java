@@ -0,0 +1,135 @@
+package com.ecommerce;
+
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.infrastructure.search.ProductIndexer;
+import com.ecommerce.infrastructure.search.ProductPriceIndex;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.dto.ProductSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가격 범위 목록 - 메모리 가격 색인 경로와 DB (price, id) keyset 경로의 결과 일치, 늦게 반영된 가격과 재고의 재확인 검증
+ */
+@JpaContainerTest
+class PriceRangeListingTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductService indexed;
+    private ProductService databaseOnly;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM products");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            // 같은 가격이 여러 개 있어 ID 로 동순위를 나누는 경우 포함, 세 개 중 하나는 품절
+            BigDecimal price = BigDecimal.valueOf(1000 + (i % 50) * 10).add(new BigDecimal("0.50"));
+            rows.add(new Object[]{"상품" + i, "설명", price, i % 3 == 0 ? 0 : 5, "카테고리", true, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, stock, category, active, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+
+        ProductPriceIndex priceIndex = new ProductPriceIndex();
+        new ProductIndexer(List.of(priceIndex), jdbcTemplate, new ProductChangeLog(jdbcTemplate),
+                Duration.ofMinutes(2), Duration.ofHours(1)).runOnce();
+        indexed = new ProductService(productRepository, null, null, null, priceIndex);
+        databaseOnly = new ProductService(productRepository);
+    }
+
+    @Test
+    @DisplayName("색인 경로와 DB 경로 모두 커서를 따라가면 범위 안 상품을 (가격, ID) 순으로 한 번씩 받는다")
+    void getProductPageByPrice_IndexAndDatabase_SameOrder() {
+        // given
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE price BETWEEN 1100 AND 1300 ORDER BY price, id", Long.class);
+        List<Long> expectedInStock = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE price BETWEEN 1100 AND 1300 AND stock > 0 ORDER BY price, id", Long.class);
+
+        // when & then
+        assertThat(expected).hasSize(60);
+        assertThat(collect(indexed, false, 7)).containsExactlyElementsOf(expected);
+        assertThat(collect(databaseOnly, false, 7)).containsExactlyElementsOf(expected);
+        assertThat(collect(indexed, true, 7)).containsExactlyElementsOf(expectedInStock);
+        assertThat(collect(databaseOnly, true, 7)).containsExactlyElementsOf(expectedInStock);
+    }
+
+    @Test
+    @DisplayName("색인에 반영되기 전에 품절된 상품은 현재 재고로 다시 걸러지고 페이지는 다음 상품으로 채워진다")
+    void getProductPageByPrice_StaleStock_RecheckedAndFilled() {
+        // given - 색인 갱신 없이 DB 에서만 재고 소진 (주문 모듈의 직접 UPDATE)
+        List<Long> firstInStock = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE stock > 0 ORDER BY price, id LIMIT 3", Long.class);
+        jdbcTemplate.update("UPDATE products SET stock = 0 WHERE id IN (?, ?)", firstInStock.get(0), firstInStock.get(1));
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE stock > 0 ORDER BY price, id LIMIT 5", Long.class);
+
+        // when
+        ProductSlice slice = indexed.getProductPageByPrice(null, null, true, null, 5);
+
+        // then
+        assertThat(slice.items()).extracting(product -> product.getId()).containsExactlyElementsOf(expected);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(databaseOnly.getProductPageByPrice(null, null, true, null, 5).items())
+                .extracting(product -> product.getId()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("색인에 반영되기 전에 범위 밖으로 가격이 바뀐 상품은 현재 가격으로 다시 걸러진다")
+    void getProductPageByPrice_StalePrice_RecheckedAndFilled() {
+        // given - 색인 갱신 없이 DB 에서만 가격 변경
+        List<Long> cheapest = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE price BETWEEN 1100 AND 1300 ORDER BY price, id LIMIT 2", Long.class);
+        jdbcTemplate.update("UPDATE products SET price = 5000 WHERE id IN (?, ?)", cheapest.get(0), cheapest.get(1));
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE price BETWEEN 1100 AND 1300 ORDER BY price, id LIMIT 5", Long.class);
+
+        // when
+        ProductSlice slice = indexed.getProductPageByPrice(new BigDecimal("1100"), new BigDecimal("1300"), false, null, 5);
+
+        // then
+        assertThat(slice.items()).extracting(product -> product.getId()).containsExactlyElementsOf(expected);
+        assertThat(slice.items()).allSatisfy(product -> assertThat(product.getPrice()).isBetween(new BigDecimal("1100"), new BigDecimal("1300")));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서, 조회 크기, 가격 범위는 예외가 발생한다")
+    void getProductPageByPrice_InvalidInput_Throws() {
+        assertThatThrownBy(() -> indexed.getProductPageByPrice(null, null, false, "not-a-cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexed.getProductPageByPrice(null, null, false, null, ProductService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> databaseOnly.getProductPageByPrice(BigDecimal.TEN, BigDecimal.ONE, false, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> collect(ProductService service, boolean inStockOnly, int size) {
+        List<Long> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductSlice slice = service.getProductPageByPrice(new BigDecimal("1100"), new BigDecimal("1300"), inStockOnly, cursor, size);
+            slice.items().forEach(product -> collected.add(product.getId()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return collected;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ecommerce;
+
+import com.ecommerce.infrastructure.search.ProductChangeLog;
+import com.ecommerce.infrastructure.search.ProductIndexer;
+import com.ecommerce.infrastructure.search.ProductPriceIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상품 색인 따라잡기 - product_changes 순번 기준 반영, 빈 순번 대기, 삭제 반영 검증
+ */
+@JpaContainerTest
+class ProductIndexerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductChangeLog changeLog;
+    private ProductPriceIndex priceIndex;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("TRUNCATE TABLE product_changes");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(new Object[]{"상품" + i, BigDecimal.valueOf(1000 * (i + 1)), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, stock, category, active, created_at, updated_at, version) " +
+                "VALUES (?, '설명', ?, 5, '카테고리', true, ?, ?, 0)", rows);
+        ids = jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", Long.class);
+        changeLog = new ProductChangeLog(jdbcTemplate);
+        priceIndex = new ProductPriceIndex();
+    }
+
+    @Test
+    @DisplayName("적재 이후 기록된 변경은 현재 행으로 다시 읽어 반영하고, 행이 없어진 상품은 색인에서 뺀다")
+    void runOnce_AppliesRecordedChanges() {
+        // given
+        ProductIndexer indexer = indexer(Duration.ofMinutes(2));
+        indexer.runOnce();
+        // updated_at 을 예전 시각으로 남겨 둬도 순번으로 따라잡는다
+        changePrice(ids.get(0), "5000");
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", ids.get(1));
+        changeLog.record(ids.get(1));
+
+        // when
+        indexer.runOnce();
+
+        // then
+        assertThat(pricedBetween("4000", "6000")).containsExactly(ids.get(0));
+        assertThat(pricedBetween("0", "10000")).containsExactly(ids.get(2), ids.get(0));
+        assertThat(indexer.watermark()).isEqualTo(lastChangeId());
+    }
+
+    @Test
+    @DisplayName("비어 있는 순번 앞에서 watermark 를 멈추고 뒤쪽 변경만 반영했다가, 빈 곳이 채워지면 이어서 반영한다")
+    void runOnce_ChangeGap_HoldsWatermarkUntilFilled() {
+        // given - 두 번째 변경이 아직 커밋되지 않은 것처럼 순번을 비운다
+        ProductIndexer indexer = indexer(Duration.ofMinutes(2));
+        indexer.runOnce();
+        changePrice(ids.get(0), "5000");
+        long firstChange = lastChangeId();
+        changePrice(ids.get(1), "6000");
+        long secondChange = lastChangeId();
+        changePrice(ids.get(2), "7000");
+        jdbcTemplate.update("DELETE FROM product_changes WHERE id = ?", secondChange);
+
+        // when
+        indexer.runOnce();
+
+        // then
+        assertThat(indexer.watermark()).isEqualTo(firstChange);
+        assertThat(pricedBetween("4000", "10000")).containsExactly(ids.get(0), ids.get(2));
+
+        // when - 늦게 커밋된 변경
+        jdbcTemplate.update("INSERT INTO product_changes (id, product_id) VALUES (?, ?)", secondChange, ids.get(1));
+        indexer.runOnce();
+
+        // then
+        assertThat(indexer.watermark()).isEqualTo(lastChangeId());
+        assertThat(pricedBetween("4000", "10000")).containsExactly(ids.get(0), ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("gapTimeout 동안 채워지지 않은 빈 순번은 롤백된 것으로 보고 넘어간다")
+    void runOnce_ExpiredChangeGap_SkipsIt() {
+        // given
+        ProductIndexer indexer = indexer(Duration.ZERO);
+        indexer.runOnce();
+        changePrice(ids.get(0), "5000");
+        long rolledBack = lastChangeId();
+        changePrice(ids.get(1), "6000");
+        jdbcTemplate.update("DELETE FROM product_changes WHERE id = ?", rolledBack);
+
+        // when
+        indexer.runOnce();
+
+        // then
+        assertThat(indexer.watermark()).isEqualTo(lastChangeId());
+    }
+
+    private ProductIndexer indexer(Duration gapTimeout) {
+        return new ProductIndexer(List.of(priceIndex), jdbcTemplate, changeLog, gapTimeout, Duration.ofHours(1));
+    }
+
+    private void changePrice(long productId, String price) {
+        jdbcTemplate.update("UPDATE products SET price = ?, version = version + 1 WHERE id = ?", new BigDecimal(price), productId);
+        changeLog.record(productId);
+    }
+
+    private long lastChangeId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM product_changes", Long.class);
+    }
+
+    private List<Long> pricedBetween(String min, String max) {
+        return priceIndex.page(ProductPriceIndex.toCents(new BigDecimal(min), RoundingMode.CEILING),
+                ProductPriceIndex.toCents(new BigDecimal(max), RoundingMode.FLOOR), false, null, 10).productIds();
+    }
+}
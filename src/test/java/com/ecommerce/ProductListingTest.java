@@ -0,0 +1,106 @@
+package com.ecommerce;
+
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductStreamRepository;
+import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.dto.ProductSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상품 목록 keyset 페이지네이션과 NDJSON 스트리밍용 전체 조회 검증
+ */
+@JpaContainerTest
+@Import({ProductService.class, ProductStreamRepository.class})
+class ProductListingTest {
+
+    private static final int PRODUCT_COUNT = 250;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM products");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            rows.add(new Object[]{"상품" + i, "설명" + i, BigDecimal.valueOf(1000 + i), i % 7, "카테고리" + (i % 5), true, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, stock, category, active, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        ids = jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", Long.class);
+    }
+
+    @Test
+    @DisplayName("커서를 따라 끝까지 조회하면 전체 상품을 id 순으로 누락/중복 없이 한 번씩 받는다")
+    void getProductPage_FollowCursor_ReturnsAllInOrder() {
+        // when
+        List<Long> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProductSlice slice = productService.getProductPage(cursor, 40);
+            slice.items().forEach(product -> collected.add(product.getId()));
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(7);
+        assertThat(collected).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 크기와 딱 맞으면 다음 커서가 없다")
+    void getProductPage_ExactLastPage_NoNextCursor() {
+        // when
+        ProductSlice all = productService.getProductPage(null, 100);
+        ProductSlice second = productService.getProductPage(all.nextCursor(), 100);
+        ProductSlice last = productService.getProductPage(second.nextCursor(), 50);
+
+        // then
+        assertThat(last.items()).hasSize(50);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 조회 크기는 예외가 발생한다")
+    void getProductPage_InvalidInput_Throws() {
+        assertThatThrownBy(() -> productService.getProductPage("not-a-cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getProductPage(null, ProductService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 전체 상품을 id 순으로 한 건씩 전달한다")
+    void streamProducts_DeliversEveryProductInOrder() {
+        // when
+        List<Product> streamed = new ArrayList<>();
+        productService.streamProducts(streamed::add);
+
+        // then
+        assertThat(streamed).extracting(Product::getId).containsExactlyElementsOf(ids);
+        assertThat(streamed.get(3).getName()).isEqualTo("상품3");
+        assertThat(streamed.get(3).getPrice()).isEqualByComparingTo("1003");
+        assertThat(streamed.get(3).getStock()).isEqualTo(3);
+    }
+}
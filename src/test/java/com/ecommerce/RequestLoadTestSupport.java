@@ -0,0 +1,184 @@
+package com.ecommerce;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 스레드 모델별 부하 테스트 공통 로직
+ * DB 에서 블로킹되는 요청을 동시에 보내 최대 동시 처리 요청 수와 요청별 지연(p50/p99)을 측정한다 (결과는 각 테스트가 TestReporter 로 기록).
+ *
+ * - 테이블은 create-drop 과 schema.sql 로 만들고, 측정에 끼어드는 주기 작업(아웃박스 릴레이, 상품 색인, 스냅샷, 멱등성 키 정리)은 끈다.
+ * - 커넥션 풀이 기본 3 이면 풀 대기가 결과를 좌우하므로 Tomcat 스레드 수보다 넉넉하게(MySQL 기본 max_connections 151 이내) 늘린다.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.hikari.maximum-pool-size=" + RequestLoadTestSupport.POOL_SIZE,
+        "order.outbox.relay-enabled=false",
+        "product.search.enabled=false",
+        "product.category-index.enabled=false",
+        "product.price-index.enabled=false",
+        "point.snapshot.enabled=false",
+        "idempotency.enabled=false"
+})
+abstract class RequestLoadTestSupport {
+
+    static final int TOMCAT_MAX_THREADS = 20;
+    static final int POOL_SIZE = 100;
+    static final int CONCURRENCY = 200;
+    static final int REQUESTS = 400;
+
+    @LocalServerPort
+    private int port;
+
+    LoadResult runLoad(InFlightRequestFilter inFlight) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/blocking-query"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    long startedAt = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies.add(System.nanoTime() - startedAt);
+                    if (response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        boolean finished = done.await(2, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        assertThat(finished).as("모든 요청이 제한 시간 안에 끝나야 한다").isTrue();
+
+        return new LoadResult(inFlight.maxInFlight(), List.copyOf(latencies), failures.get(), elapsedNanos);
+    }
+
+    /**
+     * @param latencyNanos 응답을 받은 요청별 지연 (나노초)
+     */
+    record LoadResult(int maxInFlight, List<Long> latencyNanos, int failures, long elapsedNanos) {
+
+        long p50Millis() {
+            return percentileMillis(0.50);
+        }
+
+        long p99Millis() {
+            return percentileMillis(0.99);
+        }
+
+        private long percentileMillis(double percentile) {
+            if (latencyNanos.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(latencyNanos);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(index, 0)));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d, concurrency=%d, completed=%d, maxInFlight=%d, p50=%dms, p99=%dms, failures=%d, elapsed=%dms",
+                    REQUESTS, CONCURRENCY, latencyNanos.size(), maxInFlight, p50Millis(), p99Millis(), failures,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfiguration {
+
+        @Bean
+        InFlightRequestFilter inFlightRequestFilter() {
+            return new InFlightRequestFilter();
+        }
+
+        @Bean
+        BlockingQueryController blockingQueryController(JdbcTemplate jdbcTemplate) {
+            return new BlockingQueryController(jdbcTemplate);
+        }
+    }
+
+    // 서버에서 동시에 처리 중인 요청 수의 최댓값 추적
+    static class InFlightRequestFilter extends OncePerRequestFilter {
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+
+        int maxInFlight() {
+            return max.get();
+        }
+    }
+
+    // 락 대기와 같은 DB 블로킹을 흉내내는 엔드포인트
+    @RestController
+    static class BlockingQueryController {
+        private final JdbcTemplate jdbcTemplate;
+
+        BlockingQueryController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/test/blocking-query")
+        Integer blockingQuery() {
+            return jdbcTemplate.queryForObject("SELECT SLEEP(0.05)", Integer.class);
+        }
+    }
+}
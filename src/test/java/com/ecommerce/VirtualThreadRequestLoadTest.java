@@ -0,0 +1,43 @@
+package com.ecommerce;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가상 스레드 모드 부하 테스트 (./gradlew test -PjavaVersion=21)
+ * 결과는 PlatformThreadRequestLoadTest 가 기록한 값과 비교한다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=" + RequestLoadTestSupport.TOMCAT_MAX_THREADS
+        })
+@Import({TestcontainersConfiguration.class, RequestLoadTestSupport.LoadTestConfiguration.class})
+class VirtualThreadRequestLoadTest extends RequestLoadTestSupport {
+
+    @Autowired
+    private InFlightRequestFilter inFlightRequestFilter;
+
+    @Test
+    @DisplayName("가상 스레드 모드는 Tomcat 스레드 수를 넘어서는 요청을 동시에 처리한다")
+    void virtualThreads_InFlightExceedsPlatformPool(TestReporter testReporter) throws InterruptedException {
+        // when
+        LoadResult result = runLoad(inFlightRequestFilter);
+        testReporter.publishEntry("virtual threads", result.toString());
+
+        // then
+        assertThat(result.failures()).isZero();
+        assertThat(result.latencyNanos()).hasSize(REQUESTS);
+        assertThat(result.maxInFlight()).isGreaterThan(TOMCAT_MAX_THREADS);
+    }
+}
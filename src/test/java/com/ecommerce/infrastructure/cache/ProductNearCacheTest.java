@@ -0,0 +1,179 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductNearCacheTest {
+
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(10);
+    private static final Duration STOCK_TTL = Duration.ofSeconds(1);
+
+    private final InMemoryProductStore store = new InMemoryProductStore();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final ProductNearCache cache = new ProductNearCache(store, 100, DETAIL_TTL, STOCK_TTL, ticker);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재고 TTL 안에서는 DB 를 다시 읽지 않는다")
+    void get_WithinStockTtl_ServedFromCache() {
+        // given
+        store.put(product(1L, "키보드", "50000", 10, 0));
+
+        // when
+        cache.get(1L);
+        Optional<ProductSnapshot> cached = cache.get(1L);
+
+        // then
+        assertThat(cached).get().extracting(ProductSnapshot::name).isEqualTo("키보드");
+        assertThat(store.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 TTL 이 지나면 행을 다시 읽고, 버전이 바뀌었으면 가격 등 상세도 새 값으로 교체된다")
+    void get_AfterStockTtl_RevalidatesDetailByVersion() {
+        // given
+        store.put(product(1L, "키보드", "50000", 10, 0));
+        cache.get(1L);
+        store.put(product(1L, "키보드", "45000", 7, 1)); // 다른 노드/경로에서 변경
+
+        // when
+        Optional<ProductSnapshot> beforeExpiry = cache.get(1L);
+        advance(STOCK_TTL.plusMillis(1));
+        Optional<ProductSnapshot> afterExpiry = cache.get(1L);
+
+        // then
+        assertThat(beforeExpiry).get().extracting(ProductSnapshot::stock).isEqualTo(10);
+        assertThat(afterExpiry).get().satisfies(product -> {
+            assertThat(product.price()).isEqualByComparingTo("45000");
+            assertThat(product.stock()).isEqualTo(7);
+            assertThat(product.version()).isEqualTo(1L);
+        });
+        assertThat(store.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋 이후에만 무효화되어 다음 조회에서 새 재고를 읽고, 롤백되면 캐시를 유지한다")
+    void evictAfterCommit_OnlyOnCommit() {
+        // given
+        store.put(product(1L, "키보드", "50000", 10, 0));
+        cache.get(1L);
+
+        // when - 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        store.put(product(1L, "키보드", "50000", 9, 1));
+        cache.evictAfterCommit(1L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        store.put(product(1L, "키보드", "50000", 10, 0));
+
+        // then
+        assertThat(cache.get(1L)).get().extracting(ProductSnapshot::stock).isEqualTo(10);
+        assertThat(store.loads.get()).isEqualTo(1);
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        store.put(product(1L, "키보드", "50000", 8, 2));
+        cache.evictAfterCommit(1L);
+        assertThat(cache.get(1L)).get().extracting(ProductSnapshot::stock).isEqualTo(10);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(cache.get(1L)).get().extracting(ProductSnapshot::stock).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 재고 TTL 동안만 없음으로 기억한다")
+    void get_MissingProduct_NegativeCachedForStockTtl() {
+        // when
+        Optional<ProductSnapshot> first = cache.get(99L);
+        Optional<ProductSnapshot> second = cache.get(99L);
+        store.put(product(99L, "마우스", "20000", 5, 0));
+        advance(STOCK_TTL.plusMillis(1));
+        Optional<ProductSnapshot> afterExpiry = cache.get(99L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(afterExpiry).isPresent();
+        assertThat(store.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상세 TTL 과 재고 TTL 이 같아도 만료 후 새 행으로 두 슬롯을 다시 채운다")
+    void get_SameTtl_ReloadsBothSlots() {
+        // given
+        ProductNearCache sameTtl = new ProductNearCache(store, 100, STOCK_TTL, STOCK_TTL, ticker);
+        store.put(product(1L, "키보드", "50000", 10, 0));
+        sameTtl.get(1L);
+        advance(STOCK_TTL.plusMillis(1));
+        store.put(product(1L, "키보드 v2", "50000", 10, 1));
+
+        // when
+        Optional<ProductSnapshot> reloaded = sameTtl.get(1L);
+
+        // then
+        assertThat(reloaded).get().extracting(ProductSnapshot::name).isEqualTo("키보드 v2");
+    }
+
+    @Test
+    @DisplayName("재고 TTL 이 상세 TTL 보다 길면 생성할 수 없다")
+    void constructor_StockTtlLongerThanDetailTtl_Throws() {
+        assertThatThrownBy(() -> new ProductNearCache(store, 100, STOCK_TTL, DETAIL_TTL, ticker))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                sync.afterCommit();
+            }
+            sync.afterCompletion(status);
+        });
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static ProductSnapshot product(Long id, String name, String price, int stock, long version) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new ProductSnapshot(id, name, name + " 설명", new BigDecimal(price), stock, "전자기기", true, now, now, version);
+    }
+
+    private static class InMemoryProductStore implements ProductSnapshotStore {
+        private final Map<Long, ProductSnapshot> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        void put(ProductSnapshot snapshot) {
+            rows.put(snapshot.id(), snapshot);
+        }
+
+        @Override
+        public Optional<ProductSnapshot> load(Long productId) {
+            loads.incrementAndGet();
+            return Optional.ofNullable(rows.get(productId));
+        }
+    }
+}
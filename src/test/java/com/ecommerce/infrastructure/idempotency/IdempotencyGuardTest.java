@@ -0,0 +1,245 @@
+package com.ecommerce.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyGuardTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyGuard guard = new IdempotencyGuard(store, new ObjectMapper(), meterRegistry,
+            Duration.ofHours(24), 10_000, 0.01, Clock.systemDefaultZone());
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 처리 없이 저장된 응답을 돌려준다")
+    void execute_SameKey_ReplaysStoredResponse() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        ChargeRequest request = new ChargeRequest(1L, 1000);
+
+        // when
+        ResponseEntity<ChargeResponse> first = guard.execute("point-charge", "key-1", request, ChargeResponse.class,
+                () -> charge(executions));
+        ResponseEntity<ChargeResponse> second = guard.execute("point-charge", "key-1", request, ChargeResponse.class,
+                () -> charge(executions));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.get("idempotency.lookup").tag("result", "replayed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("idempotency.filter").tag("result", "skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문을 보내면 REQUEST_MISMATCH 예외가 발생한다")
+    void execute_SameKeyDifferentBody_ThrowsMismatch() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        guard.execute("point-charge", "key-1", new ChargeRequest(1L, 1000), ChargeResponse.class, () -> charge(executions));
+
+        // when & then
+        assertThatThrownBy(() -> guard.execute("point-charge", "key-1", new ChargeRequest(1L, 2000),
+                ChargeResponse.class, () -> charge(executions)))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .extracting("reason").isEqualTo(IdempotencyConflictException.Reason.REQUEST_MISMATCH);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 선점을 해제해 같은 키로 다시 실행할 수 있다")
+    void execute_ActionFails_ReleasesClaim() {
+        // given
+        ChargeRequest request = new ChargeRequest(1L, 1000);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> guard.execute("point-charge", "key-1", request, ChargeResponse.class, () -> {
+            throw new IllegalStateException("잔액이 부족합니다");
+        })).isInstanceOf(IllegalStateException.class);
+        ResponseEntity<ChargeResponse> retried = guard.execute("point-charge", "key-1", request, ChargeResponse.class,
+                () -> charge(executions));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retried.getHeaders().containsKey(IdempotencyGuard.REPLAYED_HEADER)).isFalse();
+        assertThat(meterRegistry.get("idempotency.filter").tag("result", "false_positive").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 처리한 키는 로컬 필터에 없어도 선점 실패 후 저장된 응답을 돌려준다")
+    void execute_ClaimedByOtherNode_ReplaysAfterDuplicateClaim() {
+        // given - 다른 노드의 guard 가 같은 저장소에 응답을 남김
+        IdempotencyGuard otherNode = new IdempotencyGuard(store, new ObjectMapper(), new SimpleMeterRegistry(),
+                Duration.ofHours(24), 10_000, 0.01, Clock.systemDefaultZone());
+        AtomicInteger executions = new AtomicInteger();
+        ChargeRequest request = new ChargeRequest(1L, 1000);
+        otherNode.execute("point-charge", "key-1", request, ChargeResponse.class, () -> charge(executions));
+
+        // when
+        ResponseEntity<ChargeResponse> response = guard.execute("point-charge", "key-1", request, ChargeResponse.class,
+                () -> charge(executions));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(response.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청 중 하나만 실행되고 나머지는 처리 중 예외를 받는다")
+    void execute_ConcurrentSameKey_ExecutesOnce() throws Exception {
+        // given
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ChargeRequest request = new ChargeRequest(1L, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        Future<ResponseEntity<ChargeResponse>> first = executor.submit(() -> guard.execute("point-charge", "key-1",
+                request, ChargeResponse.class, () -> {
+                    executing.countDown();
+                    awaitQuietly(release);
+                    return charge(executions);
+                }));
+        assertThat(executing.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicInteger inProgress = new AtomicInteger();
+        for (int i = 0; i < 16; i++) {
+            try {
+                guard.execute("point-charge", "key-1", request, ChargeResponse.class, () -> charge(executions));
+            } catch (IdempotencyConflictException e) {
+                assertThat(e.getReason()).isEqualTo(IdempotencyConflictException.Reason.IN_PROGRESS);
+                inProgress.incrementAndGet();
+            }
+        }
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(inProgress).hasValue(16);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 보호 없이 매번 실행한다")
+    void execute_WithoutKey_AlwaysExecutes() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        guard.execute("point-charge", null, new ChargeRequest(1L, 1000), ChargeResponse.class, () -> charge(executions));
+        guard.execute("point-charge", " ", new ChargeRequest(1L, 1000), ChargeResponse.class, () -> charge(executions));
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(store.records).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 추가한 키를 모두 포함하고 false positive 비율이 설정값 근처다")
+    void bloomFilter_NoFalseNegative_BoundedFalsePositive() {
+        // given
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("order-create:key-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 100_000; i < 200_000; i++) {
+            if (filter.mightContain("order-create:key-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContain("order-create:key-" + i)).isTrue();
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    private static ResponseEntity<ChargeResponse> charge(AtomicInteger executions) {
+        int count = executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ChargeResponse(1L, 1000L * count));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record ChargeRequest(Long userId, long amount) {
+    }
+
+    record ChargeResponse(Long userId, long balance) {
+    }
+
+    /**
+     * 테스트용 메모리 저장소 (PK 중복 시 선점 실패)
+     */
+    static class InMemoryIdempotencyStore implements IdempotencyStore {
+        final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean claim(String recordKey, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+            IdempotencyRecord claimed = new IdempotencyRecord(recordKey, requestHash,
+                    IdempotencyRecord.Status.IN_PROGRESS, null, null, expiresAt);
+            return records.merge(recordKey, claimed, (existing, next) -> existing.isExpired(now) ? next : existing) == claimed;
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> find(String recordKey) {
+            return Optional.ofNullable(records.get(recordKey));
+        }
+
+        @Override
+        public void complete(String recordKey, int responseStatus, String responseBody) {
+            records.computeIfPresent(recordKey, (key, record) -> new IdempotencyRecord(key, record.requestHash(),
+                    IdempotencyRecord.Status.COMPLETED, responseStatus, responseBody, record.expiresAt()));
+        }
+
+        @Override
+        public void release(String recordKey) {
+            records.computeIfPresent(recordKey, (key, record) ->
+                    record.status() == IdempotencyRecord.Status.IN_PROGRESS ? null : record);
+        }
+
+        @Override
+        public int purgeExpired(LocalDateTime now, int limit) {
+            int before = records.size();
+            records.values().removeIf(record -> record.isExpired(now));
+            return before - records.size();
+        }
+
+        @Override
+        public void forEachActiveKey(LocalDateTime now, Consumer<String> consumer) {
+            records.values().stream().filter(record -> !record.isExpired(now)).map(IdempotencyRecord::recordKey).forEach(consumer);
+        }
+    }
+}
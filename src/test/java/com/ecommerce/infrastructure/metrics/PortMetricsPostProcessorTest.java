@@ -0,0 +1,167 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.order.application.dto.OrderResult;
+import com.ecommerce.order.application.dto.PlaceOrderCommand;
+import com.ecommerce.order.domain.exception.InsufficientStockException;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderProductSnapshot;
+import com.ecommerce.order.domain.port.in.PlaceOrderUseCase;
+import com.ecommerce.order.domain.port.out.EventPublisher;
+import com.ecommerce.order.domain.port.out.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PortMetricsPostProcessorTest {
+
+    private SimpleMeterRegistry registry;
+    private PortMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class), List.of(
+                "com.ecommerce.order.domain.port.in",
+                "com.ecommerce.order.domain.port.out"
+        ), Map.of(ProductRepository.class, Set.of("decreaseStock")));
+    }
+
+    @Test
+    @DisplayName("포트 구현 빈의 호출 시간이 포트/메서드 태그로 기록된다")
+    void portCall_RecordsTimer() {
+        // given
+        EventPublisher publisher = (EventPublisher) postProcessor.postProcessAfterInitialization(
+                new RecordingEventPublisher(), "eventPublisher");
+
+        // when
+        publisher.publishOrderCreated(null);
+        publisher.publishOrderCreated(null);
+
+        // then
+        assertThat(AopUtils.isAopProxy(publisher)).isTrue();
+        assertThat(registry.get("port.calls")
+                .tags("module", "order", "port", "EventPublisher", "method", "publishOrderCreated",
+                        "adapter", "RecordingEventPublisher", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("포트를 구현하지 않은 빈은 프록시하지 않는다")
+    void nonPortBean_NotProxied() {
+        // given
+        Object bean = new Object();
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "plainBean");
+
+        // then
+        assertThat(processed).isSameAs(bean);
+    }
+
+    @Test
+    @DisplayName("재고 부족으로 거절된 주문은 rejections 카운터와 예외 outcome 으로 집계된다")
+    void inboundRejection_CountsRejection() {
+        // given
+        PlaceOrderUseCase useCase = (PlaceOrderUseCase) postProcessor.postProcessAfterInitialization(
+                new RejectingPlaceOrderUseCase(), "placeOrderUseCase");
+
+        // when & then
+        assertThatThrownBy(() -> useCase.placeOrder(new PlaceOrderCommand(1L, List.of())))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(registry.get("order.rejections").tag("reason", "insufficient_stock").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("port.calls").tag("outcome", "InsufficientStockException").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 잡는 포트 메서드로 등록된 메서드만 port.lock.wait 로 기록된다")
+    void lockingMethod_RecordsLockWait() {
+        // given
+        ProductRepository repository = (ProductRepository) postProcessor.postProcessAfterInitialization(
+                new StubProductRepository(), "productRepository");
+
+        // when
+        repository.decreaseStock(1L, 1);
+        repository.getProductName(1L);
+
+        // then
+        assertThat(registry.get("port.lock.wait").tag("method", "decreaseStock").timer().count()).isEqualTo(1);
+        assertThat(registry.find("port.lock.wait").tag("method", "getProductName").timer()).isNull();
+    }
+
+    static class StubProductRepository implements ProductRepository {
+        @Override
+        public boolean existsById(Long productId) {
+            return true;
+        }
+
+        @Override
+        public String getProductName(Long productId) {
+            return "상품";
+        }
+
+        @Override
+        public BigDecimal getProductPrice(Long productId) {
+            return BigDecimal.ONE;
+        }
+
+        @Override
+        public int getProductStock(Long productId) {
+            return 1;
+        }
+
+        @Override
+        public void decreaseStock(Long productId, int quantity) {
+        }
+
+        @Override
+        public boolean decreaseStockIfAvailable(Long productId, int quantity) {
+            return true;
+        }
+
+        @Override
+        public Map<Long, String> getProductNames(List<Long> productIds) {
+            return Map.of();
+        }
+
+        @Override
+        public Map<Long, BigDecimal> getProductPrices(List<Long> productIds) {
+            return Map.of();
+        }
+
+        @Override
+        public OrderProductSnapshot getProductSnapshot(List<Long> productIds) {
+            return null;
+        }
+    }
+
+    static class RecordingEventPublisher implements EventPublisher {
+        @Override
+        public void publishOrderCreated(Order order) {
+        }
+
+        @Override
+        public void publishPaymentCompleted(Order order) {
+        }
+    }
+
+    static class RejectingPlaceOrderUseCase implements PlaceOrderUseCase {
+        @Override
+        public OrderResult placeOrder(PlaceOrderCommand command) {
+            throw new InsufficientStockException("재고가 부족합니다.");
+        }
+    }
+}
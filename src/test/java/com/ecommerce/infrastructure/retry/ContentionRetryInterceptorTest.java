@@ -0,0 +1,169 @@
+package com.ecommerce.infrastructure.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContentionRetryInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("락 충돌이 나면 재시도하여 성공하고 재시도 횟수와 결과가 엔티티별로 기록된다")
+    void invoke_ConflictThenSuccess_Recovers() {
+        // given
+        FlakyBalanceService service = proxy(new FlakyBalanceService(2), new RetryBudget(10, 10, 100));
+
+        // when
+        long balance = service.charge(1L);
+
+        // then
+        assertThat(balance).isEqualTo(1L);
+        assertThat(service.calls()).isEqualTo(3);
+        assertThat(registry.get("contention.retry.attempts").tag("entity", "user_balance").counter().count()).isEqualTo(2);
+        assertThat(registry.get("contention.retry.calls").tag("outcome", "recovered").counter().count()).isEqualTo(1);
+        assertThat(registry.get("contention.retry.wasted").tag("entity", "user_balance").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 마지막 예외를 그대로 던진다")
+    void invoke_AlwaysConflict_ExhaustsAttempts() {
+        // given
+        FlakyBalanceService service = proxy(new FlakyBalanceService(Integer.MAX_VALUE), new RetryBudget(10, 10, 100));
+
+        // when & then
+        assertThatThrownBy(() -> service.charge(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(service.calls()).isEqualTo(4);
+        assertThat(registry.get("contention.retry.calls").tag("outcome", "exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키별 재시도 예산을 다 쓰면 재시도 없이 바로 실패하고 다른 키는 영향이 없다")
+    void invoke_BudgetSpent_FailsFast() {
+        // given - 같은 키에 재시도 2번만 허용 (사실상 충전되지 않음)
+        FlakyBalanceService service = proxy(new FlakyBalanceService(Integer.MAX_VALUE), new RetryBudget(2, 0.0001, 100));
+
+        // when
+        assertThatThrownBy(() -> service.charge(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+        int callsAfterFirst = service.calls();
+        assertThatThrownBy(() -> service.charge(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+        int callsAfterSecond = service.calls();
+        assertThatThrownBy(() -> service.charge(2L)).isInstanceOf(OptimisticLockingFailureException.class);
+
+        // then
+        assertThat(callsAfterFirst).isEqualTo(3);
+        assertThat(callsAfterSecond - callsAfterFirst).isEqualTo(1);
+        assertThat(service.calls() - callsAfterSecond).isEqualTo(3);
+        assertThat(registry.get("contention.retry.calls").tag("outcome", "budget_exhausted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("락 대기 시간 초과/데드락도 재시도하고, 경합이 아닌 예외는 바로 전파한다")
+    void invoke_RetriesOnlyConcurrencyFailures() {
+        // given
+        FlakyBalanceService service = proxy(new FlakyBalanceService(1), new RetryBudget(10, 10, 100));
+
+        // when & then
+        assertThat(service.lock(1L)).isEqualTo(1L);
+        assertThatThrownBy(() -> service.fail(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.failCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출자가 이미 트랜잭션 안에 있으면 재시도하지 않는다")
+    void invoke_InsideOuterTransaction_DoesNotRetry() {
+        // given
+        FlakyBalanceService service = proxy(new FlakyBalanceService(1), new RetryBudget(10, 10, 100));
+
+        // when & then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> service.charge(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(service.calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 지수 상한 안에서 고르게 흩어진다 (full jitter)")
+    void backoff_StaysWithinExponentialCeiling() {
+        // given
+        ContentionRetryInterceptor interceptor = interceptor(new RetryBudget(10, 10, 100));
+
+        // when & then
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(Duration.ofMillis(200).toNanos(), Duration.ofMillis(1).toNanos() << (attempt - 1));
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(interceptor.backoffNanos(attempt)).isBetween(0L, ceiling);
+            }
+        }
+    }
+
+    private FlakyBalanceService proxy(FlakyBalanceService target, RetryBudget budget) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ContentionRetry.class), interceptor(budget)));
+        return (FlakyBalanceService) factory.getProxy();
+    }
+
+    private ContentionRetryInterceptor interceptor(RetryBudget budget) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        return new ContentionRetryInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), budget,
+                4, Duration.ofMillis(1), Duration.ofMillis(200));
+    }
+
+    /**
+     * 처음 failures 번은 락 충돌로 실패하는 서비스
+     */
+    static class FlakyBalanceService {
+        private final int failures;
+        private final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger failCalls = new AtomicInteger();
+
+        FlakyBalanceService(int failures) {
+            this.failures = failures;
+        }
+
+        @ContentionRetry(entity = "user_balance", key = "#p0")
+        public long charge(Long userId) {
+            if (calls.incrementAndGet() <= failures) {
+                throw new OptimisticLockingFailureException("버전 충돌");
+            }
+            return userId;
+        }
+
+        @ContentionRetry(entity = "product", key = "#p0")
+        public long lock(Long productId) {
+            if (calls.incrementAndGet() <= failures) {
+                throw new PessimisticLockingFailureException("락 대기 시간 초과");
+            }
+            return productId;
+        }
+
+        @ContentionRetry(entity = "product", key = "#p0")
+        public long fail(Long productId) {
+            failCalls.incrementAndGet();
+            throw new IllegalStateException("재고가 부족합니다");
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductCategoryIndexTest {
+
+    private final ProductCategoryIndex index = new ProductCategoryIndex();
+
+    @Test
+    @DisplayName("카테고리 목록은 상품명, 같으면 ID 순이고 다음 위치를 따라가면 누락/중복 없이 끝까지 읽는다")
+    void page_FollowNext_ReturnsAllInNameOrder() {
+        // given
+        index.index(product(3L, "키보드", "전자기기", true));
+        index.index(product(1L, "마우스", "전자기기", true));
+        index.index(product(2L, "키보드", "전자기기", true));
+        index.index(product(4L, "모니터", "전자기기", true));
+        index.index(product(5L, "머그컵", "주방", true));
+
+        // when
+        List<Long> collected = new ArrayList<>();
+        CategoryPosition next = null;
+        int pages = 0;
+        do {
+            CategoryPage page = index.page("전자기기", next, 3);
+            collected.addAll(page.productIds());
+            next = page.next();
+            pages++;
+        } while (next != null);
+
+        // then
+        assertThat(collected).containsExactly(1L, 4L, 2L, 3L);
+        assertThat(pages).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 크기와 딱 맞으면 다음 위치가 없다")
+    void page_ExactLastPage_NoNext() {
+        // given
+        index.index(product(1L, "가", "식품", true));
+        index.index(product(2L, "나", "식품", true));
+
+        // when
+        CategoryPage page = index.page("식품", null, 2);
+
+        // then
+        assertThat(page.productIds()).containsExactly(1L, 2L);
+        assertThat(page.next()).isNull();
+        assertThat(index.page("없는카테고리", null, 10).productIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화/재활성화/카테고리 이동/삭제가 목록과 패싯 수에 바로 반영된다")
+    void index_Transitions_UpdateCountsAndListings() {
+        // given
+        index.index(product(1L, "냉장고", "가전", true));
+        index.index(product(2L, "세탁기", "가전", true));
+        index.index(product(3L, "식탁", "가구", true));
+
+        // when
+        index.index(product(2L, "세탁기", "가전", false));
+        index.index(product(3L, "식탁", "주방가구", true));
+        index.index(product(4L, "에어컨", "가전", false));
+        index.index(product(4L, "에어컨", "가전", true));
+        index.remove(1L);
+
+        // then
+        assertThat(index.facets()).containsExactly(
+                new CategoryCount("가전", 1),
+                new CategoryCount("주방가구", 1));
+        assertThat(index.page("가전", null, 10).productIds()).containsExactly(4L);
+        assertThat(index.activeCount("가구")).isZero();
+        assertThat(index.categoryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("패싯은 활성 상품 수가 많은 순, 같으면 카테고리 이름 순이다")
+    void facets_SortedByCountThenName() {
+        // given
+        index.index(product(1L, "a", "B", true));
+        index.index(product(2L, "b", "A", true));
+        index.index(product(3L, "c", "C", true));
+        index.index(product(4L, "d", "C", true));
+        index.index(product(5L, "e", "D", false));
+
+        // when & then
+        assertThat(index.facets()).extracting(CategoryCount::category).containsExactly("C", "A", "B");
+        assertThat(index.activeCount("C")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이름이 바뀐 상품은 새 이름 위치로 옮겨지고, 같은 값의 재색인은 아무것도 바꾸지 않는다")
+    void index_Rename_MovesPosition() {
+        // given
+        index.index(product(1L, "가방", "잡화", true));
+        index.index(product(2L, "모자", "잡화", true));
+
+        // when
+        index.index(product(1L, "지갑", "잡화", true));
+        index.index(product(2L, "모자", "잡화", true));
+
+        // then
+        assertThat(index.page("잡화", null, 10).productIds()).containsExactly(2L, 1L);
+        assertThat(index.activeCount("잡화")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 것보다 낮은 버전의 문서는 무시한다")
+    void index_OlderVersion_Ignored() {
+        // given
+        index.index(new ProductDocument(1L, "가방", "잡화", "잡화", BigDecimal.ONE, 1, false, 3));
+
+        // when
+        index.index(new ProductDocument(1L, "가방", "잡화", "잡화", BigDecimal.ONE, 1, true, 2));
+
+        // then
+        assertThat(index.activeCount("잡화")).isZero();
+        assertThat(index.facets()).isEmpty();
+    }
+
+    private static ProductDocument product(long id, String name, String category, boolean active) {
+        return new ProductDocument(id, name, "", category, BigDecimal.ONE, 1, active, 0);
+    }
+}
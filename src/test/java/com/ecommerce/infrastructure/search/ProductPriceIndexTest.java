@@ -0,0 +1,151 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductPriceIndexTest {
+
+    private final ProductPriceIndex index = new ProductPriceIndex();
+
+    @Test
+    @DisplayName("가격 범위 목록은 양 끝을 포함해 가격, 같으면 ID 순이고 다음 위치를 따라가면 누락/중복 없이 끝까지 읽는다")
+    void page_FollowNext_ReturnsRangeInPriceOrder() {
+        // given
+        index.index(product(1L, "3000", 5));
+        index.index(product(2L, "1000", 5));
+        index.index(product(3L, "2000", 5));
+        index.index(product(4L, "1000", 5));
+        index.index(product(5L, "999.99", 5));
+        index.index(product(6L, "3000.01", 5));
+
+        // when
+        List<Long> collected = new ArrayList<>();
+        PricePosition next = null;
+        int pages = 0;
+        do {
+            PricePage page = index.page(cents("1000"), cents("3000"), false, next, 2);
+            collected.addAll(page.productIds());
+            next = page.next();
+            pages++;
+        } while (next != null);
+
+        // then
+        assertThat(collected).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(pages).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고 조건은 재고가 0 인 상품을 건너뛰고, 재고 변경은 위치를 옮기지 않고 바로 반영된다")
+    void page_InStockOnly_SkipsSoldOut() {
+        // given
+        index.index(product(1L, "100", 0));
+        index.index(product(2L, "200", 3));
+        index.index(product(3L, "300", 0));
+        index.index(product(4L, "400", 1));
+
+        // when
+        index.index(product(3L, "300", 7));
+        index.index(product(4L, "400", 0));
+
+        // then
+        assertThat(index.page(0, Long.MAX_VALUE, true, null, 10).productIds()).containsExactly(2L, 3L);
+        assertThat(index.page(0, Long.MAX_VALUE, false, null, 10).productIds()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 크기와 딱 맞으면 다음 위치가 없고, 뒤에 재고 없는 상품만 남아도 다음 위치가 없다")
+    void page_ExactLastPage_NoNext() {
+        // given
+        index.index(product(1L, "10", 1));
+        index.index(product(2L, "20", 1));
+        index.index(product(3L, "30", 0));
+
+        // when
+        PricePage all = index.page(0, cents("20"), false, null, 2);
+        PricePage inStock = index.page(0, Long.MAX_VALUE, true, null, 2);
+
+        // then
+        assertThat(all.productIds()).containsExactly(1L, 2L);
+        assertThat(all.next()).isNull();
+        assertThat(inStock.productIds()).containsExactly(1L, 2L);
+        assertThat(inStock.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("가격이 바뀐 상품은 새 가격 위치로 옮겨지고 삭제된 상품은 빠진다")
+    void index_PriceChangeAndRemove_MovesPosition() {
+        // given
+        index.index(product(1L, "500", 1));
+        index.index(product(2L, "600", 1));
+        index.index(product(3L, "700", 1));
+
+        // when
+        index.index(product(1L, "650", 1));
+        index.remove(2L);
+
+        // then
+        assertThat(index.page(0, Long.MAX_VALUE, false, null, 10).productIds()).containsExactly(1L, 3L);
+        assertThat(index.page(cents("400"), cents("600"), false, null, 10).productIds()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("범위 밖 위치에서 이어 읽거나 최소가 최대보다 크면 빈 페이지를 반환한다")
+    void page_OutOfRange_Empty() {
+        // given
+        index.index(product(1L, "100", 1));
+        index.index(product(2L, "200", 1));
+
+        // when & then
+        assertThat(index.page(cents("300"), cents("100"), false, null, 10).productIds()).isEmpty();
+        assertThat(index.page(0, cents("200"), false, new PricePosition(cents("500"), 9L), 10).productIds()).isEmpty();
+        // 범위 하한보다 앞선 위치는 하한부터 읽는다
+        assertThat(index.page(cents("200"), cents("200"), false, new PricePosition(0, 1L), 10).productIds()).containsExactly(2L);
+        assertThatThrownBy(() -> index.page(0, 1, false, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가격 경계는 하한을 올림, 상한을 내림해 BETWEEN 과 같은 범위가 된다")
+    void toCents_RoundsBoundsInward() {
+        assertThat(ProductPriceIndex.toCents(new BigDecimal("10.001"), RoundingMode.CEILING)).isEqualTo(1001L);
+        assertThat(ProductPriceIndex.toCents(new BigDecimal("10.009"), RoundingMode.FLOOR)).isEqualTo(1000L);
+        assertThat(ProductPriceIndex.toCents(new BigDecimal("99999999.99"), RoundingMode.HALF_UP)).isEqualTo(9999999999L);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 것보다 낮은 버전의 문서는 무시하고, 같은 버전은 다시 반영한다")
+    void index_OlderVersion_Ignored() {
+        // given - 따라잡기가 먼저 버전 2 를 반영
+        index.index(new ProductDocument(1L, "상품1", "", "기타", new BigDecimal("200"), 0, true, 2));
+
+        // when - 늦게 도착한 커밋 직후 색인 (버전 1)
+        index.index(new ProductDocument(1L, "상품1", "", "기타", new BigDecimal("100"), 5, true, 1));
+
+        // then
+        assertThat(index.page(0, cents("150"), false, null, 10).productIds()).isEmpty();
+        assertThat(index.page(0, Long.MAX_VALUE, true, null, 10).productIds()).isEmpty();
+
+        // when - 같은 버전
+        index.index(new ProductDocument(1L, "상품1", "", "기타", new BigDecimal("200"), 3, true, 2));
+
+        // then
+        assertThat(index.page(0, Long.MAX_VALUE, true, null, 10).productIds()).containsExactly(1L);
+    }
+
+    private static long cents(String price) {
+        return ProductPriceIndex.toCents(new BigDecimal(price), RoundingMode.HALF_UP);
+    }
+
+    private static ProductDocument product(long id, String price, int stock) {
+        return new ProductDocument(id, "상품" + id, "", "기타", new BigDecimal(price), stock, true, 0);
+    }
+}
@@ -0,0 +1,208 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex(200);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한글 상품명의 일부로 검색되고 띄어쓰기/대소문자/기호 차이는 무시한다")
+    void search_KoreanPartialMatch_IgnoresSpacingAndCase() {
+        // given
+        index.index(product(1L, "무선 블루투스 이어폰", "노이즈 캔슬링", "전자기기"));
+        index.index(product(2L, "USB-C 충전 케이블", "고속 충전", "전자기기"));
+        index.index(product(3L, "유선 이어폰", "", "전자기기"));
+
+        // when & then
+        assertThat(ids("블루투스")).containsExactly(1L);
+        assertThat(ids("블루 투스")).containsExactly(1L);
+        assertThat(ids("이어폰")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids("usb c")).containsExactly(2L);
+        assertThat(ids("Usb-C")).containsExactly(2L);
+        assertThat(ids("스피커")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품명 일치가 카테고리, 설명 일치보다 앞서고 상품명이 검색어로 시작하면 더 앞선다")
+    void search_RanksNameOverCategoryOverDescription() {
+        // given
+        index.index(product(1L, "휴대용 선풍기", "여름 가전", "계절가전"));
+        index.index(product(2L, "스탠드", "가전 매장 인기 상품", "조명"));
+        index.index(product(3L, "가전 세트", "", "생활"));
+        index.index(product(4L, "미니 냉장고", "", "가전"));
+        index.index(product(5L, "주방 가전 세트", "", "생활"));
+
+        // when
+        List<Long> ranked = ids("가전");
+
+        // then
+        assertThat(ranked).containsExactly(3L, 5L, 4L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색어의 bigram 이 상품명에 흩어져 있을 뿐 연속으로 있지 않으면 일치하지 않는다")
+    void search_ScatteredBigrams_NotMatched() {
+        // given - "abcd" 의 ab, bc, cd 가 모두 있지만 연속되지 않음
+        index.index(product(1L, "abcxcd", "", "기타"));
+        index.index(product(2L, "xabcdx", "", "기타"));
+
+        // when & then
+        assertThat(ids("abcd")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 상품명과 카테고리에서 찾는다")
+    void search_SingleCharacter_ScansNamesAndCategories() {
+        // given
+        index.index(product(1L, "컵", "", "주방"));
+        index.index(product(2L, "머그컵", "", "주방"));
+        index.index(product(3L, "접시", "컵과 세트", "주방"));
+
+        // when & then
+        assertThat(ids("컵")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("상품을 다시 색인하면 옛 이름으로는 검색되지 않고, 비활성 상품은 activeOnly 검색에서 빠진다")
+    void index_Update_ReplacesTokensAndActiveFlag() {
+        // given
+        index.index(product(1L, "기계식 키보드", "", "전자기기"));
+        index.index(product(2L, "무소음 키보드", "", "전자기기"));
+
+        // when
+        index.index(product(1L, "게이밍 마우스", "", "전자기기"));
+        index.index(new ProductDocument(2L, "무소음 키보드", "", "전자기기", BigDecimal.ONE, 1, false, 0));
+
+        // then
+        assertThat(ids("기계식")).isEmpty();
+        assertThat(ids("마우스")).containsExactly(1L);
+        assertThat(index.search("키보드", true, 0, 10).productIds()).isEmpty();
+        assertThat(index.search("키보드", false, 0, 10).productIds()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 점수는 최신 상품 우선으로 페이지를 나누고 전체 일치 수를 함께 반환한다")
+    void search_Paging_TotalHitsAndStableOrder() {
+        // given
+        for (long id = 1; id <= 25; id++) {
+            index.index(product(id, "텀블러 " + id, "", "주방"));
+        }
+
+        // when
+        List<Long> collected = new ArrayList<>();
+        for (int offset = 0; offset < 25; offset += 10) {
+            ProductSearchHits hits = index.search("텀블러", true, offset, 10);
+            assertThat(hits.totalHits()).isEqualTo(25);
+            collected.addAll(hits.productIds());
+        }
+
+        // then - 상품명 길이가 같은 그룹 안에서는 ID 내림차순
+        assertThat(collected).hasSize(25).doesNotHaveDuplicates();
+        assertThat(collected.subList(0, 9)).containsExactly(9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제/재색인이 쌓여 압축된 뒤에도 검색 결과가 같다")
+    void index_ManyUpdates_CompactsWithoutLosingDocuments() {
+        // given
+        for (long id = 1; id <= 2000; id++) {
+            index.index(product(id, "상품 " + id, "", id % 2 == 0 ? "짝수" : "홀수"));
+        }
+
+        // when - 1500 건 이름 변경 + 200 건 삭제 (압축 기준 초과)
+        for (long id = 1; id <= 1500; id++) {
+            index.index(product(id, "변경 상품 " + id, "", id % 2 == 0 ? "짝수" : "홀수"));
+        }
+        for (long id = 1801; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(1800);
+        assertThat(index.search("변경", true, 0, 10).totalHits()).isEqualTo(1500);
+        assertThat(index.search("짝수", true, 0, 10).totalHits()).isEqualTo(900);
+        assertThat(ids("변경 상품 1234")).containsExactly(1234L);
+        assertThat(ids("상품 1999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 이후에만 색인되고 롤백되면 반영되지 않는다")
+    void indexAfterCommit_OnlyOnCommit() {
+        // when - 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexAfterCommit(product(1L, "에어프라이어", "", "주방가전"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(ids("에어프라이어")).isEmpty();
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexAfterCommit(product(1L, "에어프라이어", "", "주방가전"));
+        assertThat(ids("에어프라이어")).isEmpty();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(ids("에어프라이어")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("조회 범위가 결과 창을 넘으면 예외가 발생한다")
+    void search_BeyondResultWindow_Throws() {
+        assertThatThrownBy(() -> index.search("키보드", true, ProductSearchIndex.MAX_RESULT_WINDOW, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("키보드", true, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> ids(String keyword) {
+        return index.search(keyword, true, 0, 100).productIds();
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                sync.afterCommit();
+            }
+            sync.afterCompletion(status);
+        });
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("이미 반영한 것보다 낮은 버전의 문서는 무시한다")
+    void index_OlderVersion_Ignored() {
+        // given
+        index.index(new ProductDocument(1L, "게이밍 마우스", "", "전자기기", BigDecimal.ONE, 1, true, 2));
+
+        // when
+        index.index(new ProductDocument(1L, "기계식 키보드", "", "전자기기", BigDecimal.ONE, 1, true, 1));
+
+        // then
+        assertThat(ids("키보드")).isEmpty();
+        assertThat(ids("마우스")).containsExactly(1L);
+    }
+
+    private static ProductDocument product(long id, String name, String description, String category) {
+        return new ProductDocument(id, name, description, category, BigDecimal.ONE, 1, true, 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ecommerce.order.adapter.in.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderAdmissionGateTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("허가가 남아 있으면 대기 없이 실행된다")
+    void execute_PermitAvailable() {
+        // given
+        OrderAdmissionGate gate = new OrderAdmissionGate(2, 1, Duration.ofMillis(100), Duration.ofSeconds(1), registry);
+
+        // when
+        String result = gate.execute(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("order.admission.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("허가가 모두 사용 중이면 대기하다가 시간이 초과되면 WAIT_TIMEOUT 으로 거절된다")
+    void execute_WaitTimeout() throws Exception {
+        // given
+        OrderAdmissionGate gate = new OrderAdmissionGate(1, 1, Duration.ofMillis(50), Duration.ofSeconds(1), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = occupy(gate, release);
+
+        // when & then
+        assertThatThrownBy(() -> gate.execute(() -> "late"))
+                .isInstanceOf(OrderAdmissionRejectedException.class)
+                .extracting("reason")
+                .isEqualTo(OrderAdmissionRejectedException.Reason.WAIT_TIMEOUT);
+        assertThat(registry.get("order.admission.rejected").tag("reason", "wait_timeout").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("held");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 QUEUE_FULL 로 거절된다")
+    void execute_QueueFull() throws Exception {
+        // given
+        OrderAdmissionGate gate = new OrderAdmissionGate(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = occupy(gate, release);
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> gate.execute(() -> "queued"), executor);
+        awaitQueueDepth(gate, 1);
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> gate.execute(() -> "rejected"))
+                .isInstanceOfSatisfying(OrderAdmissionRejectedException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(OrderAdmissionRejectedException.Reason.QUEUE_FULL);
+                    assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                });
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("held");
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(gate.queueDepth()).isZero();
+    }
+
+    // 허가 하나를 release 될 때까지 점유
+    private CompletableFuture<String> occupy(OrderAdmissionGate gate, CountDownLatch release) throws InterruptedException {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> gate.execute(() -> {
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }), executor);
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private void awaitQueueDepth(OrderAdmissionGate gate, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (gate.queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(gate.queueDepth()).isEqualTo(depth);
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.order.adapter.out.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private SpringDataOutboxEventRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxEventSink sink;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryOutboxEventSink(10);
+        relay = createRelay(sink);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 없으면 IDLE 을 반환한다")
+    void relayBatch_NoPendingEvents() {
+        // given
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        OutboxRelay.Outcome outcome = relay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.IDLE);
+        verify(outboxRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    @DisplayName("배치를 가득 채워 전송하면 전송된 이벤트를 삭제하고 MORE 를 반환한다")
+    void relayBatch_FullBatch() {
+        // given
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(events(1, 2, 3));
+
+        // when
+        OutboxRelay.Outcome outcome = relay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.MORE);
+        assertThat(sink.drain()).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("싱크가 일부만 수락하면 수락된 이벤트만 삭제하고 BACK_PRESSURE 를 반환한다")
+    void relayBatch_SinkSaturated() {
+        // given
+        InMemoryOutboxEventSink smallSink = new InMemoryOutboxEventSink(2);
+        OutboxRelay saturatedRelay = createRelay(smallSink);
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(events(1, 2, 3));
+
+        // when
+        OutboxRelay.Outcome outcome = saturatedRelay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.BACK_PRESSURE);
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("싱크 전송이 실패하면 이벤트를 삭제하지 않고 맨 앞 이벤트의 시도 횟수만 증가시킨다")
+    void relayBatch_SinkFailure() {
+        // given
+        OutboxRelay failingRelay = createRelay(batch -> {
+            throw new IllegalStateException("브로커 연결 실패");
+        });
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(events(1, 2));
+
+        // when
+        OutboxRelay.Outcome outcome = failingRelay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.FAILED);
+        verify(outboxRepository).increaseAttempts(List.of(1L));
+        verify(outboxRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    @DisplayName("직전에 실패한 이벤트가 맨 앞이면 단독으로 보내고, 성공하면 기다리지 않고 다음 배치로 넘어간다")
+    void relayBatch_RetriedHead_SentAlone() {
+        // given
+        List<OutboxEventJpaEntity> pending = events(1, 2, 3);
+        ReflectionTestUtils.setField(pending.get(0), "attempts", 2);
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(pending);
+
+        // when
+        OutboxRelay.Outcome outcome = relay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.MORE);
+        assertThat(sink.drain()).extracting(OutboxMessage::id).containsExactly(1L);
+        verify(outboxRepository).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("단독 전송이 최대 시도 횟수만큼 실패한 이벤트는 격리하고 뒤의 이벤트를 막지 않는다")
+    void relayBatch_PoisonMessage_Parked() {
+        // given
+        OutboxRelay failingRelay = createRelay(batch -> {
+            if (batch.get(0).id() == 1L) {
+                throw new IllegalArgumentException("직렬화할 수 없는 이벤트");
+            }
+            return batch.size();
+        });
+        List<OutboxEventJpaEntity> pending = events(1, 2, 3);
+        ReflectionTestUtils.setField(pending.get(0), "attempts", MAX_ATTEMPTS - 1);
+        when(outboxRepository.findPending(any(Pageable.class))).thenReturn(pending);
+
+        // when
+        OutboxRelay.Outcome outcome = failingRelay.relayBatch();
+
+        // then
+        assertThat(outcome).isEqualTo(OutboxRelay.Outcome.PARKED);
+        verify(outboxRepository).park(eq(1L), any(LocalDateTime.class));
+        verify(outboxRepository, never()).increaseAttempts(any());
+        verify(outboxRepository, never()).deleteByIds(any());
+    }
+
+    private OutboxRelay createRelay(OutboxEventSink eventSink) {
+        return new OutboxRelay(outboxRepository, eventSink, new TransactionTemplate(transactionManager),
+                BATCH_SIZE, Duration.ofMillis(100), Duration.ofSeconds(1), MAX_ATTEMPTS);
+    }
+
+    private List<OutboxEventJpaEntity> events(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            OutboxEventJpaEntity entity = new OutboxEventJpaEntity(
+                    OutboxEventPublisher.ORDER_CREATED, id, "{\"orderId\":" + id + "}", LocalDateTime.now());
+            ReflectionTestUtils.setField(entity, "id", id);
+            return entity;
+        }).toList();
+    }
+}
@@ -0,0 +1,277 @@
+package com.ecommerce.order.adapter.out.inventory;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HotInventoryEngineTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final String NODE_ID = "test-node";
+
+    @TempDir
+    Path journalDirectory;
+
+    private final InMemoryHotStockStore store = new InMemoryHotStockStore();
+    private HotInventoryEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 예약은 초과 판매 없이 재고 수량만큼만 성공하고 반영 시 DB 재고와 일치한다")
+    void tryReserve_ConcurrentRequests_NeverOversell(TestReporter testReporter) throws InterruptedException {
+        // given
+        store.stocks.put(PRODUCT_ID, 1_000);
+        engine = startEngine();
+
+        int threads = 64;
+        int attemptsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger successes = new AtomicInteger();
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (engine.tryReserve(PRODUCT_ID, 1)) {
+                        successes.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        boolean finished = done.await(1, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        engine.flush();
+
+        testReporter.publishEntry("hot inventory (in-memory store)", String.format("attempts=%d, elapsed=%dms, throughput=%.0f ops/s",
+                threads * attemptsPerThread, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                threads * attemptsPerThread / (elapsedNanos / 1_000_000_000.0)));
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(successes.get()).isEqualTo(1_000);
+        assertThat(engine.availableStock(PRODUCT_ID)).isZero();
+        assertThat(store.stocks.get(PRODUCT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영되지 않은 예약은 재시작 시 저널에서 복원된다")
+    void start_ReplaysUnflushedJournal() {
+        // given
+        store.stocks.put(PRODUCT_ID, 100);
+        engine = startEngine();
+        engine.tryReserve(PRODUCT_ID, 10);
+        engine.tryReserve(PRODUCT_ID, 5);
+        engine.release(PRODUCT_ID, 5);
+
+        // 반영 없이 비정상 종료되었다고 가정 (저널은 이미 fsync 됨)
+        engine = null;
+
+        // when
+        HotInventoryEngine restarted = new HotInventoryEngine(store, new AppendOnlyJournal(journalDirectory), NODE_ID);
+        restarted.start(Set.of(PRODUCT_ID), Duration.ofHours(1));
+        engine = restarted;
+
+        // then
+        assertThat(restarted.availableStock(PRODUCT_ID)).isEqualTo(90);
+        assertThat(store.stocks.get(PRODUCT_ID)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 차감량을 보존했다가 다음 반영에서 재시도한다")
+    void flush_RetainsDeltas_WhenStoreFails() {
+        // given
+        store.stocks.put(PRODUCT_ID, 10);
+        engine = startEngine();
+        engine.tryReserve(PRODUCT_ID, 3);
+        store.failNext = true;
+
+        // when
+        assertThatThrownBy(() -> engine.flush()).isInstanceOf(IllegalStateException.class);
+        engine.flush();
+
+        // then
+        assertThat(store.stocks.get(PRODUCT_ID)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 예약은 커밋 전에 롤백되면 저널에 남지 않고 메모리 재고만 복원된다")
+    void tryReserve_RolledBackBeforeCommit_NothingJournaled() {
+        // given
+        store.stocks.put(PRODUCT_ID, 100);
+        engine = startEngine();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        engine.tryReserve(PRODUCT_ID, 10);
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(90);
+        complete(false, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then - 비정상 종료 후 재시작해도 차감이 남지 않는다
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(100);
+        engine = null;
+        engine = startEngine();
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 저널에 기록된 뒤 롤백되면 보상 레코드가 남아 재시작해도 재고가 복원된다")
+    void tryReserve_RolledBackAfterJournal_Compensated() {
+        // given
+        store.stocks.put(PRODUCT_ID, 100);
+        engine = startEngine();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        engine.tryReserve(PRODUCT_ID, 10);
+        complete(true, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(100);
+        engine = null;
+        engine = startEngine();
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(100);
+        assertThat(store.stocks.get(PRODUCT_ID)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("커밋된 예약은 저널에 기록되어 재시작 시 복원된다")
+    void tryReserve_Committed_Journaled() {
+        // given
+        store.stocks.put(PRODUCT_ID, 100);
+        engine = startEngine();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        engine.tryReserve(PRODUCT_ID, 10);
+        complete(true, TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        engine = null;
+        engine = startEngine();
+        assertThat(engine.availableStock(PRODUCT_ID)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 소유한 핫 상품이면 시작에 실패하고, 정상 종료한 노드의 상품은 다른 노드가 가져갈 수 있다")
+    void start_ProductOwnedByOtherNode_Fails() {
+        // given
+        store.stocks.put(PRODUCT_ID, 100);
+        engine = startEngine();
+
+        // when & then
+        AppendOnlyJournal otherJournal = new AppendOnlyJournal(journalDirectory.resolve("other"));
+        HotInventoryEngine other = new HotInventoryEngine(store, otherJournal, "other-node");
+        assertThatThrownBy(() -> other.start(Set.of(PRODUCT_ID), Duration.ofHours(1)))
+                .isInstanceOf(IllegalStateException.class);
+        otherJournal.close();
+
+        engine.shutdown();
+        engine = new HotInventoryEngine(store, new AppendOnlyJournal(journalDirectory.resolve("other")), "other-node");
+        engine.start(Set.of(PRODUCT_ID), Duration.ofHours(1));
+        assertThat(store.owners).containsEntry(PRODUCT_ID, "other-node");
+    }
+
+    @Test
+    @DisplayName("node-id 가 없으면 엔진을 만들 수 없다")
+    void constructor_BlankNodeId_Throws() {
+        assertThatThrownBy(() -> new HotInventoryEngine(store, new AppendOnlyJournal(journalDirectory), " "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void complete(boolean beforeCommit, int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (beforeCommit) {
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private HotInventoryEngine startEngine() {
+        HotInventoryEngine started = new HotInventoryEngine(store, new AppendOnlyJournal(journalDirectory), NODE_ID);
+        started.start(Set.of(PRODUCT_ID), Duration.ofHours(1));
+        return started;
+    }
+
+    private static class InMemoryHotStockStore implements HotStockStore {
+        private final Map<Long, Integer> stocks = new ConcurrentHashMap<>();
+        private final Map<String, Long> checkpoints = new ConcurrentHashMap<>();
+        private final Map<Long, String> owners = new ConcurrentHashMap<>();
+        private volatile boolean failNext;
+
+        @Override
+        public Map<Long, String> claimProducts(Collection<Long> productIds, String nodeId) {
+            Map<Long, String> foreignOwners = new HashMap<>();
+            for (Long productId : productIds) {
+                String owner = owners.putIfAbsent(productId, nodeId);
+                if (owner != null && !owner.equals(nodeId)) {
+                    foreignOwners.put(productId, owner);
+                }
+            }
+            return foreignOwners;
+        }
+
+        @Override
+        public void releaseProducts(String nodeId, Collection<Long> retainedIds) {
+            owners.entrySet().removeIf(entry -> entry.getValue().equals(nodeId) && !retainedIds.contains(entry.getKey()));
+        }
+
+        @Override
+        public Map<Long, Integer> loadStocks(Collection<Long> productIds) {
+            Map<Long, Integer> result = new HashMap<>();
+            productIds.stream()
+                    .filter(stocks::containsKey)
+                    .forEach(productId -> result.put(productId, stocks.get(productId)));
+            return result;
+        }
+
+        @Override
+        public long loadCheckpoint(String nodeId) {
+            return checkpoints.getOrDefault(nodeId, 0L);
+        }
+
+        @Override
+        public synchronized void applyDeltas(Map<Long, Long> deltas, String nodeId, long journalSequence) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("DB 장애");
+            }
+            deltas.forEach((productId, delta) -> stocks.merge(productId, (int) -delta, Integer::sum));
+            checkpoints.put(nodeId, journalSequence);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ecommerce.point.archive;
+
+import com.ecommerce.point.entity.PointTransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHistoryArchiveTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 3, 1, 9, 30, 15, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트에 기록한 히스토리를 null, 음수 델타, 같은 시각까지 그대로 복원한다")
+    void segment_RoundTrip_PreservesAllColumns() {
+        // given - id 가 시간 역순인 행(음수 델타), null 설명/잔액, 같은 시각의 행을 섞는다
+        List<ArchivedPointHistory> rows = List.of(
+                history(30L, 2L, PointTransactionType.CHARGE, "1000.00", "1000.00", "포인트 충전", BASE),
+                history(10L, 1L, PointTransactionType.USE, "250.50", null, null, BASE.plusDays(3)),
+                history(20L, 1L, PointTransactionType.CHARGE, "99999999.99", "-0.01", "포인트 충전", BASE.minusYears(1)),
+                history(5L, 1L, PointTransactionType.CHARGE, "0.00", "0.00", "이벤트 적립", BASE.minusYears(1))
+        );
+        Path path = directory.resolve("segment.seg");
+
+        // when
+        long size = ArchiveSegmentWriter.write(path, rows);
+        ArchiveSegment segment = ArchiveSegment.open(path);
+
+        // then
+        assertThat(segment.sizeBytes()).isEqualTo(size);
+        assertThat(segment.rowCount()).isEqualTo(4);
+        assertThat(segment.minCreatedAt()).isEqualTo(BASE.minusYears(1));
+        assertThat(segment.maxCreatedAt()).isEqualTo(BASE.plusDays(3));
+        assertThat(segment.findByUser(1L, null, null)).containsExactly(rows.get(3), rows.get(2), rows.get(1));
+        assertThat(segment.findByUser(2L, null, null)).containsExactly(rows.get(0));
+        assertThat(segment.findByUser(3L, null, null)).isEmpty();
+
+        List<ArchivedPointHistory> scanned = new ArrayList<>();
+        segment.forEach(scanned::add);
+        assertThat(scanned).containsExactlyInAnyOrderElementsOf(rows);
+    }
+
+    @Test
+    @DisplayName("기간 조건은 경계를 포함하고 세그먼트 시간 범위 밖이면 비어 있다")
+    void segment_FindByUser_FiltersByRange() {
+        // given
+        List<ArchivedPointHistory> rows = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            rows.add(history(day + 1L, 7L, PointTransactionType.CHARGE, "10.00", "10.00", "포인트 충전", BASE.plusDays(day)));
+        }
+        Path path = directory.resolve("segment.seg");
+        ArchiveSegmentWriter.write(path, rows);
+        ArchiveSegment segment = ArchiveSegment.open(path);
+
+        // when & then
+        assertThat(segment.findByUser(7L, BASE.plusDays(2), BASE.plusDays(4)))
+                .extracting(ArchivedPointHistory::id)
+                .containsExactly(3L, 4L, 5L);
+        assertThat(segment.findByUser(7L, BASE.plusDays(20), null)).isEmpty();
+        assertThat(segment.countByUser(7L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("사용자 구간은 위치 앞에서 멈추고 가장 최근 limit 건만 최신순으로 돌려준다")
+    void segment_FindLatestBefore_StopsAtCursor() {
+        // given - 같은 시각의 행은 id 로 나뉜다
+        List<ArchivedPointHistory> rows = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            rows.add(history(day + 1L, 7L, PointTransactionType.CHARGE, "10.00", "10.00", "포인트 충전", BASE.plusDays(day)));
+        }
+        rows.add(history(11L, 7L, PointTransactionType.USE, "1.00", "9.00", null, BASE.plusDays(5)));
+        Path path = directory.resolve("segment.seg");
+        ArchiveSegmentWriter.write(path, rows);
+        ArchiveSegment segment = ArchiveSegment.open(path);
+
+        // when & then
+        assertThat(segment.findLatestBefore(7L, null, null, 3))
+                .extracting(ArchivedPointHistory::id).containsExactly(10L, 9L, 8L);
+        assertThat(segment.findLatestBefore(7L, BASE.plusDays(5), 11L, 3))
+                .extracting(ArchivedPointHistory::id).containsExactly(6L, 5L, 4L);
+        assertThat(segment.findLatestBefore(7L, BASE.plusDays(5), 12L, 2))
+                .extracting(ArchivedPointHistory::id).containsExactly(11L, 6L);
+        assertThat(segment.findLatestBefore(7L, BASE, 1L, 10)).isEmpty();
+        assertThat(segment.findLatestBefore(8L, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 세그먼트에서 위치 앞의 최근 limit 건을 최신순으로 병합한다")
+    void archive_FindLatestBefore_MergesSegments() {
+        // given - 오래된 세그먼트와 최근 세그먼트
+        PointHistoryArchive archive = new PointHistoryArchive(directory);
+        archive.stage(ArchiveSegmentWriter.encode(List.of(
+                history(1L, 1L, PointTransactionType.CHARGE, "10.00", "10.00", null, BASE),
+                history(2L, 1L, PointTransactionType.CHARGE, "10.00", "20.00", null, BASE.plusDays(1)))));
+        archive.stage(ArchiveSegmentWriter.encode(List.of(
+                history(3L, 1L, PointTransactionType.CHARGE, "10.00", "30.00", null, BASE.plusDays(2)),
+                history(4L, 2L, PointTransactionType.CHARGE, "10.00", "10.00", null, BASE.plusDays(3)),
+                history(5L, 1L, PointTransactionType.USE, "5.00", "25.00", null, BASE.plusDays(4)))));
+
+        // when & then
+        assertThat(archive.findLatestBefore(1L, null, null, 2))
+                .extracting(ArchivedPointHistory::id).containsExactly(5L, 3L);
+        assertThat(archive.findLatestBefore(1L, BASE.plusDays(2), 3L, 10))
+                .extracting(ArchivedPointHistory::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("확정된 세그먼트는 보관본 번호로 남고, 재시작 시 남은 .pending 은 지운 뒤 보관본에서 다시 받는다")
+    void archive_Restart_DropsPendingAndSyncsFromStore() throws Exception {
+        // given - 하나는 확정, 하나는 보관본 커밋 후 확정 전에 중단
+        InMemorySegmentStore store = new InMemorySegmentStore();
+        PointHistoryArchive archive = new PointHistoryArchive(directory);
+        byte[] committed = ArchiveSegmentWriter.encode(List.of(
+                history(1L, 1L, PointTransactionType.CHARGE, "10.00", "10.00", "확정", BASE)));
+        ArchiveSegment first = archive.stage(committed);
+        archive.commit(first, store.insert(first, committed));
+        byte[] interrupted = ArchiveSegmentWriter.encode(List.of(
+                history(2L, 1L, PointTransactionType.CHARGE, "20.00", "30.00", "확정 전 중단", BASE.plusHours(1))));
+        store.insert(archive.stage(interrupted), interrupted);
+        assertThat(archive.findByUser(1L, null, null)).extracting(ArchivedPointHistory::id).containsExactly(1L, 2L);
+
+        // when
+        PointHistoryArchive restarted = new PointHistoryArchive(directory);
+        assertThat(restarted.findByUser(1L, null, null)).extracting(ArchivedPointHistory::id).containsExactly(1L);
+        int fetched = restarted.sync(store);
+
+        // then
+        assertThat(fetched).isEqualTo(1);
+        assertThat(restarted.findByUser(1L, null, null)).extracting(ArchivedPointHistory::id).containsExactly(1L, 2L);
+        assertThat(fileNames()).containsExactly(String.format("%020d.segment", 1), String.format("%020d.segment", 2));
+    }
+
+    @Test
+    @DisplayName("보관본이 없는 로컬 전용 세그먼트는 sync 가 보관본으로 올리고 캐시 파일로 바꾼다")
+    void archive_Sync_UploadsLegacySegments() throws Exception {
+        // given
+        ArchiveSegmentWriter.write(directory.resolve(String.format("%020d.seg", 0)),
+                List.of(history(1L, 1L, PointTransactionType.CHARGE, "10.00", "10.00", "이전 형식", BASE)));
+        InMemorySegmentStore store = new InMemorySegmentStore();
+        PointHistoryArchive archive = new PointHistoryArchive(directory);
+
+        // when
+        archive.sync(store);
+
+        // then
+        assertThat(store.findIds()).containsExactly(1L);
+        assertThat(fileNames()).containsExactly(String.format("%020d.segment", 1));
+        assertThat(archive.findByUser(1L, null, null)).extracting(ArchivedPointHistory::description).containsExactly("이전 형식");
+        assertThat(new PointHistoryArchive(directory).findByUser(1L, null, null)).hasSize(1);
+    }
+
+    private List<String> fileNames() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted(Comparator.naturalOrder()).toList();
+        }
+    }
+
+    private static ArchivedPointHistory history(Long id, Long userId, PointTransactionType type, String amount,
+                                                String balanceAfter, String description, LocalDateTime createdAt) {
+        return new ArchivedPointHistory(id, userId, type, new BigDecimal(amount),
+                balanceAfter == null ? null : new BigDecimal(balanceAfter), description, createdAt);
+    }
+
+    // DB 대신 메모리에 보관본을 두는 저장소
+    private static class InMemorySegmentStore extends PointHistorySegmentStore {
+        private final Map<Long, byte[]> segments = new TreeMap<>();
+
+        InMemorySegmentStore() {
+            super(null);
+        }
+
+        @Override
+        public long insert(ArchiveSegment segment, byte[] data) {
+            long segmentId = segments.size() + 1L;
+            segments.put(segmentId, data);
+            return segmentId;
+        }
+
+        @Override
+        public List<Long> findIds() {
+            return List.copyOf(segments.keySet());
+        }
+
+        @Override
+        public byte[] load(long segmentId) {
+            return segments.get(segmentId);
+        }
+    }
+}
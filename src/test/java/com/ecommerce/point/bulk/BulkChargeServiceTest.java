@@ -0,0 +1,212 @@
+package com.ecommerce.point.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BulkChargeServiceTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final RecordingStore store = new RecordingStore();
+    private BulkChargeService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 입력을 청크 단위로 사용자 ID 순 정렬해 반영하고 잘못된 줄은 사유와 함께 건너뛴다")
+    void submit_Csv_SortedChunksAndRejections() throws Exception {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 3, Duration.ofHours(1));
+        String csv = """
+                user_id,amount
+                30
+                10,500
+                abc
+                20
+
+                10,0
+                5,2000000
+                2
+                1
+                """;
+
+        // when
+        BulkChargeProgress progress = await(service.submit(body(csv), BulkChargeFormat.CSV, new BigDecimal("1000"), "이벤트", 1));
+
+        // then
+        assertThat(progress.status()).isEqualTo(BulkChargeJob.Status.COMPLETED);
+        assertThat(progress.appliedRows()).isEqualTo(5);
+        assertThat(progress.rejectedRows()).isEqualTo(3);
+        assertThat(progress.committedChunks()).isEqualTo(2);
+        assertThat(progress.lastCommittedLine()).isEqualTo(10);
+        assertThat(progress.rejections()).hasSize(3);
+        assertThat(progress.rejections().get(0)).startsWith("4: ");
+        assertThat(store.chunks).hasSize(2);
+        assertThat(store.chunks.get(0)).extracting(BulkChargeRow::userId).containsExactly(10L, 20L, 30L);
+        assertThat(store.chunks.get(0)).extracting(BulkChargeRow::amount)
+                .containsExactly(new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("1000"));
+        assertThat(store.chunks.get(1)).extracting(BulkChargeRow::userId).containsExactly(1L, 2L);
+        assertThat(store.descriptions).containsOnly("이벤트");
+    }
+
+    @Test
+    @DisplayName("NDJSON 입력에서 같은 사용자의 여러 줄은 입력 순서를 유지하고, 금액이 없으면 기본 금액 없이 거절된다")
+    void submit_Ndjson_KeepsInputOrderPerUser() throws Exception {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 100, Duration.ofHours(1));
+        String ndjson = """
+                {"userId": 7, "amount": 300}
+                {"userId": 3, "amount": "100.50"}
+                {"userId": 7, "amount": 100}
+                {"userId": 9}
+                {"userId": "x", "amount": 1}
+                not json
+                """;
+
+        // when
+        BulkChargeProgress progress = await(service.submit(body(ndjson), BulkChargeFormat.NDJSON, null, "이벤트", 1));
+
+        // then
+        assertThat(progress.appliedRows()).isEqualTo(3);
+        assertThat(progress.rejectedRows()).isEqualTo(3);
+        assertThat(store.chunks.get(0)).extracting(BulkChargeRow::line).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("청크 반영이 실패하면 작업이 실패하고, lastCommittedLine 다음 줄부터 다시 요청하면 이어서 처리된다")
+    void submit_FailedChunk_ResumableFromLastCommittedLine() throws Exception {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 2, Duration.ofHours(1));
+        String csv = "1\n2\n3\n4\n5\n";
+        store.failOnChunk = 2;
+
+        // when
+        BulkChargeProgress failed = await(service.submit(body(csv), BulkChargeFormat.CSV, BigDecimal.TEN, "이벤트", 1));
+        store.failOnChunk = -1;
+        BulkChargeProgress resumed = await(service.submit(
+                body(csv), BulkChargeFormat.CSV, BigDecimal.TEN, "이벤트", failed.lastCommittedLine() + 1));
+
+        // then
+        assertThat(failed.status()).isEqualTo(BulkChargeJob.Status.FAILED);
+        assertThat(failed.appliedRows()).isEqualTo(2);
+        assertThat(failed.lastCommittedLine()).isEqualTo(2);
+        assertThat(resumed.status()).isEqualTo(BulkChargeJob.Status.COMPLETED);
+        assertThat(store.appliedUserIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("락 경합으로 롤백된 청크는 다시 반영한다")
+    void submit_LockFailure_RetriesChunk() throws Exception {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 10, Duration.ofHours(1));
+        store.lockFailures.set(1);
+
+        // when
+        BulkChargeProgress progress = await(service.submit(body("1\n2\n"), BulkChargeFormat.CSV, BigDecimal.TEN, "이벤트", 1));
+
+        // then
+        assertThat(progress.status()).isEqualTo(BulkChargeJob.Status.COMPLETED);
+        assertThat(store.appliedUserIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기본 금액이 한도를 벗어나면 접수하지 않는다")
+    void submit_InvalidDefaultAmount_Rejected() {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 10, Duration.ofHours(1));
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(body("1\n"), BulkChargeFormat.CSV, BigDecimal.ZERO, "이벤트", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BulkChargeFormat.of("application/json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("먼저 내려받은 본문은 내용이 같으면 지문이 같고, 접수하면 처리되며, 버리면 스풀 파일이 지워진다")
+    void spool_FingerprintsBodyAndHandsOffSpoolFile() throws Exception {
+        // given
+        service = new BulkChargeService(store, null, new ObjectMapper(), spoolDirectory, 10, Duration.ofHours(1));
+        BulkChargeService.SpooledBody first = service.spool(body("1\n2\n"));
+        BulkChargeService.SpooledBody same = service.spool(body("1\n2\n"));
+        BulkChargeService.SpooledBody other = service.spool(body("1\n3\n"));
+
+        // when
+        BulkChargeProgress progress = await(service.submit(first, BulkChargeFormat.CSV, BigDecimal.TEN, "이벤트", 1));
+        service.discard(same);
+        service.discard(other);
+
+        // then
+        assertThat(first.sha256()).isEqualTo(same.sha256()).isNotEqualTo(other.sha256());
+        assertThat(progress.status()).isEqualTo(BulkChargeJob.Status.COMPLETED);
+        assertThat(store.appliedUserIds()).containsExactly(1L, 2L);
+        assertThat(same.path()).doesNotExist();
+        assertThat(other.path()).doesNotExist();
+    }
+
+    private BulkChargeProgress await(BulkChargeProgress submitted) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            BulkChargeProgress progress = service.find(submitted.jobId()).orElseThrow();
+            if (progress.status() == BulkChargeJob.Status.COMPLETED || progress.status() == BulkChargeJob.Status.FAILED) {
+                return progress;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("일괄 지급 작업이 끝나지 않았습니다: " + submitted.jobId());
+    }
+
+    private static ByteArrayInputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingStore implements BulkChargeStore {
+        private final List<List<BulkChargeRow>> chunks = new CopyOnWriteArrayList<>();
+        private final List<String> descriptions = new CopyOnWriteArrayList<>();
+        private final AtomicInteger lockFailures = new AtomicInteger();
+        private volatile int failOnChunk = -1;
+        private int calls;
+
+        @Override
+        public void apply(List<BulkChargeRow> rows, String description, LocalDateTime chargedAt) {
+            calls++;
+            if (lockFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new CannotAcquireLockException("락 대기 시간 초과");
+            }
+            if (calls == failOnChunk) {
+                throw new IllegalStateException("DB 장애");
+            }
+            chunks.add(List.copyOf(rows));
+            descriptions.add(description);
+        }
+
+        List<Long> appliedUserIds() {
+            List<Long> userIds = new ArrayList<>();
+            chunks.forEach(chunk -> chunk.forEach(row -> userIds.add(row.userId())));
+            return userIds;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.point.cache;
+
+import com.ecommerce.point.entity.UserBalance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BalanceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BalanceCache balanceCache = new BalanceCache(100, Duration.ofMinutes(1), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 반복 조회하면 한 번만 로딩하고 적중/미적중이 메트릭으로 기록된다")
+    void get_Repeated_LoadsOnceAndRecordsMetrics() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(balanceCache.get(1L, id -> load(id, "1000", 3L))).isEqualByComparingTo("1000");
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BalanceCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BalanceCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", BalanceCache.CACHE_NAME).functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없는 사용자는 0 으로 캐시되고, 첫 충전이 커밋되면 갱신된다")
+    void get_AbsentUser_ReplacedByFirstCommit() {
+        // given
+        assertThat(balanceCache.get(1L, id -> null)).isEqualByComparingTo("0");
+
+        // when
+        balanceCache.putAfterCommit(balance(1L, "500", 0L));
+
+        // then
+        assertThat(balanceCache.get(1L, id -> load(id, "-1", 0L))).isEqualByComparingTo("500");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 갱신은 커밋 이후에만 반영되고 롤백되면 반영되지 않는다")
+    void putAfterCommit_OnlyVisibleAfterCommit() {
+        // given
+        balanceCache.get(1L, id -> load(id, "1000", 1L));
+
+        // when - 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        balanceCache.putAfterCommit(balance(1L, "900", 2L));
+        assertThat(balanceCache.get(1L, id -> load(id, "-1", 0L))).isEqualByComparingTo("1000");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        balanceCache.putAfterCommit(balance(1L, "800", 2L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertThat(balanceCache.get(1L, id -> load(id, "-1", 0L))).isEqualByComparingTo("800");
+    }
+
+    @Test
+    @DisplayName("커밋 후처리가 역순으로 실행되어도 버전이 더 큰 잔액이 유지된다")
+    void putAfterCommit_OutOfOrder_KeepsNewestVersion() {
+        // when
+        balanceCache.putAfterCommit(balance(1L, "300", 5L));
+        balanceCache.putAfterCommit(balance(1L, "200", 4L));
+
+        // then
+        assertThat(balanceCache.get(1L, id -> load(id, "-1", 0L))).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("무효화된 사용자는 다음 조회 시 다시 로딩한다")
+    void evictAfterCommit_ReloadsOnNextGet() {
+        // given
+        balanceCache.get(1L, id -> load(id, "1000", 1L));
+
+        // when
+        balanceCache.evictAfterCommit(1L);
+
+        // then
+        assertThat(balanceCache.get(1L, id -> load(id, "1200", 2L))).isEqualByComparingTo("1200");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private UserBalance load(Long userId, String balance, long version) {
+        loads.incrementAndGet();
+        return balance(userId, balance, version);
+    }
+
+    private UserBalance balance(Long userId, String balance, long version) {
+        UserBalance userBalance = UserBalance.create(userId, new BigDecimal(balance));
+        ReflectionTestUtils.setField(userBalance, "version", version);
+        return userBalance;
+    }
+}
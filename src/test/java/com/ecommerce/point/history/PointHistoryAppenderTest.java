@@ -0,0 +1,277 @@
+package com.ecommerce.point.history;
+
+import com.ecommerce.infrastructure.journal.AppendOnlyJournal;
+import com.ecommerce.point.entity.PointHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHistoryAppenderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<PointHistoryAppender> appenders = new ArrayList<>();
+
+    @TempDir
+    Path journalDirectory;
+
+    @AfterEach
+    void tearDown() {
+        appenders.forEach(PointHistoryAppender::shutdown);
+    }
+
+    @Test
+    @DisplayName("동시에 기록된 히스토리가 누락/중복 없이 배치로 반영된다")
+    void append_Concurrent_PersistedInBatches() throws InterruptedException {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        PointHistoryAppender appender = start(store, 8192);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch done = new CountDownLatch(1_000);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            long userId = i;
+            executor.submit(() -> {
+                appender.append(PointHistory.createChargeHistory(userId, BigDecimal.TEN, BigDecimal.TEN, "충전"));
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        await(() -> store.size() == 1_000);
+        assertThat(store.userIds()).doesNotHaveDuplicates();
+        assertThat(store.batches()).isLessThan(1_000);
+        assertThat(store.loadCheckpoint("node")).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("대기 레코드가 버퍼 용량을 넘으면 내용은 저널에만 두고, 반영할 때 저널에서 다시 읽어 순서대로 반영한다")
+    void append_QueueFull_SpillsToJournal() {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        store.available.set(false);
+        PointHistoryAppender appender = start(store, 4);
+
+        // when
+        for (long userId = 1; userId <= 50; userId++) {
+            appender.append(PointHistory.createUseHistory(userId, BigDecimal.ONE, BigDecimal.ZERO, "사용"));
+        }
+        store.available.set(true);
+
+        // then
+        await(() -> store.size() == 50);
+        assertThat(store.userIds()).isSorted().doesNotHaveDuplicates();
+        assertThat(appender.persistedSequence()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("반영되지 못한 히스토리는 재시작 시 체크포인트 이후 저널에서 복구된다")
+    void restart_RecoversUnpersistedRecords() {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        store.available.set(false);
+        PointHistoryAppender first = new PointHistoryAppender(store, new AppendOnlyJournal(journalDirectory),
+                objectMapper, "node", 16, 10, Duration.ofMillis(5));
+        first.start();
+        for (long userId = 1; userId <= 30; userId++) {
+            first.append(PointHistory.createChargeHistory(userId, BigDecimal.ONE, BigDecimal.ONE, "충전"));
+        }
+        first.shutdown();
+        assertThat(store.size()).isZero();
+
+        // when
+        store.available.set(true);
+        start(store, 16);
+
+        // then
+        await(() -> store.size() == 30);
+        assertThat(store.userIds()).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록된 히스토리는 커밋된 경우에만 반영된다")
+    void append_InTransaction_OnlyAfterCommit() {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        PointHistoryAppender appender = start(store, 16);
+
+        // when - 커밋 전 롤백, 저널 기록 후 롤백, 커밋
+        complete(inTransaction(() -> appender.append(history(1L))), false, TransactionSynchronization.STATUS_ROLLED_BACK);
+        complete(inTransaction(() -> appender.append(history(2L))), true, TransactionSynchronization.STATUS_ROLLED_BACK);
+        complete(inTransaction(() -> appender.append(history(3L))), true, TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        await(() -> store.size() == 1 && appender.queueSize() == 0);
+        assertThat(store.userIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 저널에 기록된 히스토리는 커밋 완료 처리 전에 종료되어도 재시작 시 반영되고, 롤백된 히스토리는 반영되지 않는다")
+    void restart_JournaledBeforeCommit_Recovered() {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        store.available.set(false);
+        PointHistoryAppender first = new PointHistoryAppender(store, new AppendOnlyJournal(journalDirectory),
+                objectMapper, "node", 16, 10, Duration.ofMillis(5));
+        first.start();
+        complete(inTransaction(() -> first.append(history(1L))), true, TransactionSynchronization.STATUS_ROLLED_BACK);
+        List<TransactionSynchronization> inFlight = inTransaction(() -> first.append(history(2L)));
+        inFlight.forEach(sync -> sync.beforeCommit(false));
+        first.shutdown();
+
+        // when
+        store.available.set(true);
+        start(store, 16);
+
+        // then
+        await(() -> store.size() == 1);
+        assertThat(store.userIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("나중에 기록된 히스토리가 먼저 커밋되어도 앞선 히스토리가 정해질 때까지 체크포인트를 넘기지 않는다")
+    void append_OutOfOrderCommit_CheckpointStaysContiguous() {
+        // given
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        PointHistoryAppender appender = start(store, 16);
+        List<TransactionSynchronization> slow = inTransaction(() -> appender.append(history(1L)));
+        slow.forEach(sync -> sync.beforeCommit(false));
+
+        // when
+        complete(inTransaction(() -> appender.append(history(2L))), true, TransactionSynchronization.STATUS_COMMITTED);
+        sleep(50);
+
+        // then
+        assertThat(store.size()).isZero();
+        assertThat(appender.persistedSequence()).isZero();
+
+        // when
+        slow.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        await(() -> store.size() == 2);
+        assertThat(store.userIds()).containsExactly(1L, 2L);
+        assertThat(store.loadCheckpoint("node")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 없으면 생성할 수 없다")
+    void create_BlankNodeId_Throws() {
+        AppendOnlyJournal journal = new AppendOnlyJournal(journalDirectory);
+        try {
+            assertThatThrownBy(() -> new PointHistoryAppender(new InMemoryHistoryStore(), journal,
+                    objectMapper, " ", 16, 10, Duration.ofMillis(5)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            journal.close();
+        }
+    }
+
+    private PointHistoryAppender start(PointHistoryStore store, int queueCapacity) {
+        PointHistoryAppender appender = new PointHistoryAppender(store, new AppendOnlyJournal(journalDirectory),
+                objectMapper, "node", queueCapacity, 100, Duration.ofMillis(5));
+        appender.start();
+        appenders.add(appender);
+        return appender;
+    }
+
+    private PointHistory history(Long userId) {
+        return PointHistory.createChargeHistory(userId, BigDecimal.ONE, BigDecimal.ONE, "충전");
+    }
+
+    // 커밋 직전 콜백(beforeCommit) 실행 여부와 트랜잭션 결과를 지정해 완료 처리
+    private void complete(List<TransactionSynchronization> synchronizations, boolean beforeCommit, int status) {
+        if (beforeCommit) {
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("대기 중 인터럽트되었습니다");
+        }
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("제한 시간 안에 조건을 만족하지 못했습니다");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("대기 중 인터럽트되었습니다");
+            }
+        }
+    }
+
+    private static class InMemoryHistoryStore implements PointHistoryStore {
+        private final List<PointHistoryRecord> records = new ArrayList<>();
+        private final AtomicBoolean available = new AtomicBoolean(true);
+        private long checkpoint;
+        private int batches;
+
+        @Override
+        public synchronized long loadCheckpoint(String nodeId) {
+            return checkpoint;
+        }
+
+        @Override
+        public synchronized void append(List<PointHistoryRecord> batch, String nodeId, long journalSequence) {
+            if (!available.get()) {
+                throw new IllegalStateException("저장소를 사용할 수 없습니다");
+            }
+            records.addAll(batch);
+            checkpoint = journalSequence;
+            batches++;
+        }
+
+        synchronized int size() {
+            return records.size();
+        }
+
+        synchronized int batches() {
+            return batches;
+        }
+
+        synchronized List<Long> userIds() {
+            return records.stream().map(PointHistoryRecord::userId).toList();
+        }
+    }
+}
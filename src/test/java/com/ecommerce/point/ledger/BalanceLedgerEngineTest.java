@@ -0,0 +1,239 @@
+package com.ecommerce.point.ledger;
+
+import com.ecommerce.point.exception.UserNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BalanceLedgerEngineTest {
+
+    private final InMemoryLedgerStore store = new InMemoryLedgerStore();
+    private BalanceLedgerEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자에 대한 동시 충전/사용이 순서대로 적용되고 묶음으로 반영된다")
+    void concurrentMutations_SameUser_AppliedSerially() throws Exception {
+        // given
+        engine = start(4);
+        store.seed(1L, new BigDecimal("1000"));
+
+        // when
+        List<CompletableFuture<LedgerBalance>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(engine.submitCharge(1L, new BigDecimal("10"), null));
+            futures.add(engine.submitUse(1L, new BigDecimal("10"), null));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(store.balanceOf(1L)).isEqualByComparingTo("1000");
+        assertThat(store.historyCount(1L)).isEqualTo(1000);
+        assertThat(store.persistCalls.get()).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족한 사용 요청은 해당 요청만 실패하고 나머지는 반영된다")
+    void use_InsufficientBalance_OnlyThatCommandFails() throws Exception {
+        // given
+        engine = start(2);
+        store.seed(1L, new BigDecimal("100"));
+
+        // when
+        CompletableFuture<LedgerBalance> first = engine.submitUse(1L, new BigDecimal("80"), null);
+        CompletableFuture<LedgerBalance> second = engine.submitUse(1L, new BigDecimal("80"), null);
+        CompletableFuture<LedgerBalance> third = engine.submitCharge(1L, new BigDecimal("50"), null);
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("20");
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RuntimeException.class);
+        assertThat(third.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("70");
+        assertThat(store.balanceOf(1L)).isEqualByComparingTo("70");
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없는 사용자는 충전 시 생성되고, 사용 요청은 실패한다")
+    void newUser_ChargeCreates_UseFails() {
+        // given
+        engine = start(2);
+
+        // when & then
+        assertThatThrownBy(() -> engine.use(7L, new BigDecimal("10"), null))
+                .isInstanceOf(UserNotFoundException.class);
+        assertThat(engine.charge(7L, new BigDecimal("300"), null).balance()).isEqualByComparingTo("300");
+        assertThat(store.balanceOf(7L)).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("다른 경로에서 잔액이 변경되면 DB 값을 다시 읽어 명령을 재적용한다")
+    void externalUpdate_ReloadsAndReapplies() {
+        // given
+        engine = start(1);
+        store.seed(1L, new BigDecimal("100"));
+        engine.charge(1L, new BigDecimal("10"), null); // 캐시 적재 (110)
+        store.externalUpdate(1L, new BigDecimal("500"));
+
+        // when
+        LedgerBalance result = engine.charge(1L, new BigDecimal("10"), null);
+
+        // then
+        assertThat(result.balance()).isEqualByComparingTo("510");
+        assertThat(store.balanceOf(1L)).isEqualByComparingTo("510");
+    }
+
+    @Test
+    @DisplayName("버전 충돌로 재적용할 때 이전 잔액 기준으로 거절된 사용 요청도 다시 읽은 잔액으로 재평가한다")
+    void externalUpdate_RejectedCommandReevaluated() throws Exception {
+        // given
+        engine = start(1);
+        store.seed(1L, new BigDecimal("100"));
+        store.seed(2L, new BigDecimal("100"));
+        engine.charge(1L, new BigDecimal("10"), null); // 캐시 적재 (110)
+        store.externalUpdate(1L, new BigDecimal("500"));
+
+        // 앞선 배치가 반영 중인 동안 같은 사용자의 충전/사용을 쌓아 한 배치로 처리되게 한다
+        store.blocked = new CountDownLatch(1);
+        CompletableFuture<LedgerBalance> blocking = engine.submitCharge(2L, new BigDecimal("10"), null);
+        Thread.sleep(50);
+        CompletableFuture<LedgerBalance> charge = engine.submitCharge(1L, new BigDecimal("10"), null);
+        CompletableFuture<LedgerBalance> use = engine.submitUse(1L, new BigDecimal("200"), null);
+
+        // when
+        store.blocked.countDown();
+
+        // then
+        assertThat(blocking.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("110");
+        assertThat(charge.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("510");
+        assertThat(use.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("310");
+        assertThat(store.balanceOf(1L)).isEqualByComparingTo("310");
+    }
+
+    @Test
+    @DisplayName("결과 버전은 명령마다 1씩 증가하고 마지막 버전이 저장된다")
+    void versions_IncreasePerCommand() throws Exception {
+        // given
+        engine = start(1);
+        store.seed(1L, new BigDecimal("100"));
+
+        // when
+        List<CompletableFuture<LedgerBalance>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(engine.submitCharge(1L, new BigDecimal("1"), null));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        List<Long> versions = new ArrayList<>();
+        for (CompletableFuture<LedgerBalance> future : futures) {
+            versions.add(future.get().version());
+        }
+        assertThat(versions).isSorted().doesNotHaveDuplicates().endsWith(20L);
+        assertThat(store.load(1L)).get().extracting(BalanceLedgerStore.StoredBalance::version).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 처리 중 예외가 발생하고, 명령은 이후 반영된다")
+    void charge_Timeout_ThrowsPendingAndAppliesLater() throws Exception {
+        // given
+        store.seed(1L, new BigDecimal("100"));
+        store.blocked = new CountDownLatch(1);
+        engine = new BalanceLedgerEngine(store, 1, 10_000, 256, 1_000, Duration.ofMillis(50));
+        engine.start();
+
+        // when & then
+        assertThatThrownBy(() -> engine.charge(1L, new BigDecimal("10"), null))
+                .isInstanceOf(BalanceLedgerPendingException.class);
+        store.blocked.countDown();
+        CompletableFuture<LedgerBalance> next = engine.submitCharge(1L, new BigDecimal("10"), null);
+        assertThat(next.get(5, TimeUnit.SECONDS).balance()).isEqualByComparingTo("120");
+        assertThat(store.balanceOf(1L)).isEqualByComparingTo("120");
+    }
+
+    private BalanceLedgerEngine start(int shards) {
+        BalanceLedgerEngine ledger = new BalanceLedgerEngine(store, shards, 10_000, 256, 1_000, Duration.ofSeconds(5));
+        ledger.start();
+        return ledger;
+    }
+
+    private static class InMemoryLedgerStore implements BalanceLedgerStore {
+        private final Map<Long, StoredBalance> balances = new HashMap<>();
+        private final List<HistoryWrite> histories = new ArrayList<>();
+        private final AtomicInteger persistCalls = new AtomicInteger();
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+
+        synchronized void seed(Long userId, BigDecimal balance) {
+            balances.put(userId, new StoredBalance(balance, 0));
+        }
+
+        synchronized void externalUpdate(Long userId, BigDecimal balance) {
+            StoredBalance current = balances.get(userId);
+            balances.put(userId, new StoredBalance(balance, current.version() + 1));
+        }
+
+        synchronized BigDecimal balanceOf(Long userId) {
+            return balances.get(userId).balance();
+        }
+
+        synchronized long historyCount(Long userId) {
+            return histories.stream().filter(h -> h.userId().equals(userId)).count();
+        }
+
+        @Override
+        public synchronized Optional<StoredBalance> load(Long userId) {
+            return Optional.ofNullable(balances.get(userId));
+        }
+
+        @Override
+        public Set<Long> persist(List<BalanceWrite> writes, List<HistoryWrite> historyWrites) {
+            try {
+                blocked.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return persistNow(writes, historyWrites);
+        }
+
+        private synchronized Set<Long> persistNow(List<BalanceWrite> writes, List<HistoryWrite> historyWrites) {
+            persistCalls.incrementAndGet();
+            Set<Long> conflicts = new HashSet<>();
+            for (BalanceWrite write : writes) {
+                StoredBalance current = balances.get(write.userId());
+                if (write.expectedVersion() == null) {
+                    if (current != null) {
+                        conflicts.add(write.userId());
+                        continue;
+                    }
+                    balances.put(write.userId(), new StoredBalance(write.balance(), write.newVersion()));
+                } else if (current == null || current.version() != write.expectedVersion()) {
+                    conflicts.add(write.userId());
+                } else {
+                    balances.put(write.userId(), new StoredBalance(write.balance(), write.newVersion()));
+                }
+            }
+            historyWrites.stream().filter(h -> !conflicts.contains(h.userId())).forEach(histories::add);
+            return conflicts;
+        }
+    }
+}